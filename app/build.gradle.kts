@@ -35,6 +35,17 @@ android {
     }
 }
 
+// 벤치마크(@Category(Benchmark.class))는 -Pbenchmark 를 줄 때만 실행
+tasks.withType<Test>().configureEach {
+    useJUnit {
+        if (project.hasProperty("benchmark")) {
+            includeCategories("com.example.clubmanagement.utils.Benchmark")
+        } else {
+            excludeCategories("com.example.clubmanagement.utils.Benchmark")
+        }
+    }
+}
+
 dependencies {
     // AndroidX & UI
     implementation(libs.appcompat)
@@ -70,6 +81,9 @@ dependencies {
     // ML Kit - Text Recognition (OCR for receipts)
     implementation("com.google.mlkit:text-recognition-korean:16.0.1")
 
+    // WorkManager - Background upload queue
+    implementation("androidx.work:work-runtime:2.9.1")
+
     // Testing
     testImplementation(libs.junit)
     androidTestImplementation(libs.ext.junit)
@@ -2,8 +2,6 @@ package com.example.clubmanagement;
 
 import android.content.Intent;
 import android.content.SharedPreferences;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.net.Uri;
 import android.os.Bundle;
 import android.view.LayoutInflater;
@@ -21,9 +19,6 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import android.widget.LinearLayout;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-
 import com.example.clubmanagement.activities.CentralApplicationsActivity;
 import com.example.clubmanagement.activities.ChatActivity;
 import com.example.clubmanagement.activities.ClubApprovalListActivity;
@@ -35,6 +30,7 @@ import com.example.clubmanagement.activities.ClubRecommendActivity;
 import com.example.clubmanagement.activities.DemoteCentralClubActivity;
 import com.example.clubmanagement.models.User;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.example.clubmanagement.utils.TestDataInjector;
 import com.example.clubmanagement.utils.ThemeHelper;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
@@ -121,6 +117,39 @@ public class SettingsActivity extends BaseActivity {
         loadMemberLimits();
         loadUserClubs();
         setupListeners();
+        backfillMembershipIndexIfNeeded();
+    }
+
+    /**
+     * 최고 관리자 접속 시 멤버십 인덱스 / 생일 연중 일자 1회 백필 (이미 완료된 경우 플래그만 확인)
+     */
+    private void backfillMembershipIndexIfNeeded() {
+        if (!isSuperAdminMode(this)) return;
+
+        firebaseManager.ensureMembershipIndexBackfilled(new FirebaseManager.SimpleCallback() {
+            @Override
+            public void onSuccess() {
+                // 백필 완료 (또는 이미 완료됨)
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                android.util.Log.e("SettingsActivity", "Membership index backfill failed: " + e.getMessage());
+            }
+        });
+
+        com.example.clubmanagement.utils.MemberManager.getInstance().ensureBirthDayOfYearBackfilled(
+                new com.example.clubmanagement.utils.MemberManager.SimpleCallback() {
+            @Override
+            public void onSuccess() {
+                // 백필 완료 (또는 이미 완료됨)
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                android.util.Log.e("SettingsActivity", "Birthday index backfill failed: " + e.getMessage());
+            }
+        });
     }
 
     private void initViews() {
@@ -467,9 +496,11 @@ public class SettingsActivity extends BaseActivity {
                             updates.put("centralClubId", clubId);
                             updates.put("centralClubName", clubName);
 
+                            firebaseManager.invalidateUserCache(userId);
                             firebaseManager.getDb().collection("users")
                                     .document(userId)
-                                    .update(updates);
+                                    .update(updates)
+                                    .addOnCompleteListener(firebaseManager.invalidateAfterWrite(clubId, userId));
                         }
                     }
                 });
@@ -1092,52 +1123,26 @@ public class SettingsActivity extends BaseActivity {
 
     private void uploadBannerImageAndAdd(String title, String content, String linkUrl,
                                           android.widget.ProgressBar progressBar, AlertDialog dialog) {
-        try {
-            // 이미지를 바이트 배열로 변환
-            InputStream inputStream = getContentResolver().openInputStream(selectedBannerImageUri);
-            Bitmap bitmap = BitmapFactory.decodeStream(inputStream);
-            if (inputStream != null) {
-                inputStream.close();
+        // 축소/인코딩은 백그라운드에서 처리 후 Firebase Storage에 업로드
+        firebaseManager.uploadBannerImage(this, selectedBannerImageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
             }
 
-            // 이미지 크기 조정 (최대 1024px)
-            int maxSize = 1024;
-            int width = bitmap.getWidth();
-            int height = bitmap.getHeight();
-            float scale = Math.min((float) maxSize / width, (float) maxSize / height);
-            if (scale < 1) {
-                width = Math.round(width * scale);
-                height = Math.round(height * scale);
-                bitmap = Bitmap.createScaledBitmap(bitmap, width, height, true);
+            @Override
+            public void onSuccess(String imageUrl) {
+                // 이미지 업로드 성공 후 배너 추가
+                addBannerToAllClubs(title, content, imageUrl, linkUrl, progressBar, dialog);
             }
 
-            // JPEG로 압축
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
-
-            // Firebase Storage에 업로드
-            firebaseManager.uploadBannerImage(imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String imageUrl) {
-                    // 이미지 업로드 성공 후 배너 추가
-                    addBannerToAllClubs(title, content, imageUrl, linkUrl, progressBar, dialog);
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    dialog.getButton(AlertDialog.BUTTON_POSITIVE).setEnabled(true);
-                    dialog.getButton(AlertDialog.BUTTON_NEGATIVE).setEnabled(true);
-                    Toast.makeText(SettingsActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (Exception e) {
-            progressBar.setVisibility(View.GONE);
-            dialog.getButton(AlertDialog.BUTTON_POSITIVE).setEnabled(true);
-            dialog.getButton(AlertDialog.BUTTON_NEGATIVE).setEnabled(true);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                dialog.getButton(AlertDialog.BUTTON_POSITIVE).setEnabled(true);
+                dialog.getButton(AlertDialog.BUTTON_NEGATIVE).setEnabled(true);
+                Toast.makeText(SettingsActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void addBannerToAllClubs(String title, String content, String imageUrl, String linkUrl,
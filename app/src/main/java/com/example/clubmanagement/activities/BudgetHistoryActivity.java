@@ -2,7 +2,6 @@ package com.example.clubmanagement.activities;
 
 import android.app.AlertDialog;
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Bundle;
 import android.provider.MediaStore;
@@ -25,29 +24,33 @@ import com.bumptech.glide.Glide;
 import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.adapters.BudgetTransactionAdapter;
+import com.example.clubmanagement.models.BudgetRollup;
 import com.example.clubmanagement.models.BudgetTransaction;
 import com.example.clubmanagement.models.Club;
 import com.example.clubmanagement.models.UserData;
+import com.example.clubmanagement.utils.BudgetManager;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ReceiptAmountExtractor;
+import com.example.clubmanagement.utils.ReceiptOcr;
 import com.example.clubmanagement.SettingsActivity;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
-import com.google.mlkit.vision.common.InputImage;
-import com.google.mlkit.vision.text.TextRecognition;
-import com.google.mlkit.vision.text.TextRecognizer;
-import com.google.mlkit.vision.text.korean.KoreanTextRecognizerOptions;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentSnapshot;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.NumberFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class BudgetHistoryActivity extends BaseActivity {
 
+    private static final int PAGE_SIZE = BudgetManager.DEFAULT_PAGE_SIZE;
+
     private FirebaseManager firebaseManager;
+    private BudgetManager budgetManager;
     private String clubId;
     private String clubName;
     private Club currentClub;
@@ -58,6 +61,9 @@ public class BudgetHistoryActivity extends BaseActivity {
     private TextView tvCurrentBalance;
     private TextView tvTotalBudget;
     private TextView tvTotalExpense;
+    private TextView tvTotalExpenseLabel;
+    private TextView tvPeriodFilter;
+    private TextView tvExportCsv;
     private RecyclerView rvTransactions;
     private LinearLayout llEmptyState;
     private FloatingActionButton fabAddExpense;
@@ -65,12 +71,25 @@ public class BudgetHistoryActivity extends BaseActivity {
 
     private BudgetTransactionAdapter adapter;
     private ActivityResultLauncher<Intent> imagePickerLauncher;
+    private ActivityResultLauncher<String> exportLauncher;
+
+    // 거래 내역 페이지 (createdAt 최신순)
+    private DocumentSnapshot lastVisibleTransaction;
+    private boolean hasMoreTransactions = false;
+    private boolean isLoadingMore = false;
+    private int listGeneration = 0;     // 기간을 바꾸면 증가 - 이전 기간의 늦은 응답 무시
+
+    // 기간 필터 ("yyyy-MM", null 이면 전체 기간)
+    private String selectedMonth;
+    private Timestamp periodStart;
+    private Timestamp periodEnd;
+    private boolean isExporting = false;
 
     // For receipt scanning
     private Uri selectedReceiptUri;
     private ImageView dialogReceiptPreview;
     private EditText dialogAmountInput;
-    private TextRecognizer textRecognizer;
+    private ReceiptOcr receiptOcr;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -83,6 +102,7 @@ public class BudgetHistoryActivity extends BaseActivity {
         setContentView(R.layout.activity_budget_history);
 
         firebaseManager = FirebaseManager.getInstance();
+        budgetManager = BudgetManager.getInstance();
 
         // Get club info from intent
         clubId = getIntent().getStringExtra("club_id");
@@ -94,11 +114,12 @@ public class BudgetHistoryActivity extends BaseActivity {
             return;
         }
 
-        // Initialize ML Kit Text Recognizer
-        textRecognizer = TextRecognition.getClient(new KoreanTextRecognizerOptions.Builder().build());
+        // Initialize receipt OCR (ML Kit Korean text recognizer)
+        receiptOcr = new ReceiptOcr(this);
 
         initViews();
         setupImagePickerLauncher();
+        setupExportLauncher();
         setupRecyclerView();
         checkAdminStatus();
         loadData();
@@ -109,12 +130,17 @@ public class BudgetHistoryActivity extends BaseActivity {
         tvCurrentBalance = findViewById(R.id.tvCurrentBalance);
         tvTotalBudget = findViewById(R.id.tvTotalBudget);
         tvTotalExpense = findViewById(R.id.tvTotalExpense);
+        tvTotalExpenseLabel = findViewById(R.id.tvTotalExpenseLabel);
+        tvPeriodFilter = findViewById(R.id.tvPeriodFilter);
+        tvExportCsv = findViewById(R.id.tvExportCsv);
         rvTransactions = findViewById(R.id.rvTransactions);
         llEmptyState = findViewById(R.id.llEmptyState);
         fabAddExpense = findViewById(R.id.fabAddExpense);
         progressBar = findViewById(R.id.progressBar);
 
         ivBack.setOnClickListener(v -> finish());
+        tvPeriodFilter.setOnClickListener(v -> showPeriodFilterDialog());
+        tvExportCsv.setOnClickListener(v -> startExport());
         fabAddExpense.setOnClickListener(v -> {
             if (isAdmin) {
                 showAddExpenseDialog();
@@ -144,11 +170,38 @@ public class BudgetHistoryActivity extends BaseActivity {
         );
     }
 
+    /**
+     * CSV 내보내기 - 사용자가 고른 파일에 페이지 단위로 바로 씀
+     */
+    private void setupExportLauncher() {
+        exportLauncher = registerForActivityResult(
+                new ActivityResultContracts.CreateDocument("text/csv"),
+                uri -> {
+                    if (uri != null) {
+                        exportTransactions(uri);
+                    }
+                }
+        );
+    }
+
     private void setupRecyclerView() {
         adapter = new BudgetTransactionAdapter();
-        rvTransactions.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        rvTransactions.setLayoutManager(layoutManager);
         rvTransactions.setAdapter(adapter);
 
+        // 목록 끝 근처까지 스크롤하면 다음 페이지 로드
+        rvTransactions.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= adapter.getItemCount() - 5) {
+                    loadMoreTransactions();
+                }
+            }
+        });
+
         adapter.setOnTransactionClickListener(transaction -> {
             showTransactionDetailDialog(transaction);
         });
@@ -199,42 +252,124 @@ public class BudgetHistoryActivity extends BaseActivity {
         });
     }
 
+    /**
+     * 선택한 기간의 첫 페이지부터 다시 로드
+     */
     private void loadTransactions() {
-        firebaseManager.getBudgetTransactions(clubId, new FirebaseManager.BudgetTransactionListCallback() {
+        loadTotalExpense();
+
+        int generation = ++listGeneration;
+        lastVisibleTransaction = null;
+        hasMoreTransactions = false;
+        isLoadingMore = false;
+
+        budgetManager.getTransactionPage(clubId, periodStart, periodEnd, null, PAGE_SIZE, new BudgetManager.PageCallback() {
             @Override
-            public void onSuccess(List<BudgetTransaction> transactions) {
+            public void onSuccess(List<BudgetTransaction> transactions, DocumentSnapshot lastVisible, boolean hasMore) {
+                if (generation != listGeneration) return;
                 progressBar.setVisibility(View.GONE);
-                adapter.setTransactions(transactions);
+                lastVisibleTransaction = lastVisible;
+                hasMoreTransactions = hasMore;
+                adapter.setTransactions(new ArrayList<>(transactions));
 
-                if (transactions == null || transactions.isEmpty()) {
+                if (transactions.isEmpty()) {
                     llEmptyState.setVisibility(View.VISIBLE);
                     rvTransactions.setVisibility(View.GONE);
                 } else {
                     llEmptyState.setVisibility(View.GONE);
                     rvTransactions.setVisibility(View.VISIBLE);
                 }
-
-                // Calculate total expense
-                long totalExpense = 0;
-                if (transactions != null) {
-                    for (BudgetTransaction t : transactions) {
-                        if (t.isExpense()) {
-                            totalExpense += t.getAmount();
-                        }
-                    }
-                }
-                updateTotalExpense(totalExpense);
             }
 
             @Override
             public void onFailure(Exception e) {
+                if (generation != listGeneration) return;
                 progressBar.setVisibility(View.GONE);
                 llEmptyState.setVisibility(View.VISIBLE);
                 rvTransactions.setVisibility(View.GONE);
+                Toast.makeText(BudgetHistoryActivity.this, "거래 내역 로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    private void loadMoreTransactions() {
+        if (!hasMoreTransactions || isLoadingMore || lastVisibleTransaction == null) return;
+        isLoadingMore = true;
+
+        int generation = listGeneration;
+        budgetManager.getTransactionPage(clubId, periodStart, periodEnd, lastVisibleTransaction, PAGE_SIZE, new BudgetManager.PageCallback() {
+            @Override
+            public void onSuccess(List<BudgetTransaction> transactions, DocumentSnapshot lastVisible, boolean hasMore) {
+                if (generation != listGeneration) return;
+                isLoadingMore = false;
+                if (lastVisible != null) {
+                    lastVisibleTransaction = lastVisible;
+                }
+                hasMoreTransactions = hasMore;
+                adapter.addTransactions(transactions);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (generation != listGeneration) return;
+                isLoadingMore = false;
+                Toast.makeText(BudgetHistoryActivity.this, "거래 내역 로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    /**
+     * 기간 선택 - 거래가 있는 달 목록은 월별 집계에서 가져옴
+     */
+    private void showPeriodFilterDialog() {
+        budgetManager.getMonthlyRollups(clubId, null, null, new BudgetManager.RollupListCallback() {
+            @Override
+            public void onSuccess(List<BudgetRollup> rollups) {
+                List<String> months = new ArrayList<>();
+                // 최신 달부터 표시, 날짜 없는 거래의 집계와 거래가 모두 지워진 달은 제외
+                for (int i = rollups.size() - 1; i >= 0; i--) {
+                    BudgetRollup rollup = rollups.get(i);
+                    if (rollup.getCount() > 0 && !BudgetManager.UNDATED_MONTH.equals(rollup.getMonth())) {
+                        months.add(rollup.getMonth());
+                    }
+                }
+
+                String[] options = new String[months.size() + 1];
+                options[0] = "전체 기간";
+                for (int i = 0; i < months.size(); i++) {
+                    options[i + 1] = months.get(i);
+                }
+
+                new AlertDialog.Builder(BudgetHistoryActivity.this)
+                        .setTitle("기간 선택")
+                        .setItems(options, (dialog, which) -> selectPeriod(which == 0 ? null : months.get(which - 1)))
+                        .show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Toast.makeText(BudgetHistoryActivity.this, "기간 목록 로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
             }
         });
     }
 
+    private void selectPeriod(String month) {
+        selectedMonth = month;
+        if (month == null) {
+            periodStart = null;
+            periodEnd = null;
+            tvPeriodFilter.setText("전체 기간 ▾");
+        } else {
+            Timestamp[] range = BudgetManager.monthRange(month);
+            periodStart = range[0];
+            periodEnd = range[1];
+            tvPeriodFilter.setText(month + " ▾");
+        }
+
+        progressBar.setVisibility(View.VISIBLE);
+        loadTransactions();
+    }
+
     private void updateSummaryUI() {
         NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.KOREA);
 
@@ -247,6 +382,24 @@ public class BudgetHistoryActivity extends BaseActivity {
         }
     }
 
+    /**
+     * 총 지출 (기간을 고르면 그 달 지출) - 거래 내역 전체 대신 월별 집계만 읽음
+     */
+    private void loadTotalExpense() {
+        tvTotalExpenseLabel.setText(selectedMonth == null ? "총 지출" : selectedMonth + " 지출");
+        budgetManager.getPeriodSummary(clubId, selectedMonth, selectedMonth, new BudgetManager.RollupCallback() {
+            @Override
+            public void onSuccess(BudgetRollup summary) {
+                updateTotalExpense(summary.getExpense());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                updateTotalExpense(0);
+            }
+        });
+    }
+
     private void updateTotalExpense(long totalExpense) {
         NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.KOREA);
         tvTotalExpense.setText(numberFormat.format(totalExpense) + "원");
@@ -303,170 +456,42 @@ public class BudgetHistoryActivity extends BaseActivity {
     private void scanReceiptWithOCR(Uri imageUri) {
         progressBar.setVisibility(View.VISIBLE);
 
-        try {
-            InputImage image = InputImage.fromFilePath(this, imageUri);
-
-            textRecognizer.process(image)
-                    .addOnSuccessListener(text -> {
-                        progressBar.setVisibility(View.GONE);
-                        String recognizedText = text.getText();
-
-                        // 인식된 텍스트가 없는 경우
-                        if (recognizedText == null || recognizedText.trim().isEmpty()) {
-                            Toast.makeText(this, "텍스트를 인식하지 못했습니다. 다른 이미지를 시도해주세요.", Toast.LENGTH_LONG).show();
-                            return;
-                        }
-
-                        // Extract amount from receipt
-                        long extractedAmount = extractAmountFromText(recognizedText);
-
-                        if (extractedAmount > 0 && dialogAmountInput != null) {
-                            dialogAmountInput.setText(String.valueOf(extractedAmount));
-                            Toast.makeText(this, "영수증에서 " + String.format("%,d", extractedAmount) + "원 인식됨", Toast.LENGTH_SHORT).show();
-                        } else {
-                            // 인식은 됐지만 금액을 찾지 못한 경우 - 인식된 텍스트 일부 표시
-                            String preview = recognizedText.length() > 100 ?
-                                recognizedText.substring(0, 100) + "..." : recognizedText;
-                            Toast.makeText(this, "금액을 찾지 못했습니다.\n인식된 내용: " + preview, Toast.LENGTH_LONG).show();
-                        }
-                    })
-                    .addOnFailureListener(e -> {
-                        progressBar.setVisibility(View.GONE);
-                        Toast.makeText(this, "영수증 인식 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                    });
-
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            Toast.makeText(this, "이미지 로드 실패", Toast.LENGTH_SHORT).show();
-        }
-    }
-
-    private long extractAmountFromText(String text) {
-        // 텍스트 전처리 - 공백 정규화
-        text = text.replaceAll("\\s+", " ");
-
-        // 우선순위가 높은 키워드 (결제 총액 관련)
-        String[] highPriorityKeywords = {
-            "결제금액", "결제 금액", "총결제", "총 결제", "승인금액", "승인 금액",
-            "카드결제", "카드 결제", "실결제", "실 결제", "최종금액", "최종 금액",
-            "합계금액", "합계 금액", "총합계", "총 합계", "받을금액", "받을 금액",
-            "TOTAL", "Total", "total", "합 계", "합계"
-        };
-
-        // 일반 키워드
-        String[] normalKeywords = {
-            "총액", "총 액", "금액", "판매금액", "판매 금액", "매출", "청구금액",
-            "결제", "지불", "Payment", "Amount", "SUM", "Sum"
-        };
-
-        String[] lines = text.split("\n");
-
-        // 1단계: 우선순위 높은 키워드로 검색
-        for (String keyword : highPriorityKeywords) {
-            for (String line : lines) {
-                if (line.contains(keyword)) {
-                    long amount = extractNumberFromLine(line);
-                    if (amount >= 100 && amount <= 100000000) {
-                        return amount;
-                    }
-                }
-            }
-        }
-
-        // 2단계: 일반 키워드로 검색
-        for (String keyword : normalKeywords) {
-            for (String line : lines) {
-                if (line.contains(keyword)) {
-                    long amount = extractNumberFromLine(line);
-                    if (amount >= 100 && amount <= 100000000) {
-                        return amount;
-                    }
-                }
-            }
-        }
-
-        // 3단계: "원" 앞의 숫자 찾기
-        Pattern wonPattern = Pattern.compile("([0-9,. ]+)\\s*원");
-        Matcher wonMatcher = wonPattern.matcher(text);
-        long maxWonAmount = 0;
-        while (wonMatcher.find()) {
-            try {
-                String numStr = wonMatcher.group(1).replaceAll("[,. ]", "");
-                long num = Long.parseLong(numStr);
-                if (num >= 100 && num <= 100000000 && num > maxWonAmount) {
-                    maxWonAmount = num;
-                }
-            } catch (NumberFormatException ignored) {
-            }
-        }
-        if (maxWonAmount > 0) {
-            return maxWonAmount;
-        }
-
-        // 4단계: 가장 큰 숫자 찾기 (영수증 하단에 총액이 있는 경우가 많음)
-        long maxAmount = 0;
-        // 영수증 하단부터 검색 (총액이 보통 하단에 있음)
-        for (int i = lines.length - 1; i >= 0; i--) {
-            String line = lines[i];
-            long lineMax = extractNumberFromLine(line);
-            if (lineMax >= 1000 && lineMax <= 100000000 && lineMax > maxAmount) {
-                maxAmount = lineMax;
-            }
-        }
-
-        // 최소 금액 기준 (1000원 이상)
-        if (maxAmount >= 1000) {
-            return maxAmount;
-        }
+        // 축소/영수증 영역 자르기 후 인식 (같은 이미지는 캐시된 결과 사용)
+        receiptOcr.recognize(imageUri, new ReceiptOcr.OcrCallback() {
+            @Override
+            public void onSuccess(String recognizedText) {
+                progressBar.setVisibility(View.GONE);
 
-        // 5단계: 전체에서 가장 큰 숫자 (최후의 수단)
-        Pattern pattern = Pattern.compile("[0-9][0-9,. ]*[0-9]|[0-9]+");
-        Matcher matcher = pattern.matcher(text);
-        while (matcher.find()) {
-            try {
-                String numStr = matcher.group().replaceAll("[,. ]", "");
-                long num = Long.parseLong(numStr);
-                if (num >= 100 && num <= 100000000 && num > maxAmount) {
-                    maxAmount = num;
+                // 인식된 텍스트가 없는 경우
+                if (recognizedText == null || recognizedText.trim().isEmpty()) {
+                    Toast.makeText(BudgetHistoryActivity.this, "텍스트를 인식하지 못했습니다. 다른 이미지를 시도해주세요.", Toast.LENGTH_LONG).show();
+                    return;
                 }
-            } catch (NumberFormatException ignored) {
-            }
-        }
 
-        return maxAmount;
-    }
+                // Extract amount from receipt
+                long extractedAmount = ReceiptAmountExtractor.extract(recognizedText);
 
-    private long extractNumberFromLine(String line) {
-        // "원" 기호 앞의 숫자 우선 추출
-        Pattern wonPattern = Pattern.compile("([0-9,. ]+)\\s*원");
-        Matcher wonMatcher = wonPattern.matcher(line);
-        if (wonMatcher.find()) {
-            try {
-                String numStr = wonMatcher.group(1).replaceAll("[,. ]", "");
-                long num = Long.parseLong(numStr);
-                if (num > 0) {
-                    return num;
+                if (extractedAmount > 0 && dialogAmountInput != null) {
+                    dialogAmountInput.setText(String.valueOf(extractedAmount));
+                    Toast.makeText(BudgetHistoryActivity.this, "영수증에서 " + String.format("%,d", extractedAmount) + "원 인식됨", Toast.LENGTH_SHORT).show();
+                } else {
+                    // 인식은 됐지만 금액을 찾지 못한 경우 - 인식된 텍스트 일부 표시
+                    String preview = recognizedText.length() > 100 ?
+                        recognizedText.substring(0, 100) + "..." : recognizedText;
+                    Toast.makeText(BudgetHistoryActivity.this, "금액을 찾지 못했습니다.\n인식된 내용: " + preview, Toast.LENGTH_LONG).show();
                 }
-            } catch (NumberFormatException ignored) {
             }
-        }
 
-        // 일반 숫자 패턴 (쉼표, 점, 공백 포함 가능)
-        Pattern pattern = Pattern.compile("[0-9][0-9,. ]*[0-9]|[0-9]+");
-        Matcher matcher = pattern.matcher(line);
-
-        long maxNum = 0;
-        while (matcher.find()) {
-            try {
-                String numStr = matcher.group().replaceAll("[,. ]", "");
-                long num = Long.parseLong(numStr);
-                if (num > maxNum) {
-                    maxNum = num;
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                if (e instanceof IOException) {
+                    Toast.makeText(BudgetHistoryActivity.this, "이미지 로드 실패", Toast.LENGTH_SHORT).show();
+                } else {
+                    Toast.makeText(BudgetHistoryActivity.this, "영수증 인식 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                 }
-            } catch (NumberFormatException ignored) {
             }
-        }
-        return maxNum;
+        });
     }
 
     private void saveTransaction(String type, long amount, String description) {
@@ -477,68 +502,26 @@ public class BudgetHistoryActivity extends BaseActivity {
 
         progressBar.setVisibility(View.VISIBLE);
 
-        // Calculate new balance
-        long newBalance;
-        if (BudgetTransaction.TYPE_EXPENSE.equals(type)) {
-            newBalance = currentClub.getCurrentBudget() - amount;
-            if (newBalance < 0) {
-                progressBar.setVisibility(View.GONE);
-                Toast.makeText(this, "잔액이 부족합니다", Toast.LENGTH_SHORT).show();
-                return;
-            }
-        } else {
-            newBalance = currentClub.getCurrentBudget() + amount;
-        }
-
-        // Create transaction
+        // 거래 후 잔액은 서버 잔액 기준으로 원장에서 계산 (잔액 부족이면 실패)
         BudgetTransaction transaction = new BudgetTransaction(clubId, type, amount, description);
-        transaction.setBalanceAfter(newBalance);
 
-        // If receipt image exists, upload it first
-        if (selectedReceiptUri != null) {
-            uploadReceiptAndSaveTransaction(transaction, newBalance);
-        } else {
-            saveTransactionToFirebase(transaction, newBalance, null);
-        }
+        // 거래를 먼저 저장하고, 영수증은 업로드 대기열에서 올린 뒤 거래에 연결
+        saveTransactionToFirebase(transaction, selectedReceiptUri);
     }
 
-    private void uploadReceiptAndSaveTransaction(BudgetTransaction transaction, long newBalance) {
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), selectedReceiptUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
-
-            firebaseManager.uploadReceiptImage(clubId, imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    saveTransactionToFirebase(transaction, newBalance, downloadUrl);
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    // Save without receipt image
-                    saveTransactionToFirebase(transaction, newBalance, null);
-                }
-            });
-        } catch (IOException e) {
-            saveTransactionToFirebase(transaction, newBalance, null);
-        }
-    }
-
-    private void saveTransactionToFirebase(BudgetTransaction transaction, long newBalance, String receiptUrl) {
-        if (receiptUrl != null) {
-            transaction.setReceiptImageUrl(receiptUrl);
-        }
-
-        firebaseManager.saveBudgetTransaction(transaction, newBalance, new FirebaseManager.BudgetTransactionCallback() {
+    private void saveTransactionToFirebase(BudgetTransaction transaction, Uri receiptUri) {
+        budgetManager.addTransaction(transaction, new BudgetManager.TransactionCallback() {
             @Override
             public void onSuccess(BudgetTransaction savedTransaction) {
                 progressBar.setVisibility(View.GONE);
                 Toast.makeText(BudgetHistoryActivity.this, "저장 완료", Toast.LENGTH_SHORT).show();
 
+                if (receiptUri != null) {
+                    enqueueReceiptUpload(savedTransaction.getId(), receiptUri);
+                }
+
                 // Update local club data
-                currentClub.setCurrentBudget(newBalance);
+                currentClub.setCurrentBudget(savedTransaction.getBalanceAfter());
                 updateSummaryUI();
 
                 // Reload transactions
@@ -553,6 +536,23 @@ public class BudgetHistoryActivity extends BaseActivity {
         });
     }
 
+    /**
+     * 영수증 업로드를 대기열에 추가 - 앱이 종료되어도 업로드 후 거래에 연결됨
+     */
+    private void enqueueReceiptUpload(String transactionId, Uri receiptUri) {
+        firebaseManager.enqueueReceiptUpload(this, clubId, transactionId, receiptUri, new FirebaseManager.SimpleCallback() {
+            @Override
+            public void onSuccess() {
+                Toast.makeText(BudgetHistoryActivity.this, "영수증은 백그라운드에서 업로드됩니다", Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Toast.makeText(BudgetHistoryActivity.this, "영수증 처리 실패: " + e.getMessage(), Toast.LENGTH_LONG).show();
+            }
+        });
+    }
+
     private void showTransactionDetailDialog(BudgetTransaction transaction) {
         View dialogView = LayoutInflater.from(this).inflate(R.layout.dialog_transaction_detail, null);
 
@@ -683,59 +683,26 @@ public class BudgetHistoryActivity extends BaseActivity {
 
         progressBar.setVisibility(View.VISIBLE);
 
-        // 잔액 재계산
-        long oldEffect = transaction.isExpense() ? -transaction.getAmount() : transaction.getAmount();
-        long newEffect = BudgetTransaction.TYPE_EXPENSE.equals(newType) ? -newAmount : newAmount;
-        long balanceDiff = newEffect - oldEffect;
-        long newClubBalance = currentClub.getCurrentBudget() + balanceDiff;
-
-        if (newClubBalance < 0) {
-            progressBar.setVisibility(View.GONE);
-            Toast.makeText(this, "잔액이 부족합니다", Toast.LENGTH_SHORT).show();
-            return;
-        }
-
-        // 거래 정보 업데이트
+        // 거래 정보 업데이트 (잔액 차이는 원장에서 서버 잔액 기준으로 반영)
         transaction.setType(newType);
         transaction.setAmount(newAmount);
         transaction.setDescription(newDescription);
-        transaction.setBalanceAfter(newClubBalance);
-
-        // 새 영수증 이미지가 있으면 업로드
-        if (selectedReceiptUri != null) {
-            try {
-                Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), selectedReceiptUri);
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-                byte[] imageData = baos.toByteArray();
-
-                firebaseManager.uploadReceiptImage(clubId, imageData, new FirebaseManager.SignatureCallback() {
-                    @Override
-                    public void onSuccess(String downloadUrl) {
-                        transaction.setReceiptImageUrl(downloadUrl);
-                        saveUpdatedTransaction(transaction, newClubBalance);
-                    }
 
-                    @Override
-                    public void onFailure(Exception e) {
-                        saveUpdatedTransaction(transaction, newClubBalance);
-                    }
-                });
-            } catch (IOException e) {
-                saveUpdatedTransaction(transaction, newClubBalance);
-            }
-        } else {
-            saveUpdatedTransaction(transaction, newClubBalance);
-        }
+        // 새 영수증 이미지가 있으면 수정 저장 후 업로드 대기열에 추가
+        saveUpdatedTransaction(transaction, selectedReceiptUri);
     }
 
-    private void saveUpdatedTransaction(BudgetTransaction transaction, long newClubBalance) {
-        firebaseManager.updateBudgetTransaction(transaction, newClubBalance, new FirebaseManager.SimpleCallback() {
+    private void saveUpdatedTransaction(BudgetTransaction transaction, Uri receiptUri) {
+        budgetManager.updateTransaction(transaction, new BudgetManager.BalanceCallback() {
             @Override
-            public void onSuccess() {
+            public void onSuccess(long newClubBalance) {
                 progressBar.setVisibility(View.GONE);
                 Toast.makeText(BudgetHistoryActivity.this, "수정 완료", Toast.LENGTH_SHORT).show();
 
+                if (receiptUri != null) {
+                    enqueueReceiptUpload(transaction.getId(), receiptUri);
+                }
+
                 currentClub.setCurrentBudget(newClubBalance);
                 updateSummaryUI();
                 loadTransactions();
@@ -745,6 +712,8 @@ public class BudgetHistoryActivity extends BaseActivity {
             public void onFailure(Exception e) {
                 progressBar.setVisibility(View.GONE);
                 Toast.makeText(BudgetHistoryActivity.this, "수정 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+                // 화면에서 먼저 바꾼 거래 값을 서버 값으로 되돌림
+                loadTransactions();
             }
         });
     }
@@ -766,13 +735,9 @@ public class BudgetHistoryActivity extends BaseActivity {
 
         progressBar.setVisibility(View.VISIBLE);
 
-        // 잔액 복원
-        long balanceAdjustment = transaction.isExpense() ? transaction.getAmount() : -transaction.getAmount();
-        long newClubBalance = currentClub.getCurrentBudget() + balanceAdjustment;
-
-        firebaseManager.deleteBudgetTransaction(clubId, transaction.getId(), newClubBalance, new FirebaseManager.SimpleCallback() {
+        budgetManager.deleteTransaction(clubId, transaction.getId(), new BudgetManager.BalanceCallback() {
             @Override
-            public void onSuccess() {
+            public void onSuccess(long newClubBalance) {
                 progressBar.setVisibility(View.GONE);
                 Toast.makeText(BudgetHistoryActivity.this, "삭제 완료", Toast.LENGTH_SHORT).show();
 
@@ -789,11 +754,61 @@ public class BudgetHistoryActivity extends BaseActivity {
         });
     }
 
+    private void startExport() {
+        if (isExporting) {
+            Toast.makeText(this, "내보내는 중입니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        String name = clubName != null && !clubName.isEmpty() ? clubName : "동아리";
+        exportLauncher.launch(name + "_공금내역" + (selectedMonth != null ? "_" + selectedMonth : "") + ".csv");
+    }
+
+    /**
+     * 선택한 기간의 거래 내역을 CSV 로 저장 (오래된 순)
+     */
+    private void exportTransactions(Uri uri) {
+        OutputStream out;
+        try {
+            out = getContentResolver().openOutputStream(uri);
+        } catch (IOException e) {
+            out = null;
+        }
+        if (out == null) {
+            Toast.makeText(this, "파일을 열 수 없습니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        isExporting = true;
+        progressBar.setVisibility(View.VISIBLE);
+        budgetManager.exportTransactionsCsv(clubId, periodStart, periodEnd, out, new BudgetManager.ExportCallback() {
+            @Override
+            public void onProgress(int exported) {
+                tvExportCsv.setText(exported + "건...");
+            }
+
+            @Override
+            public void onSuccess(int exported) {
+                isExporting = false;
+                progressBar.setVisibility(View.GONE);
+                tvExportCsv.setText("내보내기");
+                Toast.makeText(BudgetHistoryActivity.this, exported + "건을 내보냈습니다", Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                isExporting = false;
+                progressBar.setVisibility(View.GONE);
+                tvExportCsv.setText("내보내기");
+                Toast.makeText(BudgetHistoryActivity.this, "내보내기 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (textRecognizer != null) {
-            textRecognizer.close();
+        if (receiptOcr != null) {
+            receiptOcr.close();
         }
     }
 }
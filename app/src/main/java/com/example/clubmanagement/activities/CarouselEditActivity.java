@@ -1,7 +1,6 @@
 package com.example.clubmanagement.activities;
 
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Bundle;
 import android.provider.MediaStore;
@@ -20,12 +19,10 @@ import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.CarouselItem;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 public class CarouselEditActivity extends BaseActivity {
 
     private FirebaseManager firebaseManager;
@@ -184,34 +181,26 @@ public class CarouselEditActivity extends BaseActivity {
         btnSave.setEnabled(false);
         btnSelectImage.setEnabled(false);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), selectedImageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
-
-            // 캐러셀 이미지 업로드
-            firebaseManager.uploadCarouselImage(clubId, imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    // 캐러셀 아이템 업데이트
-                    updateCarouselItem(downloadUrl);
-                }
+        // 캐러셀 이미지 업로드 (축소/인코딩은 백그라운드에서 처리)
+        firebaseManager.uploadCarouselImage(this, selectedImageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    btnSave.setEnabled(true);
-                    btnSelectImage.setEnabled(true);
-                    Toast.makeText(CarouselEditActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            btnSave.setEnabled(true);
-            btnSelectImage.setEnabled(true);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onSuccess(String downloadUrl) {
+                // 캐러셀 아이템 업데이트
+                updateCarouselItem(downloadUrl);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                btnSave.setEnabled(true);
+                btnSelectImage.setEnabled(true);
+                Toast.makeText(CarouselEditActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void updateCarouselItem(String imageUrl) {
@@ -25,6 +25,7 @@ import com.example.clubmanagement.adapters.ChatMessageAdapter;
 import com.example.clubmanagement.models.ChatMessage;
 import com.example.clubmanagement.utils.FirebaseManager;
 import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.EventListener;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestoreException;
@@ -33,8 +34,6 @@ import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QuerySnapshot;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +54,16 @@ public class ChatDetailActivity extends BaseActivity {
     private ListenerRegistration messageListener;
     private ListenerRegistration chatRoomListener;
 
+    // 메시지 페이지 크기 (최초 로드 및 이전 메시지 로드 단위)
+    private static final int MESSAGE_PAGE_SIZE = 30;
+    // 현재 로드된 메시지 (timestamp 오름차순)
+    private final List<ChatMessage> messages = new ArrayList<>();
+    // 이전 페이지 로드용 커서 (가장 오래된 로드 메시지)
+    private DocumentSnapshot oldestLoadedMessage;
+    private boolean hasMoreOlderMessages = true;
+    private boolean isLoadingOlderMessages = false;
+    private boolean initialMessagesLoaded = false;
+
     private String chatRoomId;
     private String partnerUserId;
     private String partnerName;
@@ -154,6 +163,16 @@ public class ChatDetailActivity extends BaseActivity {
         LinearLayoutManager layoutManager = new LinearLayoutManager(this);
         rvMessages.setLayoutManager(layoutManager);
         rvMessages.setAdapter(adapter);
+
+        // 맨 위에 도달하면 이전 메시지 로드
+        rvMessages.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                if (dy < 0 && !recyclerView.canScrollVertically(-1)) {
+                    loadOlderMessages();
+                }
+            }
+        });
     }
 
     private void loadChatRoomSettings() {
@@ -455,6 +474,7 @@ public class ChatDetailActivity extends BaseActivity {
             updates.put("leftUserId", currentUserId);
             updates.put("lastMessage", "상대방이 나갔습니다");
             updates.put("lastMessageTime", System.currentTimeMillis());
+            updates.put("lastMessageSenderId", currentUserId);
 
             firebaseManager.getDb()
                     .collection("chatRooms")
@@ -543,7 +563,20 @@ public class ChatDetailActivity extends BaseActivity {
                 .collection("messages")
                 .document(messageId)
                 .update("message", newMessage, "edited", true)
-                .addOnSuccessListener(aVoid -> Toast.makeText(this, "메시지가 수정되었습니다", Toast.LENGTH_SHORT).show())
+                .addOnSuccessListener(aVoid -> {
+                    // 실시간 감시 범위 밖(이전 페이지)의 메시지도 화면에 반영
+                    int index = indexOfMessage(messageId);
+                    if (index >= 0) {
+                        ChatMessage old = messages.get(index);
+                        ChatMessage edited = new ChatMessage(old.getSenderId(), old.getSenderName(), newMessage);
+                        edited.setMessageId(messageId);
+                        edited.setTimestamp(old.getTimestamp());
+                        edited.setRead(old.isRead());
+                        messages.set(index, edited);
+                        adapter.setMessages(messages);
+                    }
+                    Toast.makeText(this, "메시지가 수정되었습니다", Toast.LENGTH_SHORT).show();
+                })
                 .addOnFailureListener(e -> Toast.makeText(this, "수정 실패", Toast.LENGTH_SHORT).show());
     }
 
@@ -554,7 +587,12 @@ public class ChatDetailActivity extends BaseActivity {
                 .collection("messages")
                 .document(messageId)
                 .delete()
-                .addOnSuccessListener(aVoid -> Toast.makeText(this, "메시지가 삭제되었습니다", Toast.LENGTH_SHORT).show())
+                .addOnSuccessListener(aVoid -> {
+                    // 실시간 감시 범위 밖(이전 페이지)의 메시지도 화면에서 제거
+                    removeMessage(messageId);
+                    adapter.setMessages(messages);
+                    Toast.makeText(this, "메시지가 삭제되었습니다", Toast.LENGTH_SHORT).show();
+                })
                 .addOnFailureListener(e -> Toast.makeText(this, "삭제 실패", Toast.LENGTH_SHORT).show());
     }
 
@@ -584,76 +622,210 @@ public class ChatDetailActivity extends BaseActivity {
         });
     }
 
+    /**
+     * 메시지 컬렉션 참조
+     */
+    private com.google.firebase.firestore.CollectionReference messagesRef() {
+        return firebaseManager.getDb()
+                .collection("chatRooms")
+                .document(chatRoomId)
+                .collection("messages");
+    }
+
+    /**
+     * 최근 메시지 MESSAGE_PAGE_SIZE개를 기준으로 실시간 리스너 연결
+     * 리스너는 가장 오래된 로드 메시지부터 이후만 감시하고, 변경분(DocumentChange)만 반영
+     */
     private void listenForMessages() {
         if (chatRoomId == null) return;
 
-        // orderBy를 제거하고 클라이언트에서 정렬 (기존 메시지 중 timestamp가 없는 경우 대비)
-        messageListener = firebaseManager.getDb()
-                .collection("chatRooms")
-                .document(chatRoomId)
-                .collection("messages")
-                .addSnapshotListener((queryDocumentSnapshots, e) -> {
-                    if (e != null || queryDocumentSnapshots == null) return;
-
-                    List<ChatMessage> messages = new ArrayList<>();
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots.getDocuments()) {
-                        // 수동으로 ChatMessage 객체 생성 (timestamp 타입 문제 방지)
-                        ChatMessage message = new ChatMessage();
-                        message.setMessageId(doc.getId());
-                        message.setSenderId(doc.getString("senderId"));
-                        message.setSenderName(doc.getString("senderName"));
-                        message.setMessage(doc.getString("message"));
-
-                        // timestamp 처리 (Long 또는 Timestamp 타입 모두 처리)
-                        Object timestampObj = doc.get("timestamp");
-                        long timestamp = 0;
-                        if (timestampObj instanceof Long) {
-                            timestamp = (Long) timestampObj;
-                        } else if (timestampObj instanceof Number) {
-                            timestamp = ((Number) timestampObj).longValue();
-                        } else if (timestampObj instanceof com.google.firebase.Timestamp) {
-                            timestamp = ((com.google.firebase.Timestamp) timestampObj).toDate().getTime();
-                        }
+        messagesRef()
+                .orderBy("timestamp", Query.Direction.DESCENDING)
+                .limit(MESSAGE_PAGE_SIZE)
+                .get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    List<DocumentSnapshot> docs = queryDocumentSnapshots.getDocuments();
+                    hasMoreOlderMessages = docs.size() >= MESSAGE_PAGE_SIZE;
+
+                    Query liveQuery = messagesRef().orderBy("timestamp", Query.Direction.ASCENDING);
+                    if (!docs.isEmpty()) {
+                        oldestLoadedMessage = docs.get(docs.size() - 1);
+                        liveQuery = liveQuery.startAt(oldestLoadedMessage);
+                    }
+                    attachMessageListener(liveQuery);
+                })
+                .addOnFailureListener(e -> {
+                    // 커서를 구하지 못하면 이전 페이지 없이 전체 감시
+                    hasMoreOlderMessages = false;
+                    attachMessageListener(messagesRef().orderBy("timestamp", Query.Direction.ASCENDING));
+                });
+    }
 
-                        // timestamp가 0이면 createdAt 또는 time 필드 확인
-                        if (timestamp == 0) {
-                            Object createdAtObj = doc.get("createdAt");
-                            if (createdAtObj instanceof Long) {
-                                timestamp = (Long) createdAtObj;
-                            } else if (createdAtObj instanceof com.google.firebase.Timestamp) {
-                                timestamp = ((com.google.firebase.Timestamp) createdAtObj).toDate().getTime();
-                            }
+    private void attachMessageListener(Query liveQuery) {
+        if (isFinishing() || isDestroyed()) return;
+
+        messageListener = liveQuery.addSnapshotListener((queryDocumentSnapshots, e) -> {
+            if (e != null || queryDocumentSnapshots == null) return;
+
+            boolean appendedAtEnd = false;
+            for (DocumentChange change : queryDocumentSnapshots.getDocumentChanges()) {
+                ChatMessage message = parseMessage(change.getDocument());
+                switch (change.getType()) {
+                    case ADDED:
+                        appendedAtEnd |= insertMessage(message);
+                        break;
+                    case MODIFIED:
+                        // 서버 timestamp 확정 시 위치가 바뀔 수 있으므로 제거 후 재삽입
+                        removeMessage(message.getMessageId());
+                        insertMessage(message);
+                        break;
+                    case REMOVED:
+                        removeMessage(message.getMessageId());
+                        break;
+                }
+            }
+
+            boolean scrollToBottom = !initialMessagesLoaded || appendedAtEnd;
+            initialMessagesLoaded = true;
+
+            adapter.setMessages(messages, () -> {
+                if (scrollToBottom && !messages.isEmpty()) {
+                    rvMessages.scrollToPosition(messages.size() - 1);
+                }
+            });
+        });
+    }
+
+    /**
+     * 위로 스크롤 시 이전 메시지 페이지 로드 (커서 기반)
+     */
+    private void loadOlderMessages() {
+        if (isLoadingOlderMessages || !hasMoreOlderMessages || oldestLoadedMessage == null) return;
+        isLoadingOlderMessages = true;
+
+        messagesRef()
+                .orderBy("timestamp", Query.Direction.DESCENDING)
+                .startAfter(oldestLoadedMessage)
+                .limit(MESSAGE_PAGE_SIZE)
+                .get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    List<DocumentSnapshot> docs = queryDocumentSnapshots.getDocuments();
+                    hasMoreOlderMessages = docs.size() >= MESSAGE_PAGE_SIZE;
+
+                    if (docs.isEmpty()) {
+                        isLoadingOlderMessages = false;
+                        return;
+                    }
+                    oldestLoadedMessage = docs.get(docs.size() - 1);
+
+                    // 오래된 순으로 앞에 추가
+                    List<ChatMessage> olderMessages = new ArrayList<>();
+                    for (int i = docs.size() - 1; i >= 0; i--) {
+                        ChatMessage message = parseMessage(docs.get(i));
+                        if (indexOfMessage(message.getMessageId()) < 0) {
+                            olderMessages.add(message);
                         }
-                        if (timestamp == 0) {
-                            Object timeObj = doc.get("time");
-                            if (timeObj instanceof Long) {
-                                timestamp = (Long) timeObj;
-                            } else if (timeObj instanceof com.google.firebase.Timestamp) {
-                                timestamp = ((com.google.firebase.Timestamp) timeObj).toDate().getTime();
-                            }
+                    }
+                    messages.addAll(0, olderMessages);
+
+                    // 현재 보고 있는 위치 유지
+                    LinearLayoutManager layoutManager = (LinearLayoutManager) rvMessages.getLayoutManager();
+                    int firstVisible = layoutManager.findFirstVisibleItemPosition();
+                    View firstView = layoutManager.findViewByPosition(firstVisible);
+                    int offset = firstView != null ? firstView.getTop() : 0;
+                    int addedCount = olderMessages.size();
+
+                    adapter.setMessages(messages, () -> {
+                        if (addedCount > 0) {
+                            // 기존 첫 메시지의 날짜 구분선 다시 계산
+                            adapter.notifyItemChanged(addedCount);
+                            layoutManager.scrollToPositionWithOffset(Math.max(firstVisible, 0) + addedCount, offset);
                         }
+                        isLoadingOlderMessages = false;
+                    });
+                })
+                .addOnFailureListener(e -> isLoadingOlderMessages = false);
+    }
 
-                        message.setTimestamp(timestamp);
+    /**
+     * timestamp 순서를 유지하며 메시지 삽입 (이미 있으면 교체)
+     * @return 목록 맨 끝에 추가되었으면 true
+     */
+    private boolean insertMessage(ChatMessage message) {
+        int existing = indexOfMessage(message.getMessageId());
+        if (existing >= 0) {
+            messages.set(existing, message);
+            return false;
+        }
 
-                        Boolean isRead = doc.getBoolean("isRead");
-                        message.setRead(isRead != null && isRead);
+        // 대부분 새 메시지는 맨 끝이므로 뒤에서부터 위치 탐색
+        int position = messages.size();
+        while (position > 0 && messages.get(position - 1).getTimestamp() > message.getTimestamp()) {
+            position--;
+        }
+        messages.add(position, message);
+        return position == messages.size() - 1;
+    }
 
-                        messages.add(message);
-                    }
+    private void removeMessage(String messageId) {
+        int index = indexOfMessage(messageId);
+        if (index >= 0) {
+            messages.remove(index);
+        }
+    }
 
-                    // 클라이언트 측에서 timestamp 기준으로 정렬
-                    Collections.sort(messages, (m1, m2) -> Long.compare(m1.getTimestamp(), m2.getTimestamp()));
-
-                    // 새 리스트로 복사해서 전달 (참조 문제 방지)
-                    List<ChatMessage> sortedMessages = new ArrayList<>(messages);
-                    adapter.setMessages(sortedMessages);
-                    if (!messages.isEmpty()) {
-                        // 레이아웃 완료 후 맨 아래로 스크롤
-                        rvMessages.post(() -> {
-                            rvMessages.scrollToPosition(messages.size() - 1);
-                        });
-                    }
-                });
+    private int indexOfMessage(String messageId) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i).getMessageId().equals(messageId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Firestore 문서를 ChatMessage로 변환 (timestamp 타입 문제 방지를 위해 수동 생성)
+     */
+    private ChatMessage parseMessage(DocumentSnapshot doc) {
+        ChatMessage message = new ChatMessage();
+        message.setMessageId(doc.getId());
+        message.setSenderId(doc.getString("senderId"));
+        message.setSenderName(doc.getString("senderName"));
+        message.setMessage(doc.getString("message"));
+
+        // timestamp 처리 (Long 또는 Timestamp 타입 모두 처리, 전송 대기 중이면 예상 시간 사용)
+        Object timestampObj = doc.get("timestamp", DocumentSnapshot.ServerTimestampBehavior.ESTIMATE);
+        long timestamp = 0;
+        if (timestampObj instanceof Number) {
+            timestamp = ((Number) timestampObj).longValue();
+        } else if (timestampObj instanceof com.google.firebase.Timestamp) {
+            timestamp = ((com.google.firebase.Timestamp) timestampObj).toDate().getTime();
+        }
+
+        // timestamp가 0이면 createdAt 또는 time 필드 확인
+        if (timestamp == 0) {
+            Object createdAtObj = doc.get("createdAt");
+            if (createdAtObj instanceof Long) {
+                timestamp = (Long) createdAtObj;
+            } else if (createdAtObj instanceof com.google.firebase.Timestamp) {
+                timestamp = ((com.google.firebase.Timestamp) createdAtObj).toDate().getTime();
+            }
+        }
+        if (timestamp == 0) {
+            Object timeObj = doc.get("time");
+            if (timeObj instanceof Long) {
+                timestamp = (Long) timeObj;
+            } else if (timeObj instanceof com.google.firebase.Timestamp) {
+                timestamp = ((com.google.firebase.Timestamp) timeObj).toDate().getTime();
+            }
+        }
+
+        message.setTimestamp(timestamp);
+
+        Boolean isRead = doc.getBoolean("isRead");
+        message.setRead(isRead != null && isRead);
+
+        return message;
     }
 
     private void sendMessage() {
@@ -693,11 +865,33 @@ public class ChatDetailActivity extends BaseActivity {
         Map<String, Object> updates = new HashMap<>();
         updates.put("lastMessage", lastMessage);
         updates.put("lastMessageTime", FieldValue.serverTimestamp());
+        updates.put("lastMessageSenderId", currentUserId);
+        updates.put("lastMessageSenderName", currentUserName != null ? currentUserName : "사용자");
 
-        firebaseManager.getDb()
+        // 보낸 사람을 제외한 참여자의 안 읽은 메시지 카운터 증가
+        // 참여자 목록이 아직 로드되지 않았을 수 있으므로 전송 시점의 채팅방 문서에서 읽음
+        com.google.firebase.firestore.DocumentReference roomRef = firebaseManager.getDb()
                 .collection("chatRooms")
-                .document(chatRoomId)
-                .update(updates);
+                .document(chatRoomId);
+        firebaseManager.getDb().runTransaction(transaction -> {
+            DocumentSnapshot room = transaction.get(roomRef);
+            List<String> recipients = new ArrayList<>();
+            List<String> participants = (List<String>) room.get("participants");
+            if (participants != null) {
+                recipients.addAll(participants);
+            }
+            if (recipients.isEmpty() && partnerUserId != null) {
+                recipients.add(partnerUserId);
+            }
+            Map<String, Object> roomUpdates = new HashMap<>(updates);
+            for (String participantId : recipients) {
+                if (participantId != null && !participantId.equals(currentUserId)) {
+                    roomUpdates.put("unreadCounts." + participantId, FieldValue.increment(1));
+                }
+            }
+            transaction.update(roomRef, roomUpdates);
+            return null;
+        });
     }
 
     /**
@@ -29,6 +29,7 @@ import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ChatListActivity extends BaseActivity {
 
@@ -368,63 +369,42 @@ public class ChatListActivity extends BaseActivity {
     }
 
     private void loadMembersForClubs(List<String> clubIds, List<String> clubNames) {
-        List<ClubMemberListAdapter.ClubWithMembers> clubList = new ArrayList<>();
-        final int[] loadedCount = {0};
+        // 모든 동아리의 멤버를 한 번에 가져오기
+        firebaseManager.getMembersForClubs(clubIds, new FirebaseManager.ClubMembersMapCallback() {
+            @Override
+            public void onSuccess(Map<String, List<Member>> membersByClub) {
+                List<ClubMemberListAdapter.ClubWithMembers> clubList = new ArrayList<>();
+                String currentUserId = firebaseManager.getCurrentUserId();
 
-        for (int i = 0; i < clubIds.size(); i++) {
-            String clubId = clubIds.get(i);
-            String clubName = clubNames.get(i);
-            final int index = i;
+                for (int i = 0; i < clubIds.size(); i++) {
+                    String clubId = clubIds.get(i);
+                    List<Member> members = membersByClub.get(clubId);
+                    if (members == null) continue;
 
-            firebaseManager.getClubMembers(clubId, new FirebaseManager.MembersCallback() {
-                @Override
-                public void onSuccess(List<Member> members) {
                     // 본인 제외한 멤버 목록 생성
-                    String currentUserId = firebaseManager.getCurrentUserId();
                     List<Member> filteredMembers = new ArrayList<>();
                     for (Member member : members) {
                         if (!member.getUserId().equals(currentUserId)) {
                             filteredMembers.add(member);
                         }
                     }
-
-                    synchronized (clubList) {
-                        clubList.add(new ClubMemberListAdapter.ClubWithMembers(clubId, clubName, filteredMembers));
-                        loadedCount[0]++;
-
-                        if (loadedCount[0] == clubIds.size()) {
-                            runOnUiThread(() -> {
-                                progressBar.setVisibility(View.GONE);
-                                if (clubList.isEmpty()) {
-                                    llEmptyState.setVisibility(View.VISIBLE);
-                                } else {
-                                    rvMemberList.setVisibility(View.VISIBLE);
-                                    adapter.setClubList(clubList);
-                                }
-                            });
-                        }
-                    }
+                    clubList.add(new ClubMemberListAdapter.ClubWithMembers(clubId, clubNames.get(i), filteredMembers));
                 }
 
-                @Override
-                public void onFailure(Exception e) {
-                    synchronized (clubList) {
-                        loadedCount[0]++;
-
-                        if (loadedCount[0] == clubIds.size()) {
-                            runOnUiThread(() -> {
-                                progressBar.setVisibility(View.GONE);
-                                if (clubList.isEmpty()) {
-                                    llEmptyState.setVisibility(View.VISIBLE);
-                                } else {
-                                    rvMemberList.setVisibility(View.VISIBLE);
-                                    adapter.setClubList(clubList);
-                                }
-                            });
-                        }
-                    }
+                progressBar.setVisibility(View.GONE);
+                if (clubList.isEmpty()) {
+                    llEmptyState.setVisibility(View.VISIBLE);
+                } else {
+                    rvMemberList.setVisibility(View.VISIBLE);
+                    adapter.setClubList(clubList);
                 }
-            });
-        }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                llEmptyState.setVisibility(View.VISIBLE);
+            }
+        });
     }
 }
@@ -18,6 +18,7 @@ import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.adapters.ClubDeleteAdapter;
 import com.example.clubmanagement.models.Club;
+import com.example.clubmanagement.utils.ClubDeleteEngine;
 import com.example.clubmanagement.utils.FirebaseManager;
 import com.google.android.material.button.MaterialButton;
 
@@ -46,7 +47,29 @@ public class ClubDeleteActivity extends BaseActivity implements ClubDeleteAdapte
         initViews();
         setupToolbar();
         setupRecyclerView();
-        loadAllClubs();
+        resumePendingDeletions();
+    }
+
+    /**
+     * 이전에 중단된 동아리 삭제를 마저 진행한 뒤 목록 로드
+     */
+    private void resumePendingDeletions() {
+        progressBar.setVisibility(View.VISIBLE);
+        ClubDeleteEngine.getInstance().resumePendingDeletions(new FirebaseManager.CountCallback() {
+            @Override
+            public void onSuccess(int count) {
+                if (count > 0) {
+                    Toast.makeText(ClubDeleteActivity.this,
+                            "중단되었던 동아리 삭제 " + count + "건을 완료했습니다", Toast.LENGTH_SHORT).show();
+                }
+                loadAllClubs();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                loadAllClubs();
+            }
+        });
     }
 
     private void initViews() {
@@ -163,25 +186,35 @@ public class ClubDeleteActivity extends BaseActivity implements ClubDeleteAdapte
         progressBar.setVisibility(View.VISIBLE);
         btnDeleteSelected.setEnabled(false);
 
-        final int[] successCount = {0};
-        final int[] failCount = {0};
-        final int total = clubsToDelete.size();
-
-        for (Club club : clubsToDelete) {
-            firebaseManager.deleteClubCompletely(club.getId(), club.getName(), new FirebaseManager.SimpleCallback() {
-                @Override
-                public void onSuccess() {
-                    successCount[0]++;
-                    checkDeleteComplete(successCount[0], failCount[0], total);
-                }
+        // 동아리 하나씩 순서대로 삭제 (중단되면 다음 실행 시 체크포인트부터 이어서 진행)
+        deleteNextClub(clubsToDelete, 0, 0, 0);
+    }
 
-                @Override
-                public void onFailure(Exception e) {
-                    failCount[0]++;
-                    checkDeleteComplete(successCount[0], failCount[0], total);
-                }
-            });
+    private void deleteNextClub(List<Club> clubsToDelete, int index, int success, int fail) {
+        int total = clubsToDelete.size();
+        if (index >= total) {
+            checkDeleteComplete(success, fail, total);
+            return;
         }
+
+        Club club = clubsToDelete.get(index);
+        firebaseManager.deleteClubCompletely(club.getId(), club.getName(), new ClubDeleteEngine.ProgressCallback() {
+            @Override
+            public void onProgress(int completedSteps, int totalSteps, String stepName) {
+                btnDeleteSelected.setText("삭제 중 (" + (index + 1) + "/" + total + ") "
+                        + club.getName() + " - " + stepName + " " + completedSteps + "/" + totalSteps);
+            }
+
+            @Override
+            public void onSuccess(int deletedCount) {
+                deleteNextClub(clubsToDelete, index + 1, success + 1, fail);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                deleteNextClub(clubsToDelete, index + 1, success, fail + 1);
+            }
+        });
     }
 
     private void checkDeleteComplete(int success, int fail, int total) {
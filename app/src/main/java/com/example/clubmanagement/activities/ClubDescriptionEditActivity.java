@@ -1,7 +1,6 @@
 package com.example.clubmanagement.activities;
 
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Bundle;
 import android.provider.MediaStore;
@@ -20,11 +19,10 @@ import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.CarouselItem;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
 
 public class ClubDescriptionEditActivity extends BaseActivity {
@@ -248,31 +246,24 @@ public class ClubDescriptionEditActivity extends BaseActivity {
     }
 
     private void uploadImageAndSave() {
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), selectedImageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
-
-            firebaseManager.uploadCarouselImage(clubId, imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    currentCarouselItem.setImageUrl(downloadUrl);
-                    saveCarouselItem();
-                }
+        firebaseManager.uploadCarouselImage(this, selectedImageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    btnSave.setEnabled(true);
-                    Toast.makeText(ClubDescriptionEditActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            btnSave.setEnabled(true);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onSuccess(String downloadUrl) {
+                currentCarouselItem.setImageUrl(downloadUrl);
+                saveCarouselItem();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                btnSave.setEnabled(true);
+                Toast.makeText(ClubDescriptionEditActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void saveCarouselItem() {
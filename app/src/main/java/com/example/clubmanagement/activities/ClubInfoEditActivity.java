@@ -15,6 +15,7 @@ import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.CarouselItem;
 import com.example.clubmanagement.models.Club;
+import com.example.clubmanagement.utils.ClubRecommendEngine;
 import com.example.clubmanagement.utils.FirebaseManager;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.tabs.TabLayout;
@@ -460,6 +461,8 @@ public class ClubInfoEditActivity extends BaseActivity {
         firebaseManager.saveClub(currentClub, new FirebaseManager.ClubCallback() {
             @Override
             public void onSuccess(Club club) {
+                // 키워드가 바뀌었을 수 있으므로 추천 인덱스 갱신
+                ClubRecommendEngine.getInstance().invalidateIndex();
                 callback.onComplete();
             }
 
@@ -2,7 +2,6 @@ package com.example.clubmanagement.activities;
 
 import android.app.DatePickerDialog;
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.graphics.drawable.GradientDrawable;
 import android.net.Uri;
 import android.os.Bundle;
@@ -39,17 +38,19 @@ import com.example.clubmanagement.R;
 import com.example.clubmanagement.SettingsActivity;
 import com.example.clubmanagement.adapters.CalendarAdapter;
 import com.example.clubmanagement.models.Banner;
+import com.example.clubmanagement.models.ClubDashboard;
 import com.example.clubmanagement.models.EditRequest;
 import com.example.clubmanagement.models.LinkButton;
 import com.example.clubmanagement.models.Notice;
 import com.example.clubmanagement.models.Schedule;
 import com.example.clubmanagement.models.UserData;
+import com.example.clubmanagement.utils.BudgetManager;
+import com.example.clubmanagement.utils.ClubDashboardLoader;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.button.MaterialButton;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
 
 public class ClubMainActivity extends BaseActivity {
@@ -391,29 +392,63 @@ public class ClubMainActivity extends BaseActivity {
     }
 
     private void loadAllData() {
-        loadMemberLimits();
-        loadClubInfo();
-        loadNotices();
-        loadBanner();
-        loadSchedules();
-        checkBirthdayMembers();
+        progressBar.setVisibility(View.VISIBLE);
+
+        // 홈 화면 데이터를 동시에 조회하고 한 번에 렌더링
+        ClubDashboardLoader.getInstance().load(getClubId(), dashboard -> {
+            if (isFinishing() || isDestroyed()) return;
+            progressBar.setVisibility(View.GONE);
+            renderDashboard(dashboard);
+        });
     }
 
-    private void loadMemberLimits() {
-        firebaseManager.getMemberLimits(new FirebaseManager.MemberLimitsCallback() {
-            @Override
-            public void onSuccess(int register, int maintain) {
-                registerLimit = register;
-                maintainLimit = maintain;
-                // 인원 제한 값이 로드되면 UI 갱신
-                displayMemberCount();
-            }
+    private void renderDashboard(ClubDashboard dashboard) {
+        // 인원 제한
+        registerLimit = dashboard.getRegisterLimit();
+        maintainLimit = dashboard.getMaintainLimit();
 
-            @Override
-            public void onFailure(Exception e) {
-                // 실패 시 기본값 사용 (이미 설정됨)
+        // 동아리 정보
+        if (dashboard.getClubError() != null) {
+            Toast.makeText(this, "동아리 정보 로드 실패: " + dashboard.getClubError().getMessage(), Toast.LENGTH_SHORT).show();
+        }
+        applyClubInfo(dashboard.getClub());
+        // 실제 멤버 수 반영 (조회 실패 시 기존 값 유지)
+        if (currentClub != null && dashboard.getMemberCount() >= 0) {
+            currentClub.setMemberCount(dashboard.getMemberCount());
+        }
+        displayMemberCount();
+
+        // 공지사항
+        if (dashboard.getNoticesError() != null) {
+            Toast.makeText(this, "공지사항 로드 실패: " + dashboard.getNoticesError().getMessage(), Toast.LENGTH_SHORT).show();
+        } else {
+            notices = dashboard.getNotices();
+            displayNotices();
+        }
+
+        // 배너
+        bannerSlideInterval = dashboard.getBannerSlideInterval();
+        if (dashboard.getBannersError() != null) {
+            showDefaultBanner("배너를 불러올 수 없습니다.");
+        } else if (dashboard.isClubBanners()) {
+            showBanners(dashboard.getBanners());
+        } else {
+            showGlobalBanners(dashboard.getBanners());
+        }
+
+        // 일정
+        if (dashboard.getSchedulesError() != null) {
+            Toast.makeText(this, "일정 로드 실패: " + dashboard.getSchedulesError().getMessage(), Toast.LENGTH_SHORT).show();
+        } else {
+            schedules = dashboard.getSchedules();
+            if (calendarAdapter != null) {
+                calendarAdapter.setScheduledDays(schedules);
             }
-        });
+            updateDdayDisplay();
+        }
+
+        // 생일 (공지사항이 반영된 뒤 확인해야 생일 공지 중복 생성을 막을 수 있음)
+        checkBirthdayMembers(dashboard.getBirthdayMembers());
     }
 
     private void setupListeners() {
@@ -817,23 +852,6 @@ public class ClubMainActivity extends BaseActivity {
         };
     }
 
-    private void loadBanner() {
-        // First load slide interval setting
-        firebaseManager.getBannerSlideInterval(new FirebaseManager.BannerSettingsCallback() {
-            @Override
-            public void onSuccess(long interval) {
-                bannerSlideInterval = interval;
-                loadBanners();
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                bannerSlideInterval = 3000L;
-                loadBanners();
-            }
-        });
-    }
-
     private void loadBanners() {
         String currentClubId = getClubId();
 
@@ -843,10 +861,7 @@ public class ClubMainActivity extends BaseActivity {
             public void onSuccess(List<Banner> clubBannerList) {
                 // 동아리 배너가 있으면 사용
                 if (clubBannerList != null && !clubBannerList.isEmpty()) {
-                    banners = clubBannerList;
-                    bannerAdapter.setBanners(banners);
-                    setupIndicator();
-                    startAutoSlide();
+                    showBanners(clubBannerList);
                 } else {
                     // 동아리 배너가 없으면 전역 배너 로드
                     loadGlobalBanners();
@@ -865,34 +880,43 @@ public class ClubMainActivity extends BaseActivity {
         firebaseManager.getBanners(new FirebaseManager.BannerListCallback() {
             @Override
             public void onSuccess(List<Banner> bannerList) {
-                banners = bannerList;
-                if (banners == null || banners.isEmpty()) {
-                    // Add default empty banner
-                    Banner defaultBanner = new Banner();
-                    defaultBanner.setTitle("배너 제목");
-                    defaultBanner.setDescription("관리자가 배너를 등록하면 여기에 표시됩니다.");
-                    banners = new java.util.ArrayList<>();
-                    banners.add(defaultBanner);
-                }
-                bannerAdapter.setBanners(banners);
-                setupIndicator();
-                startAutoSlide();
+                showGlobalBanners(bannerList);
             }
 
             @Override
             public void onFailure(Exception e) {
-                // 기본 배너 표시
-                Banner defaultBanner = new Banner();
-                defaultBanner.setTitle("배너 제목");
-                defaultBanner.setDescription("배너를 불러올 수 없습니다.");
-                banners = new java.util.ArrayList<>();
-                banners.add(defaultBanner);
-                bannerAdapter.setBanners(banners);
-                setupIndicator();
+                showDefaultBanner("배너를 불러올 수 없습니다.");
             }
         });
     }
 
+    private void showGlobalBanners(List<Banner> bannerList) {
+        if (bannerList == null || bannerList.isEmpty()) {
+            // Add default empty banner
+            showDefaultBanner("관리자가 배너를 등록하면 여기에 표시됩니다.");
+            startAutoSlide();
+            return;
+        }
+        showBanners(bannerList);
+    }
+
+    private void showBanners(List<Banner> bannerList) {
+        banners = bannerList;
+        bannerAdapter.setBanners(banners);
+        setupIndicator();
+        startAutoSlide();
+    }
+
+    private void showDefaultBanner(String description) {
+        Banner defaultBanner = new Banner();
+        defaultBanner.setTitle("배너 제목");
+        defaultBanner.setDescription(description);
+        banners = new java.util.ArrayList<>();
+        banners.add(defaultBanner);
+        bannerAdapter.setBanners(banners);
+        setupIndicator();
+    }
+
     private void setupIndicator() {
         layoutIndicator.removeAllViews();
         int count = bannerAdapter.getItemCount();
@@ -1044,34 +1068,28 @@ public class ClubMainActivity extends BaseActivity {
     private void uploadBannerImage(Uri imageUri) {
         progressBar.setVisibility(View.VISIBLE);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), imageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
-            byte[] imageData = baos.toByteArray();
-
-            firebaseManager.uploadBannerImage(imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(ClubMainActivity.this, "이미지 업로드 성공", Toast.LENGTH_SHORT).show();
-
-                    if (editingBanner == null) {
-                        editingBanner = new Banner();
-                    }
-                    editingBanner.setImageUrl(downloadUrl);
-                }
+        firebaseManager.uploadBannerImage(this, imageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
+
+            @Override
+            public void onSuccess(String downloadUrl) {
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(ClubMainActivity.this, "이미지 업로드 성공", Toast.LENGTH_SHORT).show();
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(ClubMainActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+                if (editingBanner == null) {
+                    editingBanner = new Banner();
                 }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+                editingBanner.setImageUrl(downloadUrl);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(ClubMainActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void saveBanner(Banner banner, boolean isNew) {
@@ -1322,16 +1340,34 @@ public class ClubMainActivity extends BaseActivity {
             currentClub = new com.example.clubmanagement.models.Club(clubId, clubName);
         }
 
-        currentClub.setCurrentBudget(currentBudget);
+        // 총 예산은 동아리 정보로 저장하고, 잔액이 바뀌었으면 서버 잔액과의 차액을 조정 거래로 원장에 기록
+        boolean balanceChanged = currentBudget != currentClub.getCurrentBudget();
         currentClub.setTotalBudget(totalBudget);
 
         firebaseManager.saveClub(currentClub, new FirebaseManager.ClubCallback() {
             @Override
             public void onSuccess(com.example.clubmanagement.models.Club club) {
-                progressBar.setVisibility(View.GONE);
                 currentClub = club;
-                displayBudget();
-                Toast.makeText(ClubMainActivity.this, "공금이 저장되었습니다", Toast.LENGTH_SHORT).show();
+                if (!balanceChanged) {
+                    onBudgetSaved();
+                    return;
+                }
+
+                BudgetManager.getInstance().adjustBalance(clubId, currentBudget, "공금 설정",
+                        firebaseManager.getCurrentUserId(), null, new BudgetManager.TransactionCallback() {
+                            @Override
+                            public void onSuccess(com.example.clubmanagement.models.BudgetTransaction transaction) {
+                                currentClub.setCurrentBudget(transaction.getBalanceAfter());
+                                onBudgetSaved();
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                progressBar.setVisibility(View.GONE);
+                                displayBudget();
+                                Toast.makeText(ClubMainActivity.this, "잔액 저장 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+                            }
+                        });
             }
 
             @Override
@@ -1342,6 +1378,12 @@ public class ClubMainActivity extends BaseActivity {
         });
     }
 
+    private void onBudgetSaved() {
+        progressBar.setVisibility(View.GONE);
+        displayBudget();
+        Toast.makeText(ClubMainActivity.this, "공금이 저장되었습니다", Toast.LENGTH_SHORT).show();
+    }
+
     // ========================================
     // Member Count Methods
     // ========================================
@@ -1428,68 +1470,25 @@ public class ClubMainActivity extends BaseActivity {
     // Club Name Methods
     // ========================================
 
-    private void loadClubInfo() {
-        String clubId = getClubId();
-
-        firebaseManager.getClub(clubId, new FirebaseManager.ClubCallback() {
-            @Override
-            public void onSuccess(com.example.clubmanagement.models.Club club) {
-                if (club != null) {
-                    currentClub = club;
-                    clubName = club.getName();
-                    tvClubName.setText(clubName);
-                } else {
-                    // Club doesn't exist yet, create it with current name
-                    currentClub = new com.example.clubmanagement.models.Club(getClubId(), clubName);
-                    // 기본 공금 설정 (0원으로 초기화)
-                    currentClub.setTotalBudget(0);
-                    currentClub.setCurrentBudget(0);
-                    // intent에서 받은 isCentralClub 값 사용, 멤버 수 0
-                    currentClub.setCentralClub(isCentralClub);
-                    currentClub.setMemberCount(0);
-                }
-                // 공금 표시 업데이트
-                displayBudget();
-                // 설립일 표시 업데이트
-                displayFoundingDate();
-                // 실제 멤버 수를 Firebase에서 가져와서 표시
-                loadActualMemberCount();
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                Toast.makeText(ClubMainActivity.this, "동아리 정보 로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                // 오류 시에도 기본값으로 표시
-                displayBudget();
-                displayMemberCount();
-                displayFoundingDate();
-            }
-        });
-    }
-
-    private void loadActualMemberCount() {
-        String clubId = getClubId();
-
-        firebaseManager.getClubMembers(clubId, new FirebaseManager.MembersCallback() {
-            @Override
-            public void onSuccess(java.util.List<com.example.clubmanagement.models.Member> members) {
-                int actualMemberCount = members != null ? members.size() : 0;
-
-                // 현재 클럽의 멤버 수 업데이트
-                if (currentClub != null) {
-                    currentClub.setMemberCount(actualMemberCount);
-                }
-
-                // UI 업데이트
-                displayMemberCount();
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                // 실패 시 기존 값으로 표시
-                displayMemberCount();
-            }
-        });
+    private void applyClubInfo(com.example.clubmanagement.models.Club club) {
+        if (club != null) {
+            currentClub = club;
+            clubName = club.getName();
+            tvClubName.setText(clubName);
+        } else {
+            // Club doesn't exist yet, create it with current name
+            currentClub = new com.example.clubmanagement.models.Club(getClubId(), clubName);
+            // 기본 공금 설정 (0원으로 초기화)
+            currentClub.setTotalBudget(0);
+            currentClub.setCurrentBudget(0);
+            // intent에서 받은 isCentralClub 값 사용, 멤버 수 0
+            currentClub.setCentralClub(isCentralClub);
+            currentClub.setMemberCount(0);
+        }
+        // 공금 표시 업데이트
+        displayBudget();
+        // 설립일 표시 업데이트
+        displayFoundingDate();
     }
 
     private void showEditClubNameDialog() {
@@ -2089,63 +2088,39 @@ public class ClubMainActivity extends BaseActivity {
     // Birthday Methods
     // ========================================
 
-    private void checkBirthdayMembers() {
-        String currentClubId = getClubId();
-
-        firebaseManager.getClubMembers(currentClubId, new FirebaseManager.MembersCallback() {
-            @Override
-            public void onSuccess(List<com.example.clubmanagement.models.Member> members) {
-                String currentUserId = firebaseManager.getCurrentUserId();
-                Calendar today = Calendar.getInstance();
-                int todayMonth = today.get(Calendar.MONTH) + 1;
-                int todayDay = today.get(Calendar.DAY_OF_MONTH);
-
-                List<com.example.clubmanagement.models.Member> birthdayMembers = new java.util.ArrayList<>();
-
-                // 오늘 생일인 멤버 찾기
-                for (com.example.clubmanagement.models.Member member : members) {
-                    if (member.getBirthMonth() == todayMonth && member.getBirthDay() == todayDay) {
-                        birthdayMembers.add(member);
-                    }
-                }
-
-                if (!birthdayMembers.isEmpty()) {
-                    boolean isMyBirthday = false;
-                    StringBuilder otherBirthdayNames = new StringBuilder();
+    private void checkBirthdayMembers(List<com.example.clubmanagement.models.Member> birthdayMembers) {
+        String currentUserId = firebaseManager.getCurrentUserId();
 
-                    for (com.example.clubmanagement.models.Member birthdayMember : birthdayMembers) {
-                        if (birthdayMember.getUserId() != null && birthdayMember.getUserId().equals(currentUserId)) {
-                            isMyBirthday = true;
-                        } else {
-                            if (otherBirthdayNames.length() > 0) {
-                                otherBirthdayNames.append(", ");
-                            }
-                            otherBirthdayNames.append(birthdayMember.getName() != null ? birthdayMember.getName() : "부원");
-                        }
-                    }
+        if (birthdayMembers != null && !birthdayMembers.isEmpty()) {
+            boolean isMyBirthday = false;
+            StringBuilder otherBirthdayNames = new StringBuilder();
 
-                    // 내 생일이면 축하 메시지
-                    if (isMyBirthday) {
-                        showBirthdayToast("생일 축하합니다! 오늘 하루도 행복하세요!");
-                    }
-
-                    // 다른 멤버의 생일이 있으면 알림
+            for (com.example.clubmanagement.models.Member birthdayMember : birthdayMembers) {
+                if (birthdayMember.getUserId() != null && birthdayMember.getUserId().equals(currentUserId)) {
+                    isMyBirthday = true;
+                } else {
                     if (otherBirthdayNames.length() > 0) {
-                        new android.os.Handler().postDelayed(() -> {
-                            showBirthdayToast("오늘은 " + otherBirthdayNames + "님의 생일입니다! 축하해주세요!");
-                        }, isMyBirthday ? 3000 : 0); // 내 생일 토스트 후 3초 딜레이
+                        otherBirthdayNames.append(", ");
                     }
-
-                    // 생일 공지사항 자동 생성 확인 및 생성
-                    createBirthdayNoticeIfNeeded(birthdayMembers);
+                    otherBirthdayNames.append(birthdayMember.getName() != null ? birthdayMember.getName() : "부원");
                 }
             }
 
-            @Override
-            public void onFailure(Exception e) {
-                // 조용히 실패 처리
+            // 내 생일이면 축하 메시지
+            if (isMyBirthday) {
+                showBirthdayToast("생일 축하합니다! 오늘 하루도 행복하세요!");
             }
-        });
+
+            // 다른 멤버의 생일이 있으면 알림
+            if (otherBirthdayNames.length() > 0) {
+                new android.os.Handler().postDelayed(() -> {
+                    showBirthdayToast("오늘은 " + otherBirthdayNames + "님의 생일입니다! 축하해주세요!");
+                }, isMyBirthday ? 3000 : 0); // 내 생일 토스트 후 3초 딜레이
+            }
+
+            // 생일 공지사항 자동 생성 확인 및 생성
+            createBirthdayNoticeIfNeeded(birthdayMembers);
+        }
     }
 
     private void showBirthdayToast(String message) {
@@ -19,6 +19,7 @@ import com.example.clubmanagement.R;
 import com.example.clubmanagement.SettingsActivity;
 import com.example.clubmanagement.adapters.RecommendedClubAdapter;
 import com.example.clubmanagement.models.Club;
+import com.example.clubmanagement.utils.ClubRecommendEngine;
 import com.example.clubmanagement.utils.FirebaseManager;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.android.material.button.MaterialButton;
@@ -29,6 +30,9 @@ import java.util.List;
 
 public class ClubRecommendActivity extends BaseActivity {
 
+    // 추천 결과 최대 표시 개수
+    private static final int MAX_RECOMMENDATIONS = 50;
+
     // Checkboxes
     private CheckBox cbChristian;
     private CheckBox cbLively;
@@ -182,58 +186,34 @@ public class ClubRecommendActivity extends BaseActivity {
         progressBar.setVisibility(View.VISIBLE);
         resultsSection.setVisibility(View.GONE);
 
-        Toast.makeText(this, "동아리를 검색 중...", Toast.LENGTH_SHORT).show();
-
-        // Firebase에서 모든 동아리 조회
         final String finalWantAtmosphere = wantAtmosphere;
         final boolean finalWantChristian = wantChristian;
         final List<String> finalWantActivityTypes = wantActivityTypes;
         final List<String> finalWantPurposes = wantPurposes;
 
+        // 키워드 인덱스가 캐시되어 있으면 동아리 목록을 다시 받지 않음
+        ClubRecommendEngine engine = ClubRecommendEngine.getInstance();
+        ClubRecommendEngine.Index cachedIndex = engine.getCachedIndex();
+        if (cachedIndex != null) {
+            progressBar.setVisibility(View.GONE);
+            showRecommendations(ClubRecommendEngine.recommend(cachedIndex,
+                    finalWantChristian, finalWantAtmosphere, finalWantActivityTypes, finalWantPurposes,
+                    MAX_RECOMMENDATIONS));
+            return;
+        }
+
+        Toast.makeText(this, "동아리를 검색 중...", Toast.LENGTH_SHORT).show();
+
+        // Firebase에서 모든 동아리 조회 후 키워드 인덱스 생성
         firebaseManager.getAllClubs(new FirebaseManager.ClubListCallback() {
             @Override
             public void onSuccess(List<Club> clubs) {
                 progressBar.setVisibility(View.GONE);
 
-                // 점수 계산 및 정렬
-                List<Club> matchedClubs = new ArrayList<>();
-                List<Integer> matchedScores = new ArrayList<>();
-
-                for (Club club : clubs) {
-                    int score = club.calculateRecommendScore(
-                            finalWantChristian, finalWantAtmosphere,
-                            finalWantActivityTypes, finalWantPurposes);
-
-                    // 점수가 있거나, 키워드가 설정된 동아리만 표시
-                    if (score > 0) {
-                        matchedClubs.add(club);
-                        matchedScores.add(score);
-                    } else if (club.hasKeywords()) {
-                        // 키워드는 있지만 매칭 안 되는 경우도 낮은 점수로 표시
-                        matchedClubs.add(club);
-                        matchedScores.add(5); // 기본 점수
-                    }
-                }
-
-                // 점수 기준 내림차순 정렬
-                sortByScore(matchedClubs, matchedScores);
-
-                // 결과 표시
-                resultsSection.setVisibility(View.VISIBLE);
-                if (matchedClubs.isEmpty()) {
-                    tvNoResults.setVisibility(View.VISIBLE);
-                    rvRecommendedClubs.setVisibility(View.GONE);
-                    Toast.makeText(ClubRecommendActivity.this,
-                        "키워드가 설정된 동아리가 없습니다.\n관리자가 동아리 키워드를 설정해야 합니다.",
-                        Toast.LENGTH_LONG).show();
-                } else {
-                    tvNoResults.setVisibility(View.GONE);
-                    rvRecommendedClubs.setVisibility(View.VISIBLE);
-                    adapter.setClubs(matchedClubs, matchedScores);
-                    Toast.makeText(ClubRecommendActivity.this,
-                        matchedClubs.size() + "개의 동아리를 찾았습니다",
-                        Toast.LENGTH_SHORT).show();
-                }
+                ClubRecommendEngine.Index index = engine.rebuildIndex(clubs);
+                showRecommendations(ClubRecommendEngine.recommend(index,
+                        finalWantChristian, finalWantAtmosphere, finalWantActivityTypes, finalWantPurposes,
+                        MAX_RECOMMENDATIONS));
             }
 
             @Override
@@ -246,22 +226,22 @@ public class ClubRecommendActivity extends BaseActivity {
         });
     }
 
-    private void sortByScore(List<Club> clubs, List<Integer> scores) {
-        // 간단한 버블 정렬로 점수 내림차순 정렬
-        for (int i = 0; i < scores.size() - 1; i++) {
-            for (int j = 0; j < scores.size() - i - 1; j++) {
-                if (scores.get(j) < scores.get(j + 1)) {
-                    // 점수 교환
-                    int tempScore = scores.get(j);
-                    scores.set(j, scores.get(j + 1));
-                    scores.set(j + 1, tempScore);
-
-                    // 클럽도 교환
-                    Club tempClub = clubs.get(j);
-                    clubs.set(j, clubs.get(j + 1));
-                    clubs.set(j + 1, tempClub);
-                }
-            }
+    private void showRecommendations(ClubRecommendEngine.Result result) {
+        // 결과 표시 (점수 내림차순)
+        resultsSection.setVisibility(View.VISIBLE);
+        if (result.clubs.isEmpty()) {
+            tvNoResults.setVisibility(View.VISIBLE);
+            rvRecommendedClubs.setVisibility(View.GONE);
+            Toast.makeText(ClubRecommendActivity.this,
+                "키워드가 설정된 동아리가 없습니다.\n관리자가 동아리 키워드를 설정해야 합니다.",
+                Toast.LENGTH_LONG).show();
+        } else {
+            tvNoResults.setVisibility(View.GONE);
+            rvRecommendedClubs.setVisibility(View.VISIBLE);
+            adapter.setClubs(result.clubs, result.scores);
+            Toast.makeText(ClubRecommendActivity.this,
+                result.clubs.size() + "개의 동아리를 찾았습니다",
+                Toast.LENGTH_SHORT).show();
         }
     }
 
@@ -2,7 +2,6 @@ package com.example.clubmanagement.activities;
 
 import android.content.Intent;
 import android.content.SharedPreferences;
-import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.graphics.drawable.GradientDrawable;
 import android.net.Uri;
@@ -38,12 +37,11 @@ import com.example.clubmanagement.models.Member;
 import com.example.clubmanagement.models.UserData;
 import com.example.clubmanagement.models.WithdrawalRequest;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.firebase.Timestamp;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -337,32 +335,24 @@ public class ClubSettingsActivity extends BaseActivity {
         progressBar.setVisibility(View.VISIBLE);
         btnChangePoster.setEnabled(false);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), imageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
+        firebaseManager.uploadCarouselImage(this, imageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-            String fileName = clubId + "_poster";
-            firebaseManager.uploadCarouselImage(fileName, imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    posterImageUrl = downloadUrl;
-                    saveCarouselData();
-                }
+            @Override
+            public void onSuccess(String downloadUrl) {
+                posterImageUrl = downloadUrl;
+                saveCarouselData();
+            }
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    btnChangePoster.setEnabled(true);
-                    Toast.makeText(ClubSettingsActivity.this, "포스터 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            btnChangePoster.setEnabled(true);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                btnChangePoster.setEnabled(true);
+                Toast.makeText(ClubSettingsActivity.this, "포스터 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void updatePosterUI() {
@@ -397,32 +387,24 @@ public class ClubSettingsActivity extends BaseActivity {
         progressBar.setVisibility(View.VISIBLE);
         btnAddDetailImage.setEnabled(false);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), imageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 80, baos);
-            byte[] imageData = baos.toByteArray();
+        firebaseManager.uploadCarouselImage(this, imageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-            String fileName = clubId + "_detail_" + System.currentTimeMillis();
-            firebaseManager.uploadCarouselImage(fileName, imageData, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    detailImageUrls.add(downloadUrl);
-                    saveCarouselData();
-                }
+            @Override
+            public void onSuccess(String downloadUrl) {
+                detailImageUrls.add(downloadUrl);
+                saveCarouselData();
+            }
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    btnAddDetailImage.setEnabled(true);
-                    Toast.makeText(ClubSettingsActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            btnAddDetailImage.setEnabled(true);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                btnAddDetailImage.setEnabled(true);
+                Toast.makeText(ClubSettingsActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void removeCurrentDetailImage() {
@@ -2,7 +2,6 @@ package com.example.clubmanagement.activities;
 
 import android.app.Dialog;
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.net.Uri;
 import android.os.Bundle;
@@ -25,6 +24,7 @@ import com.example.clubmanagement.R;
 import com.example.clubmanagement.adapters.DetailImageAdapter;
 import com.example.clubmanagement.models.CarouselItem;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.firebase.Timestamp;
@@ -33,8 +33,6 @@ import androidx.cardview.widget.CardView;
 
 import java.util.Date;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -995,9 +993,11 @@ public class DetailActivity extends BaseActivity {
                             updates.put("centralClubId", clubId);
                             updates.put("centralClubName", clubNameToUpdate);
 
+                            firebaseManager.invalidateUserCache(userId);
                             firebaseManager.getDb().collection("users")
                                     .document(userId)
                                     .update(updates)
+                                    .addOnCompleteListener(firebaseManager.invalidateAfterWrite(clubId, userId))
                                     .addOnSuccessListener(aVoid -> {
                                         android.util.Log.d("DetailActivity", "User membership updated to central club");
                                     });
@@ -1332,42 +1332,36 @@ public class DetailActivity extends BaseActivity {
     private void uploadImage(Uri imageUri) {
         progressBar.setVisibility(View.VISIBLE);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), imageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
-            byte[] imageData = baos.toByteArray();
-
-            firebaseManager.uploadCarouselImage(imageData, pageIndex, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(DetailActivity.this, "이미지 업로드 성공", Toast.LENGTH_SHORT).show();
+        firebaseManager.uploadCarouselImage(this, imageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-                    // Update current item with new image URL
-                    if (currentItem == null) {
-                        currentItem = new CarouselItem();
-                        currentItem.setPosition(pageIndex);
-                    }
-                    currentItem.setImageUrl(downloadUrl);
+            @Override
+            public void onSuccess(String downloadUrl) {
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(DetailActivity.this, "이미지 업로드 성공", Toast.LENGTH_SHORT).show();
 
-                    // TODO: Display updated image in ViewPager2
-                    // Glide.with(DetailActivity.this)
-                    //         .load(downloadUrl)
-                    //         .centerCrop()
-                    //         .into(ivDetailImage);
+                // Update current item with new image URL
+                if (currentItem == null) {
+                    currentItem = new CarouselItem();
+                    currentItem.setPosition(pageIndex);
                 }
+                currentItem.setImageUrl(downloadUrl);
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(DetailActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+                // TODO: Display updated image in ViewPager2
+                // Glide.with(DetailActivity.this)
+                //         .load(downloadUrl)
+                //         .centerCrop()
+                //         .into(ivDetailImage);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(DetailActivity.this, "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void saveCarouselItem(String title, String description) {
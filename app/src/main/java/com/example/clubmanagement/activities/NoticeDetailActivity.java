@@ -208,7 +208,8 @@ public class NoticeDetailActivity extends BaseActivity implements NoticeCommentA
     }
 
     private void loadClubMembers() {
-        if (clubId == null) return;
+        // 전체 공지는 특정 동아리 소속이 아님
+        if (clubId == null || ClubNotice.GLOBAL_CLUB_ID.equals(clubId)) return;
 
         // 동아리 부원 목록 로드 (동아리 관리자의 댓글 수정/삭제 권한 체크용)
         firebaseManager.getDb().collection("clubs")
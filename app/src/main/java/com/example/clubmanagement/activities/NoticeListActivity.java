@@ -188,10 +188,17 @@ public class NoticeListActivity extends BaseActivity implements ClubNoticeAdapte
     @Override
     public void onNoticeClick(ClubNotice notice) {
         Intent intent = new Intent(this, NoticeDetailActivity.class);
-        intent.putExtra("club_id", clubId);
-        intent.putExtra("club_name", clubName);
         intent.putExtra("notice_id", notice.getId());
-        intent.putExtra("is_admin", isAdmin);
+        if (notice.isGlobal()) {
+            // 전체 공지는 최고 관리자만 수정/삭제
+            intent.putExtra("club_id", ClubNotice.GLOBAL_CLUB_ID);
+            intent.putExtra("club_name", clubName);
+            intent.putExtra("is_admin", SettingsActivity.isSuperAdminMode(this));
+        } else {
+            intent.putExtra("club_id", clubId);
+            intent.putExtra("club_name", clubName);
+            intent.putExtra("is_admin", isAdmin);
+        }
         startActivity(intent);
     }
 }
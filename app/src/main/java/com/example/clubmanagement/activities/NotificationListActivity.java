@@ -14,7 +14,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
+import com.example.clubmanagement.SettingsActivity;
 import com.example.clubmanagement.adapters.NotificationAdapter;
+import com.example.clubmanagement.models.ClubNotice;
 import com.example.clubmanagement.models.ClubNotification;
 import com.example.clubmanagement.utils.FirebaseManager;
 
@@ -28,10 +30,17 @@ public class NotificationListActivity extends BaseActivity implements Notificati
     private LinearLayout layoutEmpty;
     private ProgressBar progressBar;
 
+    private static final int PAGE_SIZE = 20;
+
     private FirebaseManager firebaseManager;
     private NotificationAdapter adapter;
     private String currentUserId;
 
+    // 페이지네이션 상태
+    private FirebaseManager.NotificationPageCursor nextPageCursor;
+    private boolean hasMoreNotifications = false;
+    private boolean isLoadingMore = false;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -54,6 +63,7 @@ public class NotificationListActivity extends BaseActivity implements Notificati
         initViews();
         setupListeners();
         loadNotifications();
+        deleteExpiredNotifications();
     }
 
     private void initViews() {
@@ -64,8 +74,21 @@ public class NotificationListActivity extends BaseActivity implements Notificati
         progressBar = findViewById(R.id.progressBar);
 
         adapter = new NotificationAdapter(this);
-        rvNotifications.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        rvNotifications.setLayoutManager(layoutManager);
         rvNotifications.setAdapter(adapter);
+
+        // 목록 끝 근처까지 스크롤하면 다음 페이지 로드
+        rvNotifications.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= adapter.getItemCount() - 5) {
+                    loadMoreNotifications();
+                }
+            }
+        });
     }
 
     private void setupListeners() {
@@ -78,10 +101,16 @@ public class NotificationListActivity extends BaseActivity implements Notificati
         progressBar.setVisibility(View.VISIBLE);
         layoutEmpty.setVisibility(View.GONE);
 
-        firebaseManager.getUserNotifications(currentUserId, new FirebaseManager.ClubNotificationListCallback() {
+        nextPageCursor = null;
+        hasMoreNotifications = false;
+
+        firebaseManager.getUserNotificationsPage(currentUserId, null, PAGE_SIZE, new FirebaseManager.ClubNotificationPageCallback() {
             @Override
-            public void onSuccess(List<ClubNotification> notifications) {
+            public void onSuccess(List<ClubNotification> notifications, FirebaseManager.NotificationPageCursor next,
+                                  boolean hasMore) {
                 progressBar.setVisibility(View.GONE);
+                nextPageCursor = next;
+                hasMoreNotifications = hasMore;
 
                 if (notifications.isEmpty()) {
                     layoutEmpty.setVisibility(View.VISIBLE);
@@ -104,6 +133,42 @@ public class NotificationListActivity extends BaseActivity implements Notificati
         });
     }
 
+    private void loadMoreNotifications() {
+        if (!hasMoreNotifications || isLoadingMore || nextPageCursor == null) return;
+        isLoadingMore = true;
+
+        firebaseManager.getUserNotificationsPage(currentUserId, nextPageCursor, PAGE_SIZE, new FirebaseManager.ClubNotificationPageCallback() {
+            @Override
+            public void onSuccess(List<ClubNotification> notifications, FirebaseManager.NotificationPageCursor next,
+                                  boolean hasMore) {
+                isLoadingMore = false;
+                nextPageCursor = next;
+                hasMoreNotifications = hasMore;
+                adapter.addNotifications(notifications);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                isLoadingMore = false;
+                Toast.makeText(NotificationListActivity.this, "알림 로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    private void deleteExpiredNotifications() {
+        // 보관 기간이 지난 알림 정리 (화면 표시와 무관하게 백그라운드로 진행)
+        firebaseManager.deleteExpiredNotifications(currentUserId, new FirebaseManager.SimpleCallback() {
+            @Override
+            public void onSuccess() {
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                android.util.Log.w("NotificationList", "Failed to delete expired notifications: " + e.getMessage());
+            }
+        });
+    }
+
     private void markAllAsRead() {
         firebaseManager.markAllNotificationsAsRead(currentUserId, new FirebaseManager.SimpleCallback() {
             @Override
@@ -121,6 +186,32 @@ public class NotificationListActivity extends BaseActivity implements Notificati
 
     @Override
     public void onNotificationClick(ClubNotification notification) {
+        // 전체 공지는 알림 문서가 없으므로 읽음 기준 시각만 갱신 후 공지 화면으로 이동
+        if (ClubNotification.TYPE_GLOBAL_NOTICE.equals(notification.getType())) {
+            if (!notification.isRead()) {
+                firebaseManager.markGlobalNoticesReadUntil(currentUserId, notification.getCreatedAt(), new FirebaseManager.SimpleCallback() {
+                    @Override
+                    public void onSuccess() {
+                        notification.setRead(true);
+                        adapter.notifyDataSetChanged();
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        // 실패해도 무시
+                    }
+                });
+            }
+
+            Intent intent = new Intent(this, NoticeDetailActivity.class);
+            intent.putExtra("club_id", ClubNotice.GLOBAL_CLUB_ID);
+            intent.putExtra("club_name", notification.getClubName());
+            intent.putExtra("notice_id", notification.getTargetId());
+            intent.putExtra("is_admin", SettingsActivity.isSuperAdminMode(this));
+            startActivity(intent);
+            return;
+        }
+
         // 알림 읽음 처리
         if (!notification.isRead()) {
             firebaseManager.markNotificationAsRead(notification.getId(), new FirebaseManager.SimpleCallback() {
@@ -89,6 +89,7 @@ public class PdfGenerationActivity extends BaseActivity {
 
     // 생성 버튼
     private MaterialButton btnGeneratePdf;
+    private ClubApplicationPdfGenerator runningGenerator; // 생성 중이면 취소용으로 보관
 
     private FirebaseManager firebaseManager;
     private Club currentClub;
@@ -422,6 +423,12 @@ public class PdfGenerationActivity extends BaseActivity {
 
         // PDF 생성
         btnGeneratePdf.setOnClickListener(v -> {
+            if (runningGenerator != null) {
+                // 생성 중에는 취소 버튼으로 동작
+                runningGenerator.cancel();
+                btnGeneratePdf.setEnabled(false);
+                return;
+            }
             if (validateInput()) {
                 checkPermissionAndGenerate();
             }
@@ -594,84 +601,113 @@ public class PdfGenerationActivity extends BaseActivity {
 
     private void generatePdf() {
         progressBar.setVisibility(View.VISIBLE);
-        btnGeneratePdf.setEnabled(false);
+        progressBar.setIndeterminate(true);
+        btnGeneratePdf.setText("생성 취소");
 
         // 월별 데이터 수집
         collectMonthlyData();
 
-        new Thread(() -> {
-            try {
-                ClubApplicationPdfGenerator generator = new ClubApplicationPdfGenerator(this);
-
-                // 기본 정보 설정
-                generator.setClub(currentClub);
-                generator.setAcademicYear(spinnerYear.getSelectedItem().toString());
-                generator.setApplicationType(spinnerType.getSelectedItem().toString());
-
-                // 임원 정보 설정
-                String professor = etProfessorName.getText() != null ? etProfessorName.getText().toString() : "";
-                String president = etPresidentName.getText() != null ? etPresidentName.getText().toString() : "";
-                String vicePresident = etVicePresidentName.getText() != null ? etVicePresidentName.getText().toString() : "";
-                String secretary = etSecretaryName.getText() != null ? etSecretaryName.getText().toString() : "";
-                String treasurer = etTreasurerName.getText() != null ? etTreasurerName.getText().toString() : "";
-
-                generator.setProfessorName(professor);
-                generator.setOfficers(president, vicePresident, secretary, treasurer);
-
-                // 회원 목록 설정
-                if (memberList != null) {
-                    generator.setMembers(memberList);
-                }
+        ClubApplicationPdfGenerator generator = new ClubApplicationPdfGenerator(this);
+        runningGenerator = generator;
 
-                // 서명 설정
-                generator.setPresidentSignature(presidentSignature);
-                generator.setProfessorSignature(professorSignature);
-                generator.setMemberSignatures(memberSignatures);
+        // 기본 정보 설정
+        generator.setClub(currentClub);
+        generator.setAcademicYear(spinnerYear.getSelectedItem().toString());
+        generator.setApplicationType(spinnerType.getSelectedItem().toString());
 
-                // 회칙 파일 설정
-                if (clubRulesUri != null) {
-                    generator.setClubRulesUri(clubRulesUri);
-                }
+        // 임원 정보 설정
+        String professor = etProfessorName.getText() != null ? etProfessorName.getText().toString() : "";
+        String president = etPresidentName.getText() != null ? etPresidentName.getText().toString() : "";
+        String vicePresident = etVicePresidentName.getText() != null ? etVicePresidentName.getText().toString() : "";
+        String secretary = etSecretaryName.getText() != null ? etSecretaryName.getText().toString() : "";
+        String treasurer = etTreasurerName.getText() != null ? etTreasurerName.getText().toString() : "";
 
-                // 월별 활동 계획 및 예산 설정
-                generator.setMonthlyPlans(monthlyPlans);
-                generator.setMonthlyBudgets(monthlyBudgets);
-
-                // PDF 생성
-                String filePath = generator.generatePdf();
-
-                runOnUiThread(() -> {
-                    progressBar.setVisibility(View.GONE);
-                    btnGeneratePdf.setEnabled(true);
-
-                    // 성공 다이얼로그
-                    showPdfCompleteDialog(filePath);
-                });
-
-            } catch (Exception e) {
-                runOnUiThread(() -> {
-                    progressBar.setVisibility(View.GONE);
-                    btnGeneratePdf.setEnabled(true);
-
-                    String errorMsg = e.getMessage();
-                    if (errorMsg != null && errorMsg.contains("폰트")) {
-                        // 폰트 관련 오류인 경우 상세 안내
-                        new AlertDialog.Builder(this)
-                                .setTitle("PDF 생성 실패")
-                                .setMessage("한글 폰트를 찾을 수 없습니다.\n\n" +
-                                        "해결 방법:\n" +
-                                        "1. 앱의 assets/fonts/ 폴더에 NanumGothic.ttf 파일을 추가하세요.\n" +
-                                        "2. 또는 기기에 한글 폰트가 설치되어 있는지 확인하세요.\n\n" +
-                                        "NanumGothic 폰트는 네이버에서 무료로 다운로드할 수 있습니다.")
-                                .setPositiveButton("확인", null)
-                                .show();
-                    } else {
-                        Toast.makeText(this, "PDF 생성 실패: " + errorMsg, Toast.LENGTH_LONG).show();
-                    }
-                    e.printStackTrace();
-                });
+        generator.setProfessorName(professor);
+        generator.setOfficers(president, vicePresident, secretary, treasurer);
+
+        // 회원 목록 설정
+        if (memberList != null) {
+            generator.setMembers(memberList);
+        }
+
+        // 서명 설정
+        generator.setPresidentSignature(presidentSignature);
+        generator.setProfessorSignature(professorSignature);
+        generator.setMemberSignatures(memberSignatures);
+
+        // 회칙 파일 설정
+        if (clubRulesUri != null) {
+            generator.setClubRulesUri(clubRulesUri);
+        }
+
+        // 월별 활동 계획 및 예산 설정
+        generator.setMonthlyPlans(monthlyPlans);
+        generator.setMonthlyBudgets(monthlyBudgets);
+
+        // PDF 생성 (전용 스레드)
+        generator.generateAsync(new ClubApplicationPdfGenerator.GenerationCallback() {
+            @Override
+            public void onProgress(int current, int total) {
+                progressBar.setIndeterminate(false);
+                progressBar.setMax(total);
+                progressBar.setProgress(current);
             }
-        }).start();
+
+            @Override
+            public void onSuccess(String filePath) {
+                if (isDestroyed()) return;
+                finishGeneration();
+
+                // 성공 다이얼로그
+                showPdfCompleteDialog(filePath);
+            }
+
+            @Override
+            public void onCancelled() {
+                if (isDestroyed()) return;
+                finishGeneration();
+                Toast.makeText(PdfGenerationActivity.this, "PDF 생성을 취소했습니다", Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isDestroyed()) return;
+                finishGeneration();
+
+                String errorMsg = e.getMessage();
+                if (errorMsg != null && errorMsg.contains("폰트")) {
+                    // 폰트 관련 오류인 경우 상세 안내
+                    new AlertDialog.Builder(PdfGenerationActivity.this)
+                            .setTitle("PDF 생성 실패")
+                            .setMessage("한글 폰트를 찾을 수 없습니다.\n\n" +
+                                    "해결 방법:\n" +
+                                    "1. 앱의 assets/fonts/ 폴더에 NanumGothic.ttf 파일을 추가하세요.\n" +
+                                    "2. 또는 기기에 한글 폰트가 설치되어 있는지 확인하세요.\n\n" +
+                                    "NanumGothic 폰트는 네이버에서 무료로 다운로드할 수 있습니다.")
+                            .setPositiveButton("확인", null)
+                            .show();
+                } else {
+                    Toast.makeText(PdfGenerationActivity.this, "PDF 생성 실패: " + errorMsg, Toast.LENGTH_LONG).show();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        // 화면을 떠나면 생성 중단 (만들던 파일은 삭제됨)
+        if (runningGenerator != null) {
+            runningGenerator.cancel();
+            runningGenerator = null;
+        }
+    }
+
+    private void finishGeneration() {
+        runningGenerator = null;
+        progressBar.setVisibility(View.GONE);
+        btnGeneratePdf.setText("PDF 생성");
+        btnGeneratePdf.setEnabled(true);
     }
 
     private void showPdfCompleteDialog(String filePath) {
@@ -9,6 +9,7 @@ import android.widget.Toast;
 import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.example.clubmanagement.utils.SignatureUtil;
 import com.example.clubmanagement.views.SignaturePadView;
 import com.google.android.material.button.MaterialButton;
@@ -65,8 +66,8 @@ public class SignaturePadActivity extends BaseActivity {
 
         showLoading(true);
 
-        // 서명 Bitmap 가져오기
-        Bitmap signatureBitmap = signaturePadView.getSignatureBitmap();
+        // 서명 Bitmap 가져오기 (배경 제거는 백그라운드에서)
+        Bitmap signatureBitmap = signaturePadView.copyPadBitmap();
 
         if (signatureBitmap == null) {
             Toast.makeText(this, "서명을 가져올 수 없습니다", Toast.LENGTH_SHORT).show();
@@ -74,31 +75,43 @@ public class SignaturePadActivity extends BaseActivity {
             return;
         }
 
-        // Bitmap -> byte array
-        byte[] imageData = SignatureUtil.bitmapToByteArray(signatureBitmap);
+        // 배경 제거 + PNG 인코딩 (백그라운드)
+        ImageUploadPipeline.getInstance(this).encodePng(signatureBitmap, SignatureUtil::removeWhiteBackground,
+                new ImageUploadPipeline.BytesCallback() {
+                    @Override
+                    public void onSuccess(byte[] imageData) {
+                        enqueueSignature(userId, imageData);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        showLoading(false);
+                        Toast.makeText(SignaturePadActivity.this,
+                                "저장 실패: " + e.getMessage(),
+                                Toast.LENGTH_LONG).show();
+                    }
+                });
+    }
 
-        // Firebase Storage에 업로드
-        firebaseManager.uploadSignatureImage(imageData, userId, "pad",
-                new FirebaseManager.SignatureCallback() {
+    private void enqueueSignature(String userId, byte[] imageData) {
+        // 업로드 대기열에 추가 (앱이 종료되어도 백그라운드에서 이어서 업로드)
+        firebaseManager.enqueueSignatureUpload(this, imageData, userId, "pad",
+                new FirebaseManager.SimpleCallback() {
                     @Override
-                    public void onSuccess(String downloadUrl) {
-                        runOnUiThread(() -> {
-                            showLoading(false);
-                            Toast.makeText(SignaturePadActivity.this,
-                                    "서명이 저장되었습니다!",
-                                    Toast.LENGTH_SHORT).show();
-                            finish();
-                        });
+                    public void onSuccess() {
+                        showLoading(false);
+                        Toast.makeText(SignaturePadActivity.this,
+                                "서명이 저장되었습니다!",
+                                Toast.LENGTH_SHORT).show();
+                        finish();
                     }
 
                     @Override
                     public void onFailure(Exception e) {
-                        runOnUiThread(() -> {
-                            showLoading(false);
-                            Toast.makeText(SignaturePadActivity.this,
-                                    "저장 실패: " + e.getMessage(),
-                                    Toast.LENGTH_LONG).show();
-                        });
+                        showLoading(false);
+                        Toast.makeText(SignaturePadActivity.this,
+                                "저장 실패: " + e.getMessage(),
+                                Toast.LENGTH_LONG).show();
                     }
                 });
     }
@@ -3,7 +3,6 @@ package com.example.clubmanagement.activities;
 import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Bundle;
-import android.provider.MediaStore;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.ProgressBar;
@@ -16,11 +15,10 @@ import androidx.activity.result.contract.ActivityResultContracts;
 import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.example.clubmanagement.utils.SignatureUtil;
 import com.google.android.material.button.MaterialButton;
 
-import java.io.IOException;
-
 public class SignatureUploadActivity extends BaseActivity {
 
     private ImageView ivSignaturePreview;
@@ -76,24 +74,30 @@ public class SignatureUploadActivity extends BaseActivity {
     }
 
     private void handleImageSelection(Uri uri) {
-        try {
-            Bitmap originalBitmap = MediaStore.Images.Media.getBitmap(
-                    getContentResolver(), uri);
-
-            // 서명 이미지 처리 (배경 제거, 크롭, 리사이즈)
-            selectedBitmap = SignatureUtil.processSignatureImage(originalBitmap);
+        // 원본 해상도로 디코딩하지 않도록 백그라운드에서 축소 디코딩
+        // 서명 이미지 처리 (배경 제거, 크롭, 리사이즈)도 백그라운드에서 실행
+        ImageUploadPipeline.getInstance(this).decodeBitmap(uri,
+                ImageUploadPipeline.Preset.SIGNATURE.getMaxDimension(),
+                SignatureUtil::processSignatureImage,
+                new ImageUploadPipeline.BitmapCallback() {
+                    @Override
+                    public void onSuccess(Bitmap processedBitmap) {
+                        selectedBitmap = processedBitmap;
 
-            // 미리보기 표시
-            ivSignaturePreview.setImageBitmap(selectedBitmap);
-            tvNoImage.setVisibility(View.GONE);
-            btnUpload.setEnabled(true);
+                        // 미리보기 표시
+                        ivSignaturePreview.setImageBitmap(selectedBitmap);
+                        tvNoImage.setVisibility(View.GONE);
+                        btnUpload.setEnabled(true);
 
-            Toast.makeText(this, "이미지가 처리되었습니다", Toast.LENGTH_SHORT).show();
+                        Toast.makeText(SignatureUploadActivity.this, "이미지가 처리되었습니다", Toast.LENGTH_SHORT).show();
+                    }
 
-        } catch (IOException e) {
-            Toast.makeText(this, "이미지 로드 실패: " + e.getMessage(),
-                    Toast.LENGTH_LONG).show();
-        }
+                    @Override
+                    public void onFailure(Exception e) {
+                        Toast.makeText(SignatureUploadActivity.this, "이미지 로드 실패: " + e.getMessage(),
+                                Toast.LENGTH_LONG).show();
+                    }
+                });
     }
 
     private void uploadSignature() {
@@ -110,31 +114,43 @@ public class SignatureUploadActivity extends BaseActivity {
 
         showLoading(true);
 
-        // Bitmap -> byte array
-        byte[] imageData = SignatureUtil.bitmapToByteArray(selectedBitmap);
+        // Bitmap -> PNG (백그라운드)
+        ImageUploadPipeline.getInstance(this).encodePng(selectedBitmap, null,
+                new ImageUploadPipeline.BytesCallback() {
+                    @Override
+                    public void onSuccess(byte[] imageData) {
+                        enqueueSignature(userId, imageData);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        showLoading(false);
+                        Toast.makeText(SignatureUploadActivity.this,
+                                "업로드 실패: " + e.getMessage(),
+                                Toast.LENGTH_LONG).show();
+                    }
+                });
+    }
 
-        // Firebase Storage에 업로드
-        firebaseManager.uploadSignatureImage(imageData, userId, "image",
-                new FirebaseManager.SignatureCallback() {
+    private void enqueueSignature(String userId, byte[] imageData) {
+        // 업로드 대기열에 추가 (앱이 종료되어도 백그라운드에서 이어서 업로드)
+        firebaseManager.enqueueSignatureUpload(this, imageData, userId, "image",
+                new FirebaseManager.SimpleCallback() {
                     @Override
-                    public void onSuccess(String downloadUrl) {
-                        runOnUiThread(() -> {
-                            showLoading(false);
-                            Toast.makeText(SignatureUploadActivity.this,
-                                    "서명이 업로드되었습니다!",
-                                    Toast.LENGTH_SHORT).show();
-                            finish();
-                        });
+                    public void onSuccess() {
+                        showLoading(false);
+                        Toast.makeText(SignatureUploadActivity.this,
+                                "서명이 업로드되었습니다!",
+                                Toast.LENGTH_SHORT).show();
+                        finish();
                     }
 
                     @Override
                     public void onFailure(Exception e) {
-                        runOnUiThread(() -> {
-                            showLoading(false);
-                            Toast.makeText(SignatureUploadActivity.this,
-                                    "업로드 실패: " + e.getMessage(),
-                                    Toast.LENGTH_LONG).show();
-                        });
+                        showLoading(false);
+                        Toast.makeText(SignatureUploadActivity.this,
+                                "업로드 실패: " + e.getMessage(),
+                                Toast.LENGTH_LONG).show();
                     }
                 });
     }
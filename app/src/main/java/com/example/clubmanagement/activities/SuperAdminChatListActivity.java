@@ -29,7 +29,9 @@ import com.example.clubmanagement.utils.FirebaseManager;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 총관리자용 채팅 목록 Activity
@@ -304,55 +306,46 @@ public class SuperAdminChatListActivity extends BaseActivity {
                     return;
                 }
 
-                final int[] loadedCount = {0};
-                final int totalClubs = clubs.size();
-
+                List<String> clubIds = new ArrayList<>();
+                Map<String, String> clubNames = new HashMap<>();
                 for (Club club : clubs) {
-                    String clubId = club.getId();
-                    String clubName = club.getName();
-
-                    // 동아리 멤버 중 관리자만 가져오기
-                    firebaseManager.getClubMembers(clubId, new FirebaseManager.MembersCallback() {
-                        @Override
-                        public void onSuccess(List<Member> members) {
-                            // 관리자만 필터링 (본인 제외)
+                    clubIds.add(club.getId());
+                    clubNames.put(club.getId(), club.getName());
+                }
+
+                // 모든 동아리의 관리자를 한 번에 가져오기 (관리자 필터링은 서버에서 수행)
+                firebaseManager.getAdminsForClubs(clubIds, new FirebaseManager.ClubMembersMapCallback() {
+                    @Override
+                    public void onSuccess(Map<String, List<Member>> adminsByClub) {
+                        for (String clubId : clubIds) {
                             List<Member> adminMembers = new ArrayList<>();
-                            for (Member member : members) {
-                                if (member.getUserId() != null &&
-                                    !member.getUserId().equals(currentUserId) &&
-                                    (member.isAdmin() || isAdminRole(member.getRole()))) {
-                                    adminMembers.add(member);
+                            List<Member> admins = adminsByClub.get(clubId);
+                            if (admins != null) {
+                                // 본인 제외
+                                for (Member member : admins) {
+                                    if (member.getUserId() != null && !member.getUserId().equals(currentUserId)) {
+                                        adminMembers.add(member);
+                                    }
                                 }
                             }
 
-                            synchronized (resultList) {
-                                if (!adminMembers.isEmpty()) {
-                                    String groupName = clubName + " 관리자";
-                                    resultList.add(new ClubMemberListAdapter.ClubWithMembers(
-                                            clubId,
-                                            groupName,
-                                            adminMembers
-                                    ));
-                                }
-
-                                loadedCount[0]++;
-                                if (loadedCount[0] == totalClubs) {
-                                    runOnUiThread(() -> showResults(resultList));
-                                }
+                            if (!adminMembers.isEmpty()) {
+                                String groupName = clubNames.get(clubId) + " 관리자";
+                                resultList.add(new ClubMemberListAdapter.ClubWithMembers(
+                                        clubId,
+                                        groupName,
+                                        adminMembers
+                                ));
                             }
                         }
+                        showResults(resultList);
+                    }
 
-                        @Override
-                        public void onFailure(Exception e) {
-                            synchronized (resultList) {
-                                loadedCount[0]++;
-                                if (loadedCount[0] == totalClubs) {
-                                    runOnUiThread(() -> showResults(resultList));
-                                }
-                            }
-                        }
-                    });
-                }
+                    @Override
+                    public void onFailure(Exception e) {
+                        showResults(resultList);
+                    }
+                });
             }
 
             @Override
@@ -362,12 +355,6 @@ public class SuperAdminChatListActivity extends BaseActivity {
         });
     }
 
-    private boolean isAdminRole(String role) {
-        if (role == null) return false;
-        return role.equals("회장") || role.equals("admin") ||
-               role.equals("부회장") || role.equals("총무") || role.equals("회계");
-    }
-
     private void showResults(List<ClubMemberListAdapter.ClubWithMembers> resultList) {
         progressBar.setVisibility(View.GONE);
 
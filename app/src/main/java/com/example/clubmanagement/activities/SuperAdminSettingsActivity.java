@@ -1,7 +1,6 @@
 package com.example.clubmanagement.activities;
 
 import android.content.Intent;
-import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Bundle;
 import android.provider.MediaStore;
@@ -20,10 +19,9 @@ import com.example.clubmanagement.BaseActivity;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.Club;
 import com.example.clubmanagement.utils.FirebaseManager;
+import com.example.clubmanagement.utils.ImageUploadPipeline;
 import com.google.android.material.button.MaterialButton;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.text.NumberFormat;
 import java.util.Locale;
 
@@ -298,38 +296,32 @@ public class SuperAdminSettingsActivity extends BaseActivity {
     private void uploadCarouselImage(Uri imageUri) {
         progressBar.setVisibility(View.VISIBLE);
 
-        try {
-            Bitmap bitmap = MediaStore.Images.Media.getBitmap(getContentResolver(), imageUri);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
-            byte[] imageData = baos.toByteArray();
-
-            firebaseManager.uploadCarouselImage(imageData, pageIndex, new FirebaseManager.SignatureCallback() {
-                @Override
-                public void onSuccess(String downloadUrl) {
-                    progressBar.setVisibility(View.GONE);
-                    carouselImageUrl = downloadUrl;
-
-                    Glide.with(SuperAdminSettingsActivity.this)
-                            .load(downloadUrl)
-                            .centerCrop()
-                            .into(ivCarouselPreview);
-
-                    Toast.makeText(SuperAdminSettingsActivity.this,
-                            "캐러셀 이미지가 업데이트되었습니다", Toast.LENGTH_SHORT).show();
-                }
+        firebaseManager.uploadCarouselImage(this, imageUri, new ImageUploadPipeline.UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+            }
 
-                @Override
-                public void onFailure(Exception e) {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(SuperAdminSettingsActivity.this,
-                            "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                }
-            });
-        } catch (IOException e) {
-            progressBar.setVisibility(View.GONE);
-            Toast.makeText(this, "이미지 처리 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+            @Override
+            public void onSuccess(String downloadUrl) {
+                progressBar.setVisibility(View.GONE);
+                carouselImageUrl = downloadUrl;
+
+                Glide.with(SuperAdminSettingsActivity.this)
+                        .load(downloadUrl)
+                        .centerCrop()
+                        .into(ivCarouselPreview);
+
+                Toast.makeText(SuperAdminSettingsActivity.this,
+                        "캐러셀 이미지가 업데이트되었습니다", Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(SuperAdminSettingsActivity.this,
+                        "이미지 업로드 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     private void showDeleteCarouselImageDialog() {
@@ -10,9 +10,10 @@ import android.widget.LinearLayout;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.RequestOptions;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.Banner;
+import com.example.clubmanagement.utils.ImageHelper;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -100,9 +101,8 @@ public class BannerAdapter extends RecyclerView.Adapter<BannerAdapter.BannerView
         public void bind(Banner banner) {
             // Load image only
             if (banner.getImageUrl() != null && !banner.getImageUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(banner.getImageUrl())
-                        .centerCrop()
+                ImageHelper.sizedRequest(context, ivBannerImage, banner.getImageUrl(),
+                                RequestOptions.centerCropTransform())
                         .into(ivBannerImage);
             } else {
                 ivBannerImage.setImageResource(android.R.color.darker_gray);
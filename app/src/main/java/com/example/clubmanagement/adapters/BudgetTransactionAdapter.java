@@ -11,9 +11,10 @@ import androidx.cardview.widget.CardView;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.RequestOptions;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.BudgetTransaction;
+import com.example.clubmanagement.utils.ImageHelper;
 
 import java.text.NumberFormat;
 import java.util.ArrayList;
@@ -38,6 +39,13 @@ public class BudgetTransactionAdapter extends RecyclerView.Adapter<BudgetTransac
         notifyDataSetChanged();
     }
 
+    // 다음 페이지 거래를 목록 끝에 추가
+    public void addTransactions(List<BudgetTransaction> moreTransactions) {
+        int start = transactions.size();
+        transactions.addAll(moreTransactions);
+        notifyItemRangeInserted(start, moreTransactions.size());
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -152,9 +160,8 @@ public class BudgetTransactionAdapter extends RecyclerView.Adapter<BudgetTransac
                 ivReceiptIndicator.setVisibility(View.VISIBLE);
                 cardReceiptThumbnail.setVisibility(View.VISIBLE);
 
-                Glide.with(itemView.getContext())
-                        .load(receiptUrl)
-                        .centerCrop()
+                ImageHelper.sizedRequest(itemView.getContext(), ivReceiptThumbnail, receiptUrl,
+                                RequestOptions.centerCropTransform())
                         .into(ivReceiptThumbnail);
             } else {
                 ivReceiptIndicator.setVisibility(View.GONE);
@@ -10,8 +10,10 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.RequestOptions;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.models.CarouselItem;
+import com.example.clubmanagement.utils.ImageHelper;
 
 import java.util.List;
 
@@ -57,11 +59,10 @@ public class CarouselAdapter extends RecyclerView.Adapter<CarouselAdapter.Carous
             // Load background image from Firebase URL or local resource
             if (item.hasFirebaseImage()) {
                 // Load background from Firebase Storage URL
-                Glide.with(itemView.getContext())
-                        .load(item.getImageUrl())
-                        .centerCrop()
-                        .placeholder(new android.graphics.drawable.ColorDrawable(getDefaultColor(position)))
-                        .error(new android.graphics.drawable.ColorDrawable(getDefaultColor(position)))
+                ImageHelper.sizedRequest(itemView.getContext(), ivCarouselBackground, item.getImageUrl(),
+                                RequestOptions.centerCropTransform()
+                                        .placeholder(new android.graphics.drawable.ColorDrawable(getDefaultColor(position)))
+                                        .error(new android.graphics.drawable.ColorDrawable(getDefaultColor(position))))
                         .into(ivCarouselBackground);
             } else if (item.getImageRes() != 0) {
                 // Load background from local drawable resource
@@ -8,6 +8,8 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.clubmanagement.R;
@@ -19,10 +21,14 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.MessageViewHolder> {
+/**
+ * 채팅 메시지 어댑터
+ * DiffUtil로 변경된 메시지만 다시 바인딩 (새 메시지 1개 = 바인딩 1회)
+ */
+public class ChatMessageAdapter extends ListAdapter<ChatMessage, ChatMessageAdapter.MessageViewHolder> {
 
-    private List<ChatMessage> messages = new ArrayList<>();
     private String currentUserId;
     private OnMessageLongClickListener longClickListener;
 
@@ -30,7 +36,23 @@ public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.
         void onMessageLongClick(ChatMessage message, boolean isOwnMessage);
     }
 
+    private static final DiffUtil.ItemCallback<ChatMessage> DIFF_CALLBACK = new DiffUtil.ItemCallback<ChatMessage>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull ChatMessage oldItem, @NonNull ChatMessage newItem) {
+            return Objects.equals(oldItem.getMessageId(), newItem.getMessageId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull ChatMessage oldItem, @NonNull ChatMessage newItem) {
+            return Objects.equals(oldItem.getMessage(), newItem.getMessage()) &&
+                   Objects.equals(oldItem.getSenderName(), newItem.getSenderName()) &&
+                   oldItem.getTimestamp() == newItem.getTimestamp() &&
+                   oldItem.isRead() == newItem.isRead();
+        }
+    };
+
     public ChatMessageAdapter(String currentUserId) {
+        super(DIFF_CALLBACK);
         this.currentUserId = currentUserId;
     }
 
@@ -39,16 +61,14 @@ public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.
     }
 
     public void setMessages(List<ChatMessage> newMessages) {
-        this.messages.clear();
-        if (newMessages != null) {
-            this.messages.addAll(newMessages);
-        }
-        notifyDataSetChanged();
+        submitList(newMessages != null ? new ArrayList<>(newMessages) : null);
     }
 
-    public void addMessage(ChatMessage message) {
-        messages.add(message);
-        notifyItemInserted(messages.size() - 1);
+    /**
+     * 메시지 목록 반영 후 commitCallback 실행 (스크롤 위치 조정 등에 사용)
+     */
+    public void setMessages(List<ChatMessage> newMessages, Runnable commitCallback) {
+        submitList(newMessages != null ? new ArrayList<>(newMessages) : null, commitCallback);
     }
 
     @NonNull
@@ -61,7 +81,7 @@ public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull MessageViewHolder holder, int position) {
-        ChatMessage message = messages.get(position);
+        ChatMessage message = getItem(position);
         boolean isOwnMessage = message.getSenderId() != null && message.getSenderId().equals(currentUserId);
 
         // 날짜 구분선 표시 여부 결정
@@ -69,7 +89,7 @@ public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.
         if (position == 0) {
             showDateDivider = true;
         } else {
-            ChatMessage prevMessage = messages.get(position - 1);
+            ChatMessage prevMessage = getItem(position - 1);
             showDateDivider = !isSameDay(prevMessage.getTimestamp(), message.getTimestamp());
         }
 
@@ -87,11 +107,6 @@ public class ChatMessageAdapter extends RecyclerView.Adapter<ChatMessageAdapter.
         holder.layoutReceived.setOnLongClickListener(longClick);
     }
 
-    @Override
-    public int getItemCount() {
-        return messages.size();
-    }
-
     private boolean isSameDay(long timestamp1, long timestamp2) {
         Calendar cal1 = Calendar.getInstance();
         cal1.setTimeInMillis(timestamp1);
@@ -30,10 +30,17 @@ public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapte
     }
 
     public void setNotifications(List<ClubNotification> notifications) {
-        this.notifications = notifications;
+        this.notifications = new ArrayList<>(notifications);
         notifyDataSetChanged();
     }
 
+    // 다음 페이지 알림을 목록 끝에 추가
+    public void addNotifications(List<ClubNotification> moreNotifications) {
+        int start = notifications.size();
+        notifications.addAll(moreNotifications);
+        notifyItemRangeInserted(start, moreNotifications.size());
+    }
+
     @NonNull
     @Override
     public NotificationViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -0,0 +1,107 @@
+package com.example.clubmanagement.models;
+
+/**
+ * 월별 공금 집계 모델 (clubs/{clubId}/budgetMonths/{yyyy-MM})
+ * 공금 원장에 거래를 쓸 때 같은 트랜잭션 안에서 함께 갱신됩니다.
+ * 여러 달을 합친 기간 합계에도 사용합니다 (month 는 마지막 달).
+ */
+public class BudgetRollup {
+    private String month;          // "2024-03"
+    private long income;           // 수입 합계
+    private long expense;          // 지출 합계
+    private long adjustment;       // 조정 합계 (부호 있음)
+    private long count;            // 거래 수
+    private long closingBalance;   // 그 달 마지막 거래 후 잔액
+
+    // Firebase requires no-argument constructor
+    public BudgetRollup() {
+    }
+
+    public BudgetRollup(String month) {
+        this.month = month;
+    }
+
+    // Getters
+    public String getMonth() {
+        return month;
+    }
+
+    public long getIncome() {
+        return income;
+    }
+
+    public long getExpense() {
+        return expense;
+    }
+
+    public long getAdjustment() {
+        return adjustment;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getClosingBalance() {
+        return closingBalance;
+    }
+
+    // Setters
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public void setIncome(long income) {
+        this.income = income;
+    }
+
+    public void setExpense(long expense) {
+        this.expense = expense;
+    }
+
+    public void setAdjustment(long adjustment) {
+        this.adjustment = adjustment;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public void setClosingBalance(long closingBalance) {
+        this.closingBalance = closingBalance;
+    }
+
+    // Helper methods
+
+    /**
+     * 거래 하나를 집계에 반영 (sign 이 -1 이면 제외)
+     */
+    public void add(String type, long amount, int sign) {
+        if (BudgetTransaction.TYPE_EXPENSE.equals(type)) {
+            expense += sign * amount;
+        } else if (BudgetTransaction.TYPE_INCOME.equals(type)) {
+            income += sign * amount;
+        } else {
+            adjustment += sign * amount;
+        }
+        count += sign;
+    }
+
+    /**
+     * 다른 달 집계를 합침 (month/closingBalance 는 더 나중 달 기준)
+     */
+    public void merge(BudgetRollup other) {
+        income += other.income;
+        expense += other.expense;
+        adjustment += other.adjustment;
+        count += other.count;
+        if (month == null || (other.month != null && other.month.compareTo(month) >= 0)) {
+            month = other.month;
+            closingBalance = other.closingBalance;
+        }
+    }
+
+    public long getNetChange() {
+        return income - expense + adjustment;
+    }
+}
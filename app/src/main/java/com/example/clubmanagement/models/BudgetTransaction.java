@@ -16,6 +16,7 @@ public class BudgetTransaction {
     private String createdByName;  // 작성자 이름
     private Timestamp createdAt;   // 생성 시간
     private long balanceAfter;     // 거래 후 잔액
+    private long seq;              // 원장 순번 (동아리별 1부터 증가)
 
     // Transaction types
     public static final String TYPE_EXPENSE = "EXPENSE";
@@ -75,6 +76,10 @@ public class BudgetTransaction {
         return balanceAfter;
     }
 
+    public long getSeq() {
+        return seq;
+    }
+
     // Setters
     public void setId(String id) {
         this.id = id;
@@ -116,6 +121,10 @@ public class BudgetTransaction {
         this.balanceAfter = balanceAfter;
     }
 
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
     // Helper methods
     public boolean isExpense() {
         return TYPE_EXPENSE.equals(type);
@@ -127,7 +136,8 @@ public class BudgetTransaction {
 
     public String getFormattedAmount() {
         java.text.NumberFormat numberFormat = java.text.NumberFormat.getNumberInstance(java.util.Locale.KOREA);
-        String prefix = isExpense() ? "-" : "+";
+        // 조정 거래는 금액에 부호가 있음
+        String prefix = isExpense() ? "-" : (amount < 0 ? "" : "+");
         return prefix + numberFormat.format(amount) + "원";
     }
 
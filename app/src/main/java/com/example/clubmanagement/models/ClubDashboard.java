@@ -0,0 +1,142 @@
+package com.example.clubmanagement.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동아리 홈 화면에 필요한 데이터를 한 번에 담는 스냅샷
+ * 각 항목의 조회가 실패하면 해당 항목은 기본값이고, 오류는 *Error 필드에 담깁니다.
+ */
+public class ClubDashboard {
+    private Club club;                  // 문서가 없으면 null
+    private Exception clubError;
+    private int memberCount;            // 실제 멤버 문서 기준 인원 수 (-1 이면 조회 실패)
+    private List<Member> birthdayMembers = new ArrayList<>(); // 오늘 생일인 멤버
+    private List<Notice> notices = new ArrayList<>();
+    private Exception noticesError;
+    private List<Banner> banners = new ArrayList<>();
+    private boolean clubBanners;        // true 면 동아리 배너, false 면 전역 배너
+    private Exception bannersError;
+    private long bannerSlideInterval = 3000L;
+    private List<Schedule> schedules = new ArrayList<>();
+    private Exception schedulesError;
+    private int registerLimit = 20;
+    private int maintainLimit = 15;
+
+    public ClubDashboard() {
+    }
+
+    // Getters
+    public Club getClub() {
+        return club;
+    }
+
+    public Exception getClubError() {
+        return clubError;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public List<Member> getBirthdayMembers() {
+        return birthdayMembers;
+    }
+
+    public List<Notice> getNotices() {
+        return notices;
+    }
+
+    public Exception getNoticesError() {
+        return noticesError;
+    }
+
+    public List<Banner> getBanners() {
+        return banners;
+    }
+
+    public boolean isClubBanners() {
+        return clubBanners;
+    }
+
+    public Exception getBannersError() {
+        return bannersError;
+    }
+
+    public long getBannerSlideInterval() {
+        return bannerSlideInterval;
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    public Exception getSchedulesError() {
+        return schedulesError;
+    }
+
+    public int getRegisterLimit() {
+        return registerLimit;
+    }
+
+    public int getMaintainLimit() {
+        return maintainLimit;
+    }
+
+    // Setters
+    public void setClub(Club club) {
+        this.club = club;
+    }
+
+    public void setClubError(Exception clubError) {
+        this.clubError = clubError;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public void setBirthdayMembers(List<Member> birthdayMembers) {
+        this.birthdayMembers = birthdayMembers != null ? birthdayMembers : new ArrayList<>();
+    }
+
+    public void setNotices(List<Notice> notices) {
+        this.notices = notices != null ? notices : new ArrayList<>();
+    }
+
+    public void setNoticesError(Exception noticesError) {
+        this.noticesError = noticesError;
+    }
+
+    public void setBanners(List<Banner> banners) {
+        this.banners = banners != null ? banners : new ArrayList<>();
+    }
+
+    public void setClubBanners(boolean clubBanners) {
+        this.clubBanners = clubBanners;
+    }
+
+    public void setBannersError(Exception bannersError) {
+        this.bannersError = bannersError;
+    }
+
+    public void setBannerSlideInterval(long bannerSlideInterval) {
+        this.bannerSlideInterval = bannerSlideInterval;
+    }
+
+    public void setSchedules(List<Schedule> schedules) {
+        this.schedules = schedules != null ? schedules : new ArrayList<>();
+    }
+
+    public void setSchedulesError(Exception schedulesError) {
+        this.schedulesError = schedulesError;
+    }
+
+    public void setRegisterLimit(int registerLimit) {
+        this.registerLimit = registerLimit;
+    }
+
+    public void setMaintainLimit(int maintainLimit) {
+        this.maintainLimit = maintainLimit;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.clubmanagement.models;
 
 import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.Exclude;
 
 public class ClubNotice {
+    // 전체 공지의 clubId (globalNotices 컬렉션에 한 번만 저장되고, 조회 시 각 동아리 공지에 합쳐짐)
+    public static final String GLOBAL_CLUB_ID = "global";
+
     private String id;
     private String clubId;
     private String title;
@@ -123,6 +127,11 @@ public class ClubNotice {
     }
 
     // Helper methods
+    @Exclude
+    public boolean isGlobal() {
+        return GLOBAL_CLUB_ID.equals(clubId);
+    }
+
     public String getFormattedDate() {
         if (createdAt == null) return "";
         java.text.SimpleDateFormat sdf = new java.text.SimpleDateFormat("yyyy.MM.dd HH:mm", java.util.Locale.KOREA);
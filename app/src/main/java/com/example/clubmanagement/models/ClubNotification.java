@@ -8,6 +8,10 @@ public class ClubNotification {
     public static final String TYPE_COMMENT = "comment";         // 새 댓글
     public static final String TYPE_MEMBER_JOIN = "member_join"; // 새 멤버 가입
     public static final String TYPE_ADMIN_GRANT = "admin_grant"; // 관리자 권한 부여
+    public static final String TYPE_GLOBAL_NOTICE = "global_notice"; // 전체 공지 (문서 없이 조회 시 생성)
+
+    // 알림 보관 기간 (expireAt 필드에 Firestore TTL 정책을 걸어 서버에서 자동 삭제)
+    public static final int RETENTION_DAYS = 90;
 
     private String id;
     private String userId;          // 알림 받을 사용자 ID
@@ -19,6 +23,7 @@ public class ClubNotification {
     private String targetId;        // 관련 대상 ID (공지 ID, 댓글 ID 등)
     private boolean isRead;         // 읽음 여부
     private Timestamp createdAt;
+    private Timestamp expireAt;     // 보관 만료 시각 (TTL)
 
     // Firebase requires no-argument constructor
     public ClubNotification() {
@@ -35,6 +40,8 @@ public class ClubNotification {
         this.targetId = targetId;
         this.isRead = false;
         this.createdAt = Timestamp.now();
+        this.expireAt = new Timestamp(new java.util.Date(
+                System.currentTimeMillis() + RETENTION_DAYS * 24L * 60 * 60 * 1000));
     }
 
     // Static factory methods
@@ -50,6 +57,25 @@ public class ClubNotification {
         );
     }
 
+    /**
+     * 전체 공지를 알림함 항목으로 변환 (읽음 여부는 사용자별 읽음 기준 시각으로 판단)
+     */
+    public static ClubNotification fromGlobalNotice(ClubNotice notice, Timestamp readWatermark) {
+        ClubNotification notification = new ClubNotification(
+            null, ClubNotice.GLOBAL_CLUB_ID, "전체공지",
+            TYPE_GLOBAL_NOTICE,
+            "전체 공지사항",
+            notice.getTitle(),
+            notice.getId()
+        );
+        notification.setId(notice.getId());
+        notification.setCreatedAt(notice.getCreatedAt());
+        notification.setExpireAt(null);
+        notification.setRead(readWatermark != null && notice.getCreatedAt() != null
+                && notice.getCreatedAt().compareTo(readWatermark) <= 0);
+        return notification;
+    }
+
     public static ClubNotification createCommentNotification(String userId, String clubId,
                                                              String clubName, String noticeId,
                                                              String commenterName) {
@@ -99,6 +125,23 @@ public class ClubNotification {
         return isRead;
     }
 
+    // Firebase Firestore가 isRead 필드로 직렬화/역직렬화할 때 사용 (읽음 쿼리는 isRead 기준)
+    public boolean getIsRead() {
+        return isRead;
+    }
+
+    public void setIsRead(boolean isRead) {
+        this.isRead = isRead;
+    }
+
+    public Timestamp getExpireAt() {
+        return expireAt;
+    }
+
+    public void setExpireAt(Timestamp expireAt) {
+        this.expireAt = expireAt;
+    }
+
     public Timestamp getCreatedAt() {
         return createdAt;
     }
@@ -193,6 +193,26 @@ public class Member {
         this.applicationId = applicationId;
     }
 
+    // 생일의 연중 일자 (윤년 기준 1-366, 0이면 미입력) - 주간 생일 범위 조회용
+    // birthMonth/birthDay에서 계산되므로 직렬화하지 않고, 멤버 문서를 저장하는 곳에서 직접 기록
+    @Exclude
+    public int getBirthDayOfYear() {
+        return toBirthDayOfYear(birthMonth, birthDay);
+    }
+
+    /**
+     * 월/일을 연중 일자로 변환 (2월 29일이 항상 같은 값을 갖도록 윤년 기준)
+     */
+    public static int toBirthDayOfYear(int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return 0;
+        }
+        java.util.Calendar calendar = java.util.Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2000, month - 1, day);
+        return calendar.get(java.util.Calendar.DAY_OF_YEAR);
+    }
+
     // 생일이 설정되어 있는지 확인
     public boolean hasBirthday() {
         return birthMonth > 0 && birthDay > 0;
@@ -0,0 +1,27 @@
+package com.example.clubmanagement.services;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.clubmanagement.utils.UploadQueue;
+
+/**
+ * 업로드 대기열 처리 Worker
+ * 네트워크가 연결되면 UploadQueue의 남은 작업을 올리고, 실패한 작업이 있으면 지수 백오프로 재시도합니다.
+ */
+public class UploadWorker extends Worker {
+
+    public UploadWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        boolean retry = UploadQueue.getInstance(getApplicationContext()).processPending();
+        return retry ? Result.retry() : Result.success();
+    }
+}
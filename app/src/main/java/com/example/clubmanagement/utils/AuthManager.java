@@ -126,10 +126,13 @@ public class AuthManager {
      */
     public void setUserAdminLevel(String userId, String adminLevel, String clubId, SimpleCallback callback) {
         UserData userData = new UserData(userId, adminLevel, clubId);
+        FirebaseManager firebaseManager = FirebaseManager.getInstance();
+        firebaseManager.invalidateUserCache(userId);
 
         db.collection("users")
                 .document(userId)
                 .set(userData)
+                .addOnCompleteListener(firebaseManager.invalidateAfterWrite(null, userId))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -142,10 +145,13 @@ public class AuthManager {
             callback.onFailure(new IllegalArgumentException("userId or userData is null"));
             return;
         }
+        FirebaseManager firebaseManager = FirebaseManager.getInstance();
+        firebaseManager.invalidateUserCache(userId);
 
         db.collection("users")
                 .document(userId)
                 .set(userData)
+                .addOnCompleteListener(firebaseManager.invalidateAfterWrite(null, userId))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -0,0 +1,105 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.BudgetTransaction;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+/**
+ * 공금 거래 내역 CSV 작성기 - Android 의존성 없는 순수 Java
+ * 한 줄씩 바로 스트림에 쓰므로 내보내는 거래 수와 관계없이 메모리 사용량이 일정합니다.
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙이고, 수식으로 해석될 수 있는 글자로 시작하는
+ * 텍스트 칸은 작은따옴표를 앞에 붙입니다.
+ */
+final class BudgetCsvWriter implements Closeable {
+
+    private static final String[] HEADER = {
+            "순번", "일시", "유형", "금액", "내역", "거래 후 잔액", "작성자", "영수증"
+    };
+
+    private final Writer writer;
+    private final SimpleDateFormat dateFormat;
+
+    BudgetCsvWriter(OutputStream out) {
+        this(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    BudgetCsvWriter(Writer writer) {
+        this.writer = writer;
+        dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.KOREA);
+        dateFormat.setTimeZone(BudgetManager.LEDGER_TIME_ZONE);
+    }
+
+    void writeHeader() throws IOException {
+        writer.write('\uFEFF');
+        writeLine(HEADER);
+    }
+
+    void writeRow(BudgetTransaction transaction) throws IOException {
+        // 축소본 정보(#v=...)는 앱 내부용이므로 원본 URL만 기록
+        String receipt = ImageVariants.original(transaction.getReceiptImageUrl());
+        writeLine(new String[]{
+                String.valueOf(transaction.getSeq()),
+                transaction.getCreatedAt() != null ? dateFormat.format(transaction.getCreatedAt().toDate()) : "",
+                transaction.getType() != null ? transaction.getTypeDisplayName() : "",
+                String.valueOf(BudgetManager.balanceDelta(transaction.getType(), transaction.getAmount())),
+                text(transaction.getDescription()),
+                String.valueOf(transaction.getBalanceAfter()),
+                text(transaction.getCreatedByName()),
+                receipt != null ? receipt : ""
+        });
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(cells[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 사용자가 입력한 텍스트 - =, +, -, @, 탭, CR 로 시작하면 엑셀이 수식으로 실행하지 않도록 ' 를 붙임
+     */
+    static String text(String value) {
+        if (value == null || value.isEmpty()) return "";
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    /**
+     * RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씀
+     */
+    static String escape(String value) {
+        if (value == null) return "";
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -2,28 +2,93 @@ package com.example.clubmanagement.utils;
 
 import android.util.Log;
 
+import com.example.clubmanagement.models.BudgetRollup;
 import com.example.clubmanagement.models.BudgetTransaction;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
 import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
 import com.google.firebase.firestore.WriteBatch;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
- * 예산/공금 관리 매니저 클래스
- * 예산 거래 내역 CRUD 및 잔액 관리를 담당합니다.
+ * 예산/공금 관리 매니저 클래스 (공금 원장)
+ * 거래 내역은 clubs/{clubId}/transactions 에 저장하고, 모든 잔액 변경은 Firestore 트랜잭션 안에서
+ * 동아리 문서의 currentBudget 에 차액을 FieldValue.increment 로 더합니다.
+ * 거래마다 동아리별로 1씩 증가하는 순번(seq)을 부여하고 그 시점의 잔액을 balanceAfter 로 기록하므로,
+ * 여러 임원이 동시에 입력해도 화면에 캐시된 잔액으로 서버 잔액을 덮어쓰지 않습니다.
+ * 같은 트랜잭션에서 월별 집계(budgetMonths/{yyyy-MM})도 갱신하므로, 합계와 기간 요약은 집계 문서만 읽습니다.
+ * 예전 budgetTransactions 컬렉션은 동아리별로 처음 접근할 때 transactions 로 합칩니다.
  */
 public class BudgetManager {
     private static final String TAG = "BudgetManager";
 
+    static final String COLLECTION = "transactions";
+    private static final String LEGACY_COLLECTION = "budgetTransactions";
+    static final String ROLLUP_COLLECTION = "budgetMonths";
+    // 1: 순번/잔액 정리, 2: 월별 집계
+    static final long LEDGER_VERSION = 2;
+    // 생성 시간이 없는 예전 거래를 모으는 집계 (기간 조회에는 포함되지 않음)
+    public static final String UNDATED_MONTH = "0000-00";
+    static final TimeZone LEDGER_TIME_ZONE = TimeZone.getTimeZone("Asia/Seoul");
+
+    // 조회 후 다른 기기가 원장을 바꿔 다시 시도하는 최대 횟수
+    private static final int MAX_ATTEMPTS = 5;
+    // 트랜잭션 하나의 쓰기 한도(500)에서 수정 대상 거래, 동아리 문서, 월별 집계 문서를 뺀 여유
+    private static final int MAX_REWRITE_ENTRIES = 400;
+    private static final int MIGRATION_BATCH_SIZE = 400;
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int EXPORT_PAGE_SIZE = 200;
+    // 내보내기 파일 쓰기는 메인 스레드 밖에서
+    private static final Executor EXPORT_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    // 오래된 기록(생성 시간 없음)이 먼저, 같은 시간이면 문서 ID 순
+    private static final Comparator<BudgetTransaction> CHRONOLOGICAL = (a, b) -> {
+        Timestamp t1 = a.getCreatedAt();
+        Timestamp t2 = b.getCreatedAt();
+        if (t1 == null && t2 != null) return -1;
+        if (t1 != null && t2 == null) return 1;
+        int result = t1 == null ? 0 : t1.compareTo(t2);
+        if (result != 0) return result;
+        String id1 = a.getId() != null ? a.getId() : "";
+        String id2 = b.getId() != null ? b.getId() : "";
+        return id1.compareTo(id2);
+    };
+
+    private static final Comparator<BudgetTransaction> BY_SEQUENCE = (a, b) -> Long.compare(a.getSeq(), b.getSeq());
+
     private static BudgetManager instance;
     private final FirebaseFirestore db;
+    // 이번 실행에서 이미 원장 정리를 확인한 동아리
+    private final Set<String> migratedClubs = Collections.synchronizedSet(new HashSet<>());
 
     private BudgetManager() {
         db = FirebaseFirestore.getInstance();
@@ -58,29 +123,68 @@ public class BudgetManager {
         void onFailure(Exception e);
     }
 
+    public interface RollupListCallback {
+        void onSuccess(List<BudgetRollup> rollups);
+        void onFailure(Exception e);
+    }
+
+    public interface RollupCallback {
+        void onSuccess(BudgetRollup summary);
+        void onFailure(Exception e);
+    }
+
+    public interface PageCallback {
+        void onSuccess(List<BudgetTransaction> transactions, DocumentSnapshot lastVisible, boolean hasMore);
+        void onFailure(Exception e);
+    }
+
+    public interface ExportCallback {
+        void onProgress(int exported);
+        void onSuccess(int exported);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 거래 내역 한 페이지 (lastVisible 은 다음 페이지 시작점)
+     */
+    private static final class TransactionPage {
+        final List<BudgetTransaction> transactions;
+        final DocumentSnapshot lastVisible;
+        final boolean hasMore;
+
+        TransactionPage(List<BudgetTransaction> transactions, DocumentSnapshot lastVisible, boolean hasMore) {
+            this.transactions = transactions;
+            this.lastVisible = lastVisible;
+            this.hasMore = hasMore;
+        }
+    }
+
+    /**
+     * 조회 이후 다른 기기가 원장을 바꿨거나 원장 정리가 필요할 때 - withLedger 가 처음부터 다시 시도
+     * FirebaseFirestoreException(ABORTED 등)이면 SDK가 같은 조회 결과로 트랜잭션만 재시도하므로 일반 예외로 중단
+     */
+    private static class StaleLedgerException extends IllegalStateException {
+        StaleLedgerException() {
+            super("공금 내역이 변경되어 다시 시도합니다");
+        }
+    }
+
+    /**
+     * 잔액보다 큰 지출 - 재시도해도 결과가 같으므로 트랜잭션을 바로 중단하고 withLedger 에서 사용자 오류로 변환
+     */
+    private static class InsufficientBalanceException extends IllegalStateException {
+        InsufficientBalanceException() {
+            super("잔액이 부족합니다");
+        }
+    }
+
     // ======================== 거래 내역 조회 ========================
 
     /**
      * 동아리 거래 내역 조회 (최신순)
      */
     public void getTransactions(String clubId, TransactionListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    List<BudgetTransaction> transactions = new ArrayList<>();
-                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        BudgetTransaction transaction = doc.toObject(BudgetTransaction.class);
-                        if (transaction != null) {
-                            transaction.setId(doc.getId());
-                            transactions.add(transaction);
-                        }
-                    }
-                    callback.onSuccess(transactions);
-                })
-                .addOnFailureListener(callback::onFailure);
+        loadEntries(clubId, entries -> entries.orderBy("seq", Query.Direction.DESCENDING), callback);
     }
 
     /**
@@ -88,67 +192,92 @@ public class BudgetManager {
      */
     public void getTransactionsByPeriod(String clubId, Timestamp startDate, Timestamp endDate,
                                          TransactionListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
+        loadEntries(clubId, entries -> entries
                 .whereGreaterThanOrEqualTo("createdAt", startDate)
                 .whereLessThanOrEqualTo("createdAt", endDate)
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    List<BudgetTransaction> transactions = new ArrayList<>();
-                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        BudgetTransaction transaction = doc.toObject(BudgetTransaction.class);
-                        if (transaction != null) {
-                            transaction.setId(doc.getId());
-                            transactions.add(transaction);
-                        }
-                    }
-                    callback.onSuccess(transactions);
-                })
-                .addOnFailureListener(callback::onFailure);
+                .orderBy("createdAt", Query.Direction.DESCENDING), callback);
     }
 
     /**
      * 거래 유형별 조회
      */
     public void getTransactionsByType(String clubId, String type, TransactionListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
+        loadEntries(clubId, entries -> entries
                 .whereEqualTo("type", type)
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    List<BudgetTransaction> transactions = new ArrayList<>();
-                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        BudgetTransaction transaction = doc.toObject(BudgetTransaction.class);
-                        if (transaction != null) {
-                            transaction.setId(doc.getId());
-                            transactions.add(transaction);
-                        }
-                    }
-                    callback.onSuccess(transactions);
-                })
-                .addOnFailureListener(callback::onFailure);
+                .orderBy("createdAt", Query.Direction.DESCENDING), callback);
     }
 
     /**
      * 최근 N개 거래 내역 조회
      */
     public void getRecentTransactions(String clubId, int limit, TransactionListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .limit(limit)
-                .get()
+        loadEntries(clubId, entries -> entries
+                .orderBy("seq", Query.Direction.DESCENDING)
+                .limit(limit), callback);
+    }
+
+    /**
+     * 거래 내역 페이지 조회 (createdAt 최신순, 서버에서 정렬)
+     * from 이상 until 미만 범위만 조회하며 null 이면 제한 없음, startAfter 는 이전 페이지의 lastVisible (첫 페이지는 null)
+     */
+    public void getTransactionPage(String clubId, Timestamp from, Timestamp until, DocumentSnapshot startAfter,
+                                   int pageSize, PageCallback callback) {
+        ensureLedger(clubId)
+                .onSuccessTask(aVoid -> fetchPage(clubId, from, until, startAfter, pageSize, Query.Direction.DESCENDING))
+                .addOnSuccessListener(page -> callback.onSuccess(page.transactions, page.lastVisible, page.hasMore))
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 한 건 더 받아서 다음 페이지가 있는지 판단
+     */
+    private Task<TransactionPage> fetchPage(String clubId, Timestamp from, Timestamp until, DocumentSnapshot after,
+                                            int pageSize, Query.Direction direction) {
+        Query query = entries(clubId);
+        if (from != null) query = query.whereGreaterThanOrEqualTo("createdAt", from);
+        if (until != null) query = query.whereLessThan("createdAt", until);
+        query = query.orderBy("createdAt", direction);
+        if (after != null) query = query.startAfter(after);
+
+        return query.limit(pageSize + 1).get().onSuccessTask(querySnapshot -> {
+            List<DocumentSnapshot> docs = querySnapshot.getDocuments();
+            boolean hasMore = docs.size() > pageSize;
+            if (hasMore) {
+                docs = docs.subList(0, pageSize);
+            }
+            List<BudgetTransaction> transactions = new ArrayList<>();
+            for (DocumentSnapshot doc : docs) {
+                BudgetTransaction transaction = toEntry(doc);
+                if (transaction != null) {
+                    transactions.add(transaction);
+                }
+            }
+            DocumentSnapshot lastVisible = docs.isEmpty() ? null : docs.get(docs.size() - 1);
+            return Tasks.forResult(new TransactionPage(transactions, lastVisible, hasMore));
+        });
+    }
+
+    /**
+     * "yyyy-MM" 달의 시작(포함)과 다음 달 시작(미포함) 시간 (한국 시간 기준)
+     */
+    public static Timestamp[] monthRange(String month) {
+        Calendar calendar = Calendar.getInstance(LEDGER_TIME_ZONE, Locale.KOREA);
+        calendar.clear();
+        calendar.set(Integer.parseInt(month.substring(0, 4)), Integer.parseInt(month.substring(5, 7)) - 1, 1);
+        Timestamp start = new Timestamp(calendar.getTime());
+        calendar.add(Calendar.MONTH, 1);
+        return new Timestamp[]{start, new Timestamp(calendar.getTime())};
+    }
+
+    private void loadEntries(String clubId, Function<CollectionReference, Query> query,
+                             TransactionListCallback callback) {
+        ensureLedger(clubId)
+                .onSuccessTask(aVoid -> query.apply(entries(clubId)).get())
                 .addOnSuccessListener(querySnapshot -> {
                     List<BudgetTransaction> transactions = new ArrayList<>();
                     for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        BudgetTransaction transaction = doc.toObject(BudgetTransaction.class);
+                        BudgetTransaction transaction = toEntry(doc);
                         if (transaction != null) {
-                            transaction.setId(doc.getId());
                             transactions.add(transaction);
                         }
                     }
@@ -180,144 +309,508 @@ public class BudgetManager {
     // ======================== 거래 추가 ========================
 
     /**
-     * 거래 추가 (수입/지출/조정)
+     * 거래 추가 (수입/지출)
+     * 순번과 거래 후 잔액(balanceAfter)은 서버 잔액 기준으로 트랜잭션 안에서 정해지며,
+     * 성공 콜백의 거래에 채워집니다. 지출로 잔액이 음수가 되면 실패합니다.
      */
-    public void addTransaction(BudgetTransaction transaction, long newBalance, TransactionCallback callback) {
-        String clubId = transaction.getClubId();
-
-        // 거래 ID 생성
-        String transactionId = db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .document()
-                .getId();
-
-        transaction.setId(transactionId);
-        transaction.setCreatedAt(Timestamp.now());
-        transaction.setBalanceAfter(newBalance);
-
-        // 배치 작업으로 거래 추가 + 잔액 업데이트
-        WriteBatch batch = db.batch();
-
-        // 거래 문서 추가
-        DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .document(transactionId);
-        batch.set(transactionRef, createTransactionMap(transaction));
-
-        // 동아리 잔액 업데이트
-        DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
-
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess(transaction))
-                .addOnFailureListener(callback::onFailure);
+    public void addTransaction(BudgetTransaction transaction, TransactionCallback callback) {
+        append(transaction, null, callback);
     }
 
     /**
      * 수입 추가 (편의 메서드)
      */
     public void addIncome(String clubId, long amount, String description, String userId, String userName,
-                          long currentBalance, TransactionCallback callback) {
+                          TransactionCallback callback) {
         BudgetTransaction transaction = new BudgetTransaction(clubId, BudgetTransaction.TYPE_INCOME, amount, description);
         transaction.setCreatedBy(userId);
         transaction.setCreatedByName(userName);
-
-        long newBalance = currentBalance + amount;
-        addTransaction(transaction, newBalance, callback);
+        addTransaction(transaction, callback);
     }
 
     /**
      * 지출 추가 (편의 메서드)
      */
     public void addExpense(String clubId, long amount, String description, String userId, String userName,
-                           long currentBalance, TransactionCallback callback) {
+                           TransactionCallback callback) {
         BudgetTransaction transaction = new BudgetTransaction(clubId, BudgetTransaction.TYPE_EXPENSE, amount, description);
         transaction.setCreatedBy(userId);
         transaction.setCreatedByName(userName);
-
-        long newBalance = currentBalance - amount;
-        addTransaction(transaction, newBalance, callback);
+        addTransaction(transaction, callback);
     }
 
     /**
-     * 잔액 조정 (편의 메서드)
+     * 잔액 조정 - 서버 잔액과 목표 잔액의 차액을 조정 거래로 기록 (금액은 부호 있는 차액)
      */
     public void adjustBalance(String clubId, long newBalance, String description, String userId, String userName,
-                              long currentBalance, TransactionCallback callback) {
-        long difference = newBalance - currentBalance;
-        BudgetTransaction transaction = new BudgetTransaction(clubId, BudgetTransaction.TYPE_ADJUSTMENT, Math.abs(difference), description);
+                              TransactionCallback callback) {
+        BudgetTransaction transaction = new BudgetTransaction(clubId, BudgetTransaction.TYPE_ADJUSTMENT, 0, description);
         transaction.setCreatedBy(userId);
         transaction.setCreatedByName(userName);
+        append(transaction, newBalance, callback);
+    }
 
-        addTransaction(transaction, newBalance, callback);
+    private void append(BudgetTransaction transaction, Long targetBalance, TransactionCallback callback) {
+        String clubId = transaction.getClubId();
+        if (clubId == null) {
+            callback.onFailure(new Exception("유효하지 않은 거래 정보입니다"));
+            return;
+        }
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
+
+        if (transaction.getCreatedBy() == null) {
+            String userId = FirebaseManager.getInstance().getCurrentUserId();
+            transaction.setCreatedBy(userId != null ? userId : "guest");
+        }
+        transaction.setCreatedAt(Timestamp.now());
+
+        DocumentReference clubRef = clubRef(clubId);
+        DocumentReference transactionRef = entries(clubId).document();
+        transaction.setId(transactionRef.getId());
+
+        withLedger(clubId, () -> db.runTransaction(tx -> {
+            DocumentSnapshot club = tx.get(clubRef);
+            checkLedger(clubId, club);
+
+            long balance = longOf(club, "currentBudget");
+            if (targetBalance != null) {
+                transaction.setAmount(targetBalance - balance);
+            }
+            long delta = balanceDelta(transaction.getType(), transaction.getAmount());
+            if (transaction.isExpense() && balance + delta < 0) {
+                throw new InsufficientBalanceException();
+            }
+
+            transaction.setSeq(longOf(club, "ledgerSeq") + 1);
+            transaction.setBalanceAfter(balance + delta);
+            tx.set(transactionRef, createTransactionMap(transaction));
+            tx.update(clubRef, "currentBudget", FieldValue.increment(delta),
+                    "ledgerSeq", FieldValue.increment(1));
+
+            // 새 거래는 항상 가장 마지막이므로 그 달 마감 잔액 = 거래 후 잔액
+            BudgetRollup change = new BudgetRollup(monthKey(transaction.getCreatedAt()));
+            change.add(transaction.getType(), transaction.getAmount(), 1);
+            Map<String, Object> rollup = rollupIncrements(change);
+            rollup.put("closingBalance", transaction.getBalanceAfter());
+            tx.set(rollupRef(clubId, change.getMonth()), rollup, SetOptions.merge());
+            return null;
+        }), 1)
+                .addOnSuccessListener(aVoid -> callback.onSuccess(transaction))
+                .addOnFailureListener(callback::onFailure);
     }
 
     // ======================== 거래 수정 ========================
 
     /**
-     * 거래 수정
+     * 거래 수정 (유형/금액/설명)
+     * 변경된 차액만큼 동아리 잔액과 이 거래 이후 거래들의 balanceAfter 를 함께 고칩니다.
+     * 성공 콜백으로 수정 후 서버 잔액을 전달합니다.
      */
-    public void updateTransaction(BudgetTransaction transaction, long newBalance, SimpleCallback callback) {
+    public void updateTransaction(BudgetTransaction transaction, BalanceCallback callback) {
         String clubId = transaction.getClubId();
+        if (clubId == null || transaction.getId() == null) {
+            callback.onFailure(new Exception("유효하지 않은 거래 정보입니다"));
+            return;
+        }
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
 
-        WriteBatch batch = db.batch();
+        withLedger(clubId, () -> rewrite(clubId, transaction.getId(), transaction), 1)
+                .addOnSuccessListener(callback::onSuccess)
+                .addOnFailureListener(callback::onFailure);
+    }
 
-        // 거래 업데이트
-        DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .document(transaction.getId());
-        batch.set(transactionRef, createTransactionMap(transaction));
+    // ======================== 거래 삭제 ========================
 
-        // 잔액 업데이트
-        DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
+    /**
+     * 거래 삭제 - 거래의 효과를 되돌리고 성공 콜백으로 삭제 후 서버 잔액을 전달합니다.
+     */
+    public void deleteTransaction(String clubId, String transactionId, BalanceCallback callback) {
+        if (clubId == null || transactionId == null) {
+            callback.onFailure(new Exception("유효하지 않은 거래 정보입니다"));
+            return;
+        }
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
 
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
+        withLedger(clubId, () -> rewrite(clubId, transactionId, null), 1)
+                .addOnSuccessListener(callback::onSuccess)
                 .addOnFailureListener(callback::onFailure);
     }
 
-    // ======================== 거래 삭제 ========================
+    /**
+     * 기존 거래를 수정(replacement) 또는 삭제(replacement == null)하고 새 잔액 반환
+     * 이후 거래 목록은 트랜잭션 밖에서 조회하므로, 조회 시점의 ledgerSeq 가 트랜잭션 안에서도 같을 때만 적용합니다.
+     */
+    private Task<Long> rewrite(String clubId, String transactionId, BudgetTransaction replacement) {
+        DocumentReference clubRef = clubRef(clubId);
+        DocumentReference transactionRef = entries(clubId).document(transactionId);
+        Task<DocumentSnapshot> clubTask = clubRef.get();
+        Task<DocumentSnapshot> transactionTask = transactionRef.get();
+
+        return Tasks.whenAllSuccess(clubTask, transactionTask).onSuccessTask(snapshots -> {
+            DocumentSnapshot current = transactionTask.getResult();
+            if (!current.exists()) {
+                if (replacement != null) {
+                    throw new Exception("거래를 찾을 수 없습니다");
+                }
+                // 이미 삭제된 거래
+                return Tasks.forResult(longOf(clubTask.getResult(), "currentBudget"));
+            }
+            long seq = longOf(current, "seq");
+            long expectedLedgerSeq = longOf(clubTask.getResult(), "ledgerSeq");
+
+            return entries(clubId).whereGreaterThan("seq", seq).get().onSuccessTask(later -> {
+                if (later.size() > MAX_REWRITE_ENTRIES) {
+                    throw new Exception("이후 거래가 너무 많아 변경할 수 없습니다");
+                }
+                List<DocumentReference> laterRefs = new ArrayList<>();
+                // 이후 거래가 있는 달은 마감 잔액이 함께 바뀜
+                Set<String> laterMonths = new HashSet<>();
+                for (DocumentSnapshot doc : later.getDocuments()) {
+                    laterRefs.add(doc.getReference());
+                    laterMonths.add(monthKey(doc.getTimestamp("createdAt")));
+                }
+
+                // 삭제한 거래의 영수증 URL - 트랜잭션이 재시도되면 다시 채워짐
+                String[] deletedReceiptUrl = new String[1];
+                return db.runTransaction(tx -> {
+                    deletedReceiptUrl[0] = null;
+                    DocumentSnapshot club = tx.get(clubRef);
+                    DocumentSnapshot entry = tx.get(transactionRef);
+                    checkLedger(clubId, club);
+                    if (longOf(club, "ledgerSeq") != expectedLedgerSeq
+                            || !entry.exists() || longOf(entry, "seq") != seq) {
+                        throw new StaleLedgerException();
+                    }
+                    for (DocumentReference ref : laterRefs) {
+                        if (!tx.get(ref).exists()) {
+                            throw new StaleLedgerException();
+                        }
+                    }
+
+                    String oldType = entry.getString("type");
+                    long oldAmount = longOf(entry, "amount");
+                    long oldDelta = balanceDelta(oldType, oldAmount);
+                    long newDelta = replacement != null
+                            ? balanceDelta(replacement.getType(), replacement.getAmount()) : 0;
+                    long diff = newDelta - oldDelta;
+                    long balance = longOf(club, "currentBudget") + diff;
+
+                    if (replacement != null) {
+                        if (diff < 0 && balance < 0) {
+                            throw new InsufficientBalanceException();
+                        }
+                        replacement.setSeq(seq);
+                        replacement.setBalanceAfter(longOf(entry, "balanceAfter") + diff);
+                        tx.update(transactionRef,
+                                "type", replacement.getType(),
+                                "amount", replacement.getAmount(),
+                                "description", replacement.getDescription(),
+                                "balanceAfter", replacement.getBalanceAfter());
+                    } else {
+                        tx.delete(transactionRef);
+                        deletedReceiptUrl[0] = entry.getString("receiptImageUrl");
+                    }
+
+                    if (diff != 0) {
+                        for (DocumentReference ref : laterRefs) {
+                            tx.update(ref, "balanceAfter", FieldValue.increment(diff));
+                        }
+                        tx.update(clubRef, "currentBudget", FieldValue.increment(diff));
+                    }
+
+                    String month = monthKey(entry.getTimestamp("createdAt"));
+                    BudgetRollup change = new BudgetRollup(month);
+                    change.add(oldType, oldAmount, -1);
+                    if (replacement != null) {
+                        change.add(replacement.getType(), replacement.getAmount(), 1);
+                    }
+                    Map<String, Object> rollup = rollupIncrements(change);
+                    if (diff != 0) {
+                        rollup.put("closingBalance", FieldValue.increment(diff));
+                        for (String laterMonth : laterMonths) {
+                            if (laterMonth.equals(month)) continue;
+                            Map<String, Object> closing = new HashMap<>();
+                            closing.put("closingBalance", FieldValue.increment(diff));
+                            tx.set(rollupRef(clubId, laterMonth), closing, SetOptions.merge());
+                        }
+                    }
+                    tx.set(rollupRef(clubId, month), rollup, SetOptions.merge());
+                    return balance;
+                }).addOnSuccessListener(balance -> {
+                    // 커밋된 뒤에만 영수증 참조 해제
+                    String receiptUrl = deletedReceiptUrl[0];
+                    if (receiptUrl != null && !receiptUrl.isEmpty()) {
+                        ContentStore.getInstance().release(receiptUrl);
+                    }
+                });
+            });
+        });
+    }
+
+    // ======================== 원장 정리 ========================
 
     /**
-     * 거래 삭제
+     * 원장 정리가 끝난 뒤 작업 실행, 다른 기기와 겹쳐 StaleLedgerException 이 나면 처음부터 다시 시도
+     * 트랜잭션 안에서 던진 내부 예외는 여기서 사용자에게 보여줄 오류로 바꿉니다.
      */
-    public void deleteTransaction(String clubId, String transactionId, long newBalance, SimpleCallback callback) {
-        WriteBatch batch = db.batch();
+    private <T> Task<T> withLedger(String clubId, Callable<Task<T>> operation, int attempt) {
+        return ensureLedger(clubId)
+                .onSuccessTask(aVoid -> operation.call())
+                .continueWithTask(task -> {
+                    Exception error = task.getException();
+                    if (error instanceof StaleLedgerException && attempt < MAX_ATTEMPTS) {
+                        Log.d(TAG, "Ledger changed during operation, retrying (" + attempt + ")");
+                        return withLedger(clubId, operation, attempt + 1);
+                    }
+                    if (error instanceof StaleLedgerException) {
+                        return Tasks.forException(new Exception("다른 기기에서 공금 내역을 수정하고 있습니다. 잠시 후 다시 시도해주세요"));
+                    }
+                    if (error instanceof InsufficientBalanceException) {
+                        return Tasks.forException(new Exception(error.getMessage()));
+                    }
+                    return task;
+                });
+    }
 
-        // 거래 삭제
-        DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("budgetTransactions")
-                .document(transactionId);
-        batch.delete(transactionRef);
+    /**
+     * 원장 정리 (동아리 문서의 ledgerVersion 기준)
+     * 1) budgetTransactions 와 transactions 를 하나의 원장(transactions)으로 합치고, 생성 시간 순으로
+     *    1부터 순번을 매겨 현재 잔액에서 거꾸로 계산한 balanceAfter 를 기록
+     * 2) 순번 순서대로 월별 집계(budgetMonths)를 새로 계산
+     * 끝나면 동아리 문서에 ledgerSeq/ledgerVersion 을 남깁니다. 정리 전에는 원장 쓰기가 거절되므로
+     * 여러 기기가 동시에 정리해도 같은 결과를 씁니다.
+     */
+    private Task<Void> ensureLedger(String clubId) {
+        if (migratedClubs.contains(clubId)) {
+            return Tasks.forResult(null);
+        }
+
+        DocumentReference clubRef = clubRef(clubId);
+        return clubRef.get().onSuccessTask(club -> {
+            if (!club.exists()) {
+                throw new Exception("동아리 정보를 찾을 수 없습니다");
+            }
+            long version = longOf(club, "ledgerVersion");
+            if (version >= LEDGER_VERSION) {
+                migratedClubs.add(clubId);
+                return Tasks.forResult(null);
+            }
+
+            long balance = longOf(club, "currentBudget");
+            Task<QuerySnapshot> currentTask = entries(clubId).get();
+            Task<QuerySnapshot> legacyTask = clubRef.collection(LEGACY_COLLECTION).get();
+            return Tasks.whenAllSuccess(currentTask, legacyTask).onSuccessTask(results ->
+                    migrate(clubId, version, currentTask.getResult(), legacyTask.getResult(), balance));
+        });
+    }
 
-        // 잔액 업데이트
-        DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
+    private Task<Void> migrate(String clubId, long version, QuerySnapshot current, QuerySnapshot legacy,
+                               long balance) {
+        DocumentReference clubRef = clubRef(clubId);
+        List<BudgetTransaction> merged = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        Map<String, Map<String, Object>> legacyData = new HashMap<>();
+
+        for (DocumentSnapshot doc : current.getDocuments()) {
+            BudgetTransaction entry = toEntry(doc);
+            if (entry != null && ids.add(doc.getId())) {
+                merged.add(entry);
+            }
+        }
+        for (DocumentSnapshot doc : legacy.getDocuments()) {
+            BudgetTransaction entry = toEntry(doc);
+            // 같은 ID가 이미 transactions 에 있으면 예전 문서만 삭제
+            legacyData.put(doc.getId(), ids.contains(doc.getId()) ? null : doc.getData());
+            if (entry != null && ids.add(doc.getId())) {
+                merged.add(entry);
+            }
+        }
 
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
+        List<Consumer<WriteBatch>> writes = new ArrayList<>();
+        boolean sequenced = version >= 1 && legacyData.isEmpty();
+        if (sequenced) {
+            Collections.sort(merged, BY_SEQUENCE);
+        } else {
+            assignLedgerSequence(merged, balance);
+            for (BudgetTransaction entry : merged) {
+                Map<String, Object> data = new HashMap<>();
+                Map<String, Object> legacyFields = legacyData.get(entry.getId());
+                if (legacyFields != null) {
+                    data.putAll(legacyFields);
+                    data.put("clubId", clubId);
+                }
+                data.put("seq", entry.getSeq());
+                data.put("balanceAfter", entry.getBalanceAfter());
+                DocumentReference ref = entries(clubId).document(entry.getId());
+                writes.add(batch -> batch.set(ref, data, SetOptions.merge()));
+            }
+            for (String legacyId : legacyData.keySet()) {
+                DocumentReference ref = clubRef.collection(LEGACY_COLLECTION).document(legacyId);
+                writes.add(batch -> batch.delete(ref));
+            }
+        }
+
+        for (BudgetRollup rollup : buildRollups(merged)) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("month", rollup.getMonth());
+            data.put("income", rollup.getIncome());
+            data.put("expense", rollup.getExpense());
+            data.put("adjustment", rollup.getAdjustment());
+            data.put("count", rollup.getCount());
+            data.put("closingBalance", rollup.getClosingBalance());
+            data.put("updatedAt", FieldValue.serverTimestamp());
+            DocumentReference ref = rollupRef(clubId, rollup.getMonth());
+            writes.add(batch -> batch.set(ref, data));
+        }
+
+        List<Task<Void>> commits = new ArrayList<>();
+        for (int start = 0; start < writes.size(); start += MIGRATION_BATCH_SIZE) {
+            WriteBatch batch = db.batch();
+            for (Consumer<WriteBatch> write
+                    : writes.subList(start, Math.min(writes.size(), start + MIGRATION_BATCH_SIZE))) {
+                write.accept(batch);
+            }
+            commits.add(batch.commit());
+        }
+
+        long lastSeq = merged.isEmpty() ? 0 : merged.get(merged.size() - 1).getSeq();
+        return Tasks.whenAll(commits)
+                .onSuccessTask(aVoid -> db.runTransaction(tx -> {
+                    DocumentSnapshot club = tx.get(clubRef);
+                    if (longOf(club, "ledgerVersion") < LEDGER_VERSION) {
+                        if (sequenced) {
+                            tx.update(clubRef, "ledgerVersion", LEDGER_VERSION);
+                        } else {
+                            tx.update(clubRef, "ledgerSeq", lastSeq, "ledgerVersion", LEDGER_VERSION);
+                        }
+                    }
+                    return null;
+                }))
+                .onSuccessTask(aVoid -> {
+                    Log.d(TAG, "Ledger migrated for club " + clubId + " (v" + version + " -> v" + LEDGER_VERSION
+                            + "): " + merged.size() + " entries, " + legacyData.size() + " from " + LEGACY_COLLECTION);
+                    migratedClubs.add(clubId);
+                    return Tasks.forResult(null);
+                });
+    }
+
+    /**
+     * 원장 정리가 끝나지 않은 동아리면 (다른 기기에서 초기화 등) 정리부터 다시 하도록 StaleLedgerException
+     */
+    private void checkLedger(String clubId, DocumentSnapshot club) throws FirebaseFirestoreException {
+        if (!club.exists()) {
+            throw new FirebaseFirestoreException("동아리 정보를 찾을 수 없습니다",
+                    FirebaseFirestoreException.Code.NOT_FOUND);
+        }
+        if (longOf(club, "ledgerVersion") < LEDGER_VERSION) {
+            migratedClubs.remove(clubId);
+            throw new StaleLedgerException();
+        }
+    }
+
+    // ======================== 내보내기 ========================
+
+    /**
+     * 거래 내역 CSV 내보내기 (오래된 순)
+     * EXPORT_PAGE_SIZE 건씩 받아 바로 스트림에 쓰므로 전체 내역을 메모리에 올리지 않습니다.
+     * 스트림은 끝나면(실패 포함) 닫으며, 콜백은 메인 스레드에서 호출됩니다.
+     */
+    public void exportTransactionsCsv(String clubId, Timestamp from, Timestamp until, OutputStream out,
+                                      ExportCallback callback) {
+        BudgetCsvWriter writer = new BudgetCsvWriter(out);
+        ensureLedger(clubId)
+                .onSuccessTask(EXPORT_EXECUTOR, aVoid -> {
+                    writer.writeHeader();
+                    return exportPages(clubId, from, until, null, writer, 0, callback);
+                })
+                .continueWithTask(EXPORT_EXECUTOR, task -> {
+                    try {
+                        writer.close();
+                    } catch (IOException e) {
+                        if (task.isSuccessful()) return Tasks.forException(e);
+                        Log.w(TAG, "Failed to close export stream", e);
+                    }
+                    return task;
+                })
+                .addOnSuccessListener(callback::onSuccess)
                 .addOnFailureListener(callback::onFailure);
     }
 
+    private Task<Integer> exportPages(String clubId, Timestamp from, Timestamp until, DocumentSnapshot after,
+                                      BudgetCsvWriter writer, int exported, ExportCallback callback) {
+        return fetchPage(clubId, from, until, after, EXPORT_PAGE_SIZE, Query.Direction.ASCENDING)
+                .onSuccessTask(EXPORT_EXECUTOR, page -> {
+                    for (BudgetTransaction transaction : page.transactions) {
+                        writer.writeRow(transaction);
+                    }
+                    writer.flush();
+                    return Tasks.forResult(page);
+                })
+                .onSuccessTask(page -> {
+                    int total = exported + page.transactions.size();
+                    callback.onProgress(total);
+                    if (!page.hasMore) {
+                        return Tasks.forResult(total);
+                    }
+                    return exportPages(clubId, from, until, page.lastVisible, writer, total, callback);
+                });
+    }
+
     // ======================== 통계 ========================
 
+    /**
+     * 월별 집계 조회 (월 오름차순), fromMonth/toMonth 는 "yyyy-MM" 이며 포함, null 이면 제한 없음
+     */
+    public void getMonthlyRollups(String clubId, String fromMonth, String toMonth, RollupListCallback callback) {
+        ensureLedger(clubId)
+                .onSuccessTask(aVoid -> {
+                    Query query = clubRef(clubId).collection(ROLLUP_COLLECTION);
+                    if (fromMonth != null) query = query.whereGreaterThanOrEqualTo("month", fromMonth);
+                    if (toMonth != null) query = query.whereLessThanOrEqualTo("month", toMonth);
+                    return query.orderBy("month", Query.Direction.ASCENDING).get();
+                })
+                .addOnSuccessListener(querySnapshot -> {
+                    List<BudgetRollup> rollups = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        BudgetRollup rollup = doc.toObject(BudgetRollup.class);
+                        if (rollup != null) {
+                            rollups.add(rollup);
+                        }
+                    }
+                    callback.onSuccess(rollups);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 기간 요약 (수입/지출/조정/거래 수 합계와 마지막 달 마감 잔액) - 월별 집계만 읽음
+     */
+    public void getPeriodSummary(String clubId, String fromMonth, String toMonth, RollupCallback callback) {
+        getMonthlyRollups(clubId, fromMonth, toMonth, new RollupListCallback() {
+            @Override
+            public void onSuccess(List<BudgetRollup> rollups) {
+                BudgetRollup summary = new BudgetRollup();
+                for (BudgetRollup rollup : rollups) {
+                    summary.merge(rollup);
+                }
+                callback.onSuccess(summary);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
     /**
      * 총 수입 계산
      */
     public void calculateTotalIncome(String clubId, BalanceCallback callback) {
-        getTransactionsByType(clubId, BudgetTransaction.TYPE_INCOME, new TransactionListCallback() {
+        getPeriodSummary(clubId, null, null, new RollupCallback() {
             @Override
-            public void onSuccess(List<BudgetTransaction> transactions) {
-                long total = 0;
-                for (BudgetTransaction t : transactions) {
-                    total += t.getAmount();
-                }
-                callback.onSuccess(total);
+            public void onSuccess(BudgetRollup summary) {
+                callback.onSuccess(summary.getIncome());
             }
 
             @Override
@@ -331,14 +824,10 @@ public class BudgetManager {
      * 총 지출 계산
      */
     public void calculateTotalExpense(String clubId, BalanceCallback callback) {
-        getTransactionsByType(clubId, BudgetTransaction.TYPE_EXPENSE, new TransactionListCallback() {
+        getPeriodSummary(clubId, null, null, new RollupCallback() {
             @Override
-            public void onSuccess(List<BudgetTransaction> transactions) {
-                long total = 0;
-                for (BudgetTransaction t : transactions) {
-                    total += t.getAmount();
-                }
-                callback.onSuccess(total);
+            public void onSuccess(BudgetRollup summary) {
+                callback.onSuccess(summary.getExpense());
             }
 
             @Override
@@ -350,6 +839,96 @@ public class BudgetManager {
 
     // ======================== 유틸리티 ========================
 
+    /**
+     * 거래가 잔액에 주는 변화량 - 지출은 빼고, 수입은 더하고, 조정은 부호 있는 금액 그대로
+     */
+    static long balanceDelta(String type, long amount) {
+        return BudgetTransaction.TYPE_EXPENSE.equals(type) ? -amount : amount;
+    }
+
+    /**
+     * 거래들을 생성 시간 순으로 정렬해 1부터 순번을 매기고,
+     * 마지막 거래의 balanceAfter 가 현재 잔액이 되도록 거꾸로 잔액을 채움
+     */
+    static void assignLedgerSequence(List<BudgetTransaction> entries, long currentBalance) {
+        Collections.sort(entries, CHRONOLOGICAL);
+        long balance = currentBalance;
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            BudgetTransaction entry = entries.get(i);
+            entry.setSeq(i + 1);
+            entry.setBalanceAfter(balance);
+            balance -= balanceDelta(entry.getType(), entry.getAmount());
+        }
+    }
+
+    /**
+     * 거래 시간이 속한 달 ("yyyy-MM", 한국 시간 기준)
+     */
+    static String monthKey(Timestamp createdAt) {
+        if (createdAt == null) return UNDATED_MONTH;
+        Calendar calendar = Calendar.getInstance(LEDGER_TIME_ZONE, Locale.KOREA);
+        calendar.setTime(createdAt.toDate());
+        return String.format(Locale.US, "%04d-%02d",
+                calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1);
+    }
+
+    /**
+     * 순번 순으로 정렬된 거래들의 월별 집계 (마감 잔액은 그 달에서 순번이 가장 큰 거래 후 잔액)
+     */
+    static List<BudgetRollup> buildRollups(List<BudgetTransaction> sequenced) {
+        Map<String, BudgetRollup> rollups = new LinkedHashMap<>();
+        for (BudgetTransaction entry : sequenced) {
+            String month = monthKey(entry.getCreatedAt());
+            BudgetRollup rollup = rollups.get(month);
+            if (rollup == null) {
+                rollup = new BudgetRollup(month);
+                rollups.put(month, rollup);
+            }
+            rollup.add(entry.getType(), entry.getAmount(), 1);
+            rollup.setClosingBalance(entry.getBalanceAfter());
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    /**
+     * 집계 변화량을 병합 저장용 increment 필드로 (변화 없는 필드는 제외)
+     */
+    private static Map<String, Object> rollupIncrements(BudgetRollup change) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("month", change.getMonth());
+        if (change.getIncome() != 0) data.put("income", FieldValue.increment(change.getIncome()));
+        if (change.getExpense() != 0) data.put("expense", FieldValue.increment(change.getExpense()));
+        if (change.getAdjustment() != 0) data.put("adjustment", FieldValue.increment(change.getAdjustment()));
+        if (change.getCount() != 0) data.put("count", FieldValue.increment(change.getCount()));
+        data.put("updatedAt", FieldValue.serverTimestamp());
+        return data;
+    }
+
+    private DocumentReference clubRef(String clubId) {
+        return db.collection("clubs").document(clubId);
+    }
+
+    private CollectionReference entries(String clubId) {
+        return clubRef(clubId).collection(COLLECTION);
+    }
+
+    private DocumentReference rollupRef(String clubId, String month) {
+        return clubRef(clubId).collection(ROLLUP_COLLECTION).document(month);
+    }
+
+    private static BudgetTransaction toEntry(DocumentSnapshot doc) {
+        BudgetTransaction transaction = doc.toObject(BudgetTransaction.class);
+        if (transaction != null) {
+            transaction.setId(doc.getId());
+        }
+        return transaction;
+    }
+
+    private static long longOf(DocumentSnapshot doc, String field) {
+        Long value = doc.exists() ? doc.getLong(field) : null;
+        return value != null ? value : 0L;
+    }
+
     private Map<String, Object> createTransactionMap(BudgetTransaction transaction) {
         Map<String, Object> data = new HashMap<>();
         data.put("id", transaction.getId());
@@ -362,6 +941,7 @@ public class BudgetManager {
         data.put("createdByName", transaction.getCreatedByName());
         data.put("createdAt", transaction.getCreatedAt());
         data.put("balanceAfter", transaction.getBalanceAfter());
+        data.put("seq", transaction.getSeq());
         return data;
     }
 }
@@ -0,0 +1,238 @@
+package com.example.clubmanagement.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 쓰기 실행기
+ * 쓰기 작업을 모아 두었다가 최대 500개씩 WriteBatch로 나누고, 동시에 커밋하는 배치 수를 제한해 실행합니다.
+ * 일시적인 오류로 실패한 배치는 대기 시간을 늘려가며 다시 커밋합니다.
+ * Firestore 콜백은 메인 스레드에서 호출되므로 별도 동기화는 하지 않습니다.
+ */
+public class BulkWriteExecutor {
+    private static final String TAG = "BulkWriteExecutor";
+
+    // Firestore WriteBatch 한 번에 담을 수 있는 최대 작업 수
+    public static final int MAX_BATCH_SIZE = 500;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 3;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_INITIAL_BACKOFF_MS = 500L;
+
+    /**
+     * 진행 상황 콜백 (current/total 은 처리한 쓰기 작업 수)
+     */
+    public interface ProgressCallback {
+        void onProgress(int current, int total);
+        void onSuccess(int totalSent);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 배치에 추가할 쓰기 작업 (재시도 시 새 배치에 다시 추가됨)
+     */
+    private interface Operation {
+        void addTo(WriteBatch batch);
+    }
+
+    private final FirebaseFirestore db;
+    private final List<Operation> operations = new ArrayList<>();
+    private int batchSize = MAX_BATCH_SIZE;
+    private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long initialBackoffMs = DEFAULT_INITIAL_BACKOFF_MS;
+    private boolean started = false;
+
+    public BulkWriteExecutor(FirebaseFirestore db) {
+        this.db = db;
+    }
+
+    // 쓰기 작업 추가
+    public BulkWriteExecutor set(DocumentReference ref, Object data) {
+        operations.add(batch -> batch.set(ref, data));
+        return this;
+    }
+
+    public BulkWriteExecutor set(DocumentReference ref, Object data, SetOptions options) {
+        operations.add(batch -> batch.set(ref, data, options));
+        return this;
+    }
+
+    public BulkWriteExecutor update(DocumentReference ref, Map<String, Object> data) {
+        operations.add(batch -> batch.update(ref, data));
+        return this;
+    }
+
+    public BulkWriteExecutor update(DocumentReference ref, String field, Object value, Object... moreFieldsAndValues) {
+        operations.add(batch -> batch.update(ref, field, value, moreFieldsAndValues));
+        return this;
+    }
+
+    public BulkWriteExecutor delete(DocumentReference ref) {
+        operations.add(batch -> batch.delete(ref));
+        return this;
+    }
+
+    // 실행 옵션
+    public BulkWriteExecutor setBatchSize(int batchSize) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize는 1~" + MAX_BATCH_SIZE + " 사이여야 합니다");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public BulkWriteExecutor setMaxConcurrentBatches(int maxConcurrentBatches) {
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxConcurrentBatches는 1 이상이어야 합니다");
+        }
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return this;
+    }
+
+    public BulkWriteExecutor setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+        return this;
+    }
+
+    public BulkWriteExecutor setInitialBackoffMs(long initialBackoffMs) {
+        this.initialBackoffMs = Math.max(0L, initialBackoffMs);
+        return this;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * 모은 작업 실행 - 모든 배치가 끝나면 onSuccess(쓰기 수), 하나라도 최종 실패하면 onFailure
+     * 배치 단위로만 원자적이므로 실패 시 다른 배치의 쓰기는 이미 반영되어 있을 수 있습니다.
+     * FieldValue.increment 처럼 멱등이 아닌 쓰기는 응답 유실 후 재시도되면 두 번 반영될 수 있습니다.
+     */
+    public void execute(ProgressCallback callback) {
+        if (started) {
+            throw new IllegalStateException("이미 실행된 BulkWriteExecutor 입니다");
+        }
+        started = true;
+
+        if (operations.isEmpty()) {
+            callback.onSuccess(0);
+            return;
+        }
+
+        List<List<Operation>> chunks = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i += batchSize) {
+            chunks.add(operations.subList(i, Math.min(i + batchSize, operations.size())));
+        }
+        new Run(chunks, operations.size(), callback).launchNext();
+    }
+
+    private static boolean isRetryable(Exception e) {
+        if (!(e instanceof FirebaseFirestoreException)) return false;
+        switch (((FirebaseFirestoreException) e).getCode()) {
+            case ABORTED:
+            case UNAVAILABLE:
+            case DEADLINE_EXCEEDED:
+            case RESOURCE_EXHAUSTED:
+            case INTERNAL:
+            case UNKNOWN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 한 번의 실행 상태 (남은 배치, 진행 중인 배치 수, 처리/성공 작업 수)
+     */
+    private class Run {
+        private final List<List<Operation>> chunks;
+        private final int totalOps;
+        private final ProgressCallback callback;
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        private int nextChunk = 0;
+        private int inFlight = 0;
+        private int processedOps = 0;
+        private int writtenOps = 0;
+        private Exception firstError;
+        private boolean finished = false;
+
+        Run(List<List<Operation>> chunks, int totalOps, ProgressCallback callback) {
+            this.chunks = chunks;
+            this.totalOps = totalOps;
+            this.callback = callback;
+        }
+
+        void launchNext() {
+            while (inFlight < maxConcurrentBatches && nextChunk < chunks.size()) {
+                inFlight++;
+                commitChunk(nextChunk++, 0);
+            }
+            if (inFlight == 0 && nextChunk >= chunks.size()) {
+                finish();
+            }
+        }
+
+        void commitChunk(int index, int attempt) {
+            List<Operation> chunk = chunks.get(index);
+            WriteBatch batch = db.batch();
+            for (Operation operation : chunk) {
+                operation.addTo(batch);
+            }
+
+            batch.commit()
+                    .addOnSuccessListener(aVoid -> {
+                        writtenOps += chunk.size();
+                        chunkDone(chunk.size());
+                    })
+                    .addOnFailureListener(e -> {
+                        if (attempt < maxRetries && isRetryable(e)) {
+                            // 지수 백오프 + 지터
+                            long delay = (initialBackoffMs << attempt);
+                            delay += (long) (Math.random() * (delay / 2 + 1));
+                            Log.w(TAG, "Batch " + index + " failed (attempt " + (attempt + 1) + "), retrying in " + delay + "ms", e);
+                            handler.postDelayed(() -> commitChunk(index, attempt + 1), delay);
+                            return;
+                        }
+                        Log.e(TAG, "Batch " + index + " failed after " + (attempt + 1) + " attempt(s)", e);
+                        if (firstError == null) {
+                            firstError = e;
+                        }
+                        chunkDone(chunk.size());
+                    });
+        }
+
+        void chunkDone(int ops) {
+            inFlight--;
+            processedOps += ops;
+            callback.onProgress(processedOps, totalOps);
+            launchNext();
+        }
+
+        void finish() {
+            if (finished) return;
+            finished = true;
+            if (firstError == null) {
+                callback.onSuccess(writtenOps);
+            } else {
+                callback.onFailure(new Exception(
+                        "일부 쓰기 실패 (" + (totalOps - writtenOps) + "/" + totalOps + ")", firstError));
+            }
+        }
+    }
+}
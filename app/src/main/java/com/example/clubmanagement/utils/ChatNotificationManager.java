@@ -15,10 +15,13 @@ import androidx.core.app.NotificationCompat;
 import com.example.clubmanagement.R;
 import com.example.clubmanagement.activities.ChatDetailActivity;
 import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.ListenerRegistration;
-import com.google.firebase.firestore.Query;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,8 +41,17 @@ public class ChatNotificationManager {
     private static ChatNotificationManager instance;
     private Context context;
     private FirebaseManager firebaseManager;
-    private Map<String, ListenerRegistration> chatListeners = new HashMap<>();
+    private static final int MAX_TRACKED_CHAT_ROOMS = 200;
+
     private ListenerRegistration chatRoomListListener = null;
+    private long listeningSince = 0L;
+    // 채팅방별 마지막으로 확인한 lastMessageTime (최근 접근 순으로 최대 MAX_TRACKED_CHAT_ROOMS개 유지)
+    private final Map<String, Long> lastSeenMessageTimes = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_TRACKED_CHAT_ROOMS;
+        }
+    };
     private int unreadCount = 0;
     private OnUnreadCountChangeListener unreadCountListener;
     private String currentOpenChatRoomId = null; // 현재 열려있는 채팅방
@@ -66,6 +78,8 @@ public class ChatNotificationManager {
 
     /**
      * 채팅 알림 리스너 시작 (로그인 시 호출)
+     * 채팅방 목록에 대한 리스너 하나만 사용하고, 새 메시지는 채팅방 문서의
+     * lastMessageTime / lastMessageSenderId 변경으로 감지
      */
     public void startListening() {
         String currentUserId = firebaseManager.getCurrentUserId();
@@ -74,9 +88,10 @@ public class ChatNotificationManager {
         android.util.Log.d(TAG, "Starting chat notification listener for user: " + currentUserId);
 
         // 기존 리스너 정리
-        if (chatRoomListListener != null) {
-            chatRoomListListener.remove();
-        }
+        stopListening();
+
+        // 리스너 시작 이전의 메시지는 알림하지 않음
+        listeningSince = System.currentTimeMillis();
 
         // 내가 참여한 모든 채팅방 감시
         chatRoomListListener = firebaseManager.getDb()
@@ -86,65 +101,58 @@ public class ChatNotificationManager {
                     if (error != null || snapshots == null) return;
 
                     for (DocumentChange dc : snapshots.getDocumentChanges()) {
-                        String chatRoomId = dc.getDocument().getId();
-
-                        if (dc.getType() == DocumentChange.Type.ADDED ||
-                            dc.getType() == DocumentChange.Type.MODIFIED) {
-                            // 각 채팅방의 메시지 리스너 등록
-                            if (!chatListeners.containsKey(chatRoomId)) {
-                                listenToChatRoom(chatRoomId, currentUserId);
-                            }
+                        DocumentSnapshot roomDoc = dc.getDocument();
+                        String chatRoomId = roomDoc.getId();
+
+                        if (dc.getType() == DocumentChange.Type.REMOVED) {
+                            // 나간 채팅방 정리
+                            lastSeenMessageTimes.remove(chatRoomId);
+                        } else {
+                            handleChatRoomUpdate(roomDoc, currentUserId);
                         }
                     }
 
-                    // 초기 로드 시 읽지 않은 메시지 수 계산
-                    calculateTotalUnreadCount(currentUserId);
+                    // 채팅방 문서의 사용자별 카운터 합산 (메시지 조회 없음)
+                    updateUnreadCountFromRooms(snapshots.getDocuments(), currentUserId);
                 });
     }
 
     /**
-     * 특정 채팅방의 새 메시지 감시
+     * 채팅방 문서 변경 시 새 메시지 여부 확인 후 알림
      */
-    private void listenToChatRoom(String chatRoomId, String currentUserId) {
-        ListenerRegistration listener = firebaseManager.getDb()
-                .collection("chatRooms")
-                .document(chatRoomId)
-                .collection("messages")
-                .orderBy("timestamp", Query.Direction.DESCENDING)
-                .limit(1)
-                .addSnapshotListener((snapshots, error) -> {
-                    if (error != null || snapshots == null || snapshots.isEmpty()) return;
+    private void handleChatRoomUpdate(DocumentSnapshot roomDoc, String currentUserId) {
+        String chatRoomId = roomDoc.getId();
+        long lastMessageTime = getTimeMillis(roomDoc.get("lastMessageTime"));
 
-                    for (DocumentChange dc : snapshots.getDocumentChanges()) {
-                        if (dc.getType() == DocumentChange.Type.ADDED) {
-                            String senderId = dc.getDocument().getString("senderId");
-                            String senderName = dc.getDocument().getString("senderName");
-                            String message = dc.getDocument().getString("message");
-
-                            // timestamp 처리 (Long 또는 Timestamp 타입 모두 처리)
-                            Object timestampObj = dc.getDocument().get("timestamp");
-                            Long timestamp = 0L;
-                            if (timestampObj instanceof Long) {
-                                timestamp = (Long) timestampObj;
-                            } else if (timestampObj instanceof Number) {
-                                timestamp = ((Number) timestampObj).longValue();
-                            } else if (timestampObj instanceof com.google.firebase.Timestamp) {
-                                timestamp = ((com.google.firebase.Timestamp) timestampObj).toDate().getTime();
-                            }
-
-                            // 내가 보낸 메시지가 아니고, 현재 열려있는 채팅방이 아닌 경우에만 알림
-                            if (senderId != null && !senderId.equals(currentUserId)) {
-                                if (!chatRoomId.equals(currentOpenChatRoomId)) {
-                                    // 새 메시지 알림
-                                    showNotification(senderName, message, chatRoomId);
-                                    incrementUnreadCount();
-                                }
-                            }
-                        }
-                    }
-                });
+        Long lastSeen = lastSeenMessageTimes.get(chatRoomId);
+        lastSeenMessageTimes.put(chatRoomId, Math.max(lastMessageTime, lastSeen != null ? lastSeen : 0L));
 
-        chatListeners.put(chatRoomId, listener);
+        // 처음 보는 채팅방은 리스너 시작 이후 메시지만, 그 외에는 마지막으로 본 시간 이후 메시지만 알림
+        long threshold = lastSeen != null ? lastSeen : listeningSince;
+        if (lastMessageTime <= threshold) return;
+
+        // 내가 보낸 메시지가 아니고, 현재 열려있는 채팅방이 아닌 경우에만 알림
+        String senderId = roomDoc.getString("lastMessageSenderId");
+        if (senderId == null || senderId.equals(currentUserId)) return;
+        if (chatRoomId.equals(currentOpenChatRoomId)) return;
+
+        Boolean notificationEnabled = roomDoc.getBoolean("notificationEnabled");
+        if (notificationEnabled != null && !notificationEnabled) return;
+
+        // 새 메시지 알림 (카운트는 채팅방 문서의 카운터로 반영됨)
+        showNotification(roomDoc.getString("lastMessageSenderName"), roomDoc.getString("lastMessage"), chatRoomId);
+    }
+
+    /**
+     * Long 또는 Timestamp 타입 시간을 밀리초로 변환
+     */
+    private static long getTimeMillis(Object timeObj) {
+        if (timeObj instanceof Number) {
+            return ((Number) timeObj).longValue();
+        } else if (timeObj instanceof com.google.firebase.Timestamp) {
+            return ((com.google.firebase.Timestamp) timeObj).toDate().getTime();
+        }
+        return 0L;
     }
 
     /**
@@ -162,7 +170,7 @@ public class ChatNotificationManager {
     }
 
     /**
-     * 특정 채팅방을 읽음으로 표시 (해당 채팅방의 마지막 읽은 시간 업데이트)
+     * 특정 채팅방을 읽음으로 표시 (마지막 읽은 시간 업데이트 + 내 안 읽은 메시지 카운터 초기화)
      */
     public void markChatRoomAsRead(String chatRoomId) {
         if (chatRoomId == null) return;
@@ -171,77 +179,45 @@ public class ChatNotificationManager {
         lastReadTimestamps.put(chatRoomId, currentTime);
         saveLastReadTimestamps();
 
-        // 전체 읽지 않은 메시지 수 재계산
+        // 카운터 초기화 -> 채팅방 목록 리스너가 전체 카운트를 다시 합산
         String currentUserId = firebaseManager.getCurrentUserId();
         if (currentUserId != null) {
-            calculateTotalUnreadCount(currentUserId);
+            firebaseManager.getDb()
+                    .collection("chatRooms")
+                    .document(chatRoomId)
+                    .update(FieldPath.of("unreadCounts", currentUserId), 0)
+                    .addOnFailureListener(e -> android.util.Log.e(TAG, "Failed to reset unread count: " + e.getMessage()));
         }
     }
 
     /**
-     * 전체 읽지 않은 메시지 수 계산
+     * 채팅방 문서의 unreadCounts.{userId} 값을 합산해 전체 읽지 않은 메시지 수 갱신
+     * 현재 열려있는 채팅방은 제외
      */
-    private void calculateTotalUnreadCount(String currentUserId) {
-        firebaseManager.getDb()
-                .collection("chatRooms")
-                .whereArrayContains("participants", currentUserId)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    final int[] totalUnread = {0};
-                    final int[] processedRooms = {0};
-                    int totalRooms = querySnapshot.size();
-
-                    if (totalRooms == 0) {
-                        unreadCount = 0;
-                        saveUnreadCount();
-                        notifyUnreadCountChanged();
-                        return;
-                    }
+    private void updateUnreadCountFromRooms(List<DocumentSnapshot> roomDocs, String currentUserId) {
+        int totalUnread = 0;
+        for (DocumentSnapshot roomDoc : roomDocs) {
+            if (roomDoc.getId().equals(currentOpenChatRoomId)) continue;
+            totalUnread += getUnreadCountForUser(roomDoc, currentUserId);
+        }
 
-                    for (com.google.firebase.firestore.DocumentSnapshot roomDoc : querySnapshot.getDocuments()) {
-                        String chatRoomId = roomDoc.getId();
-                        Long lastReadTime = lastReadTimestamps.get(chatRoomId);
-                        if (lastReadTime == null) {
-                            lastReadTime = 0L;
-                        }
+        unreadCount = totalUnread;
+        saveUnreadCount();
+        notifyUnreadCountChanged();
+    }
 
-                        final long finalLastReadTime = lastReadTime;
-
-                        // 각 채팅방의 읽지 않은 메시지 수 계산
-                        firebaseManager.getDb()
-                                .collection("chatRooms")
-                                .document(chatRoomId)
-                                .collection("messages")
-                                .whereGreaterThan("timestamp", finalLastReadTime)
-                                .get()
-                                .addOnSuccessListener(messagesSnapshot -> {
-                                    for (com.google.firebase.firestore.DocumentSnapshot msgDoc : messagesSnapshot.getDocuments()) {
-                                        String senderId = msgDoc.getString("senderId");
-                                        // 내가 보낸 메시지가 아닌 경우만 카운트
-                                        if (senderId != null && !senderId.equals(currentUserId)) {
-                                            totalUnread[0]++;
-                                        }
-                                    }
-
-                                    processedRooms[0]++;
-                                    if (processedRooms[0] >= totalRooms) {
-                                        // 모든 채팅방 처리 완료
-                                        unreadCount = totalUnread[0];
-                                        saveUnreadCount();
-                                        notifyUnreadCountChanged();
-                                        android.util.Log.d(TAG, "Total unread count calculated: " + unreadCount);
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    processedRooms[0]++;
-                                    if (processedRooms[0] >= totalRooms) {
-                                        unreadCount = totalUnread[0];
-                                        saveUnreadCount();
-                                        notifyUnreadCountChanged();
-                                    }
-                                });
-                    }
-                });
+    /**
+     * 채팅방 문서에서 특정 사용자의 안 읽은 메시지 수 반환
+     */
+    public static int getUnreadCountForUser(DocumentSnapshot roomDoc, String userId) {
+        Object counts = roomDoc.get("unreadCounts");
+        if (counts instanceof Map) {
+            Object count = ((Map<?, ?>) counts).get(userId);
+            if (count instanceof Number) {
+                return Math.max(0, ((Number) count).intValue());
+            }
+        }
+        return 0;
     }
 
     /**
@@ -299,15 +275,6 @@ public class ChatNotificationManager {
         }
     }
 
-    /**
-     * 읽지 않은 메시지 카운트 증가
-     */
-    private void incrementUnreadCount() {
-        unreadCount++;
-        saveUnreadCount();
-        notifyUnreadCountChanged();
-    }
-
     /**
      * 읽지 않은 메시지 카운트 초기화
      */
@@ -411,9 +378,14 @@ public class ChatNotificationManager {
      */
     public void refreshUnreadCount() {
         String currentUserId = firebaseManager.getCurrentUserId();
-        if (currentUserId != null) {
-            calculateTotalUnreadCount(currentUserId);
-        }
+        if (currentUserId == null) return;
+
+        firebaseManager.getDb()
+                .collection("chatRooms")
+                .whereArrayContains("participants", currentUserId)
+                .get()
+                .addOnSuccessListener(querySnapshot ->
+                        updateUnreadCountFromRooms(querySnapshot.getDocuments(), currentUserId));
     }
 
     /**
@@ -432,9 +404,6 @@ public class ChatNotificationManager {
             chatRoomListListener.remove();
             chatRoomListListener = null;
         }
-        for (ListenerRegistration listener : chatListeners.values()) {
-            listener.remove();
-        }
-        chatListeners.clear();
+        lastSeenMessageTimes.clear();
     }
 }
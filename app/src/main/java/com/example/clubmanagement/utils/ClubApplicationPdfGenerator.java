@@ -4,22 +4,23 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import com.example.clubmanagement.models.Club;
 import com.example.clubmanagement.models.Member;
-import com.itextpdf.io.font.PdfEncodings;
-import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.draw.SolidLine;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.borders.SolidBorder;
@@ -36,16 +37,26 @@ import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.properties.VerticalAlignment;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 중앙동아리 신청서 PDF 생성기
@@ -54,6 +65,26 @@ import java.util.Map;
 public class ClubApplicationPdfGenerator {
     private static final String TAG = "ClubPdfGenerator";
 
+    // PDF 생성 전용 스레드 (한 번에 하나씩 생성)
+    private static final ExecutorService PDF_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private static final int SECTION_COUNT = 11;            // 페이지 묶음 수 (진행률 계산용)
+    private static final int MEMBER_ROWS_PER_FLUSH = 20;    // 회원 명부 표를 내보내는 간격
+    // 서명 이미지 최대 크기(px) - 가장 크게 그리는 60x30pt 기준 약 4배
+    private static final int SIGNATURE_MAX_WIDTH = 240;
+    private static final int SIGNATURE_MAX_HEIGHT = 120;
+    private static final byte[] PDF_SIGNATURE = {'%', 'P', 'D', 'F'};
+
+    /**
+     * 비동기 생성 콜백 (메인 스레드에서 호출)
+     */
+    public interface GenerationCallback {
+        void onProgress(int current, int total);
+        void onSuccess(String filePath);
+        void onCancelled();
+        void onFailure(Exception e);
+    }
+
     private Context context;
     private Club club;
     private List<Member> members;
@@ -85,6 +116,16 @@ public class ClubApplicationPdfGenerator {
     private PdfFont koreanFont;
     private PdfFont koreanBoldFont;
 
+    // 서명 비트맵 -> 문서에 한 번만 넣은 이미지 XObject
+    private final Map<Bitmap, PdfImageXObject> signatureXObjects = new IdentityHashMap<>();
+
+    // 진행률/취소
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private volatile boolean cancelled = false;
+    private GenerationCallback progressCallback;
+    private int progressCurrent;
+    private int progressTotal;
+
     public ClubApplicationPdfGenerator(Context context) {
         this.context = context;
     }
@@ -153,145 +194,32 @@ public class ClubApplicationPdfGenerator {
     }
 
     /**
-     * 한글 폰트 로드 - 여러 시스템 폰트 경로 시도
+     * 전용 스레드에서 PDF 생성 - 진행률/결과는 메인 스레드로 전달, cancel() 로 중단
      */
-    private PdfFont loadKoreanFont() throws Exception {
-        // 시도할 폰트 경로들 (Android 버전별로 다름)
-        // TTC 파일의 경우 한국어 폰트는 보통 인덱스 1에 있음
-        String[] fontPaths = {
-                // Android 7.0+ (Noto Sans CJK) - 한국어는 인덱스 1
-                "/system/fonts/NotoSansCJK-Regular.ttc,1",
-                "/system/fonts/NotoSansCJK-Regular.ttc,0",
-                "/system/fonts/NotoSansCJKkr-Regular.otf",
-                "/system/fonts/NotoSansKR-Regular.otf",
-                // 삼성 기기
-                "/system/fonts/SamsungOneKorean-Regular.ttf",
-                "/system/fonts/SECRobotoLight-Regular.ttf",
-                "/system/fonts/SamsungNeoGothic-Regular.ttf",
-                // LG 기기
-                "/system/fonts/LGSmartGothic.ttf",
-                "/system/fonts/LGSmartGothicR.ttf",
-                // Android 5.0~6.0
-                "/system/fonts/NanumGothic.ttf",
-                // Android 4.x
-                "/system/fonts/DroidSansFallback.ttf",
-                "/system/fonts/DroidSansFallbackFull.ttf"
-        };
-
-        // 각 폰트 경로 시도
-        for (String fontPath : fontPaths) {
+    public void generateAsync(GenerationCallback callback) {
+        cancelled = false;
+        progressCallback = callback;
+        PDF_EXECUTOR.execute(() -> {
             try {
-                String actualPath = fontPath.split(",")[0]; // TTC 파일의 경우 콤마 이전 부분만 체크
-                File fontFile = new File(actualPath);
-                if (fontFile.exists()) {
-                    Log.d(TAG, "폰트 로드 시도: " + fontPath);
-                    // 폰트를 임베드하도록 설정
-                    PdfFont font = PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H,
-                            com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
-                    Log.d(TAG, "폰트 로드 성공: " + fontPath);
-                    return font;
-                }
+                String filePath = generatePdf();
+                mainHandler.post(() -> callback.onSuccess(filePath));
+            } catch (CancellationException e) {
+                Log.d(TAG, "PDF 생성 취소됨");
+                mainHandler.post(callback::onCancelled);
             } catch (Exception e) {
-                Log.w(TAG, "폰트 로드 실패: " + fontPath + " - " + e.getMessage());
-            }
-        }
-
-        // 시스템 폰트 디렉토리 스캔하여 CJK 관련 폰트 찾기
-        PdfFont scannedFont = scanForKoreanFont();
-        if (scannedFont != null) {
-            return scannedFont;
-        }
-
-        // 모든 시스템 폰트 실패 시 assets에서 로드 시도
-        try {
-            InputStream fontStream = context.getAssets().open("fonts/NanumGothic.ttf");
-            java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream();
-            int nRead;
-            byte[] data = new byte[16384];
-            while ((nRead = fontStream.read(data, 0, data.length)) != -1) {
-                buffer.write(data, 0, nRead);
+                Log.e(TAG, "PDF 생성 실패", e);
+                mainHandler.post(() -> callback.onFailure(e));
+            } finally {
+                progressCallback = null;
             }
-            fontStream.close();
-            byte[] fontBytes = buffer.toByteArray();
-            Log.d(TAG, "Assets 폰트 로드 성공");
-            return PdfFontFactory.createFont(fontBytes, PdfEncodings.IDENTITY_H,
-                    com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
-        } catch (Exception e) {
-            Log.w(TAG, "Assets 폰트 로드 실패: " + e.getMessage());
-        }
-
-        // 최종 대체: 내장 폰트 사용 (한글 깨질 수 있음)
-        Log.e(TAG, "한글 폰트를 찾을 수 없습니다! PDF에 한글이 표시되지 않을 수 있습니다.");
-        throw new Exception("한글 폰트를 찾을 수 없습니다. 기기에 한글 폰트가 설치되어 있는지 확인해주세요.\n" +
-                "앱의 assets/fonts/ 폴더에 NanumGothic.ttf 파일을 추가해주세요.");
+        });
     }
 
     /**
-     * 시스템 폰트 디렉토리를 스캔하여 한글 폰트 찾기
+     * 생성 중단 요청 - 다음 페이지 묶음이나 회원 명부 몇 행마다 확인하며, 만들던 파일은 삭제됩니다.
      */
-    private PdfFont scanForKoreanFont() {
-        File fontsDir = new File("/system/fonts");
-        if (!fontsDir.exists() || !fontsDir.isDirectory()) {
-            Log.w(TAG, "폰트 디렉토리를 찾을 수 없음: /system/fonts");
-            return null;
-        }
-
-        File[] fontFiles = fontsDir.listFiles();
-        if (fontFiles == null) {
-            Log.w(TAG, "폰트 파일 목록을 가져올 수 없음");
-            return null;
-        }
-
-        // 사용 가능한 폰트 목록 로그 출력
-        Log.d(TAG, "시스템 폰트 스캔 시작. 총 " + fontFiles.length + "개 파일");
-
-        // 한글/CJK 관련 키워드를 포함하는 폰트 찾기 (우선순위 순)
-        String[] koreanKeywords = {"Korean", "KR", "CJK", "Gothic", "Nanum", "Malgun", "Gulim", "Batang", "Dotum", "Samsung", "SEC"};
-
-        for (String keyword : koreanKeywords) {
-            for (File fontFile : fontFiles) {
-                String fileName = fontFile.getName();
-                String fileNameLower = fileName.toLowerCase();
-
-                // .ttf, .ttc, .otf 파일만 처리
-                if (!fileNameLower.endsWith(".ttf") && !fileNameLower.endsWith(".ttc") && !fileNameLower.endsWith(".otf")) {
-                    continue;
-                }
-
-                // 키워드 매칭
-                if (fileNameLower.contains(keyword.toLowerCase())) {
-                    // TTC 파일은 여러 인덱스 시도
-                    if (fileNameLower.endsWith(".ttc")) {
-                        for (int ttcIndex = 0; ttcIndex < 5; ttcIndex++) {
-                            try {
-                                String fontPath = fontFile.getAbsolutePath() + "," + ttcIndex;
-                                Log.d(TAG, "TTC 폰트 로드 시도: " + fontPath);
-                                PdfFont font = PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H,
-                                        com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
-                                Log.d(TAG, "TTC 폰트 로드 성공: " + fontPath);
-                                return font;
-                            } catch (Exception e) {
-                                // 다음 인덱스 시도
-                            }
-                        }
-                    } else {
-                        try {
-                            String fontPath = fontFile.getAbsolutePath();
-                            Log.d(TAG, "폰트 로드 시도: " + fontPath);
-                            PdfFont font = PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H,
-                                    com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
-                            Log.d(TAG, "폰트 로드 성공: " + fontPath);
-                            return font;
-                        } catch (Exception e) {
-                            Log.w(TAG, "폰트 로드 실패: " + fileName + " - " + e.getMessage());
-                        }
-                    }
-                }
-            }
-        }
-
-        Log.w(TAG, "한글 관련 폰트를 찾지 못함");
-        return null;
+    public void cancel() {
+        cancelled = true;
     }
 
     /**
@@ -304,62 +232,142 @@ public class ClubApplicationPdfGenerator {
         String fileName = academicYear + "학년도_" + club.getName() + "_중앙동아리_신청서.pdf";
         File outputFile = new File(downloadDir, fileName);
 
+        progressCurrent = 0;
+        progressTotal = SECTION_COUNT + (members != null ? members.size() : 0);
+        checkCancelled();
+
         // PDF 문서 생성
         PdfWriter writer = new PdfWriter(new FileOutputStream(outputFile));
         PdfDocument pdfDoc = new PdfDocument(writer);
         Document document = new Document(pdfDoc, PageSize.A4);
         document.setMargins(50, 50, 50, 50);
 
-        // 한글 폰트 로드 (시스템 폰트 사용)
-        koreanFont = loadKoreanFont();
-        koreanBoldFont = koreanFont; // Bold 폰트도 같은 폰트 사용
-
-        // 페이지 1: 표지
-        addCoverPage(document);
-
-        // 페이지 2: 중앙동아리 승인신청서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addApprovalApplicationPage(document);
-
-        // 페이지 3: 지도교수 승낙서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addProfessorConsentPage(document);
-
-        // 페이지 4: 회원 명부
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addMemberListPage(document);
-
-        // 페이지 5: 기구 조직표
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addOrganizationChartPage(document);
-
-        // 페이지 6~: 운영 회칙 (외부 파일이 있으면 삽입)
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addClubRulesPages(document, pdfDoc);
-
-        // 행사 결과 및 결산서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addEventResultsPage(document);
+        try {
+            // 한글 폰트 (찾은 폰트는 저장/재사용, 쓰인 글자만 서브셋 임베드)
+            koreanFont = KoreanFontLoader.createFont(context);
+            koreanBoldFont = koreanFont; // Bold 폰트도 같은 폰트 사용
+
+            // 페이지 1: 표지
+            addCoverPage(document);
+            finishSection();
+
+            // 페이지 2: 중앙동아리 승인신청서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addApprovalApplicationPage(document);
+            finishSection();
+
+            // 페이지 3: 지도교수 승낙서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addProfessorConsentPage(document);
+            finishSection();
+
+            // 페이지 4: 회원 명부
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addMemberListPage(document);
+            finishSection();
+
+            // 페이지 5: 기구 조직표
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addOrganizationChartPage(document);
+            finishSection();
+
+            // 페이지 6~: 운영 회칙 (외부 파일이 있으면 삽입)
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addClubRulesPages(document, pdfDoc);
+            finishSection();
+
+            // 행사 결과 및 결산서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addEventResultsPage(document);
+            finishSection();
+
+            // 활동 결과보고서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addActivityReportPages(document);
+            finishSection();
+
+            // 행사계획 및 예산서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addEventPlanPage(document);
+            finishSection();
+
+            // 월 사업/예산 세부계획서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addMonthlyPlanPage(document);
+            finishSection();
+
+            // 동아리실 사용 서약서
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            addClubRoomAgreementPage(document);
+            finishSection();
+
+            document.close();
+        } catch (Exception e) {
+            // 취소/실패 시 만들다 만 파일 삭제
+            try {
+                writer.close();
+            } catch (Exception closeError) {
+                Log.w(TAG, "PDF 스트림 닫기 실패", closeError);
+            }
+            if (!outputFile.delete()) {
+                Log.w(TAG, "미완성 PDF 삭제 실패: " + outputFile.getAbsolutePath());
+            }
+            throw e;
+        } finally {
+            signatureXObjects.clear();
+        }
 
-        // 활동 결과보고서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addActivityReportPages(document);
+        return outputFile.getAbsolutePath();
+    }
 
-        // 행사계획 및 예산서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addEventPlanPage(document);
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("PDF 생성이 취소되었습니다");
+        }
+    }
 
-        // 월 사업/예산 세부계획서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addMonthlyPlanPage(document);
+    private void finishSection() {
+        advanceProgress(1);
+    }
 
-        // 동아리실 사용 서약서
-        document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-        addClubRoomAgreementPage(document);
+    private void advanceProgress(int steps) {
+        checkCancelled();
+        progressCurrent += steps;
+        GenerationCallback callback = progressCallback;
+        if (callback != null) {
+            int current = progressCurrent;
+            int total = progressTotal;
+            mainHandler.post(() -> callback.onProgress(current, total));
+        }
+    }
 
-        document.close();
+    /**
+     * 서명 이미지 - 비트맵마다 한 번만 축소/PNG 인코딩해 XObject 로 만들고, 같은 서명은 그 XObject 를 재사용
+     */
+    private Image createSignatureImage(Bitmap signature, float width, float height) {
+        PdfImageXObject xObject = signatureXObjects.get(signature);
+        if (xObject == null) {
+            Bitmap scaled = scaleSignature(signature);
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            scaled.compress(Bitmap.CompressFormat.PNG, 100, stream);
+            if (scaled != signature) {
+                scaled.recycle();
+            }
+            xObject = new PdfImageXObject(ImageDataFactory.create(stream.toByteArray()));
+            signatureXObjects.put(signature, xObject);
+        }
+        return new Image(xObject).setWidth(width).setHeight(height);
+    }
 
-        return outputFile.getAbsolutePath();
+    private static Bitmap scaleSignature(Bitmap signature) {
+        int width = signature.getWidth();
+        int height = signature.getHeight();
+        float scale = Math.min((float) SIGNATURE_MAX_WIDTH / width, (float) SIGNATURE_MAX_HEIGHT / height);
+        if (scale >= 1f) {
+            return signature;
+        }
+        return Bitmap.createScaledBitmap(signature,
+                Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale)), true);
     }
 
     /**
@@ -511,10 +519,7 @@ public class ClubApplicationPdfGenerator {
 
         if (presidentSignature != null) {
             try {
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                presidentSignature.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                ImageData imageData = ImageDataFactory.create(stream.toByteArray());
-                Image signImage = new Image(imageData).setWidth(50).setHeight(25);
+                Image signImage = createSignatureImage(presidentSignature, 50, 25);
 
                 // 서명 이미지와 (인) 텍스트를 함께 배치
                 Table innerTable = new Table(1).setWidth(UnitValue.createPercentValue(100));
@@ -621,10 +626,7 @@ public class ClubApplicationPdfGenerator {
         profSignCell.add(new Paragraph("(인)").setFont(koreanFont).setFontSize(12));
         if (professorSignature != null) {
             try {
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                professorSignature.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                ImageData imageData = ImageDataFactory.create(stream.toByteArray());
-                Image signImage = new Image(imageData).setWidth(60).setHeight(30);
+                Image signImage = createSignatureImage(professorSignature, 60, 30);
                 profSignCell.add(signImage);
             } catch (Exception e) {
                 Log.e(TAG, "교수 서명 이미지 추가 실패", e);
@@ -661,8 +663,8 @@ public class ClubApplicationPdfGenerator {
                 .setMarginBottom(10);
         document.add(clubNamePara);
 
-        // 회원 테이블
-        Table memberTable = new Table(UnitValue.createPercentArray(new float[]{8, 15, 15, 20, 15, 12, 15}))
+        // 회원 테이블 - 큰 표로 만들어 일정 행마다 문서로 내보냄 (회원이 많아도 표 전체를 메모리에 두지 않음)
+        Table memberTable = new Table(UnitValue.createPercentArray(new float[]{8, 15, 15, 20, 15, 12, 15}), true)
                 .setWidth(UnitValue.createPercentValue(100));
 
         // 헤더
@@ -673,12 +675,14 @@ public class ClubApplicationPdfGenerator {
         memberTable.addHeaderCell(createHeaderCell("연락처"));
         memberTable.addHeaderCell(createHeaderCell("직책"));
         memberTable.addHeaderCell(createHeaderCell("서명"));
+        document.add(memberTable);
 
         // 회원 데이터
         if (members != null && !members.isEmpty()) {
-            int num = 1;
+            int num = 0;
             for (Member member : members) {
-                memberTable.addCell(createContentCell(String.valueOf(num++)));
+                num++;
+                memberTable.addCell(createContentCell(String.valueOf(num)));
                 memberTable.addCell(createContentCell(member.getName()));
                 memberTable.addCell(createContentCell(member.getStudentId()));
                 memberTable.addCell(createContentCell(member.getDepartment() != null ? member.getDepartment() : ""));
@@ -693,12 +697,7 @@ public class ClubApplicationPdfGenerator {
 
                 if (memberSignatures != null && memberSignatures.containsKey(member.getUserId())) {
                     try {
-                        Bitmap sig = memberSignatures.get(member.getUserId());
-                        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                        sig.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                        ImageData imageData = ImageDataFactory.create(stream.toByteArray());
-                        Image signImage = new Image(imageData).setWidth(40).setHeight(20);
-                        signCell.add(signImage);
+                        signCell.add(createSignatureImage(memberSignatures.get(member.getUserId()), 40, 20));
                     } catch (Exception e) {
                         signCell.add(new Paragraph("").setFont(koreanFont));
                     }
@@ -706,7 +705,13 @@ public class ClubApplicationPdfGenerator {
                     signCell.add(new Paragraph("").setFont(koreanFont));
                 }
                 memberTable.addCell(signCell);
+
+                if (num % MEMBER_ROWS_PER_FLUSH == 0) {
+                    memberTable.flush();
+                    advanceProgress(MEMBER_ROWS_PER_FLUSH);
+                }
             }
+            advanceProgress(num % MEMBER_ROWS_PER_FLUSH);
         } else {
             // 빈 행 추가 (최소 20행)
             for (int i = 1; i <= 20; i++) {
@@ -720,7 +725,7 @@ public class ClubApplicationPdfGenerator {
             }
         }
 
-        document.add(memberTable);
+        memberTable.complete();
 
         // 총 인원
         Paragraph totalPara = new Paragraph("총 인원: " +
@@ -828,40 +833,13 @@ public class ClubApplicationPdfGenerator {
         // 외부 회칙 파일이 있으면 해당 내용을 삽입
         if (clubRulesUri != null) {
             try {
-                InputStream inputStream = context.getContentResolver().openInputStream(clubRulesUri);
-                if (inputStream != null) {
-                    String mimeType = context.getContentResolver().getType(clubRulesUri);
-
-                    if (mimeType != null && mimeType.equals("application/pdf")) {
-                        // PDF 파일인 경우 - 내용을 텍스트로 변환하거나 이미지로 삽입
-                        // 페이지 복사 방식 대신 안내 메시지 표시
-                        document.add(new Paragraph("\n"));
-                        document.add(new Paragraph("(별첨: 회칙 PDF 파일 첨부)")
-                                .setFont(koreanFont)
-                                .setFontSize(12)
-                                .setTextAlignment(TextAlignment.CENTER)
-                                .setItalic());
-                        document.add(new Paragraph("\n"));
-
-                        // 기본 회칙 양식도 함께 표시
-                        addDefaultRulesTemplate(document);
-                    } else {
-                        // 텍스트 파일인 경우
-                        java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream();
-                        int nRead;
-                        byte[] data = new byte[16384];
-                        while ((nRead = inputStream.read(data, 0, data.length)) != -1) {
-                            buffer.write(data, 0, nRead);
-                        }
-                        String rulesText = new String(buffer.toByteArray(), "UTF-8");
-
-                        Paragraph rulesPara = new Paragraph(rulesText)
-                                .setFont(koreanFont)
-                                .setFontSize(10);
-                        document.add(rulesPara);
-                    }
-                    inputStream.close();
+                if (isPdf(clubRulesUri)) {
+                    appendRulesPdf(document, pdfDoc);
+                } else {
+                    appendRulesText(document);
                 }
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
                 Log.e(TAG, "회칙 파일 로드 실패", e);
                 addDefaultRulesTemplate(document);
@@ -872,6 +850,120 @@ public class ClubApplicationPdfGenerator {
         }
     }
 
+    /**
+     * 회칙 파일이 PDF 인지 - MIME 형식이 PDF/텍스트가 아니면(application/octet-stream 등) 확장자와 %PDF 시그니처로 판단
+     */
+    private boolean isPdf(Uri uri) {
+        String mimeType = context.getContentResolver().getType(uri);
+        if ("application/pdf".equals(mimeType)) {
+            return true;
+        }
+        if (mimeType != null && mimeType.startsWith("text/")) {
+            return false;
+        }
+        String path = uri.getPath();
+        if (path != null && path.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+            return true;
+        }
+        return hasPdfSignature(uri);
+    }
+
+    private boolean hasPdfSignature(Uri uri) {
+        byte[] header = new byte[PDF_SIGNATURE.length];
+        try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+            if (in == null) {
+                return false;
+            }
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n < 0) {
+                    return false;
+                }
+                read += n;
+            }
+            return Arrays.equals(header, PDF_SIGNATURE);
+        } catch (IOException e) {
+            Log.w(TAG, "회칙 파일 형식 확인 실패: " + uri, e);
+            return false;
+        }
+    }
+
+    /**
+     * 회칙 PDF 의 페이지를 이 문서 뒤에 그대로 복사
+     * 업로드 파일을 임시 파일로 옮겨 필요한 부분만 읽고, 한 쪽씩 복사한 뒤 바로 내보내므로
+     * 회칙이 길어도 파일 전체를 메모리에 올리지 않습니다.
+     */
+    private void appendRulesPdf(Document document, PdfDocument pdfDoc) throws Exception {
+        File tempFile = File.createTempFile("club_rules", ".pdf", context.getCacheDir());
+        try {
+            try (InputStream in = context.getContentResolver().openInputStream(clubRulesUri);
+                 FileOutputStream out = new FileOutputStream(tempFile)) {
+                if (in == null) {
+                    throw new FileNotFoundException("회칙 파일을 열 수 없습니다: " + clubRulesUri);
+                }
+                byte[] buffer = new byte[16384];
+                int nRead;
+                while ((nRead = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, nRead);
+                }
+            }
+
+            PdfReader reader = new PdfReader(tempFile).setMemorySavingMode(true);
+            try (PdfDocument rulesDoc = new PdfDocument(reader)) {
+                int pageCount = rulesDoc.getNumberOfPages();
+                document.add(new Paragraph("(다음 쪽부터 첨부 회칙 " + pageCount + "쪽)")
+                        .setFont(koreanFont)
+                        .setFontSize(12)
+                        .setTextAlignment(TextAlignment.CENTER)
+                        .setItalic());
+
+                for (int pageNum = 1; pageNum <= pageCount; pageNum++) {
+                    checkCancelled();
+                    List<PdfPage> copied = rulesDoc.copyPagesTo(pageNum, pageNum, pdfDoc);
+                    // 마지막 쪽은 레이아웃이 이어서 넘어가야 하므로 나중에 문서가 내보냄
+                    if (pageNum < pageCount) {
+                        for (PdfPage page : copied) {
+                            page.flush();
+                        }
+                    }
+                }
+            }
+
+            // 이어지는 내용은 복사한 페이지 뒤에 배치
+            document.add(new AreaBreak(AreaBreakType.LAST_PAGE));
+        } finally {
+            if (!tempFile.delete()) {
+                Log.w(TAG, "임시 회칙 파일 삭제 실패: " + tempFile.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * 텍스트 회칙을 한 줄씩 읽어 문단으로 추가
+     */
+    private void appendRulesText(Document document) throws Exception {
+        InputStream inputStream = context.getContentResolver().openInputStream(clubRulesUri);
+        if (inputStream == null) {
+            throw new FileNotFoundException("회칙 파일을 열 수 없습니다: " + clubRulesUri);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            boolean firstLine = true;
+            while ((line = reader.readLine()) != null) {
+                if (firstLine && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                firstLine = false;
+                // 빈 줄도 줄 간격이 유지되도록 공백 문단으로 추가
+                document.add(new Paragraph(line.isEmpty() ? " " : line)
+                        .setFont(koreanFont)
+                        .setFontSize(10)
+                        .setMargin(0));
+            }
+        }
+    }
+
     private void addDefaultRulesTemplate(Document document) {
         String[] defaultRules = {
                 "제1장 총칙",
@@ -0,0 +1,248 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.Banner;
+import com.example.clubmanagement.models.Club;
+import com.example.clubmanagement.models.ClubDashboard;
+import com.example.clubmanagement.models.Member;
+import com.example.clubmanagement.models.Notice;
+import com.example.clubmanagement.models.Schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동아리 홈 화면 데이터 로더
+ * 필요한 조회를 동시에 시작하고 모두 끝나면 ClubDashboard 하나로 전달합니다.
+ * 같은 키에 대해 진행 중인 요청이 있으면 새로 조회하지 않고 결과를 함께 받습니다.
+ * Firestore 콜백은 메인 스레드에서 호출되므로 별도 동기화는 하지 않습니다.
+ */
+public class ClubDashboardLoader {
+    private static final String TAG = "ClubDashboardLoader";
+
+    private static ClubDashboardLoader instance;
+    private final FirebaseManager firebaseManager;
+
+    // 진행 중인 요청 (키 -> 결과를 기다리는 콜백 목록)
+    private final Map<String, List<DashboardCallback>> pendingDashboards = new HashMap<>();
+    private final Map<String, List<FirebaseManager.MembersCallback>> pendingMembers = new HashMap<>();
+
+    public interface DashboardCallback {
+        void onLoaded(ClubDashboard dashboard);
+    }
+
+    private ClubDashboardLoader() {
+        firebaseManager = FirebaseManager.getInstance();
+    }
+
+    public static synchronized ClubDashboardLoader getInstance() {
+        if (instance == null) {
+            instance = new ClubDashboardLoader();
+        }
+        return instance;
+    }
+
+    /**
+     * 동아리 홈 데이터 로드 (동아리 정보, 멤버 수, 생일, 공지, 배너, 일정, 인원 제한)
+     */
+    public void load(String clubId, DashboardCallback callback) {
+        List<DashboardCallback> waiting = pendingDashboards.get(clubId);
+        if (waiting != null) {
+            waiting.add(callback);
+            return;
+        }
+        waiting = new ArrayList<>();
+        waiting.add(callback);
+        pendingDashboards.put(clubId, waiting);
+
+        ClubDashboard dashboard = new ClubDashboard();
+        final int[] remaining = {8};
+        Runnable partDone = () -> {
+            remaining[0]--;
+            if (remaining[0] == 0) {
+                List<DashboardCallback> callbacks = pendingDashboards.remove(clubId);
+                if (callbacks != null) {
+                    for (DashboardCallback cb : callbacks) {
+                        cb.onLoaded(dashboard);
+                    }
+                }
+            }
+        };
+
+        firebaseManager.getClub(clubId, new FirebaseManager.ClubCallback() {
+            @Override
+            public void onSuccess(Club club) {
+                dashboard.setClub(club);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                dashboard.setClubError(e);
+                partDone.run();
+            }
+        });
+
+        getClubMembers(clubId, new FirebaseManager.MembersCallback() {
+            @Override
+            public void onSuccess(List<Member> members) {
+                dashboard.setMemberCount(members != null ? members.size() : 0);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                android.util.Log.w(TAG, "Failed to load members for " + clubId, e);
+                dashboard.setMemberCount(-1);
+                partDone.run();
+            }
+        });
+
+        // 생일은 인덱스 조회 결과만 사용 (동아리/날짜별 캐시)
+        MemberManager.getInstance().getTodayBirthdayMembers(clubId, new MemberManager.MembersCallback() {
+            @Override
+            public void onSuccess(List<Member> members) {
+                dashboard.setBirthdayMembers(members);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                android.util.Log.w(TAG, "Failed to load birthday members for " + clubId, e);
+                partDone.run();
+            }
+        });
+
+        firebaseManager.getNotices(new FirebaseManager.NoticeListCallback() {
+            @Override
+            public void onSuccess(List<Notice> notices) {
+                dashboard.setNotices(notices);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                dashboard.setNoticesError(e);
+                partDone.run();
+            }
+        });
+
+        firebaseManager.getBannerSlideInterval(new FirebaseManager.BannerSettingsCallback() {
+            @Override
+            public void onSuccess(long slideInterval) {
+                dashboard.setBannerSlideInterval(slideInterval);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                partDone.run();
+            }
+        });
+
+        loadBanners(clubId, dashboard, partDone);
+
+        firebaseManager.getSchedules(clubId, new FirebaseManager.ScheduleListCallback() {
+            @Override
+            public void onSuccess(List<Schedule> schedules) {
+                dashboard.setSchedules(schedules);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                dashboard.setSchedulesError(e);
+                partDone.run();
+            }
+        });
+
+        firebaseManager.getMemberLimits(new FirebaseManager.MemberLimitsCallback() {
+            @Override
+            public void onSuccess(int registerLimit, int maintainLimit) {
+                dashboard.setRegisterLimit(registerLimit);
+                dashboard.setMaintainLimit(maintainLimit);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // 기본값 사용
+                partDone.run();
+            }
+        });
+    }
+
+    /**
+     * 동아리 멤버 조회 - 같은 동아리에 대해 진행 중인 조회가 있으면 결과를 공유
+     */
+    public void getClubMembers(String clubId, FirebaseManager.MembersCallback callback) {
+        List<FirebaseManager.MembersCallback> waiting = pendingMembers.get(clubId);
+        if (waiting != null) {
+            waiting.add(callback);
+            return;
+        }
+        waiting = new ArrayList<>();
+        waiting.add(callback);
+        pendingMembers.put(clubId, waiting);
+
+        firebaseManager.getClubMembers(clubId, new FirebaseManager.MembersCallback() {
+            @Override
+            public void onSuccess(List<Member> members) {
+                List<FirebaseManager.MembersCallback> callbacks = pendingMembers.remove(clubId);
+                if (callbacks == null) return;
+                for (FirebaseManager.MembersCallback cb : callbacks) {
+                    cb.onSuccess(members);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                List<FirebaseManager.MembersCallback> callbacks = pendingMembers.remove(clubId);
+                if (callbacks == null) return;
+                for (FirebaseManager.MembersCallback cb : callbacks) {
+                    cb.onFailure(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 동아리 배너를 먼저 조회하고, 없으면 전역 배너 사용
+     */
+    private void loadBanners(String clubId, ClubDashboard dashboard, Runnable partDone) {
+        firebaseManager.getClubBanners(clubId, new FirebaseManager.BannerListCallback() {
+            @Override
+            public void onSuccess(List<Banner> clubBanners) {
+                if (clubBanners != null && !clubBanners.isEmpty()) {
+                    dashboard.setBanners(clubBanners);
+                    dashboard.setClubBanners(true);
+                    partDone.run();
+                } else {
+                    loadGlobalBanners(dashboard, partDone);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                loadGlobalBanners(dashboard, partDone);
+            }
+        });
+    }
+
+    private void loadGlobalBanners(ClubDashboard dashboard, Runnable partDone) {
+        firebaseManager.getBanners(new FirebaseManager.BannerListCallback() {
+            @Override
+            public void onSuccess(List<Banner> banners) {
+                dashboard.setBanners(banners);
+                partDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                dashboard.setBannersError(e);
+                partDone.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,465 @@
+package com.example.clubmanagement.utils;
+
+import android.util.Log;
+
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.SetOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 동아리 연쇄 삭제 엔진
+ * 동아리에 속한 데이터를 단계별로 페이지(최대 500개) 단위로 조회하고 배치로 삭제합니다.
+ * 단계가 끝날 때마다 clubDeletions/{clubId} 체크포인트에 기록하므로, 중간에 중단되어도
+ * 다시 실행하면 남은 단계부터 이어서 진행합니다. 동아리 문서는 마지막 단계에서 삭제됩니다.
+ * Firestore 콜백은 메인 스레드에서 호출되므로 별도 동기화는 하지 않습니다.
+ */
+public class ClubDeleteEngine {
+    private static final String TAG = "ClubDeleteEngine";
+
+    private static final String CHECKPOINT_COLLECTION = "clubDeletions";
+    private static final int PAGE_SIZE = BulkWriteExecutor.MAX_BATCH_SIZE;
+
+    private static ClubDeleteEngine instance;
+    private final FirebaseFirestore db;
+
+    // 현재 삭제 중인 동아리 (같은 동아리를 동시에 두 번 삭제하지 않도록)
+    private final Set<String> runningClubIds = new HashSet<>();
+
+    /**
+     * 삭제 진행 상황 콜백
+     */
+    public interface ProgressCallback {
+        void onProgress(int completedSteps, int totalSteps, String stepName);
+        void onSuccess(int deletedCount);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 단계 완료 콜백 (처리한 문서 수 전달)
+     */
+    private interface StepCallback {
+        void onComplete(int affectedCount);
+        void onFailure(Exception e);
+    }
+
+    private interface StepAction {
+        void run(StepCallback callback);
+    }
+
+    private static class Step {
+        final String name;
+        final StepAction action;
+
+        Step(String name, StepAction action) {
+            this.name = name;
+            this.action = action;
+        }
+    }
+
+    private ClubDeleteEngine() {
+        db = FirebaseFirestore.getInstance();
+    }
+
+    public static synchronized ClubDeleteEngine getInstance() {
+        if (instance == null) {
+            instance = new ClubDeleteEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * 동아리 완전 삭제 (체크포인트가 있으면 남은 단계부터 이어서 진행)
+     */
+    public void delete(String clubId, String clubName, ProgressCallback callback) {
+        if (clubId == null) {
+            callback.onFailure(new Exception("동아리 ID가 없습니다"));
+            return;
+        }
+        if (!runningClubIds.add(clubId)) {
+            callback.onFailure(new Exception("이미 삭제 중인 동아리입니다"));
+            return;
+        }
+
+        FirebaseManager.getInstance().invalidateReadCache();
+        ClubRecommendEngine.getInstance().invalidateIndex();
+
+        DocumentReference checkpointRef = db.collection(CHECKPOINT_COLLECTION).document(clubId);
+        checkpointRef.get()
+                .addOnSuccessListener(checkpoint -> {
+                    int startStep = 0;
+                    int deletedCount = 0;
+                    String name = clubName;
+                    if (checkpoint.exists()) {
+                        Long completed = checkpoint.getLong("completedSteps");
+                        Long deleted = checkpoint.getLong("deletedCount");
+                        if (completed != null) startStep = completed.intValue();
+                        if (deleted != null) deletedCount = deleted.intValue();
+                        if (name == null) name = checkpoint.getString("clubName");
+                        Log.d(TAG, "Resuming deletion of " + clubId + " from step " + startStep);
+                    }
+
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("clubId", clubId);
+                    data.put("clubName", name);
+                    data.put("completedSteps", startStep);
+                    data.put("deletedCount", deletedCount);
+                    data.put("updatedAt", Timestamp.now());
+                    if (!checkpoint.exists()) {
+                        data.put("startedAt", Timestamp.now());
+                    }
+
+                    List<Step> steps = buildSteps(clubId, name != null ? name : "동아리");
+                    int firstStep = startStep;
+                    int initialDeleted = deletedCount;
+                    checkpointRef.set(data, SetOptions.merge())
+                            .addOnSuccessListener(aVoid -> runStep(clubId, steps, firstStep, initialDeleted, callback))
+                            .addOnFailureListener(e -> fail(clubId, callback, e));
+                })
+                .addOnFailureListener(e -> fail(clubId, callback, e));
+    }
+
+    /**
+     * 중단된 삭제 작업을 모두 이어서 진행 (동아리 하나씩 순서대로)
+     * 완료된 동아리 수를 전달하며, 개별 실패는 체크포인트가 남아 다음에 다시 시도됩니다.
+     */
+    public void resumePendingDeletions(FirebaseManager.CountCallback callback) {
+        db.collection(CHECKPOINT_COLLECTION)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<DocumentSnapshot> pending = querySnapshot.getDocuments();
+                    resumeNext(pending, 0, 0, callback);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void resumeNext(List<DocumentSnapshot> pending, int index, int resumedCount,
+                            FirebaseManager.CountCallback callback) {
+        if (index >= pending.size()) {
+            callback.onSuccess(resumedCount);
+            return;
+        }
+
+        DocumentSnapshot checkpoint = pending.get(index);
+        delete(checkpoint.getId(), checkpoint.getString("clubName"), new ProgressCallback() {
+            @Override
+            public void onProgress(int completedSteps, int totalSteps, String stepName) {
+            }
+
+            @Override
+            public void onSuccess(int deletedCount) {
+                resumeNext(pending, index + 1, resumedCount + 1, callback);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.w(TAG, "Failed to resume deletion of " + checkpoint.getId(), e);
+                resumeNext(pending, index + 1, resumedCount, callback);
+            }
+        });
+    }
+
+    private void runStep(String clubId, List<Step> steps, int index, int deletedCount, ProgressCallback callback) {
+        if (index >= steps.size()) {
+            // 모든 단계 완료 - 체크포인트 제거
+            db.collection(CHECKPOINT_COLLECTION).document(clubId)
+                    .delete()
+                    .addOnCompleteListener(task -> {
+                        runningClubIds.remove(clubId);
+                        FirebaseManager.getInstance().invalidateClubCache(clubId);
+                        callback.onSuccess(deletedCount);
+                    });
+            return;
+        }
+
+        Step step = steps.get(index);
+        callback.onProgress(index, steps.size(), step.name);
+
+        step.action.run(new StepCallback() {
+            @Override
+            public void onComplete(int affectedCount) {
+                int total = deletedCount + affectedCount;
+                Map<String, Object> progress = new HashMap<>();
+                progress.put("completedSteps", index + 1);
+                progress.put("deletedCount", total);
+                progress.put("updatedAt", Timestamp.now());
+
+                db.collection(CHECKPOINT_COLLECTION).document(clubId)
+                        .update(progress)
+                        .addOnSuccessListener(aVoid -> runStep(clubId, steps, index + 1, total, callback))
+                        .addOnFailureListener(e -> fail(clubId, callback, e));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.e(TAG, "Step '" + step.name + "' failed for " + clubId, e);
+                fail(clubId, callback, e);
+            }
+        });
+    }
+
+    private void fail(String clubId, ProgressCallback callback, Exception e) {
+        runningClubIds.remove(clubId);
+        callback.onFailure(e);
+    }
+
+    /**
+     * 삭제 단계 목록 (순서가 체크포인트 번호이므로 단계를 추가할 때는 동아리 문서 삭제 앞에 추가)
+     * 부원 알림과 사용자 정보 정리는 members 삭제 전에 실행되어야 함
+     */
+    private List<Step> buildSteps(String clubId, String clubName) {
+        DocumentReference clubRef = db.collection("clubs").document(clubId);
+        List<Step> steps = new ArrayList<>();
+
+        steps.add(new Step("부원 알림", cb -> notifyMembers(clubRef.collection("members"), clubId, clubName, null, cb)));
+        steps.add(new Step("중앙동아리 정보 정리", cb -> updateUntilEmpty(
+                db.collection("users").whereEqualTo("centralClubId", clubId),
+                (writer, doc) -> writer.update(doc.getReference(), "centralClubId", null, "centralClubName", null),
+                cb)));
+        steps.add(new Step("일반동아리 정보 정리", cb -> updateUntilEmpty(
+                db.collection("users").whereArrayContains("generalClubIds", clubId),
+                (writer, doc) -> writer.update(doc.getReference(),
+                        "generalClubIds", FieldValue.arrayRemove(clubId),
+                        "generalClubNames", FieldValue.arrayRemove(clubName)),
+                cb)));
+
+        steps.add(new Step("부원", cb -> deleteUntilEmpty(clubRef.collection("members"), null, null, 0, cb)));
+        steps.add(new Step("공지", cb -> deleteUntilEmpty(clubRef.collection("notices"), "comments", null, 0, cb)));
+        steps.add(new Step("배너", cb -> deleteUntilEmpty(clubRef.collection("banners"), null, "imageUrl", 0, cb)));
+        steps.add(new Step("가입 요청", cb -> deleteUntilEmpty(clubRef.collection("join_requests"), null, null, 0, cb)));
+        steps.add(new Step("탈퇴 요청", cb -> deleteUntilEmpty(clubRef.collection("leave_requests"), null, null, 0, cb)));
+        steps.add(new Step("가입 신청서", cb -> deleteUntilEmpty(clubRef.collection("membershipApplications"), null, null, 0, cb)));
+        steps.add(new Step("Q&A", cb -> deleteUntilEmpty(clubRef.collection("qna"), "comments", null, 0, cb)));
+        steps.add(new Step("예산 거래", cb -> deleteUntilEmpty(clubRef.collection("transactions"), null, "receiptImageUrl", 0, cb)));
+        steps.add(new Step("예산 내역", cb -> deleteUntilEmpty(clubRef.collection("budgetTransactions"), null, "receiptImageUrl", 0, cb)));
+        steps.add(new Step("예산 월별 집계", cb -> deleteUntilEmpty(clubRef.collection("budgetMonths"), null, null, 0, cb)));
+
+        steps.add(new Step("일정", cb -> deleteUntilEmpty(
+                db.collection("schedules").whereEqualTo("clubId", clubId), null, null, 0, cb)));
+        steps.add(new Step("탈퇴 신청", cb -> deleteUntilEmpty(
+                db.collection("withdrawal_requests").whereEqualTo("clubId", clubId), null, null, 0, cb)));
+        steps.add(new Step("중앙동아리 신청", cb -> deleteUntilEmpty(
+                db.collection("centralClubApplications").whereEqualTo("clubId", clubId), null, null, 0, cb)));
+        steps.add(new Step("예산 거래 기록", cb -> deleteUntilEmpty(
+                db.collection("budgetTransactions").whereEqualTo("clubId", clubId), null, "receiptImageUrl", 0, cb)));
+
+        DocumentReference chatRoomRef = db.collection("chatRooms").document("group_" + clubId);
+        steps.add(new Step("단체 채팅 메시지", cb -> deleteUntilEmpty(chatRoomRef.collection("messages"), null, null, 0, cb)));
+        steps.add(new Step("단체 채팅방", cb -> deleteDocument(chatRoomRef, cb)));
+        steps.add(new Step("멤버십 인덱스", cb -> deleteDocument(
+                db.collection(FirebaseManager.MEMBERSHIP_INDEX_COLLECTION).document(clubId), cb)));
+        steps.add(new Step("동아리", cb -> deleteDocument(clubRef, cb)));
+
+        return steps;
+    }
+
+    /**
+     * 쿼리 결과가 없을 때까지 페이지 단위로 삭제 (nested 서브컬렉션이 있으면 먼저 삭제)
+     * imageField 가 있으면 배치 삭제가 끝난 뒤 그 필드의 이미지 참조를 해제합니다 (ContentStore).
+     * 삭제된 문서는 다음 조회에서 빠지므로 커서 없이 같은 쿼리를 반복합니다.
+     */
+    private void deleteUntilEmpty(Query query, String nestedCollection, String imageField, int deletedSoFar,
+                                  StepCallback callback) {
+        query.limit(PAGE_SIZE)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<DocumentSnapshot> docs = querySnapshot.getDocuments();
+                    if (docs.isEmpty()) {
+                        callback.onComplete(deletedSoFar);
+                        return;
+                    }
+
+                    deleteNested(docs, nestedCollection, 0, 0, new StepCallback() {
+                        @Override
+                        public void onComplete(int nestedDeleted) {
+                            BulkWriteExecutor writer = new BulkWriteExecutor(db);
+                            Map<String, Integer> imageRefs = new HashMap<>();
+                            for (DocumentSnapshot doc : docs) {
+                                writer.delete(doc.getReference());
+                                String imageUrl = imageField != null ? doc.getString(imageField) : null;
+                                if (imageUrl != null && !imageUrl.isEmpty()) {
+                                    Integer count = imageRefs.get(imageUrl);
+                                    imageRefs.put(imageUrl, count != null ? count + 1 : 1);
+                                }
+                            }
+                            writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                                @Override
+                                public void onProgress(int current, int total) {
+                                }
+
+                                @Override
+                                public void onSuccess(int totalSent) {
+                                    // 삭제가 끝난 뒤에 해제 - 삭제가 실패했는데 참조만 줄어 파일이 지워지는 일이 없도록
+                                    for (Map.Entry<String, Integer> entry : imageRefs.entrySet()) {
+                                        ContentStore.getInstance().release(entry.getKey(), entry.getValue());
+                                    }
+                                    int deleted = deletedSoFar + nestedDeleted + totalSent;
+                                    if (docs.size() < PAGE_SIZE) {
+                                        callback.onComplete(deleted);
+                                    } else {
+                                        deleteUntilEmpty(query, nestedCollection, imageField, deleted, callback);
+                                    }
+                                }
+
+                                @Override
+                                public void onFailure(Exception e) {
+                                    callback.onFailure(e);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    });
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 문서들의 하위 컬렉션을 하나씩 순서대로 삭제
+     */
+    private void deleteNested(List<DocumentSnapshot> docs, String nestedCollection, int index,
+                              int deletedSoFar, StepCallback callback) {
+        if (nestedCollection == null || index >= docs.size()) {
+            callback.onComplete(deletedSoFar);
+            return;
+        }
+
+        CollectionReference nested = docs.get(index).getReference().collection(nestedCollection);
+        deleteUntilEmpty(nested, null, null, 0, new StepCallback() {
+            @Override
+            public void onComplete(int affectedCount) {
+                deleteNested(docs, nestedCollection, index + 1, deletedSoFar + affectedCount, callback);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    private interface DocumentUpdater {
+        void addUpdate(BulkWriteExecutor writer, DocumentSnapshot doc);
+    }
+
+    /**
+     * 쿼리 결과가 없을 때까지 페이지 단위로 수정 (수정 후 쿼리 조건에서 빠지는 경우에만 사용)
+     */
+    private void updateUntilEmpty(Query query, DocumentUpdater updater, StepCallback callback) {
+        query.limit(PAGE_SIZE)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<DocumentSnapshot> docs = querySnapshot.getDocuments();
+                    if (docs.isEmpty()) {
+                        callback.onComplete(0);
+                        return;
+                    }
+
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
+                    for (DocumentSnapshot doc : docs) {
+                        updater.addUpdate(writer, doc);
+                    }
+                    writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                        @Override
+                        public void onProgress(int current, int total) {
+                        }
+
+                        @Override
+                        public void onSuccess(int totalSent) {
+                            // 수정한 문서 수는 삭제 수에 포함하지 않음
+                            if (docs.size() < PAGE_SIZE) {
+                                callback.onComplete(0);
+                            } else {
+                                updateUntilEmpty(query, updater, callback);
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    });
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 부원들에게 동아리 삭제 알림 저장 (문서 ID가 고정이라 재시도해도 중복되지 않음)
+     */
+    private void notifyMembers(CollectionReference members, String clubId, String clubName,
+                               DocumentSnapshot startAfter, StepCallback callback) {
+        Query query = members.orderBy(FieldPath.documentId()).limit(PAGE_SIZE);
+        if (startAfter != null) {
+            query = query.startAfter(startAfter);
+        }
+
+        query.get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<DocumentSnapshot> docs = querySnapshot.getDocuments();
+                    if (docs.isEmpty()) {
+                        callback.onComplete(0);
+                        return;
+                    }
+
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
+                    for (DocumentSnapshot doc : docs) {
+                        String userId = doc.getString("userId");
+                        if (userId == null) userId = doc.getId();
+
+                        Map<String, Object> notification = new HashMap<>();
+                        notification.put("type", "club_deleted");
+                        notification.put("clubId", clubId);
+                        notification.put("clubName", clubName);
+                        notification.put("message", "'" + clubName + "' 동아리가 관리자에 의해 삭제되었습니다.");
+                        notification.put("createdAt", System.currentTimeMillis());
+                        notification.put("read", false);
+
+                        writer.set(db.collection("users").document(userId)
+                                .collection("notifications").document("club_deleted_" + clubId), notification);
+                    }
+
+                    DocumentSnapshot last = docs.get(docs.size() - 1);
+                    writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                        @Override
+                        public void onProgress(int current, int total) {
+                        }
+
+                        @Override
+                        public void onSuccess(int totalSent) {
+                            if (docs.size() < PAGE_SIZE) {
+                                callback.onComplete(0);
+                            } else {
+                                notifyMembers(members, clubId, clubName, last, callback);
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    });
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void deleteDocument(DocumentReference ref, StepCallback callback) {
+        ref.delete()
+                .addOnSuccessListener(aVoid -> callback.onComplete(1))
+                .addOnFailureListener(callback::onFailure);
+    }
+}
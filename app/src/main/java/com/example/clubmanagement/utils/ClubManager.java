@@ -6,6 +6,7 @@ import com.example.clubmanagement.models.Club;
 import com.google.firebase.Timestamp;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
+import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -187,15 +188,24 @@ public class ClubManager {
             callback.onFailure(new Exception("Club ID cannot be null or empty"));
             return;
         }
+        FirebaseManager.getInstance().invalidateClubCache(club.getId());
 
         club.setUpdatedAt(Timestamp.now());
         if (club.getCreatedAt() == null) {
             club.setCreatedAt(Timestamp.now());
         }
 
-        db.collection("clubs")
-                .document(club.getId())
-                .set(club)
+        // 잔액은 공금 원장(BudgetManager)만 변경 - 서버 값을 유지하고 원장 필드가 지워지지 않도록 병합 저장
+        DocumentReference clubRef = db.collection("clubs").document(club.getId());
+        db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(clubRef);
+            Long balance = snapshot.exists() ? snapshot.getLong("currentBudget") : null;
+            if (balance != null) {
+                club.setCurrentBudget(balance);
+            }
+            transaction.set(clubRef, club, SetOptions.merge());
+            return null;
+        })
                 .addOnSuccessListener(aVoid -> callback.onSuccess(club))
                 .addOnFailureListener(callback::onFailure);
     }
@@ -204,6 +214,7 @@ public class ClubManager {
      * 동아리 정보 부분 업데이트
      */
     public void updateClub(String clubId, Map<String, Object> updates, SimpleCallback callback) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         updates.put("updatedAt", Timestamp.now());
 
         db.collection("clubs")
@@ -335,6 +346,7 @@ public class ClubManager {
      * 멤버 수 증가
      */
     private void incrementMemberCount(String clubId) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         db.collection("clubs")
                 .document(clubId)
                 .update("memberCount", FieldValue.increment(1))
@@ -345,6 +357,7 @@ public class ClubManager {
      * 멤버 수 감소
      */
     private void decrementMemberCount(String clubId) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         db.collection("clubs")
                 .document(clubId)
                 .update("memberCount", FieldValue.increment(-1))
@@ -382,6 +395,7 @@ public class ClubManager {
      * 가입 신청 기간 설정
      */
     public void setApplicationPeriod(String clubId, Timestamp startDate, Timestamp endDate, SimpleCallback callback) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         Map<String, Object> updates = new HashMap<>();
         updates.put("applicationStartDate", startDate);
         updates.put("applicationEndDate", endDate);
@@ -399,6 +413,7 @@ public class ClubManager {
      * 가입 신청 열기/닫기 토글
      */
     public void toggleApplicationOpen(String clubId, boolean isOpen, SimpleCallback callback) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         Map<String, Object> updates = new HashMap<>();
         updates.put("applicationOpen", isOpen);
         updates.put("updatedAt", Timestamp.now());
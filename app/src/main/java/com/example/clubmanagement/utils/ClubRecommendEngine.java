@@ -0,0 +1,236 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.Club;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 동아리 추천 엔진
+ * 동아리 키워드를 비트마스크로 미리 변환해 두고, 점수는 비트 교집합의 popcount로 계산합니다.
+ * 상위 K개만 크기가 제한된 힙으로 골라내며, 인덱스는 키워드가 수정될 때만 다시 만듭니다.
+ * (Club.calculateRecommendScore 와 같은 점수를 냅니다)
+ */
+public class ClubRecommendEngine {
+
+    // 키워드 분류별 가중치 (Club.calculateRecommendScore 와 동일)
+    public static final int CHRISTIAN_WEIGHT = 30;
+    public static final int ATMOSPHERE_WEIGHT = 20;
+    public static final int KEYWORD_WEIGHT = 15;
+    // 키워드는 있지만 하나도 맞지 않는 동아리의 기본 점수
+    public static final int KEYWORD_ONLY_SCORE = 5;
+
+    // 인덱스 최대 유지 시간 (다른 기기에서 추가/수정된 동아리 반영용 안전장치)
+    private static final long INDEX_MAX_AGE_MS = 30 * 60 * 1000L;
+
+    private static ClubRecommendEngine instance;
+
+    private Index index;
+
+    /**
+     * 추천 결과 (점수 내림차순)
+     */
+    public static class Result {
+        public final List<Club> clubs;
+        public final List<Integer> scores;
+
+        Result(List<Club> clubs, List<Integer> scores) {
+            this.clubs = clubs;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * 동아리별 키워드 비트마스크 인덱스
+     * 키워드 수에 제한이 없도록 동아리마다 long 을 words 개씩 사용 (키워드 64개마다 1개)
+     */
+    public static class Index {
+        private final Club[] clubs;
+        // 동아리 i 의 마스크는 masks[i * words] ~ masks[i * words + words - 1]
+        private final long[] masks;
+        private final boolean[] hasKeywords;
+        // 키워드 -> 비트 위치 (예: "activity:sports" -> 4)
+        private final Map<String, Integer> keywordBits = new HashMap<>();
+        private final int words;
+        private final long[] christianMask;
+        private final long[] atmosphereMask;
+        private final long createdAt;
+
+        public Index(List<Club> clubList) {
+            int size = clubList != null ? clubList.size() : 0;
+            clubs = new Club[size];
+            hasKeywords = new boolean[size];
+            createdAt = System.currentTimeMillis();
+
+            // 1차: 전체 키워드에 비트 위치 배정 (마스크 길이를 정하기 위해)
+            for (int i = 0; i < size; i++) {
+                Club club = clubList.get(i);
+                clubs[i] = club;
+                hasKeywords[i] = club.hasKeywords();
+                for (String keyword : keywordsOf(club)) {
+                    if (!keywordBits.containsKey(keyword)) {
+                        keywordBits.put(keyword, keywordBits.size());
+                    }
+                }
+            }
+
+            // 2차: 동아리별 마스크 생성
+            words = Math.max(1, (keywordBits.size() + 63) / 64);
+            masks = new long[size * words];
+            christianMask = new long[words];
+            atmosphereMask = new long[words];
+            for (int i = 0; i < size; i++) {
+                Club club = clubs[i];
+                for (String keyword : keywordsOf(club)) {
+                    setBit(masks, i * words, keyword);
+                }
+                if (club.isChristian()) {
+                    setBit(christianMask, 0, "christian");
+                }
+                if (club.getAtmosphere() != null) {
+                    setBit(atmosphereMask, 0, "atmosphere:" + club.getAtmosphere());
+                }
+            }
+        }
+
+        private static List<String> keywordsOf(Club club) {
+            List<String> keywords = new ArrayList<>();
+            if (club.isChristian()) keywords.add("christian");
+            if (club.getAtmosphere() != null) keywords.add("atmosphere:" + club.getAtmosphere());
+            for (String type : club.getActivityTypes()) keywords.add("activity:" + type);
+            for (String purpose : club.getPurposes()) keywords.add("purpose:" + purpose);
+            return keywords;
+        }
+
+        /**
+         * 키워드의 비트를 켬 (인덱스에 없는 키워드는 어떤 동아리와도 맞지 않으므로 무시)
+         */
+        private void setBit(long[] target, int offset, String keyword) {
+            Integer bit = keywordBits.get(keyword);
+            if (bit == null) return;
+            target[offset + (bit >>> 6)] |= 1L << bit;
+        }
+
+        /**
+         * 사용자 선택을 비트마스크로 변환
+         */
+        public long[] queryMask(boolean wantChristian, String wantAtmosphere,
+                                List<String> wantActivityTypes, List<String> wantPurposes) {
+            long[] mask = new long[words];
+            if (wantChristian) setBit(mask, 0, "christian");
+            if (wantAtmosphere != null) setBit(mask, 0, "atmosphere:" + wantAtmosphere);
+            if (wantActivityTypes != null) {
+                for (String type : wantActivityTypes) setBit(mask, 0, "activity:" + type);
+            }
+            if (wantPurposes != null) {
+                for (String purpose : wantPurposes) setBit(mask, 0, "purpose:" + purpose);
+            }
+            return mask;
+        }
+
+        /**
+         * 비트 교집합 popcount 기반 점수
+         */
+        public int score(int position, long[] queryMask) {
+            int offset = position * words;
+            int score = 0;
+            for (int w = 0; w < words; w++) {
+                long matched = masks[offset + w] & queryMask[w];
+                if (matched == 0L) continue;
+                score += CHRISTIAN_WEIGHT * Long.bitCount(matched & christianMask[w])
+                        + ATMOSPHERE_WEIGHT * Long.bitCount(matched & atmosphereMask[w])
+                        + KEYWORD_WEIGHT * Long.bitCount(matched & ~(christianMask[w] | atmosphereMask[w]));
+            }
+            return score;
+        }
+
+        public int size() {
+            return clubs.length;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > INDEX_MAX_AGE_MS;
+        }
+    }
+
+    public static synchronized ClubRecommendEngine getInstance() {
+        if (instance == null) {
+            instance = new ClubRecommendEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * 캐시된 인덱스 (없거나 만료되었으면 null)
+     */
+    public synchronized Index getCachedIndex() {
+        if (index == null || index.isExpired()) return null;
+        return index;
+    }
+
+    /**
+     * 동아리 목록으로 인덱스 생성 후 캐시
+     */
+    public synchronized Index rebuildIndex(List<Club> clubs) {
+        index = new Index(clubs);
+        return index;
+    }
+
+    /**
+     * 동아리 키워드가 수정되었을 때 호출 - 다음 추천 시 인덱스를 다시 만듦
+     */
+    public synchronized void invalidateIndex() {
+        index = null;
+    }
+
+    /**
+     * 상위 K개 추천 (점수가 있거나 키워드가 설정된 동아리만, 같은 점수는 원래 순서 유지)
+     */
+    public static Result recommend(Index index, boolean wantChristian, String wantAtmosphere,
+                                   List<String> wantActivityTypes, List<String> wantPurposes, int limit) {
+        List<Club> resultClubs = new ArrayList<>();
+        List<Integer> resultScores = new ArrayList<>();
+        if (index == null || limit <= 0) {
+            return new Result(resultClubs, resultScores);
+        }
+
+        long[] queryMask = index.queryMask(wantChristian, wantAtmosphere, wantActivityTypes, wantPurposes);
+
+        // 최소 힙: 가장 낮은 순위가 맨 위 (점수 낮은 순, 같은 점수면 나중 위치)
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1, (a, b) -> {
+            if (a[0] != b[0]) return Long.compare(a[0], b[0]);
+            return Long.compare(b[1], a[1]);
+        });
+
+        for (int i = 0; i < index.size(); i++) {
+            int score = index.score(i, queryMask);
+            if (score == 0) {
+                if (!index.hasKeywords[i]) continue;
+                score = KEYWORD_ONLY_SCORE;
+            }
+
+            if (heap.size() < limit) {
+                heap.offer(new long[]{score, i});
+            } else if (score > heap.peek()[0]) {
+                // 같은 점수는 먼저 들어온 동아리가 우선이므로 교체하지 않음
+                heap.poll();
+                heap.offer(new long[]{score, i});
+            }
+        }
+
+        List<long[]> ranked = new ArrayList<>(heap);
+        Collections.sort(ranked, (a, b) -> {
+            if (a[0] != b[0]) return Long.compare(b[0], a[0]);
+            return Long.compare(a[1], b[1]);
+        });
+        for (long[] entry : ranked) {
+            resultClubs.add(index.clubs[(int) entry[1]]);
+            resultScores.add((int) entry[0]);
+        }
+        return new Result(resultClubs, resultScores);
+    }
+}
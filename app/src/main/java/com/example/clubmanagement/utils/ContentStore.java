@@ -0,0 +1,275 @@
+package com.example.clubmanagement.utils;
+
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.storage.FirebaseStorage;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내용 기반(content-addressed) 이미지 저장소
+ * 업로드할 바이트의 SHA-256 을 파일 이름으로 사용하고({폴더}/{해시}.{확장자}),
+ * storageObjects 컬렉션에 경로별 다운로드 URL과 참조 수를 기록합니다.
+ * 같은 내용이 이미 올라가 있으면 업로드 없이 참조 수만 늘려 기존 URL을 재사용하고,
+ * 마지막 참조가 해제되면 색인을 삭제 중(deleting) 상태로 바꾼 뒤 원본/축소본 파일을 지우고 색인 문서를 삭제합니다.
+ * 삭제 중인 경로는 재사용하거나 새로 등록할 수 없으므로, 같은 내용을 다시 올리는 업로드가 지워지지 않습니다.
+ * 색인이 없는 이전 URL은 참조 수 관리 대상이 아닙니다.
+ */
+public class ContentStore {
+    private static final String TAG = "ContentStore";
+
+    static final String COLLECTION = "storageObjects";
+
+    private static final String DOWNLOAD_PATH_MARKER = "/o/";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    // 파일 삭제 도중 앱이 종료되어 남은 삭제 표시는 이 시간이 지나면 없는 것으로 봄
+    private static final long TOMBSTONE_TTL_MS = 10 * 60 * 1000L;
+
+    /**
+     * 삭제 중인 경로에 등록하려 할 때 - 업로드한 파일이 곧 지워질 수 있으므로 URL을 쓰지 말고 나중에 다시 올릴 것
+     */
+    public static class PendingDeleteException extends IllegalStateException {
+        PendingDeleteException(String path) {
+            super("삭제 중인 이미지입니다. 잠시 후 다시 시도해주세요: " + path);
+        }
+    }
+
+    private static ContentStore instance;
+
+    private final FirebaseFirestore db;
+    private final FirebaseStorage storage;
+
+    private ContentStore() {
+        db = FirebaseFirestore.getInstance();
+        storage = FirebaseStorage.getInstance();
+    }
+
+    public static synchronized ContentStore getInstance() {
+        if (instance == null) {
+            instance = new ContentStore();
+        }
+        return instance;
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 (소문자 16진수)
+     */
+    public static String sha256Hex(byte[] data) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 Java/Android 런타임이 SHA-256 을 지원
+            throw new IllegalStateException(e);
+        }
+        return toHex(digest.digest(data));
+    }
+
+    /**
+     * 해시 값을 소문자 16진수 문자열로
+     */
+    static String toHex(byte[] hash) {
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[hash[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 내용 해시로 만든 업로드 경로 (signatures/u1 + png -> signatures/u1/{해시}.png)
+     */
+    public static String objectPath(String folder, String hash, String extension) {
+        return folder + "/" + hash + "." + extension;
+    }
+
+    /**
+     * 다운로드 URL의 Storage 객체 경로 (Firebase Storage URL이 아니면 null)
+     */
+    static String pathOf(String downloadUrl) {
+        String url = ImageVariants.original(downloadUrl);
+        if (url == null) return null;
+        int start = url.indexOf(DOWNLOAD_PATH_MARKER);
+        if (start < 0) return null;
+        start += DOWNLOAD_PATH_MARKER.length();
+        int end = url.indexOf('?', start);
+        try {
+            return URLDecoder.decode(end < 0 ? url.substring(start) : url.substring(start, end), "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 같은 내용이 이미 올라가 있으면 참조 수를 1 늘리고 저장된 URL 반환, 없으면 null
+     */
+    public Task<String> acquire(String path) {
+        DocumentReference ref = indexDoc(path);
+        return db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(ref);
+            String url = snapshot.exists() && !isTombstone(snapshot) ? snapshot.getString("url") : null;
+            if (url == null) return null;
+            transaction.update(ref, "refCount", FieldValue.increment(1),
+                    "lastUsedAt", FieldValue.serverTimestamp());
+            return url;
+        });
+    }
+
+    /**
+     * 업로드를 마친 객체를 참조 수 1로 등록
+     * 그사이 같은 내용이 먼저 등록되었으면 그 항목의 참조 수를 늘리고 먼저 등록된 URL 반환
+     * 같은 경로가 삭제 중이면 PendingDeleteException 으로 실패
+     */
+    public Task<String> register(String path, String url) {
+        DocumentReference ref = indexDoc(path);
+        return db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(ref);
+            boolean tombstone = snapshot.exists() && isTombstone(snapshot);
+            if (tombstone && !isStale(snapshot)) {
+                throw new PendingDeleteException(path);
+            }
+            // 오래된 삭제 표시는 삭제가 중단된 것이므로 새 업로드로 덮어씀
+            String existingUrl = snapshot.exists() && !tombstone ? snapshot.getString("url") : null;
+            if (existingUrl != null) {
+                transaction.update(ref, "refCount", FieldValue.increment(1),
+                        "lastUsedAt", FieldValue.serverTimestamp());
+                return existingUrl;
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("path", path);
+            data.put("url", url);
+            data.put("refCount", 1);
+            data.put("createdAt", FieldValue.serverTimestamp());
+            data.put("lastUsedAt", FieldValue.serverTimestamp());
+            transaction.set(ref, data);
+            return url;
+        });
+    }
+
+    /**
+     * 같은 URL을 count 곳에서 더 참조하게 될 때 (색인이 없는 URL은 무시)
+     */
+    public Task<Void> retain(String url, int count) {
+        String path = pathOf(url);
+        if (path == null || count <= 0) return Tasks.forResult(null);
+
+        DocumentReference ref = indexDoc(path);
+        return db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(ref);
+            if (snapshot.exists() && !isTombstone(snapshot)) {
+                transaction.update(ref, "refCount", FieldValue.increment(count),
+                        "lastUsedAt", FieldValue.serverTimestamp());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 참조 count 개 해제 - 남은 참조가 없으면 색인에 삭제 표시 후 Storage 파일과 색인 삭제
+     * 결과는 색인에 있던 URL인지 여부 (false 면 이전 방식 URL이므로 호출한 쪽에서 처리)
+     */
+    public Task<Boolean> release(String url, int count) {
+        String path = pathOf(url);
+        if (path == null || count <= 0) return Tasks.forResult(false);
+
+        DocumentReference ref = indexDoc(path);
+        final String[] storedUrl = {null};
+        return db.runTransaction(transaction -> {
+            // 트랜잭션은 충돌 시 다시 실행되므로 이전 시도의 결과를 지움
+            storedUrl[0] = null;
+            DocumentSnapshot snapshot = transaction.get(ref);
+            if (!snapshot.exists()) return false;
+            // 이미 다른 해제가 삭제 중
+            if (isTombstone(snapshot)) return true;
+
+            Long refCount = snapshot.getLong("refCount");
+            long remaining = (refCount != null ? refCount : 0) - count;
+            if (remaining > 0) {
+                transaction.update(ref, "refCount", remaining);
+            } else {
+                String indexedUrl = snapshot.getString("url");
+                storedUrl[0] = indexedUrl != null ? indexedUrl : url;
+                // 바로 지우지 않고 삭제 표시 - 파일을 지우는 동안 같은 경로의 재사용/등록을 막음
+                transaction.update(ref, "refCount", 0,
+                        "deleting", true,
+                        "deletingAt", FieldValue.serverTimestamp());
+            }
+            return true;
+        }).onSuccessTask(indexed -> {
+            if (storedUrl[0] == null) {
+                return Tasks.forResult(indexed);
+            }
+            return deleteObjects(storedUrl[0])
+                    .continueWithTask(deleted -> clearTombstone(ref))
+                    .continueWith(cleared -> {
+                        if (!cleared.isSuccessful()) {
+                            Log.w(TAG, "Failed to clear tombstone " + path, cleared.getException());
+                        }
+                        return indexed;
+                    });
+        });
+    }
+
+    public Task<Boolean> release(String url) {
+        return release(url, 1);
+    }
+
+    /**
+     * 원본과 모든 축소본 파일 삭제 (실패는 로그만 남김) - 모든 삭제가 끝나면 완료
+     */
+    private Task<List<Task<?>>> deleteObjects(String url) {
+        List<Task<?>> deletes = new ArrayList<>();
+        for (String objectUrl : ImageVariants.allUrls(url)) {
+            deletes.add(storage.getReferenceFromUrl(objectUrl).delete()
+                    .addOnFailureListener(e -> Log.w(TAG, "Failed to delete " + objectUrl, e)));
+        }
+        return Tasks.whenAllComplete(deletes);
+    }
+
+    /**
+     * 파일 삭제를 마친 뒤 삭제 표시가 남아 있으면 색인 문서 삭제
+     */
+    private Task<Void> clearTombstone(DocumentReference ref) {
+        return db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(ref);
+            if (snapshot.exists() && isTombstone(snapshot)) {
+                transaction.delete(ref);
+            }
+            return null;
+        });
+    }
+
+    private static boolean isTombstone(DocumentSnapshot snapshot) {
+        return Boolean.TRUE.equals(snapshot.getBoolean("deleting"));
+    }
+
+    /**
+     * 삭제 표시 후 TOMBSTONE_TTL_MS 가 지났는지 (파일 삭제 도중 중단된 경우)
+     */
+    private static boolean isStale(DocumentSnapshot snapshot) {
+        Timestamp deletingAt = snapshot.getTimestamp("deletingAt");
+        return deletingAt != null
+                && System.currentTimeMillis() - deletingAt.toDate().getTime() >= TOMBSTONE_TTL_MS;
+    }
+
+    private DocumentReference indexDoc(String path) {
+        // 문서 ID에는 '/'를 쓸 수 없음
+        return db.collection(COLLECTION).document(path.replace('/', '|'));
+    }
+}
@@ -11,7 +11,6 @@ import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.WriteBatch;
 import com.google.firebase.storage.FirebaseStorage;
-import com.google.firebase.storage.StorageReference;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,10 +23,27 @@ public class FirebaseManager {
     private final FirebaseStorage storage;
     private final FirebaseAuth auth;
 
+    // 자주 반복되는 단건 조회용 메모리 캐시 (TTL + LRU)
+    // 모델 객체는 호출 측에서 수정하므로 변경 불가능한 스냅샷을 캐시하고, 조회할 때마다 새 객체로 변환
+    private static final long CLUB_CACHE_TTL_MS = 60 * 1000L;
+    private static final long USER_CACHE_TTL_MS = 30 * 1000L;
+    private static final long SETTINGS_CACHE_TTL_MS = 5 * 60 * 1000L;
+    private final ReadCache<com.google.firebase.firestore.DocumentSnapshot> clubCache =
+            new ReadCache<>("clubs", CLUB_CACHE_TTL_MS, 100);
+    private final ReadCache<com.google.firebase.firestore.DocumentSnapshot> userCache =
+            new ReadCache<>("users", USER_CACHE_TTL_MS, 200);
+    private final ReadCache<Object> settingsCache =
+            new ReadCache<>("settings", SETTINGS_CACHE_TTL_MS, 20);
+
     private FirebaseManager() {
         db = FirebaseFirestore.getInstance();
         storage = FirebaseStorage.getInstance();
         auth = FirebaseAuth.getInstance();
+
+        // 로그아웃/계정 전환 시 사용자 캐시 비우기
+        auth.addAuthStateListener(firebaseAuth -> {
+            userCache.invalidateAll();
+        });
     }
 
     public static synchronized FirebaseManager getInstance() {
@@ -59,45 +75,73 @@ public class FirebaseManager {
     }
 
     // ========================================
-    // Signature Methods
+    // Read Cache
     // ========================================
 
-    public interface SignatureCallback {
-        void onSuccess(String downloadUrl);
-        void onFailure(Exception e);
+    /**
+     * 동아리 문서 캐시 무효화 (동아리 정보/멤버를 수정하는 메서드에서 호출)
+     * 멤버 구성이 바뀌었을 수 있으므로 생일 캐시도 함께 비움
+     */
+    public void invalidateClubCache(String clubId) {
+        clubCache.invalidate(clubId);
+        MemberManager.getInstance().invalidateBirthdayCache(clubId);
+    }
+
+    /**
+     * 사용자 문서 캐시 무효화 (사용자 정보를 수정하는 메서드에서 호출)
+     */
+    public void invalidateUserCache(String userId) {
+        userCache.invalidate(userId);
+    }
+
+    /**
+     * 쓰기 완료 후 다시 무효화할 리스너
+     * 쓰기 전에 무효화한 뒤 쓰기가 끝나기 전에 시작된 조회가 이전 문서를 다시 캐시할 수 있으므로,
+     * 쓰기 작업에 붙여 완료(성공/실패) 시점에 한 번 더 비웁니다. clubId/userId 는 null 이면 건너뜀
+     */
+    public <T> com.google.android.gms.tasks.OnCompleteListener<T> invalidateAfterWrite(String clubId, String userId) {
+        return task -> {
+            if (clubId != null) invalidateClubCache(clubId);
+            if (userId != null) invalidateUserCache(userId);
+        };
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateReadCache() {
+        clubCache.invalidateAll();
+        userCache.invalidateAll();
+        settingsCache.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/실패 통계 (Firestore 읽기 절감 확인용)
+     */
+    public String getReadCacheStats() {
+        return clubCache + ", " + userCache + ", " + settingsCache;
     }
 
+    // ========================================
+    // Signature Methods
+    // ========================================
+
     public interface SignatureDataCallback {
         void onSuccess(SignatureData signatureData);
         void onFailure(Exception e);
     }
 
     /**
-     * 서명 이미지를 Storage에 업로드
+     * 서명 이미지(PNG)를 업로드 대기열에 추가 (업로드가 끝나면 signatures/{userId} 에 기록)
+     * 콜백은 대기열에 저장된 시점에 호출되며, 업로드는 앱이 종료되어도 WorkManager가 이어서 진행합니다.
      */
-    public void uploadSignatureImage(byte[] imageData, String userId, String origin, SignatureCallback callback) {
-        String fileName = userId + "_" + origin + "_" + System.currentTimeMillis() + ".png";
-        StorageReference signatureRef = storage.getReference()
-                .child("signatures/" + userId + "/" + fileName);
-
-        signatureRef.putBytes(imageData)
-                .addOnSuccessListener(taskSnapshot -> {
-                    signatureRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        String downloadUrl = uri.toString();
-                        updateSignatureData(userId, downloadUrl, origin, new SignatureDataCallback() {
-                            @Override
-                            public void onSuccess(SignatureData signatureData) {
-                                callback.onSuccess(downloadUrl);
-                            }
-
-                            @Override
-                            public void onFailure(Exception e) {
-                                callback.onFailure(e);
-                            }
-                        });
-                    }).addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
+    public void enqueueSignatureUpload(android.content.Context context, byte[] imageData, String userId,
+                                       String origin, SimpleCallback callback) {
+        Map<String, String> params = new HashMap<>();
+        params.put(UploadQueue.PARAM_USER_ID, userId);
+        params.put(UploadQueue.PARAM_ORIGIN, origin);
+        UploadQueue.getInstance(context).enqueue(imageData, ImageUploadPipeline.Format.PNG,
+                "signatures/" + userId, UploadQueue.KIND_SIGNATURE, params, callback);
     }
 
     /**
@@ -116,9 +160,10 @@ public class FirebaseManager {
         signatureData.put("lastUpdated", Timestamp.now());
         signatureData.put("userId", userId);
 
+        // 다른 방식의 서명 URL은 유지
         db.collection("signatures")
                 .document(userId)
-                .set(signatureData)
+                .set(signatureData, com.google.firebase.firestore.SetOptions.merge())
                 .addOnSuccessListener(aVoid -> {
                     getSignatureData(userId, callback);
                 })
@@ -144,22 +189,18 @@ public class FirebaseManager {
     }
 
     /**
-     * 서명 삭제
+     * 서명 삭제 - 서명 파일은 다른 문서와 공유될 수 있으므로 직접 지우지 않고 참조만 해제
      */
     public void deleteSignature(String userId, SignatureDataCallback callback) {
-        db.collection("signatures")
-                .document(userId)
-                .delete()
-                .addOnSuccessListener(aVoid -> {
-                    // Storage에서도 삭제
-                    StorageReference userSignaturesRef = storage.getReference()
-                            .child("signatures/" + userId);
-
-                    userSignaturesRef.listAll()
-                            .addOnSuccessListener(listResult -> {
-                                for (StorageReference item : listResult.getItems()) {
-                                    item.delete();
-                                }
+        com.google.firebase.firestore.DocumentReference ref = db.collection("signatures").document(userId);
+        ref.get()
+                .addOnSuccessListener(documentSnapshot -> {
+                    String padUrl = documentSnapshot.getString("signaturePadUrl");
+                    String imageUrl = documentSnapshot.getString("signatureImageUrl");
+                    ref.delete()
+                            .addOnSuccessListener(aVoid -> {
+                                releaseReplacedImage(padUrl);
+                                releaseReplacedImage(imageUrl);
                                 callback.onSuccess(null);
                             })
                             .addOnFailureListener(callback::onFailure);
@@ -291,13 +332,20 @@ public class FirebaseManager {
             return;
         }
 
+        com.google.firebase.firestore.DocumentSnapshot cached = userCache.get(userId);
+        if (cached != null) {
+            callback.onSuccess(cached.toObject(com.example.clubmanagement.models.UserData.class));
+            return;
+        }
+
+        long generation = userCache.currentGeneration();
         db.collection("users")
                 .document(userId)
                 .get()
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
-                        com.example.clubmanagement.models.UserData userData = documentSnapshot.toObject(com.example.clubmanagement.models.UserData.class);
-                        callback.onSuccess(userData);
+                        userCache.put(userId, documentSnapshot, generation);
+                        callback.onSuccess(documentSnapshot.toObject(com.example.clubmanagement.models.UserData.class));
                     } else {
                         callback.onSuccess(null);
                     }
@@ -310,10 +358,12 @@ public class FirebaseManager {
      */
     public void setUserAdminLevel(String userId, String adminLevel, String clubId, SimpleCallback callback) {
         com.example.clubmanagement.models.UserData userData = new com.example.clubmanagement.models.UserData(userId, adminLevel, clubId);
+        invalidateUserCache(userId);
 
         db.collection("users")
                 .document(userId)
                 .set(userData)
+                .addOnCompleteListener(invalidateAfterWrite(null, userId))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -683,37 +733,12 @@ public class FirebaseManager {
     }
 
     /**
-     * Upload carousel image to Storage
+     * Upload carousel image to Storage (백그라운드 축소/인코딩 후 업로드, 같은 이미지는 재사용)
      */
-    public void uploadCarouselImage(byte[] imageData, int position, SignatureCallback callback) {
-        String fileName = "carousel_" + position + "_" + System.currentTimeMillis() + ".png";
-        StorageReference imageRef = storage.getReference()
-                .child("carousel/" + fileName);
-
-        imageRef.putBytes(imageData)
-                .addOnSuccessListener(taskSnapshot -> {
-                    imageRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        callback.onSuccess(uri.toString());
-                    }).addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
-    }
-
-    /**
-     * Upload carousel image to Storage by club ID
-     */
-    public void uploadCarouselImage(String clubId, byte[] imageData, SignatureCallback callback) {
-        String fileName = "carousel_" + clubId + "_" + System.currentTimeMillis() + ".jpg";
-        StorageReference imageRef = storage.getReference()
-                .child("carousel/" + fileName);
-
-        imageRef.putBytes(imageData)
-                .addOnSuccessListener(taskSnapshot -> {
-                    imageRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        callback.onSuccess(uri.toString());
-                    }).addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
+    public void uploadCarouselImage(android.content.Context context, Uri imageUri,
+                                    ImageUploadPipeline.UploadCallback callback) {
+        ImageUploadPipeline.getInstance(context).upload(imageUri, ImageUploadPipeline.Preset.CAROUSEL,
+                "carousel", callback);
     }
 
     /**
@@ -896,21 +921,36 @@ public class FirebaseManager {
 
         banner.setUpdatedAt(Timestamp.now());
 
-        db.collection("banners")
-                .document(banner.getId())
-                .set(banner)
-                .addOnSuccessListener(aVoid -> callback.onSuccess(banner))
+        com.google.firebase.firestore.DocumentReference bannerRef = db.collection("banners").document(banner.getId());
+        bannerRef.get()
+                .addOnSuccessListener(oldDoc -> bannerRef.set(banner)
+                        .addOnSuccessListener(aVoid -> {
+                            // 이미지가 바뀌었으면 이전 이미지 참조 해제
+                            String oldImageUrl = oldDoc.getString("imageUrl");
+                            if (oldImageUrl != null && !oldImageUrl.equals(banner.getImageUrl())) {
+                                releaseReplacedImage(oldImageUrl);
+                            }
+                            callback.onSuccess(banner);
+                        })
+                        .addOnFailureListener(callback::onFailure))
                 .addOnFailureListener(callback::onFailure);
     }
 
     /**
-     * Delete banner
+     * Delete banner (이미지는 다른 곳에서 쓰지 않을 때만 Storage에서 삭제)
      */
     public void deleteBanner(String bannerId, SimpleCallback callback) {
-        db.collection("banners")
-                .document(bannerId)
-                .delete()
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
+        com.google.firebase.firestore.DocumentReference bannerRef = db.collection("banners").document(bannerId);
+        bannerRef.get()
+                .addOnSuccessListener(doc -> bannerRef.delete()
+                        .addOnSuccessListener(aVoid -> {
+                            String imageUrl = doc.getString("imageUrl");
+                            if (imageUrl != null && !imageUrl.isEmpty()) {
+                                ContentStore.getInstance().release(imageUrl);
+                            }
+                            callback.onSuccess();
+                        })
+                        .addOnFailureListener(callback::onFailure))
                 .addOnFailureListener(callback::onFailure);
     }
 
@@ -927,13 +967,24 @@ public class FirebaseManager {
                         return;
                     }
 
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
+                    Map<String, Integer> imageRefs = new HashMap<>();
                     for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        batch.delete(doc.getReference());
+                        writer.delete(doc.getReference());
+                        countImageRef(imageRefs, doc.getString("imageUrl"));
                     }
-                    batch.commit()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess())
-                            .addOnFailureListener(callback::onFailure);
+                    writer.execute(toProgressCallback(new SimpleCallback() {
+                        @Override
+                        public void onSuccess() {
+                            releaseImageRefs(imageRefs);
+                            callback.onSuccess();
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    }));
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -962,27 +1013,35 @@ public class FirebaseManager {
                     bannerData.put("createdAt", Timestamp.now());
                     bannerData.put("updatedAt", Timestamp.now());
 
-                    // 각 동아리에 배너 추가
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
-                    int clubCount = 0;
-
+                    // 각 동아리에 배너 추가 (500개 단위 배치로 나눠서 커밋)
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
                     for (com.google.firebase.firestore.DocumentSnapshot clubDoc : querySnapshot) {
                         String clubId = clubDoc.getId();
                         // 각 동아리의 banners 서브컬렉션에 추가
                         com.google.firebase.firestore.DocumentReference bannerRef =
                                 db.collection("clubs").document(clubId)
                                         .collection("banners").document();
-                        batch.set(bannerRef, bannerData);
-                        clubCount++;
+                        writer.set(bannerRef, bannerData);
                     }
 
-                    final int totalClubs = clubCount;
-                    batch.commit()
-                            .addOnSuccessListener(aVoid -> {
-                                android.util.Log.d("FirebaseManager", totalClubs + "개 동아리에 배너 추가 완료");
-                                callback.onSuccess();
-                            })
-                            .addOnFailureListener(callback::onFailure);
+                    writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                        @Override
+                        public void onProgress(int current, int total) {
+                        }
+
+                        @Override
+                        public void onSuccess(int totalSent) {
+                            android.util.Log.d("FirebaseManager", totalSent + "개 동아리에 배너 추가 완료");
+                            // 업로드가 참조 하나를 가지고 있으므로 나머지 동아리 수만큼 참조 추가
+                            ContentStore.getInstance().retain(imageUrl, totalSent - 1);
+                            callback.onSuccess();
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    });
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -1000,58 +1059,72 @@ public class FirebaseManager {
                         return;
                     }
 
-                    // 각 동아리의 글로벌 배너를 순차적으로 삭제
-                    final int[] processedCount = {0};
+                    // 동아리별 글로벌 배너를 조회한 뒤, 삭제는 한 번에 배치로 실행
                     final int totalClubs = querySnapshot.size();
+                    final int[] processedCount = {0};
                     final boolean[] hasError = {false};
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
+                    Map<String, Integer> imageRefs = new HashMap<>();
 
                     for (com.google.firebase.firestore.DocumentSnapshot clubDoc : querySnapshot) {
-                        String clubId = clubDoc.getId();
-
-                        db.collection("clubs").document(clubId)
+                        db.collection("clubs").document(clubDoc.getId())
                                 .collection("banners")
                                 .whereEqualTo("isGlobal", true)
                                 .get()
-                                .addOnSuccessListener(bannerSnapshot -> {
-                                    if (!bannerSnapshot.isEmpty()) {
-                                        com.google.firebase.firestore.WriteBatch batch = db.batch();
-                                        for (com.google.firebase.firestore.DocumentSnapshot bannerDoc : bannerSnapshot) {
-                                            batch.delete(bannerDoc.getReference());
+                                .addOnCompleteListener(task -> {
+                                    if (task.isSuccessful() && task.getResult() != null) {
+                                        for (com.google.firebase.firestore.DocumentSnapshot bannerDoc : task.getResult()) {
+                                            writer.delete(bannerDoc.getReference());
+                                            countImageRef(imageRefs, bannerDoc.getString("imageUrl"));
                                         }
-                                        batch.commit()
-                                                .addOnCompleteListener(task -> {
-                                                    processedCount[0]++;
-                                                    if (processedCount[0] >= totalClubs) {
-                                                        if (hasError[0]) {
-                                                            callback.onFailure(new Exception("일부 동아리에서 배너 삭제 실패"));
-                                                        } else {
-                                                            callback.onSuccess();
-                                                        }
-                                                    }
-                                                });
                                     } else {
-                                        processedCount[0]++;
-                                        if (processedCount[0] >= totalClubs) {
+                                        hasError[0] = true;
+                                    }
+
+                                    processedCount[0]++;
+                                    if (processedCount[0] < totalClubs) return;
+
+                                    writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                                        @Override
+                                        public void onProgress(int current, int total) {
+                                        }
+
+                                        @Override
+                                        public void onSuccess(int totalSent) {
+                                            releaseImageRefs(imageRefs);
                                             if (hasError[0]) {
                                                 callback.onFailure(new Exception("일부 동아리에서 배너 삭제 실패"));
                                             } else {
                                                 callback.onSuccess();
                                             }
                                         }
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    hasError[0] = true;
-                                    processedCount[0]++;
-                                    if (processedCount[0] >= totalClubs) {
-                                        callback.onFailure(new Exception("일부 동아리에서 배너 삭제 실패"));
-                                    }
+
+                                        @Override
+                                        public void onFailure(Exception e) {
+                                            callback.onFailure(new Exception("일부 동아리에서 배너 삭제 실패", e));
+                                        }
+                                    });
                                 });
                     }
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
+    private static void countImageRef(Map<String, Integer> imageRefs, String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) return;
+        Integer count = imageRefs.get(imageUrl);
+        imageRefs.put(imageUrl, count != null ? count + 1 : 1);
+    }
+
+    /**
+     * 삭제한 문서들이 참조하던 이미지를 URL별로 한 번에 해제
+     */
+    private static void releaseImageRefs(Map<String, Integer> imageRefs) {
+        for (Map.Entry<String, Integer> entry : imageRefs.entrySet()) {
+            ContentStore.getInstance().release(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * 특정 동아리의 배너 목록 가져오기
      */
@@ -1085,16 +1158,21 @@ public class FirebaseManager {
      * Get banner slide interval (in milliseconds)
      */
     public void getBannerSlideInterval(BannerSettingsCallback callback) {
+        Object cached = settingsCache.get("banner_settings");
+        if (cached instanceof Long) {
+            callback.onSuccess((Long) cached);
+            return;
+        }
+
+        long generation = settingsCache.currentGeneration();
         db.collection("settings")
                 .document("banner_settings")
                 .get()
                 .addOnSuccessListener(documentSnapshot -> {
-                    if (documentSnapshot.exists()) {
-                        Long interval = documentSnapshot.getLong("slideInterval");
-                        callback.onSuccess(interval != null ? interval : 3000L); // Default 3 seconds
-                    } else {
-                        callback.onSuccess(3000L); // Default 3 seconds
-                    }
+                    Long interval = documentSnapshot.exists() ? documentSnapshot.getLong("slideInterval") : null;
+                    long result = interval != null ? interval : 3000L; // Default 3 seconds
+                    settingsCache.put("banner_settings", result, generation);
+                    callback.onSuccess(result);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -1106,6 +1184,7 @@ public class FirebaseManager {
         Map<String, Object> settings = new HashMap<>();
         settings.put("slideInterval", intervalMs);
         settings.put("updatedAt", Timestamp.now());
+        settingsCache.invalidate("banner_settings");
 
         db.collection("settings")
                 .document("banner_settings")
@@ -1115,20 +1194,12 @@ public class FirebaseManager {
     }
 
     /**
-     * Upload banner image to Storage
+     * Upload banner image to Storage (백그라운드 축소/인코딩 후 업로드, 같은 이미지는 재사용)
      */
-    public void uploadBannerImage(byte[] imageData, SignatureCallback callback) {
-        String fileName = "banner_" + System.currentTimeMillis() + ".png";
-        StorageReference imageRef = storage.getReference()
-                .child("banners/" + fileName);
-
-        imageRef.putBytes(imageData)
-                .addOnSuccessListener(taskSnapshot -> {
-                    imageRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        callback.onSuccess(uri.toString());
-                    }).addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
+    public void uploadBannerImage(android.content.Context context, Uri imageUri,
+                                  ImageUploadPipeline.UploadCallback callback) {
+        ImageUploadPipeline.getInstance(context).upload(imageUri, ImageUploadPipeline.Preset.BANNER,
+                "banners", callback);
     }
 
     // ========================================
@@ -1226,20 +1297,35 @@ public class FirebaseManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 동아리 문서를 새 Club 객체로 변환 (캐시된 스냅샷을 여러 호출 측이 공유하지 않도록 매번 새로 만듦)
+     */
+    private com.example.clubmanagement.models.Club toClub(com.google.firebase.firestore.DocumentSnapshot documentSnapshot) {
+        com.example.clubmanagement.models.Club club = documentSnapshot.toObject(com.example.clubmanagement.models.Club.class);
+        if (club != null) {
+            club.setId(documentSnapshot.getId());
+        }
+        return club;
+    }
+
     /**
      * Get club information by ID
      */
     public void getClub(String clubId, ClubCallback callback) {
+        com.google.firebase.firestore.DocumentSnapshot cached = clubCache.get(clubId);
+        if (cached != null) {
+            callback.onSuccess(toClub(cached));
+            return;
+        }
+
+        long generation = clubCache.currentGeneration();
         db.collection("clubs")
                 .document(clubId)
                 .get(com.google.firebase.firestore.Source.SERVER)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
-                        com.example.clubmanagement.models.Club club = documentSnapshot.toObject(com.example.clubmanagement.models.Club.class);
-                        if (club != null) {
-                            club.setId(documentSnapshot.getId());
-                        }
-                        callback.onSuccess(club);
+                        clubCache.put(clubId, documentSnapshot, generation);
+                        callback.onSuccess(toClub(documentSnapshot));
                     } else {
                         callback.onSuccess(null);
                     }
@@ -1280,10 +1366,21 @@ public class FirebaseManager {
         if (club.getCreatedAt() == null) {
             club.setCreatedAt(Timestamp.now());
         }
-
-        db.collection("clubs")
-                .document(club.getId())
-                .set(club)
+        invalidateClubCache(club.getId());
+
+        // 잔액(currentBudget)은 공금 원장(BudgetManager)만 변경하므로 화면에 캐시된 값 대신 서버 값을 유지하고,
+        // 모델에 없는 원장 필드(ledgerSeq 등)가 지워지지 않도록 병합 저장
+        com.google.firebase.firestore.DocumentReference clubRef = db.collection("clubs").document(club.getId());
+        db.runTransaction(transaction -> {
+            com.google.firebase.firestore.DocumentSnapshot snapshot = transaction.get(clubRef);
+            Long balance = snapshot.exists() ? snapshot.getLong("currentBudget") : null;
+            if (balance != null) {
+                club.setCurrentBudget(balance);
+            }
+            transaction.set(clubRef, club, com.google.firebase.firestore.SetOptions.merge());
+            return null;
+        })
+                .addOnCompleteListener(invalidateAfterWrite(club.getId(), null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess(club))
                 .addOnFailureListener(callback::onFailure);
     }
@@ -1305,10 +1402,12 @@ public class FirebaseManager {
             callback.onFailure(new Exception("User UID cannot be null or empty"));
             return;
         }
+        invalidateUserCache(user.getUid());
 
         db.collection("users")
                 .document(user.getUid())
                 .set(user)
+                .addOnCompleteListener(invalidateAfterWrite(null, user.getUid()))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -1317,6 +1416,7 @@ public class FirebaseManager {
      * Update user profile (name, department, phone)
      */
     public void updateUserProfile(String name, String department, String phone, SimpleCallback callback) {
+        invalidateUserCache(getCurrentUserId());
         FirebaseUser firebaseUser = auth.getCurrentUser();
         if (firebaseUser == null) {
             callback.onFailure(new Exception("로그인되지 않았습니다"));
@@ -1331,6 +1431,7 @@ public class FirebaseManager {
         db.collection("users")
                 .document(firebaseUser.getUid())
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(null, getCurrentUserId()))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -1346,13 +1447,21 @@ public class FirebaseManager {
             return;
         }
 
+        String uid = firebaseUser.getUid();
+        com.google.firebase.firestore.DocumentSnapshot cached = userCache.get(uid);
+        if (cached != null) {
+            callback.onSuccess(cached.toObject(com.example.clubmanagement.models.User.class));
+            return;
+        }
+
+        long generation = userCache.currentGeneration();
         db.collection("users")
-                .document(firebaseUser.getUid())
+                .document(uid)
                 .get()
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
-                        com.example.clubmanagement.models.User user = documentSnapshot.toObject(com.example.clubmanagement.models.User.class);
-                        callback.onSuccess(user);
+                        userCache.put(uid, documentSnapshot, generation);
+                        callback.onSuccess(documentSnapshot.toObject(com.example.clubmanagement.models.User.class));
                     } else {
                         // Create new user
                         com.example.clubmanagement.models.User newUser = new com.example.clubmanagement.models.User(
@@ -1372,6 +1481,8 @@ public class FirebaseManager {
      * Join central club
      */
     public void joinCentralClub(String clubId, String clubName, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(getCurrentUserId());
         FirebaseUser firebaseUser = auth.getCurrentUser();
 
         // 로그인되지 않은 경우 즉시 성공 처리 (Firebase 호출 없이)
@@ -1394,6 +1505,7 @@ public class FirebaseManager {
         db.collection("users")
                 .document(firebaseUser.getUid())
                 .set(userData, com.google.firebase.firestore.SetOptions.merge())
+                .addOnCompleteListener(invalidateAfterWrite(clubId, getCurrentUserId()))
                 .addOnSuccessListener(aVoid -> {
                     // 동아리 members 서브컬렉션에도 멤버 추가
                     addMemberToClub(clubId, firebaseUser.getUid(), firebaseUser.getEmail(), joinDate, callback);
@@ -1405,6 +1517,7 @@ public class FirebaseManager {
      * 동아리 members 서브컬렉션에 멤버 추가
      */
     private void addMemberToClub(String clubId, String userId, String email, String joinDate, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         // 먼저 사용자 정보 가져오기
         db.collection("users")
                 .document(userId)
@@ -1436,11 +1549,15 @@ public class FirebaseManager {
                             .collection("members")
                             .document(userId)
                             .set(memberData)
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                             .addOnSuccessListener(aVoid -> {
+                                addToMembershipIndex(clubId, userId);
+
                                 // 동아리 멤버 수 증가
                                 db.collection("clubs")
                                         .document(clubId)
                                         .update("memberCount", com.google.firebase.firestore.FieldValue.increment(1))
+                                        .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                                         .addOnSuccessListener(aVoid2 -> {
                                             // 단체 채팅방에 자동 참여
                                             joinGroupChatRoom(clubId, new SimpleCallback() {
@@ -1467,6 +1584,7 @@ public class FirebaseManager {
      * Leave central club
      */
     public void leaveCentralClub(SimpleCallback callback) {
+        invalidateUserCache(getCurrentUserId());
         FirebaseUser firebaseUser = auth.getCurrentUser();
         if (firebaseUser == null) {
             // 로그인되지 않은 경우 성공 처리
@@ -1479,10 +1597,23 @@ public class FirebaseManager {
         updates.put("centralClubName", null);
         updates.put("joinDate", null);
 
+        // 멤버십 인덱스 정리를 위해 탈퇴 전 중앙동아리 ID 확인
         db.collection("users")
                 .document(firebaseUser.getUid())
-                .update(updates)
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
+                .get()
+                .addOnSuccessListener(documentSnapshot -> {
+                    String centralClubId = documentSnapshot.getString("centralClubId");
+
+                    db.collection("users")
+                            .document(firebaseUser.getUid())
+                            .update(updates)
+                            .addOnCompleteListener(invalidateAfterWrite(null, getCurrentUserId()))
+                            .addOnSuccessListener(aVoid -> {
+                                removeFromMembershipIndex(centralClubId, firebaseUser.getUid());
+                                callback.onSuccess();
+                            })
+                            .addOnFailureListener(e -> callback.onSuccess());
+                })
                 .addOnFailureListener(e -> callback.onSuccess());
     }
 
@@ -1490,6 +1621,8 @@ public class FirebaseManager {
      * Join general club
      */
     public void joinGeneralClub(String clubId, String clubName, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(getCurrentUserId());
         FirebaseUser firebaseUser = auth.getCurrentUser();
 
         // 로그인되지 않은 경우 즉시 성공 처리 (Firebase 호출 없이)
@@ -1510,6 +1643,7 @@ public class FirebaseManager {
         db.collection("users")
                 .document(firebaseUser.getUid())
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, getCurrentUserId()))
                 .addOnSuccessListener(aVoid -> {
                     // 동아리 members 서브컬렉션에도 멤버 추가
                     addMemberToClub(clubId, firebaseUser.getUid(), firebaseUser.getEmail(), joinDate, callback);
@@ -1521,6 +1655,8 @@ public class FirebaseManager {
      * Leave general club
      */
     public void leaveGeneralClub(String clubId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(getCurrentUserId());
         FirebaseUser firebaseUser = auth.getCurrentUser();
 
         // 로그인되지 않은 경우 즉시 성공 처리
@@ -1536,7 +1672,11 @@ public class FirebaseManager {
         db.collection("users")
                 .document(firebaseUser.getUid())
                 .update(updates)
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
+                .addOnCompleteListener(invalidateAfterWrite(clubId, getCurrentUserId()))
+                .addOnSuccessListener(aVoid -> {
+                    removeFromMembershipIndex(clubId, firebaseUser.getUid());
+                    callback.onSuccess();
+                })
                 .addOnFailureListener(e -> callback.onSuccess());
     }
 
@@ -1544,179 +1684,19 @@ public class FirebaseManager {
     // Budget Transaction Methods
     // ========================================
 
-    /**
-     * Callback for budget transaction list
-     */
-    public interface BudgetTransactionListCallback {
-        void onSuccess(java.util.List<com.example.clubmanagement.models.BudgetTransaction> transactions);
-        void onFailure(Exception e);
-    }
-
-    /**
-     * Callback for single budget transaction
-     */
-    public interface BudgetTransactionCallback {
-        void onSuccess(com.example.clubmanagement.models.BudgetTransaction transaction);
-        void onFailure(Exception e);
-    }
-
-    /**
-     * Get budget transactions for a club
-     */
-    public void getBudgetTransactions(String clubId, BudgetTransactionListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("transactions")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    java.util.List<com.example.clubmanagement.models.BudgetTransaction> transactions = new java.util.ArrayList<>();
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        com.example.clubmanagement.models.BudgetTransaction transaction = doc.toObject(com.example.clubmanagement.models.BudgetTransaction.class);
-                        if (transaction != null) {
-                            transaction.setId(doc.getId());
-                            transactions.add(transaction);
-                        }
-                    }
-                    // 클라이언트 측 정렬 (createdAt 내림차순)
-                    java.util.Collections.sort(transactions, (t1, t2) -> {
-                        if (t1.getCreatedAt() == null && t2.getCreatedAt() == null) return 0;
-                        if (t1.getCreatedAt() == null) return 1;
-                        if (t2.getCreatedAt() == null) return -1;
-                        return t2.getCreatedAt().compareTo(t1.getCreatedAt());
-                    });
-                    callback.onSuccess(transactions);
-                })
-                .addOnFailureListener(e -> callback.onSuccess(new java.util.ArrayList<>()));
-    }
-
-    /**
-     * Save budget transaction and update club balance
-     */
-    public void saveBudgetTransaction(com.example.clubmanagement.models.BudgetTransaction transaction, long newBalance, BudgetTransactionCallback callback) {
-        String oderId = getCurrentUserId();
-        if (oderId == null) {
-            oderId = "guest";
-        }
-
-        transaction.setCreatedBy(oderId);
-        transaction.setCreatedAt(com.google.firebase.Timestamp.now());
-
-        String clubId = transaction.getClubId();
-
-        // Use batch write to ensure atomicity
-        com.google.firebase.firestore.WriteBatch batch = db.batch();
-
-        // Add transaction document
-        com.google.firebase.firestore.DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("transactions")
-                .document();
-
-        Map<String, Object> transactionData = new HashMap<>();
-        transactionData.put("clubId", transaction.getClubId());
-        transactionData.put("type", transaction.getType());
-        transactionData.put("amount", transaction.getAmount());
-        transactionData.put("description", transaction.getDescription());
-        transactionData.put("receiptImageUrl", transaction.getReceiptImageUrl());
-        transactionData.put("createdBy", transaction.getCreatedBy());
-        transactionData.put("createdByName", transaction.getCreatedByName());
-        transactionData.put("createdAt", transaction.getCreatedAt());
-        transactionData.put("balanceAfter", transaction.getBalanceAfter());
-
-        batch.set(transactionRef, transactionData);
-
-        // Update club balance
-        com.google.firebase.firestore.DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
-
-        batch.commit()
-                .addOnSuccessListener(aVoid -> {
-                    transaction.setId(transactionRef.getId());
-                    callback.onSuccess(transaction);
-                })
-                .addOnFailureListener(callback::onFailure);
-    }
-
-    /**
-     * Upload receipt image
-     */
-    public void uploadReceiptImage(String clubId, byte[] imageData, SignatureCallback callback) {
-        String fileName = "receipts/" + clubId + "/" + System.currentTimeMillis() + ".jpg";
-        com.google.firebase.storage.StorageReference storageRef = storage.getReference().child(fileName);
-
-        storageRef.putBytes(imageData)
-                .addOnSuccessListener(taskSnapshot -> {
-                    storageRef.getDownloadUrl()
-                            .addOnSuccessListener(uri -> callback.onSuccess(uri.toString()))
-                            .addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
-    }
-
-    /**
-     * Update budget transaction
-     */
-    public void updateBudgetTransaction(com.example.clubmanagement.models.BudgetTransaction transaction, long newBalance, SimpleCallback callback) {
-        String clubId = transaction.getClubId();
-        String transactionId = transaction.getId();
-
-        if (clubId == null || transactionId == null) {
-            callback.onFailure(new Exception("유효하지 않은 거래 정보입니다"));
-            return;
-        }
-
-        com.google.firebase.firestore.WriteBatch batch = db.batch();
-
-        // Update transaction document
-        com.google.firebase.firestore.DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("transactions")
-                .document(transactionId);
-
-        Map<String, Object> transactionData = new HashMap<>();
-        transactionData.put("type", transaction.getType());
-        transactionData.put("amount", transaction.getAmount());
-        transactionData.put("description", transaction.getDescription());
-        transactionData.put("receiptImageUrl", transaction.getReceiptImageUrl());
-        transactionData.put("balanceAfter", transaction.getBalanceAfter());
-
-        batch.update(transactionRef, transactionData);
-
-        // Update club balance
-        com.google.firebase.firestore.DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
-
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
-                .addOnFailureListener(callback::onFailure);
-    }
+    // 거래 내역 저장/수정/삭제와 잔액 변경은 BudgetManager(공금 원장)에서 처리합니다.
 
     /**
-     * Delete budget transaction
+     * 영수증 이미지를 업로드 대기열에 추가 (업로드가 끝나면 거래 문서의 receiptImageUrl 에 기록)
+     * 콜백은 대기열에 저장된 시점에 호출되며, 업로드는 앱이 종료되어도 WorkManager가 이어서 진행합니다.
      */
-    public void deleteBudgetTransaction(String clubId, String transactionId, long newBalance, SimpleCallback callback) {
-        if (clubId == null || transactionId == null) {
-            callback.onFailure(new Exception("유효하지 않은 거래 정보입니다"));
-            return;
-        }
-
-        com.google.firebase.firestore.WriteBatch batch = db.batch();
-
-        // Delete transaction document
-        com.google.firebase.firestore.DocumentReference transactionRef = db.collection("clubs")
-                .document(clubId)
-                .collection("transactions")
-                .document(transactionId);
-
-        batch.delete(transactionRef);
-
-        // Update club balance
-        com.google.firebase.firestore.DocumentReference clubRef = db.collection("clubs").document(clubId);
-        batch.update(clubRef, "currentBudget", newBalance);
-
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess())
-                .addOnFailureListener(callback::onFailure);
+    public void enqueueReceiptUpload(android.content.Context context, String clubId, String transactionId,
+                                     Uri imageUri, SimpleCallback callback) {
+        Map<String, String> params = new HashMap<>();
+        params.put(UploadQueue.PARAM_CLUB_ID, clubId);
+        params.put(UploadQueue.PARAM_TRANSACTION_ID, transactionId);
+        UploadQueue.getInstance(context).enqueue(imageUri, ImageUploadPipeline.Preset.RECEIPT,
+                "receipts/" + clubId, UploadQueue.KIND_RECEIPT, params, callback);
     }
 
     // ========================================
@@ -1743,19 +1723,11 @@ public class FirebaseManager {
                     // Update Firestore to remove image URL
                     doc.getReference().update("imageUrl", null)
                             .addOnSuccessListener(aVoid -> {
-                                // If there was an image URL, delete from storage
+                                // If there was an image URL, release it (deleted from storage when unused)
                                 if (imageUrl != null && !imageUrl.isEmpty()) {
-                                    try {
-                                        StorageReference storageRef = storage.getReferenceFromUrl(imageUrl);
-                                        storageRef.delete()
-                                                .addOnSuccessListener(aVoid2 -> callback.onSuccess())
-                                                .addOnFailureListener(e -> {
-                                                    // Even if storage delete fails, Firestore was updated
-                                                    callback.onSuccess();
-                                                });
-                                    } catch (Exception e) {
-                                        callback.onSuccess();
-                                    }
+                                    releaseStorageImage(imageUrl);
+                                    // Even if storage delete fails, Firestore was updated
+                                    callback.onSuccess();
                                 } else {
                                     callback.onSuccess();
                                 }
@@ -1765,16 +1737,41 @@ public class FirebaseManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 이미지 참조 해제 - 더 이상 쓰는 곳이 없으면 원본과 축소본이 Storage에서 삭제됨
+     * 참조 수 색인이 없는 이전 방식 URL은 바로 삭제합니다. (실패는 무시)
+     */
+    private void releaseStorageImage(String imageUrl) {
+        ContentStore.getInstance().release(imageUrl)
+                .addOnSuccessListener(indexed -> {
+                    if (!indexed) deleteStorageImage(imageUrl);
+                })
+                .addOnFailureListener(e -> Log.w(TAG, "Failed to release image: " + imageUrl, e));
+    }
+
+    private void deleteStorageImage(String imageUrl) {
+        for (String url : ImageVariants.allUrls(imageUrl)) {
+            try {
+                storage.getReferenceFromUrl(url).delete()
+                        .addOnFailureListener(e -> Log.w(TAG, "Failed to delete image: " + url, e));
+            } catch (Exception e) {
+                Log.w(TAG, "Invalid storage url: " + url, e);
+            }
+        }
+    }
+
     /**
      * Cancel central club status - change to general club
      */
     public void cancelCentralClubStatus(String clubId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         Map<String, Object> updates = new HashMap<>();
         updates.put("centralClub", false);
 
         db.collection("clubs")
                 .document(clubId)
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> {
                     // 캐러셀에서도 해당 동아리 제거
                     removeCarouselItemByClubId(clubId, new SimpleCallback() {
@@ -1852,109 +1849,252 @@ public class FirebaseManager {
                         }
                     }
 
-                    // 2. users 컬렉션에서 이 동아리에 가입한 사용자들 찾기
-                    findMembersFromUsersCollection(clubId, allMembers, memberUserIds, callback);
+                    // 2. 멤버십 인덱스에서 members 컬렉션에 없는 사용자 보완
+                    findMembersFromMembershipIndex(clubId, allMembers, memberUserIds, callback);
                 })
                 .addOnFailureListener(e -> {
-                    // members 컬렉션 실패해도 users 컬렉션에서 찾기 시도
-                    findMembersFromUsersCollection(clubId, allMembers, memberUserIds, callback);
+                    // members 컬렉션 실패해도 인덱스에서 찾기 시도
+                    findMembersFromMembershipIndex(clubId, allMembers, memberUserIds, callback);
                 });
     }
 
     /**
-     * users 컬렉션에서 해당 동아리에 가입한 사용자들 찾기
+     * 멤버십 인덱스(clubMemberIndex/{clubId})에 등록된 사용자 중 members 컬렉션에 없는 사용자 보완
+     * users 컬렉션 전체를 읽지 않고 인덱스에 있는 사용자 문서만 조회
      */
-    private void findMembersFromUsersCollection(String clubId,
+    private void findMembersFromMembershipIndex(String clubId,
             java.util.List<com.example.clubmanagement.models.Member> existingMembers,
             java.util.Set<String> existingMemberIds, MembersCallback callback) {
 
-        // clubId의 여러 형태를 확인 (소문자, 언더스코어 등)
-        String clubIdLower = clubId.toLowerCase();
-        String clubIdNormalized = clubId.replaceAll("\\s+", "_").toLowerCase();
-
-        db.collection("users")
+        db.collection(MEMBERSHIP_INDEX_COLLECTION)
+                .document(clubId)
                 .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    // userId -> name 매핑 생성
-                    java.util.Map<String, String> userIdToName = new java.util.HashMap<>();
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        String userName = doc.getString("name");
-                        if (userName != null && !userName.isEmpty()) {
-                            userIdToName.put(doc.getId(), userName);
-                        }
-                    }
+                .addOnSuccessListener(indexDoc -> {
+                    java.util.List<String> indexedUserIds = (java.util.List<String>) indexDoc.get("userIds");
+                    java.util.Set<String> userIdsToFetch = new java.util.LinkedHashSet<>();
+                    collectUserIdsToFetch(existingMembers, existingMemberIds, indexedUserIds, userIdsToFetch);
 
-                    // 기존 멤버들의 이름이 이메일이면 실제 이름으로 업데이트
-                    for (com.example.clubmanagement.models.Member member : existingMembers) {
-                        String currentName = member.getName();
-                        if (currentName == null || currentName.contains("@")) {
-                            String actualName = userIdToName.get(member.getUserId());
-                            if (actualName != null && !actualName.isEmpty()) {
-                                member.setName(actualName);
-                            }
-                        }
+                    if (userIdsToFetch.isEmpty()) {
+                        callback.onSuccess(existingMembers);
+                        return;
                     }
 
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        String odUserId = doc.getId();
+                    fetchUserDocuments(userIdsToFetch, userDocs -> {
+                        mergeIndexedMembers(existingMembers, existingMemberIds, indexedUserIds, userDocs);
+                        callback.onSuccess(existingMembers);
+                    });
+                })
+                .addOnFailureListener(e -> {
+                    // 실패해도 기존 멤버는 반환
+                    callback.onSuccess(existingMembers);
+                });
+    }
 
-                        // 이미 목록에 있으면 스킵
-                        if (existingMemberIds.contains(odUserId)) {
-                            continue;
-                        }
+    /**
+     * 조회가 필요한 사용자 ID 수집
+     * (인덱스에만 있는 사용자 + 이름이 비어 있거나 이메일인 기존 멤버)
+     */
+    private void collectUserIdsToFetch(java.util.List<com.example.clubmanagement.models.Member> existingMembers,
+                                       java.util.Set<String> existingMemberIds,
+                                       java.util.List<String> indexedUserIds,
+                                       java.util.Set<String> userIdsToFetch) {
+        if (indexedUserIds != null) {
+            for (String indexedUserId : indexedUserIds) {
+                if (indexedUserId != null && !existingMemberIds.contains(indexedUserId)) {
+                    userIdsToFetch.add(indexedUserId);
+                }
+            }
+        }
 
-                        boolean isMember = false;
+        for (com.example.clubmanagement.models.Member member : existingMembers) {
+            String currentName = member.getName();
+            if ((currentName == null || currentName.contains("@")) && member.getUserId() != null) {
+                userIdsToFetch.add(member.getUserId());
+            }
+        }
+    }
 
-                        // centralClubId 확인
-                        String centralClubId = doc.getString("centralClubId");
-                        if (centralClubId != null) {
-                            String centralIdLower = centralClubId.toLowerCase();
-                            String centralIdNormalized = centralClubId.replaceAll("\\s+", "_").toLowerCase();
-                            if (centralClubId.equals(clubId) ||
-                                centralIdLower.equals(clubIdLower) ||
-                                centralIdNormalized.equals(clubIdNormalized) ||
-                                clubIdNormalized.equals(centralIdNormalized)) {
-                                isMember = true;
-                            }
-                        }
+    /**
+     * 조회한 사용자 문서로 기존 멤버 이름을 보정하고, 인덱스에만 있는 사용자를 멤버로 추가
+     */
+    private void mergeIndexedMembers(java.util.List<com.example.clubmanagement.models.Member> existingMembers,
+                                     java.util.Set<String> existingMemberIds,
+                                     java.util.List<String> indexedUserIds,
+                                     Map<String, com.google.firebase.firestore.DocumentSnapshot> userDocs) {
+        // 기존 멤버들의 이름이 이메일이면 실제 이름으로 업데이트
+        for (com.example.clubmanagement.models.Member member : existingMembers) {
+            String currentName = member.getName();
+            if (currentName == null || currentName.contains("@")) {
+                com.google.firebase.firestore.DocumentSnapshot userDoc = userDocs.get(member.getUserId());
+                String actualName = userDoc != null ? userDoc.getString("name") : null;
+                if (actualName != null && !actualName.isEmpty()) {
+                    member.setName(actualName);
+                }
+            }
+        }
 
-                        // generalClubIds 확인
-                        if (!isMember) {
-                            java.util.List<String> generalClubIds = (java.util.List<String>) doc.get("generalClubIds");
-                            if (generalClubIds != null) {
-                                for (String gClubId : generalClubIds) {
-                                    if (gClubId == null) continue;
-                                    String gIdLower = gClubId.toLowerCase();
-                                    String gIdNormalized = gClubId.replaceAll("\\s+", "_").toLowerCase();
-                                    if (gClubId.equals(clubId) ||
-                                        gIdLower.equals(clubIdLower) ||
-                                        gIdNormalized.equals(clubIdNormalized) ||
-                                        clubIdNormalized.equals(gIdNormalized)) {
-                                        isMember = true;
-                                        break;
-                                    }
-                                }
-                            }
-                        }
+        if (indexedUserIds == null) return;
 
-                        // 멤버라면 목록에 추가
-                        if (isMember) {
-                            com.example.clubmanagement.models.Member member = createMemberFromUserDoc(doc);
-                            if (member != null) {
-                                existingMembers.add(member);
-                                existingMemberIds.add(odUserId);
-                            }
+        // 인덱스에만 있는 사용자를 멤버로 추가
+        for (String userId : indexedUserIds) {
+            if (userId == null || existingMemberIds.contains(userId)) continue;
+
+            com.google.firebase.firestore.DocumentSnapshot userDoc = userDocs.get(userId);
+            if (userDoc == null) continue;
+
+            existingMembers.add(createMemberFromUserDoc(userDoc));
+            existingMemberIds.add(userId);
+        }
+    }
+
+    // ========================================
+    // Batched Multi-Club Member Fetch
+    // ========================================
+
+    private static final int MAX_PARALLEL_CLUB_QUERIES = 6;
+    private static final java.util.List<String> ADMIN_ROLES =
+            java.util.Arrays.asList("회장", "부회장", "총무", "회계", "admin");
+
+    public interface ClubMembersMapCallback {
+        void onSuccess(Map<String, java.util.List<com.example.clubmanagement.models.Member>> membersByClub);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 동아리 한 곳의 members 컬렉션 + 인덱스 조회 결과 (사용자 이름 조인 전)
+     */
+    private interface ClubMembershipCallback {
+        void onResult(java.util.List<com.example.clubmanagement.models.Member> members, java.util.List<String> indexedUserIds);
+    }
+
+    /**
+     * 여러 동아리의 멤버 목록을 한 번에 조회 (clubId -> 멤버 목록)
+     * 동아리별 조회는 최대 MAX_PARALLEL_CLUB_QUERIES개씩 병렬로 수행하고,
+     * 사용자 이름 조인은 모든 동아리를 합쳐 한 번만 수행
+     */
+    public void getMembersForClubs(java.util.List<String> clubIds, ClubMembersMapCallback callback) {
+        loadMembersForClubs(clubIds, false, callback);
+    }
+
+    /**
+     * 여러 동아리의 관리자 목록을 한 번에 조회 (isAdmin 또는 관리자 역할을 서버에서 필터링)
+     */
+    public void getAdminsForClubs(java.util.List<String> clubIds, ClubMembersMapCallback callback) {
+        loadMembersForClubs(clubIds, true, callback);
+    }
+
+    private void loadMembersForClubs(java.util.List<String> clubIds, boolean adminsOnly, ClubMembersMapCallback callback) {
+        java.util.List<String> uniqueClubIds = new java.util.ArrayList<>(new java.util.LinkedHashSet<>(clubIds));
+        Map<String, java.util.List<com.example.clubmanagement.models.Member>> membersByClub = new java.util.LinkedHashMap<>();
+        Map<String, java.util.List<String>> indexedIdsByClub = new HashMap<>();
+
+        if (uniqueClubIds.isEmpty()) {
+            callback.onSuccess(membersByClub);
+            return;
+        }
+
+        for (String clubId : uniqueClubIds) {
+            membersByClub.put(clubId, new java.util.ArrayList<>());
+        }
+
+        final int[] nextIndex = {0};
+        final int[] completed = {0};
+        final Runnable[] launchNext = new Runnable[1];
+
+        launchNext[0] = () -> {
+            if (nextIndex[0] >= uniqueClubIds.size()) return;
+            String clubId = uniqueClubIds.get(nextIndex[0]++);
+
+            loadClubMembership(clubId, adminsOnly, (members, indexedUserIds) -> {
+                membersByClub.put(clubId, members);
+                indexedIdsByClub.put(clubId, indexedUserIds);
+                completed[0]++;
+
+                if (completed[0] >= uniqueClubIds.size()) {
+                    joinMemberNamesForClubs(membersByClub, indexedIdsByClub, callback);
+                } else {
+                    launchNext[0].run();
+                }
+            });
+        };
+
+        int initial = Math.min(MAX_PARALLEL_CLUB_QUERIES, uniqueClubIds.size());
+        for (int i = 0; i < initial; i++) {
+            launchNext[0].run();
+        }
+    }
+
+    /**
+     * 동아리 한 곳의 members 컬렉션과 멤버십 인덱스 조회
+     * 관리자만 조회하는 경우 인덱스는 읽지 않음 (인덱스에만 있는 사용자는 관리자가 아님)
+     */
+    private void loadClubMembership(String clubId, boolean adminsOnly, ClubMembershipCallback callback) {
+        com.google.firebase.firestore.Query query = db.collection("clubs")
+                .document(clubId)
+                .collection("members");
+
+        if (adminsOnly) {
+            query = query.where(com.google.firebase.firestore.Filter.or(
+                    com.google.firebase.firestore.Filter.equalTo("isAdmin", true),
+                    com.google.firebase.firestore.Filter.inArray("role", ADMIN_ROLES)));
+        }
+
+        query.get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    java.util.List<com.example.clubmanagement.models.Member> members = new java.util.ArrayList<>();
+                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
+                        com.example.clubmanagement.models.Member member = doc.toObject(com.example.clubmanagement.models.Member.class);
+                        if (member != null) {
+                            member.setUserId(doc.getId());
+                            members.add(member);
                         }
                     }
 
-                    callback.onSuccess(existingMembers);
+                    if (adminsOnly) {
+                        callback.onResult(members, null);
+                        return;
+                    }
+
+                    db.collection(MEMBERSHIP_INDEX_COLLECTION)
+                            .document(clubId)
+                            .get()
+                            .addOnSuccessListener(indexDoc ->
+                                    callback.onResult(members, (java.util.List<String>) indexDoc.get("userIds")))
+                            .addOnFailureListener(e -> callback.onResult(members, null));
                 })
                 .addOnFailureListener(e -> {
-                    // 실패해도 기존 멤버는 반환
-                    callback.onSuccess(existingMembers);
+                    Log.e(TAG, "Failed to load members for club " + clubId + ": " + e.getMessage());
+                    callback.onResult(new java.util.ArrayList<>(), null);
                 });
     }
 
+    /**
+     * 모든 동아리에서 필요한 사용자 문서를 한 번에 조회해 이름 보정 및 인덱스 멤버 추가
+     */
+    private void joinMemberNamesForClubs(Map<String, java.util.List<com.example.clubmanagement.models.Member>> membersByClub,
+                                         Map<String, java.util.List<String>> indexedIdsByClub,
+                                         ClubMembersMapCallback callback) {
+        Map<String, java.util.Set<String>> memberIdsByClub = new HashMap<>();
+        java.util.Set<String> userIdsToFetch = new java.util.LinkedHashSet<>();
+
+        for (Map.Entry<String, java.util.List<com.example.clubmanagement.models.Member>> entry : membersByClub.entrySet()) {
+            java.util.Set<String> memberIds = new java.util.HashSet<>();
+            for (com.example.clubmanagement.models.Member member : entry.getValue()) {
+                memberIds.add(member.getUserId());
+            }
+            memberIdsByClub.put(entry.getKey(), memberIds);
+            collectUserIdsToFetch(entry.getValue(), memberIds, indexedIdsByClub.get(entry.getKey()), userIdsToFetch);
+        }
+
+        fetchUserDocuments(userIdsToFetch, userDocs -> {
+            for (Map.Entry<String, java.util.List<com.example.clubmanagement.models.Member>> entry : membersByClub.entrySet()) {
+                mergeIndexedMembers(entry.getValue(), memberIdsByClub.get(entry.getKey()),
+                        indexedIdsByClub.get(entry.getKey()), userDocs);
+            }
+            callback.onSuccess(membersByClub);
+        });
+    }
+
     /**
      * 현재 로그인한 사용자가 이 동아리 멤버인지 확인하고 추가
      */
@@ -2035,6 +2175,7 @@ public class FirebaseManager {
      * 멤버를 clubs/{clubId}/members 컬렉션에 동기화
      */
     private void syncMemberToClubCollection(String clubId, com.example.clubmanagement.models.Member member) {
+        invalidateClubCache(clubId);
         if (member.getUserId() == null) return;
 
         Map<String, Object> memberData = new HashMap<>();
@@ -2053,7 +2194,10 @@ public class FirebaseManager {
                 .collection("members")
                 .document(member.getUserId())
                 .set(memberData)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> {
+                    addToMembershipIndex(clubId, member.getUserId());
+
                     // 멤버 수 업데이트
                     db.collection("clubs")
                             .document(clubId)
@@ -2062,6 +2206,214 @@ public class FirebaseManager {
                 .addOnFailureListener(e -> Log.e(TAG, "Failed to sync member: " + e.getMessage()));
     }
 
+    // ========================================
+    // Membership Index (clubMemberIndex/{clubId})
+    // ========================================
+
+    static final String MEMBERSHIP_INDEX_COLLECTION = "clubMemberIndex";
+    private static final int FIRESTORE_IN_QUERY_LIMIT = 10;
+    private static final int FIRESTORE_BATCH_LIMIT = 500;
+    // 전체 공지 (동아리마다 복사하지 않고 한 번만 저장)
+    private static final String GLOBAL_NOTICES_COLLECTION = "globalNotices";
+    private static final int GLOBAL_NOTICE_LIMIT = 50;
+    // 사용자 문서의 전체 공지 읽음 기준 시각 (이 시각 이전의 전체 공지는 읽은 것으로 처리)
+    private static final String GLOBAL_NOTICE_READ_AT_FIELD = "globalNoticeReadAt";
+    private static final int NOTIFICATION_PAGE_SIZE = 20;
+
+    /**
+     * 사용자 문서 일괄 조회 결과 콜백 (userId -> 문서)
+     */
+    private interface UserDocumentsCallback {
+        void onResult(Map<String, com.google.firebase.firestore.DocumentSnapshot> userDocs);
+    }
+
+    /**
+     * 멤버십 인덱스에 사용자 추가
+     */
+    private void addToMembershipIndex(String clubId, String userId) {
+        if (clubId == null || userId == null) return;
+
+        Map<String, Object> indexData = new HashMap<>();
+        indexData.put("userIds", com.google.firebase.firestore.FieldValue.arrayUnion(userId));
+        indexData.put("updatedAt", System.currentTimeMillis());
+
+        db.collection(MEMBERSHIP_INDEX_COLLECTION)
+                .document(clubId)
+                .set(indexData, com.google.firebase.firestore.SetOptions.merge())
+                .addOnFailureListener(e -> Log.e(TAG, "Failed to add to membership index: " + e.getMessage()));
+    }
+
+    /**
+     * 멤버십 인덱스에서 사용자 제거
+     */
+    private void removeFromMembershipIndex(String clubId, String userId) {
+        if (clubId == null || userId == null) return;
+
+        Map<String, Object> indexData = new HashMap<>();
+        indexData.put("userIds", com.google.firebase.firestore.FieldValue.arrayRemove(userId));
+        indexData.put("updatedAt", System.currentTimeMillis());
+
+        db.collection(MEMBERSHIP_INDEX_COLLECTION)
+                .document(clubId)
+                .set(indexData, com.google.firebase.firestore.SetOptions.merge())
+                .addOnFailureListener(e -> Log.e(TAG, "Failed to remove from membership index: " + e.getMessage()));
+    }
+
+    /**
+     * 사용자 문서를 ID 목록으로 조회 (whereIn 제한에 맞춰 나눠서 조회)
+     * 실패한 조회는 결과에서 빠지며, 콜백은 항상 한 번 호출됨
+     */
+    private void fetchUserDocuments(java.util.Collection<String> userIds, UserDocumentsCallback callback) {
+        Map<String, com.google.firebase.firestore.DocumentSnapshot> userDocs = new HashMap<>();
+        java.util.List<String> ids = new java.util.ArrayList<>(userIds);
+
+        if (ids.isEmpty()) {
+            callback.onResult(userDocs);
+            return;
+        }
+
+        int chunkCount = (ids.size() + FIRESTORE_IN_QUERY_LIMIT - 1) / FIRESTORE_IN_QUERY_LIMIT;
+        final int[] completed = {0};
+
+        for (int start = 0; start < ids.size(); start += FIRESTORE_IN_QUERY_LIMIT) {
+            java.util.List<String> chunk = ids.subList(start, Math.min(start + FIRESTORE_IN_QUERY_LIMIT, ids.size()));
+
+            db.collection("users")
+                    .whereIn(com.google.firebase.firestore.FieldPath.documentId(), new java.util.ArrayList<>(chunk))
+                    .get()
+                    .addOnSuccessListener(queryDocumentSnapshots -> {
+                        for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
+                            userDocs.put(doc.getId(), doc);
+                        }
+                        completed[0]++;
+                        if (completed[0] >= chunkCount) {
+                            callback.onResult(userDocs);
+                        }
+                    })
+                    .addOnFailureListener(e -> {
+                        Log.e(TAG, "Failed to fetch user documents: " + e.getMessage());
+                        completed[0]++;
+                        if (completed[0] >= chunkCount) {
+                            callback.onResult(userDocs);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 동아리 ID 비교용 정규화 (공백 -> 언더스코어, 소문자)
+     */
+    private static String normalizeClubId(String clubId) {
+        return clubId.replaceAll("\\s+", "_").toLowerCase();
+    }
+
+    /**
+     * 멤버십 인덱스 백필이 아직 수행되지 않았다면 한 번 수행
+     * (settings/membershipIndex 문서의 backfilled 플래그로 확인)
+     */
+    public void ensureMembershipIndexBackfilled(SimpleCallback callback) {
+        db.collection("settings")
+                .document("membershipIndex")
+                .get()
+                .addOnSuccessListener(documentSnapshot -> {
+                    Boolean backfilled = documentSnapshot.getBoolean("backfilled");
+                    if (backfilled != null && backfilled) {
+                        callback.onSuccess();
+                    } else {
+                        backfillMembershipIndex(callback);
+                    }
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 기존 사용자 문서의 centralClubId / generalClubIds로 멤버십 인덱스 생성 (1회성)
+     * 대소문자나 공백이 다르게 저장된 동아리 ID는 실제 동아리 문서 ID로 맞춰서 기록
+     */
+    public void backfillMembershipIndex(SimpleCallback callback) {
+        db.collection("clubs")
+                .get()
+                .addOnSuccessListener(clubSnapshots -> {
+                    // 정규화된 ID -> 실제 동아리 문서 ID
+                    Map<String, String> clubIdByNormalized = new HashMap<>();
+                    for (com.google.firebase.firestore.DocumentSnapshot clubDoc : clubSnapshots) {
+                        clubIdByNormalized.put(normalizeClubId(clubDoc.getId()), clubDoc.getId());
+                    }
+
+                    db.collection("users")
+                            .get()
+                            .addOnSuccessListener(userSnapshots -> {
+                                Map<String, java.util.Set<String>> userIdsByClub = new HashMap<>();
+
+                                for (com.google.firebase.firestore.DocumentSnapshot userDoc : userSnapshots) {
+                                    java.util.List<String> joinedClubIds = new java.util.ArrayList<>();
+
+                                    String centralClubId = userDoc.getString("centralClubId");
+                                    if (centralClubId != null) joinedClubIds.add(centralClubId);
+
+                                    java.util.List<String> generalClubIds = (java.util.List<String>) userDoc.get("generalClubIds");
+                                    if (generalClubIds != null) joinedClubIds.addAll(generalClubIds);
+
+                                    for (String joinedClubId : joinedClubIds) {
+                                        if (joinedClubId == null) continue;
+                                        String resolvedClubId = clubIdByNormalized.get(normalizeClubId(joinedClubId));
+                                        if (resolvedClubId == null) continue;
+
+                                        java.util.Set<String> userIds = userIdsByClub.get(resolvedClubId);
+                                        if (userIds == null) {
+                                            userIds = new java.util.HashSet<>();
+                                            userIdsByClub.put(resolvedClubId, userIds);
+                                        }
+                                        userIds.add(userDoc.getId());
+                                    }
+                                }
+
+                                writeMembershipIndexBatches(userIdsByClub, callback);
+                            })
+                            .addOnFailureListener(callback::onFailure);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 백필 결과를 배치 단위로 기록하고 완료 플래그 저장
+     */
+    private void writeMembershipIndexBatches(Map<String, java.util.Set<String>> userIdsByClub, SimpleCallback callback) {
+        BulkWriteExecutor writer = new BulkWriteExecutor(db);
+
+        for (Map.Entry<String, java.util.Set<String>> entry : userIdsByClub.entrySet()) {
+            Map<String, Object> indexData = new HashMap<>();
+            indexData.put("userIds", com.google.firebase.firestore.FieldValue.arrayUnion(entry.getValue().toArray()));
+            indexData.put("updatedAt", System.currentTimeMillis());
+
+            writer.set(db.collection(MEMBERSHIP_INDEX_COLLECTION).document(entry.getKey()),
+                    indexData, com.google.firebase.firestore.SetOptions.merge());
+        }
+
+        writer.execute(new BulkWriteExecutor.ProgressCallback() {
+            @Override
+            public void onProgress(int current, int total) {
+            }
+
+            @Override
+            public void onSuccess(int totalSent) {
+                // 완료 플래그는 모든 인덱스 기록이 끝난 뒤 저장
+                Map<String, Object> flag = new HashMap<>();
+                flag.put("backfilled", true);
+                flag.put("backfilledAt", System.currentTimeMillis());
+                db.collection("settings").document("membershipIndex")
+                        .set(flag)
+                        .addOnSuccessListener(aVoid -> callback.onSuccess())
+                        .addOnFailureListener(callback::onFailure);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
     /**
      * Get join requests for a club (from both join_requests and membershipApplications)
      */
@@ -2192,17 +2544,23 @@ public class FirebaseManager {
      * Expel member from club
      */
     public void expelMember(String clubId, String userId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(userId);
         // Remove from members collection
         db.collection("clubs")
                 .document(clubId)
                 .collection("members")
                 .document(userId)
                 .delete()
+                .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                 .addOnSuccessListener(aVoid -> {
+                    removeFromMembershipIndex(clubId, userId);
+
                     // Also update club member count
                     db.collection("clubs")
                             .document(clubId)
                             .update("memberCount", com.google.firebase.firestore.FieldValue.increment(-1))
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                             .addOnSuccessListener(aVoid2 -> callback.onSuccess())
                             .addOnFailureListener(e -> callback.onSuccess()); // Still success if count update fails
                 })
@@ -2213,6 +2571,8 @@ public class FirebaseManager {
      * Approve join request
      */
     public void approveJoinRequest(String clubId, String userId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(userId);
         // Get request data first
         db.collection("clubs")
                 .document(clubId)
@@ -2233,7 +2593,10 @@ public class FirebaseManager {
                                     .collection("members")
                                     .document(userId)
                                     .set(memberData)
+                                    .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                                     .addOnSuccessListener(aVoid -> {
+                                        addToMembershipIndex(clubId, userId);
+
                                         // Remove from join_requests
                                         db.collection("clubs")
                                                 .document(clubId)
@@ -2245,6 +2608,7 @@ public class FirebaseManager {
                                                     db.collection("clubs")
                                                             .document(clubId)
                                                             .update("memberCount", com.google.firebase.firestore.FieldValue.increment(1))
+                                                            .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                                                             .addOnSuccessListener(aVoid3 -> callback.onSuccess())
                                                             .addOnFailureListener(e -> callback.onSuccess());
                                                 })
@@ -2278,13 +2642,18 @@ public class FirebaseManager {
      * Approve leave request
      */
     public void approveLeaveRequest(String clubId, String userId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(userId);
         // Remove from members
         db.collection("clubs")
                 .document(clubId)
                 .collection("members")
                 .document(userId)
                 .delete()
+                .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                 .addOnSuccessListener(aVoid -> {
+                    removeFromMembershipIndex(clubId, userId);
+
                     // Remove from leave_requests
                     db.collection("clubs")
                             .document(clubId)
@@ -2296,6 +2665,7 @@ public class FirebaseManager {
                                 db.collection("clubs")
                                         .document(clubId)
                                         .update("memberCount", com.google.firebase.firestore.FieldValue.increment(-1))
+                                        .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                                         .addOnSuccessListener(aVoid3 -> callback.onSuccess())
                                         .addOnFailureListener(e -> callback.onSuccess());
                             })
@@ -2564,6 +2934,7 @@ public class FirebaseManager {
      * 중앙동아리 신청 승인
      */
     public void approveCentralApplication(String applicationId, String clubId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         // 먼저 신청 상태 업데이트
         java.util.Map<String, Object> updates = new java.util.HashMap<>();
         updates.put("status", com.example.clubmanagement.models.CentralClubApplication.STATUS_APPROVED);
@@ -2577,6 +2948,7 @@ public class FirebaseManager {
                     db.collection("clubs")
                             .document(clubId)
                             .update("centralClub", true)
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                             .addOnSuccessListener(aVoid2 -> {
                                 // 캐러셀에 자동 등록
                                 addCentralClubToCarousel(clubId, callback);
@@ -2770,6 +3142,7 @@ public class FirebaseManager {
      * 3. 설립자를 첫 번째 멤버로 추가하고 관리자 권한 부여
      */
     public void approveClubApplication(com.example.clubmanagement.models.ClubApplication application, SimpleCallback callback) {
+        invalidateUserCache(application.getApplicantId());
         // 1. 신청 상태 업데이트
         java.util.Map<String, Object> applicationUpdates = new java.util.HashMap<>();
         applicationUpdates.put("status", "approved");
@@ -2793,6 +3166,7 @@ public class FirebaseManager {
                     db.collection("clubs")
                             .document(clubId)
                             .set(newClub)
+                            .addOnCompleteListener(invalidateAfterWrite(null, application.getApplicantId()))
                             .addOnSuccessListener(aVoid2 -> {
                                 // 3. 설립자를 첫 번째 멤버로 추가 (관리자 권한 부여)
                                 addFounderAsMember(clubId, application, callback);
@@ -2821,13 +3195,18 @@ public class FirebaseManager {
         memberData.put("joinedAt", System.currentTimeMillis());
         memberData.put("isAdmin", true); // 설립자에게 관리자 권한 부여
         memberData.put("role", "회장"); // 설립자는 회장
+        invalidateClubCache(clubId);
+        invalidateUserCache(founderId);
 
         db.collection("clubs")
                 .document(clubId)
                 .collection("members")
                 .document(founderId)
                 .set(memberData)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> {
+                    addToMembershipIndex(clubId, founderId);
+
                     // 사용자 문서에도 일반동아리 가입 정보 추가
                     java.util.Map<String, Object> userUpdates = new java.util.HashMap<>();
                     userUpdates.put("generalClubIds", com.google.firebase.firestore.FieldValue.arrayUnion(clubId));
@@ -2836,6 +3215,7 @@ public class FirebaseManager {
                     db.collection("users")
                             .document(founderId)
                             .set(userUpdates, com.google.firebase.firestore.SetOptions.merge())
+                            .addOnCompleteListener(invalidateAfterWrite(null, founderId))
                             .addOnSuccessListener(aVoid2 -> callback.onSuccess())
                             .addOnFailureListener(e -> callback.onSuccess()); // 실패해도 동아리 생성은 성공
                 })
@@ -2952,6 +3332,8 @@ public class FirebaseManager {
      * 탈퇴 신청 승인 (멤버 삭제)
      */
     public void approveWithdrawalRequest(String requestId, String clubId, String userId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(userId);
         // 1. 탈퇴 신청 상태 업데이트
         db.collection("withdrawal_requests")
                 .document(requestId)
@@ -2963,11 +3345,15 @@ public class FirebaseManager {
                             .collection("members")
                             .document(userId)
                             .delete()
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                             .addOnSuccessListener(aVoid2 -> {
+                                removeFromMembershipIndex(clubId, userId);
+
                                 // 3. 멤버 카운트 감소
                                 db.collection("clubs")
                                         .document(clubId)
                                         .update("memberCount", com.google.firebase.firestore.FieldValue.increment(-1))
+                                        .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                                         .addOnSuccessListener(aVoid3 -> callback.onSuccess())
                                         .addOnFailureListener(e -> callback.onSuccess());
                             })
@@ -2991,6 +3377,8 @@ public class FirebaseManager {
      * 회원 퇴출 (사유 기록 포함)
      */
     public void expelMemberWithReason(String clubId, String clubName, String userId, String reason, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(userId);
         // 1. 먼저 사용자의 퇴출 이력에 기록 추가 및 동아리 정보 제거
         Map<String, Object> expulsionRecord = new HashMap<>();
         expulsionRecord.put("clubId", clubId);
@@ -3007,6 +3395,7 @@ public class FirebaseManager {
         db.collection("users")
                 .document(userId)
                 .update(userUpdates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                 .addOnSuccessListener(aVoid -> {
                     // 2. 멤버에서 삭제
                     deleteMemberAndCleanup(clubId, userId, callback);
@@ -3022,6 +3411,7 @@ public class FirebaseManager {
                     db.collection("users")
                             .document(userId)
                             .set(userData, com.google.firebase.firestore.SetOptions.merge())
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, userId))
                             .addOnSuccessListener(aVoid -> {
                                 deleteMemberAndCleanup(clubId, userId, callback);
                             })
@@ -3033,6 +3423,7 @@ public class FirebaseManager {
      * 멤버 삭제 및 관련 데이터 정리 (퇴출용)
      */
     private void deleteMemberAndCleanup(String clubId, String userId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         // 멤버에서 삭제 - userId 필드로 검색하여 삭제 (문서 ID가 다를 수 있음)
         db.collection("clubs")
                 .document(clubId)
@@ -3052,11 +3443,14 @@ public class FirebaseManager {
                             .document(userId)
                             .delete();
 
+                    removeFromMembershipIndex(clubId, userId);
+
                     // 멤버 카운트 감소
                     if (!memberSnapshots.isEmpty()) {
                         db.collection("clubs")
                                 .document(clubId)
-                                .update("memberCount", com.google.firebase.firestore.FieldValue.increment(-memberSnapshots.size()));
+                                .update("memberCount", com.google.firebase.firestore.FieldValue.increment(-memberSnapshots.size()))
+                                .addOnCompleteListener(invalidateAfterWrite(clubId, null));
                     }
 
                     // 기존 가입 신청 상태를 "expelled"로 업데이트
@@ -3080,7 +3474,10 @@ public class FirebaseManager {
                             .collection("members")
                             .document(userId)
                             .delete()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess())
+                            .addOnSuccessListener(aVoid -> {
+                                removeFromMembershipIndex(clubId, userId);
+                                callback.onSuccess();
+                            })
                             .addOnFailureListener(callback::onFailure);
                 });
     }
@@ -3105,230 +3502,69 @@ public class FirebaseManager {
 
     /**
      * 동아리 완전 삭제 (모든 관련 데이터 삭제 및 부원들에게 알림)
+     * 중단된 삭제가 있으면 체크포인트부터 이어서 진행 (ClubDeleteEngine)
      */
     public void deleteClubCompletely(String clubId, String clubName, SimpleCallback callback) {
-        // 1. 먼저 동아리 멤버 목록을 가져옴
-        getClubMembers(clubId, new MembersCallback() {
+        deleteClubCompletely(clubId, clubName, new ClubDeleteEngine.ProgressCallback() {
             @Override
-            public void onSuccess(java.util.List<com.example.clubmanagement.models.Member> members) {
-                // 2. 각 멤버에게 알림 저장 및 동아리 정보 제거
-                for (com.example.clubmanagement.models.Member member : members) {
-                    sendClubDeletionNotification(member.getUserId(), clubId, clubName);
-                    removeClubFromUser(member.getUserId(), clubId);
-                }
-
-                // 3. users 컬렉션에서 이 동아리에 가입된 모든 사용자 찾아서 동아리 정보 제거
-                removeClubFromAllUsers(clubId);
+            public void onProgress(int completedSteps, int totalSteps, String stepName) {
+            }
 
-                // 4. 동아리의 서브컬렉션들 삭제
-                deleteClubSubcollections(clubId, () -> {
-                    // 5. 동아리 문서 삭제
-                    db.collection("clubs")
-                            .document(clubId)
-                            .delete()
-                            .addOnSuccessListener(aVoid -> {
-                                // 6. 관련 신청서 삭제
-                                deleteClubApplications(clubId);
-                                callback.onSuccess();
-                            })
-                            .addOnFailureListener(callback::onFailure);
-                });
+            @Override
+            public void onSuccess(int deletedCount) {
+                callback.onSuccess();
             }
 
             @Override
             public void onFailure(Exception e) {
-                // 멤버 조회 실패해도 삭제 시도
-                deleteClubSubcollections(clubId, () -> {
-                    db.collection("clubs")
-                            .document(clubId)
-                            .delete()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess())
-                            .addOnFailureListener(callback::onFailure);
-                });
+                callback.onFailure(e);
             }
         });
     }
 
-    /**
-     * 사용자에게 동아리 삭제 알림 저장
-     */
-    private void sendClubDeletionNotification(String userId, String clubId, String clubName) {
-        if (userId == null) return;
+    public void deleteClubCompletely(String clubId, String clubName, ClubDeleteEngine.ProgressCallback callback) {
+        ClubDeleteEngine.getInstance().delete(clubId, clubName, callback);
+    }
 
-        Map<String, Object> notification = new HashMap<>();
-        notification.put("type", "club_deleted");
-        notification.put("clubId", clubId);
-        notification.put("clubName", clubName);
-        notification.put("message", "'" + clubName + "' 동아리가 관리자에 의해 삭제되었습니다.");
-        notification.put("createdAt", System.currentTimeMillis());
-        notification.put("read", false);
+    // ============ 중앙동아리 인원 제한 설정 ============
 
-        db.collection("users")
-                .document(userId)
-                .collection("notifications")
-                .add(notification)
-                .addOnFailureListener(e -> Log.e(TAG, "Failed to send notification: " + e.getMessage()));
+    /**
+     * 인원 제한 콜백 인터페이스
+     */
+    public interface MemberLimitsCallback {
+        void onSuccess(int registerLimit, int maintainLimit);
+        void onFailure(Exception e);
     }
 
     /**
-     * 사용자에서 동아리 정보 제거
+     * 중앙동아리 인원 제한 가져오기
      */
-    private void removeClubFromUser(String userId, String clubId) {
-        if (userId == null) return;
-
-        db.collection("users")
-                .document(userId)
-                .get()
-                .addOnSuccessListener(doc -> {
-                    if (doc.exists()) {
-                        String centralClubId = doc.getString("centralClubId");
-
-                        Map<String, Object> updates = new HashMap<>();
-
-                        // 중앙동아리인 경우
-                        if (clubId.equals(centralClubId)) {
-                            updates.put("centralClubId", null);
-                            updates.put("centralClubName", null);
-                        }
-
-                        // 일반동아리 목록에서 제거
-                        updates.put("generalClubIds", com.google.firebase.firestore.FieldValue.arrayRemove(clubId));
-                        updates.put("generalClubNames", com.google.firebase.firestore.FieldValue.arrayRemove(clubId));
-
-                        if (!updates.isEmpty()) {
-                            db.collection("users")
-                                    .document(userId)
-                                    .update(updates);
-                        }
-                    }
-                });
-    }
-
-    /**
-     * 모든 사용자에서 동아리 정보 제거
-     */
-    private void removeClubFromAllUsers(String clubId) {
-        // centralClubId가 이 동아리인 사용자들
-        db.collection("users")
-                .whereEqualTo("centralClubId", clubId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        Map<String, Object> updates = new HashMap<>();
-                        updates.put("centralClubId", null);
-                        updates.put("centralClubName", null);
-                        doc.getReference().update(updates);
-                    }
-                });
-
-        // generalClubIds에 이 동아리가 포함된 사용자들
-        db.collection("users")
-                .whereArrayContains("generalClubIds", clubId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        doc.getReference().update(
-                                "generalClubIds", com.google.firebase.firestore.FieldValue.arrayRemove(clubId)
-                        );
-                    }
-                });
-    }
-
-    /**
-     * 동아리 서브컬렉션 삭제 (members, notices, banners 등)
-     */
-    private void deleteClubSubcollections(String clubId, Runnable onComplete) {
-        String[] subcollections = {"members", "notices", "banners", "join_requests", "leave_requests"};
-        final int[] completed = {0};
-
-        for (String subcollection : subcollections) {
-            db.collection("clubs")
-                    .document(clubId)
-                    .collection(subcollection)
-                    .get()
-                    .addOnSuccessListener(queryDocumentSnapshots -> {
-                        for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                            doc.getReference().delete();
-                        }
-                        completed[0]++;
-                        if (completed[0] >= subcollections.length) {
-                            onComplete.run();
-                        }
-                    })
-                    .addOnFailureListener(e -> {
-                        completed[0]++;
-                        if (completed[0] >= subcollections.length) {
-                            onComplete.run();
-                        }
-                    });
+    public void getMemberLimits(MemberLimitsCallback callback) {
+        Object cached = settingsCache.get("memberLimits");
+        if (cached instanceof int[]) {
+            int[] limits = (int[]) cached;
+            callback.onSuccess(limits[0], limits[1]);
+            return;
         }
-    }
-
-    /**
-     * 동아리 관련 신청서 삭제
-     */
-    private void deleteClubApplications(String clubId) {
-        // 탈퇴 신청 삭제
-        db.collection("withdrawal_requests")
-                .whereEqualTo("clubId", clubId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        doc.getReference().delete();
-                    }
-                });
 
-        // 중앙동아리 신청 삭제
-        db.collection("centralClubApplications")
-                .whereEqualTo("clubId", clubId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        doc.getReference().delete();
-                    }
-                });
-
-        // 예산 거래 내역 삭제
-        db.collection("budgetTransactions")
-                .whereEqualTo("clubId", clubId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        doc.getReference().delete();
-                    }
-                });
-    }
-
-    // ============ 중앙동아리 인원 제한 설정 ============
-
-    /**
-     * 인원 제한 콜백 인터페이스
-     */
-    public interface MemberLimitsCallback {
-        void onSuccess(int registerLimit, int maintainLimit);
-        void onFailure(Exception e);
-    }
-
-    /**
-     * 중앙동아리 인원 제한 가져오기
-     */
-    public void getMemberLimits(MemberLimitsCallback callback) {
+        long generation = settingsCache.currentGeneration();
         db.collection("settings")
                 .document("memberLimits")
                 .get()
                 .addOnSuccessListener(documentSnapshot -> {
+                    // 문서가 없으면 기본값 사용
+                    int register = 20;
+                    int maintain = 15;
                     if (documentSnapshot.exists()) {
                         Long registerLimit = documentSnapshot.getLong("registerLimit");
                         Long maintainLimit = documentSnapshot.getLong("maintainLimit");
 
-                        int register = registerLimit != null ? registerLimit.intValue() : 20;
-                        int maintain = maintainLimit != null ? maintainLimit.intValue() : 15;
-
-                        callback.onSuccess(register, maintain);
-                    } else {
-                        // 기본값 반환
-                        callback.onSuccess(20, 15);
+                        if (registerLimit != null) register = registerLimit.intValue();
+                        if (maintainLimit != null) maintain = maintainLimit.intValue();
                     }
+
+                    settingsCache.put("memberLimits", new int[]{register, maintain}, generation);
+                    callback.onSuccess(register, maintain);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -3341,6 +3577,7 @@ public class FirebaseManager {
         limits.put("registerLimit", registerLimit);
         limits.put("maintainLimit", maintainLimit);
         limits.put("updatedAt", System.currentTimeMillis());
+        settingsCache.invalidate("memberLimits");
 
         db.collection("settings")
                 .document("memberLimits")
@@ -3412,147 +3649,13 @@ public class FirebaseManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
-    // ============ 서명 업로드 관련 ============
-
-    /**
-     * URL 콜백 인터페이스
-     */
-    public interface UrlCallback {
-        void onSuccess(String url);
-        void onFailure(Exception e);
-    }
-
     /**
-     * 서명을 Firebase Storage에 업로드
+     * 새 이미지로 교체된 이전 이미지의 참조 해제 (같은 내용이면 새 업로드가 늘린 참조를 되돌리는 효과)
      */
-    public void uploadSignature(String userId, android.graphics.Bitmap signatureBitmap, UrlCallback callback) {
-        if (userId == null || signatureBitmap == null) {
-            callback.onFailure(new Exception("유효하지 않은 데이터"));
-            return;
+    private static void releaseReplacedImage(String oldImageUrl) {
+        if (oldImageUrl != null && !oldImageUrl.isEmpty()) {
+            ContentStore.getInstance().release(oldImageUrl);
         }
-
-        // Bitmap을 바이트 배열로 변환
-        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-        signatureBitmap.compress(android.graphics.Bitmap.CompressFormat.PNG, 100, baos);
-        byte[] data = baos.toByteArray();
-
-        // Firebase Storage에 업로드
-        String path = "signatures/" + userId + "_" + System.currentTimeMillis() + ".png";
-        com.google.firebase.storage.StorageReference signatureRef = storage.getReference().child(path);
-
-        signatureRef.putBytes(data)
-                .addOnSuccessListener(taskSnapshot -> {
-                    // 다운로드 URL 가져오기
-                    signatureRef.getDownloadUrl()
-                            .addOnSuccessListener(uri -> {
-                                // 사용자 문서에 서명 URL 저장
-                                db.collection("users").document(userId)
-                                        .update("signatureUrl", uri.toString())
-                                        .addOnSuccessListener(aVoid -> callback.onSuccess(uri.toString()))
-                                        .addOnFailureListener(e -> {
-                                            // 문서가 없으면 set으로 생성
-                                            java.util.Map<String, Object> userData = new java.util.HashMap<>();
-                                            userData.put("signatureUrl", uri.toString());
-                                            db.collection("users").document(userId)
-                                                    .set(userData, com.google.firebase.firestore.SetOptions.merge())
-                                                    .addOnSuccessListener(aVoid2 -> callback.onSuccess(uri.toString()))
-                                                    .addOnFailureListener(callback::onFailure);
-                                        });
-                            })
-                            .addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
-    }
-
-    /**
-     * 기존 서명을 삭제하고 새 서명을 업로드
-     */
-    public void deleteAndReuploadSignature(String clubId, String userId, android.graphics.Bitmap signatureBitmap, UrlCallback callback) {
-        if (userId == null || signatureBitmap == null) {
-            callback.onFailure(new Exception("유효하지 않은 데이터"));
-            return;
-        }
-
-        // 1. 먼저 clubs/{clubId}/members/{userId}에서 기존 서명 URL 가져오기
-        db.collection("clubs").document(clubId).collection("members").document(userId)
-                .get()
-                .addOnSuccessListener(memberDoc -> {
-                    String oldSignatureUrl = null;
-                    if (memberDoc.exists()) {
-                        oldSignatureUrl = memberDoc.getString("signatureUrl");
-                    }
-
-                    // 2. 기존 서명이 있으면 Storage에서 삭제
-                    if (oldSignatureUrl != null && !oldSignatureUrl.isEmpty()) {
-                        try {
-                            com.google.firebase.storage.StorageReference oldRef = storage.getReferenceFromUrl(oldSignatureUrl);
-                            oldRef.delete().addOnCompleteListener(task -> {
-                                // 삭제 성공/실패 상관없이 새 서명 업로드 진행
-                                uploadNewSignatureAndUpdate(clubId, userId, signatureBitmap, callback);
-                            });
-                        } catch (Exception e) {
-                            // URL이 잘못된 경우 그냥 새 서명 업로드
-                            uploadNewSignatureAndUpdate(clubId, userId, signatureBitmap, callback);
-                        }
-                    } else {
-                        // 기존 서명이 없으면 바로 새 서명 업로드
-                        uploadNewSignatureAndUpdate(clubId, userId, signatureBitmap, callback);
-                    }
-                })
-                .addOnFailureListener(e -> {
-                    // 멤버 문서가 없어도 새 서명 업로드 진행
-                    uploadNewSignatureAndUpdate(clubId, userId, signatureBitmap, callback);
-                });
-    }
-
-    /**
-     * 새 서명 업로드 및 Firestore 업데이트
-     */
-    private void uploadNewSignatureAndUpdate(String clubId, String userId, android.graphics.Bitmap signatureBitmap, UrlCallback callback) {
-        // Bitmap을 바이트 배열로 변환
-        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-        signatureBitmap.compress(android.graphics.Bitmap.CompressFormat.PNG, 100, baos);
-        byte[] data = baos.toByteArray();
-
-        // Firebase Storage에 업로드
-        String path = "signatures/" + userId + "_" + System.currentTimeMillis() + ".png";
-        com.google.firebase.storage.StorageReference signatureRef = storage.getReference().child(path);
-
-        signatureRef.putBytes(data)
-                .addOnSuccessListener(taskSnapshot -> {
-                    signatureRef.getDownloadUrl()
-                            .addOnSuccessListener(uri -> {
-                                String newSignatureUrl = uri.toString();
-
-                                // 1. users 컬렉션 업데이트
-                                db.collection("users").document(userId)
-                                        .update("signatureUrl", newSignatureUrl)
-                                        .addOnFailureListener(e -> {
-                                            // 문서가 없으면 set으로 생성
-                                            java.util.Map<String, Object> userData = new java.util.HashMap<>();
-                                            userData.put("signatureUrl", newSignatureUrl);
-                                            db.collection("users").document(userId)
-                                                    .set(userData, com.google.firebase.firestore.SetOptions.merge());
-                                        });
-
-                                // 2. clubs/{clubId}/members/{userId} 업데이트
-                                db.collection("clubs").document(clubId).collection("members").document(userId)
-                                        .update("signatureUrl", newSignatureUrl)
-                                        .addOnSuccessListener(aVoid -> callback.onSuccess(newSignatureUrl))
-                                        .addOnFailureListener(e -> {
-                                            // 문서가 없으면 set으로 생성
-                                            java.util.Map<String, Object> memberData = new java.util.HashMap<>();
-                                            memberData.put("signatureUrl", newSignatureUrl);
-                                            memberData.put("userId", userId);
-                                            db.collection("clubs").document(clubId).collection("members").document(userId)
-                                                    .set(memberData, com.google.firebase.firestore.SetOptions.merge())
-                                                    .addOnSuccessListener(aVoid2 -> callback.onSuccess(newSignatureUrl))
-                                                    .addOnFailureListener(callback::onFailure);
-                                        });
-                            })
-                            .addOnFailureListener(callback::onFailure);
-                })
-                .addOnFailureListener(callback::onFailure);
     }
 
     /**
@@ -3575,6 +3678,8 @@ public class FirebaseManager {
      */
     public void joinCentralClubWithSignature(String clubId, String clubName, String signatureUrl,
                                               int birthMonth, int birthDay, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(getCurrentUserId());
         String userId = getCurrentUserId();
         if (userId == null) {
             callback.onFailure(new Exception("로그인이 필요합니다"));
@@ -3595,6 +3700,7 @@ public class FirebaseManager {
         db.collection("users")
                 .document(userId)
                 .set(updates, com.google.firebase.firestore.SetOptions.merge())
+                .addOnCompleteListener(invalidateAfterWrite(clubId, getCurrentUserId()))
                 .addOnSuccessListener(aVoid -> {
                     // clubs 컬렉션의 members 하위 컬렉션에도 추가
                     addMemberToClubWithBirthday(clubId, userId, signatureUrl, birthMonth, birthDay, callback);
@@ -3622,6 +3728,8 @@ public class FirebaseManager {
      */
     public void joinGeneralClubWithSignature(String clubId, String clubName, String signatureUrl,
                                               int birthMonth, int birthDay, SimpleCallback callback) {
+        invalidateClubCache(clubId);
+        invalidateUserCache(getCurrentUserId());
         String userId = getCurrentUserId();
         if (userId == null) {
             callback.onFailure(new Exception("로그인이 필요합니다"));
@@ -3663,6 +3771,7 @@ public class FirebaseManager {
                     db.collection("users")
                             .document(userId)
                             .set(updates, com.google.firebase.firestore.SetOptions.merge())
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, getCurrentUserId()))
                             .addOnSuccessListener(aVoid -> {
                                 // clubs 컬렉션의 members 하위 컬렉션에도 추가
                                 addMemberToClubWithBirthday(clubId, userId, signatureUrl, birthMonth, birthDay, callback);
@@ -3676,6 +3785,7 @@ public class FirebaseManager {
      * clubs/{clubId}/members에 멤버 추가
      */
     private void addMemberToClub(String clubId, String odUserId, String signatureUrl, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         addMemberToClubWithBirthday(clubId, odUserId, signatureUrl, 0, 0, callback);
     }
 
@@ -3684,6 +3794,7 @@ public class FirebaseManager {
      */
     private void addMemberToClubWithBirthday(String clubId, String odUserId, String signatureUrl,
                                              int birthMonth, int birthDay, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         db.collection("users").document(odUserId).get()
                 .addOnSuccessListener(userDoc -> {
                     java.util.Map<String, Object> memberData = new java.util.HashMap<>();
@@ -3705,12 +3816,16 @@ public class FirebaseManager {
                     if (birthMonth > 0 && birthDay > 0) {
                         memberData.put("birthMonth", birthMonth);
                         memberData.put("birthDay", birthDay);
+                        memberData.put("birthDayOfYear", com.example.clubmanagement.models.Member.toBirthDayOfYear(birthMonth, birthDay));
                     }
 
                     db.collection("clubs").document(clubId)
                             .collection("members").document(odUserId)
                             .set(memberData)
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                             .addOnSuccessListener(aVoid -> {
+                                addToMembershipIndex(clubId, odUserId);
+
                                 // 단체 채팅방에 자동 참여
                                 joinGroupChatRoom(clubId, new SimpleCallback() {
                                     @Override
@@ -3740,12 +3855,16 @@ public class FirebaseManager {
                     if (birthMonth > 0 && birthDay > 0) {
                         memberData.put("birthMonth", birthMonth);
                         memberData.put("birthDay", birthDay);
+                        memberData.put("birthDayOfYear", com.example.clubmanagement.models.Member.toBirthDayOfYear(birthMonth, birthDay));
                     }
 
                     db.collection("clubs").document(clubId)
                             .collection("members").document(odUserId)
                             .set(memberData)
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                             .addOnSuccessListener(aVoid -> {
+                                addToMembershipIndex(clubId, odUserId);
+
                                 // 단체 채팅방에 자동 참여
                                 joinGroupChatRoom(clubId, new SimpleCallback() {
                                     @Override
@@ -3922,48 +4041,95 @@ public class FirebaseManager {
     }
 
     /**
-     * 동아리 공지 목록 가져오기
+     * 동아리 공지 목록 가져오기 (동아리 공지 + 전체 공지를 합쳐서 반환)
      */
     public void getClubNotices(String clubId, ClubNoticeListCallback callback) {
+        java.util.List<com.example.clubmanagement.models.ClubNotice> notices = new java.util.ArrayList<>();
+        final int[] remaining = {2};
+        final Exception[] clubError = {null};
+
+        Runnable onComplete = () -> {
+            remaining[0]--;
+            if (remaining[0] > 0) return;
+            if (clubError[0] != null) {
+                callback.onFailure(clubError[0]);
+                return;
+            }
+            // 클라이언트 측 정렬: isPinned 내림차순 → createdAt 내림차순
+            notices.sort((n1, n2) -> {
+                // isPinned 비교 (true가 먼저)
+                if (n1.isPinned() != n2.isPinned()) {
+                    return n1.isPinned() ? -1 : 1;
+                }
+                // createdAt 비교 (최신순)
+                if (n1.getCreatedAt() == null && n2.getCreatedAt() == null) return 0;
+                if (n1.getCreatedAt() == null) return 1;
+                if (n2.getCreatedAt() == null) return -1;
+                return n2.getCreatedAt().compareTo(n1.getCreatedAt());
+            });
+            callback.onSuccess(notices);
+        };
+
         db.collection("clubs")
                 .document(clubId)
                 .collection("notices")
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    java.util.List<com.example.clubmanagement.models.ClubNotice> notices = new java.util.ArrayList<>();
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        com.example.clubmanagement.models.ClubNotice notice =
-                                doc.toObject(com.example.clubmanagement.models.ClubNotice.class);
-                        if (notice != null) {
-                            notice.setId(doc.getId());
-                            notices.add(notice);
-                        }
-                    }
-                    // 클라이언트 측 정렬: isPinned 내림차순 → createdAt 내림차순
-                    notices.sort((n1, n2) -> {
-                        // isPinned 비교 (true가 먼저)
-                        if (n1.isPinned() != n2.isPinned()) {
-                            return n1.isPinned() ? -1 : 1;
-                        }
-                        // createdAt 비교 (최신순)
-                        if (n1.getCreatedAt() == null && n2.getCreatedAt() == null) return 0;
-                        if (n1.getCreatedAt() == null) return 1;
-                        if (n2.getCreatedAt() == null) return -1;
-                        return n2.getCreatedAt().compareTo(n1.getCreatedAt());
-                    });
-                    callback.onSuccess(notices);
+                    notices.addAll(toClubNotices(queryDocumentSnapshots));
+                    onComplete.run();
                 })
-                .addOnFailureListener(callback::onFailure);
+                .addOnFailureListener(e -> {
+                    clubError[0] = e;
+                    onComplete.run();
+                });
+
+        // 전체 공지는 실패해도 동아리 공지만으로 표시
+        db.collection(GLOBAL_NOTICES_COLLECTION)
+                .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING)
+                .limit(GLOBAL_NOTICE_LIMIT)
+                .get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    notices.addAll(toClubNotices(queryDocumentSnapshots));
+                    onComplete.run();
+                })
+                .addOnFailureListener(e -> {
+                    Log.w(TAG, "Failed to load global notices", e);
+                    onComplete.run();
+                });
+    }
+
+    private java.util.List<com.example.clubmanagement.models.ClubNotice> toClubNotices(
+            com.google.firebase.firestore.QuerySnapshot queryDocumentSnapshots) {
+        java.util.List<com.example.clubmanagement.models.ClubNotice> notices = new java.util.ArrayList<>();
+        for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
+            com.example.clubmanagement.models.ClubNotice notice =
+                    doc.toObject(com.example.clubmanagement.models.ClubNotice.class);
+            if (notice != null) {
+                notice.setId(doc.getId());
+                notices.add(notice);
+            }
+        }
+        return notices;
     }
 
     /**
-     * 공지 상세 가져오기
+     * 공지 문서 참조 (전체 공지는 globalNotices 컬렉션)
      */
-    public void getClubNotice(String clubId, String noticeId, ClubNoticeCallback callback) {
-        db.collection("clubs")
+    private com.google.firebase.firestore.DocumentReference noticeDocument(String clubId, String noticeId) {
+        if (com.example.clubmanagement.models.ClubNotice.GLOBAL_CLUB_ID.equals(clubId)) {
+            return db.collection(GLOBAL_NOTICES_COLLECTION).document(noticeId);
+        }
+        return db.collection("clubs")
                 .document(clubId)
                 .collection("notices")
-                .document(noticeId)
+                .document(noticeId);
+    }
+
+    /**
+     * 공지 상세 가져오기
+     */
+    public void getClubNotice(String clubId, String noticeId, ClubNoticeCallback callback) {
+        noticeDocument(clubId, noticeId)
                 .get()
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
@@ -4007,10 +4173,7 @@ public class FirebaseManager {
     public void updateClubNotice(com.example.clubmanagement.models.ClubNotice notice, SimpleCallback callback) {
         notice.setUpdatedAt(com.google.firebase.Timestamp.now());
 
-        db.collection("clubs")
-                .document(notice.getClubId())
-                .collection("notices")
-                .document(notice.getId())
+        noticeDocument(notice.getClubId(), notice.getId())
                 .set(notice)
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
@@ -4020,85 +4183,52 @@ public class FirebaseManager {
      * 공지 삭제
      */
     public void deleteClubNotice(String clubId, String noticeId, SimpleCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("notices")
-                .document(noticeId)
+        noticeDocument(clubId, noticeId)
                 .delete()
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
 
     /**
-     * 전체 공지 - 모든 동아리에 공지 추가
+     * 전체 공지 - globalNotices 컬렉션에 한 번만 저장
+     * 각 동아리 공지 목록과 알림함에서 조회 시 합쳐지므로 동아리/멤버 수와 관계없이 쓰기 1회
+     * 진행 상황은 BulkWriteExecutor 와 같은 형태(onProgress(current, total))로 전달됩니다.
      */
-    public interface GlobalNoticeCallback {
-        void onProgress(int current, int total);
-        void onSuccess(int totalSent);
-        void onFailure(Exception e);
+    public interface GlobalNoticeCallback extends BulkWriteExecutor.ProgressCallback {
     }
 
     public void sendGlobalNotice(String title, String content, String authorId, String authorName, GlobalNoticeCallback callback) {
-        // 모든 동아리 가져오기
+        // 공지가 표시될 동아리 수 (문서를 받지 않고 개수만 집계)
         db.collection("clubs")
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    if (querySnapshot.isEmpty()) {
+                .count()
+                .get(com.google.firebase.firestore.AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    int totalClubs = (int) snapshot.getCount();
+                    if (totalClubs == 0) {
                         callback.onFailure(new Exception("등록된 동아리가 없습니다"));
                         return;
                     }
 
-                    int totalClubs = querySnapshot.size();
-                    final int[] successCount = {0};
-                    final int[] processedCount = {0};
-
-                    for (com.google.firebase.firestore.DocumentSnapshot clubDoc : querySnapshot.getDocuments()) {
-                        String clubId = clubDoc.getId();
-                        String clubName = clubDoc.getString("name");
-                        if (clubName == null) clubName = "동아리";
-
-                        // 공지 생성
-                        com.example.clubmanagement.models.ClubNotice notice =
-                                new com.example.clubmanagement.models.ClubNotice(
-                                        clubId,
-                                        "[전체공지] " + title,
-                                        content,
-                                        authorId,
-                                        authorName
-                                );
-                        notice.setPinned(true); // 전체 공지는 상단 고정
-
-                        String finalClubName = clubName;
-                        String noticeId = db.collection("clubs").document(clubId)
-                                .collection("notices").document().getId();
-                        notice.setId(noticeId);
-
-                        db.collection("clubs")
-                                .document(clubId)
-                                .collection("notices")
-                                .document(noticeId)
-                                .set(notice)
-                                .addOnSuccessListener(aVoid -> {
-                                    successCount[0]++;
-                                    processedCount[0]++;
-                                    callback.onProgress(processedCount[0], totalClubs);
-
-                                    // 해당 동아리 멤버들에게 알림 생성
-                                    createNoticeNotificationsForMembers(clubId, finalClubName, noticeId, notice.getTitle());
-
-                                    if (processedCount[0] == totalClubs) {
-                                        callback.onSuccess(successCount[0]);
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    processedCount[0]++;
-                                    callback.onProgress(processedCount[0], totalClubs);
-
-                                    if (processedCount[0] == totalClubs) {
-                                        callback.onSuccess(successCount[0]);
-                                    }
-                                });
-                    }
+                    com.example.clubmanagement.models.ClubNotice notice =
+                            new com.example.clubmanagement.models.ClubNotice(
+                                    com.example.clubmanagement.models.ClubNotice.GLOBAL_CLUB_ID,
+                                    "[전체공지] " + title,
+                                    content,
+                                    authorId,
+                                    authorName
+                            );
+                    notice.setPinned(true); // 전체 공지는 상단 고정
+
+                    com.google.firebase.firestore.DocumentReference noticeRef =
+                            db.collection(GLOBAL_NOTICES_COLLECTION).document();
+                    notice.setId(noticeRef.getId());
+
+                    noticeRef.set(notice)
+                            .addOnSuccessListener(aVoid -> {
+                                callback.onProgress(1, 1);
+                                callback.onSuccess(totalClubs);
+                            })
+                            .addOnFailureListener(callback::onFailure);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4107,10 +4237,7 @@ public class FirebaseManager {
      * 공지 조회수 증가
      */
     public void incrementNoticeViewCount(String clubId, String noticeId) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("notices")
-                .document(noticeId)
+        noticeDocument(clubId, noticeId)
                 .update("viewCount", com.google.firebase.firestore.FieldValue.increment(1));
     }
 
@@ -4132,10 +4259,7 @@ public class FirebaseManager {
      * 공지 댓글 목록 가져오기
      */
     public void getNoticeComments(String clubId, String noticeId, NoticeCommentListCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("notices")
-                .document(noticeId)
+        noticeDocument(clubId, noticeId)
                 .collection("comments")
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
@@ -4170,8 +4294,7 @@ public class FirebaseManager {
             return;
         }
 
-        String commentId = db.collection("clubs").document(comment.getClubId())
-                .collection("notices").document(comment.getNoticeId())
+        String commentId = noticeDocument(comment.getClubId(), comment.getNoticeId())
                 .collection("comments").document().getId();
         comment.setId(commentId);
 
@@ -4187,19 +4310,13 @@ public class FirebaseManager {
         commentData.put("updatedAt", comment.getUpdatedAt());
         commentData.put("edited", comment.isEdited());
 
-        db.collection("clubs")
-                .document(comment.getClubId())
-                .collection("notices")
-                .document(comment.getNoticeId())
+        noticeDocument(comment.getClubId(), comment.getNoticeId())
                 .collection("comments")
                 .document(commentId)
                 .set(commentData)
                 .addOnSuccessListener(aVoid -> {
                     // 댓글 수 증가
-                    db.collection("clubs")
-                            .document(comment.getClubId())
-                            .collection("notices")
-                            .document(comment.getNoticeId())
+                    noticeDocument(comment.getClubId(), comment.getNoticeId())
                             .update("commentCount", com.google.firebase.firestore.FieldValue.increment(1));
                     callback.onSuccess();
                 })
@@ -4225,10 +4342,7 @@ public class FirebaseManager {
         commentData.put("updatedAt", comment.getUpdatedAt());
         commentData.put("edited", comment.isEdited());
 
-        db.collection("clubs")
-                .document(comment.getClubId())
-                .collection("notices")
-                .document(comment.getNoticeId())
+        noticeDocument(comment.getClubId(), comment.getNoticeId())
                 .collection("comments")
                 .document(comment.getId())
                 .set(commentData)
@@ -4240,19 +4354,13 @@ public class FirebaseManager {
      * 댓글 삭제
      */
     public void deleteNoticeComment(String clubId, String noticeId, String commentId, SimpleCallback callback) {
-        db.collection("clubs")
-                .document(clubId)
-                .collection("notices")
-                .document(noticeId)
+        noticeDocument(clubId, noticeId)
                 .collection("comments")
                 .document(commentId)
                 .delete()
                 .addOnSuccessListener(aVoid -> {
                     // 댓글 수 감소
-                    db.collection("clubs")
-                            .document(clubId)
-                            .collection("notices")
-                            .document(noticeId)
+                    noticeDocument(clubId, noticeId)
                             .update("commentCount", com.google.firebase.firestore.FieldValue.increment(-1));
                     callback.onSuccess();
                 })
@@ -4273,50 +4381,296 @@ public class FirebaseManager {
         void onFailure(Exception e);
     }
 
+    public interface ClubNotificationPageCallback {
+        void onSuccess(java.util.List<com.example.clubmanagement.models.ClubNotification> notifications,
+                       NotificationPageCursor next, boolean hasMore);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 알림 페이지 커서 - 개인 알림과 전체 공지 각각에서 마지막으로 보여준 문서
+     */
+    public static class NotificationPageCursor {
+        private final com.google.firebase.firestore.DocumentSnapshot lastNotification;
+        private final com.google.firebase.firestore.DocumentSnapshot lastGlobalNotice;
+
+        NotificationPageCursor(com.google.firebase.firestore.DocumentSnapshot lastNotification,
+                               com.google.firebase.firestore.DocumentSnapshot lastGlobalNotice) {
+            this.lastNotification = lastNotification;
+            this.lastGlobalNotice = lastGlobalNotice;
+        }
+    }
+
     /**
-     * 사용자 알림 목록 가져오기
+     * 사용자 알림 목록 가져오기 (최신 1페이지)
      */
     public void getUserNotifications(String userId, ClubNotificationListCallback callback) {
-        db.collection("notifications")
+        getUserNotificationsPage(userId, null, NOTIFICATION_PAGE_SIZE, new ClubNotificationPageCallback() {
+            @Override
+            public void onSuccess(java.util.List<com.example.clubmanagement.models.ClubNotification> notifications,
+                                  NotificationPageCursor next, boolean hasMore) {
+                callback.onSuccess(notifications);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * 사용자 알림 페이지 조회 - 개인 알림과 전체 공지를 createdAt 최신순으로 합쳐 pageSize 개씩 반환
+     * 두 컬렉션을 각자의 startAfter 커서로 pageSize + 1 개까지만 조회하므로 한 페이지 조회량이 제한됨
+     * 보관 기간이 지난 알림은 제외
+     * (Firestore 복합 인덱스 필요: notifications - userId ASC, createdAt DESC)
+     */
+    public void getUserNotificationsPage(String userId, NotificationPageCursor cursor,
+                                         int pageSize, ClubNotificationPageCallback callback) {
+        Timestamp cutoff = getNotificationRetentionCutoff();
+        com.google.firebase.firestore.Query query = db.collection("notifications")
                 .whereEqualTo("userId", userId)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    java.util.List<com.example.clubmanagement.models.ClubNotification> notifications = new java.util.ArrayList<>();
-                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        com.example.clubmanagement.models.ClubNotification notification =
-                                doc.toObject(com.example.clubmanagement.models.ClubNotification.class);
-                        if (notification != null) {
-                            notification.setId(doc.getId());
-                            notifications.add(notification);
-                        }
+                .whereGreaterThan("createdAt", cutoff)
+                .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING);
+        com.google.firebase.firestore.Query globalQuery = db.collection(GLOBAL_NOTICES_COLLECTION)
+                .whereGreaterThan("createdAt", cutoff)
+                .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING);
+        if (cursor != null && cursor.lastNotification != null) {
+            query = query.startAfter(cursor.lastNotification);
+        }
+        if (cursor != null && cursor.lastGlobalNotice != null) {
+            globalQuery = globalQuery.startAfter(cursor.lastGlobalNotice);
+        }
+
+        // 각각 한 개 더 가져와서 다음 페이지 존재 여부 확인
+        com.google.android.gms.tasks.Task<com.google.firebase.firestore.QuerySnapshot> notificationTask =
+                query.limit(pageSize + 1).get();
+        com.google.android.gms.tasks.Task<com.google.firebase.firestore.QuerySnapshot> globalTask =
+                globalQuery.limit(pageSize + 1).get();
+        com.google.android.gms.tasks.Tasks.whenAllComplete(notificationTask, globalTask)
+                .addOnSuccessListener(tasks -> {
+                    if (!notificationTask.isSuccessful()) {
+                        callback.onFailure(notificationTask.getException());
+                        return;
                     }
-                    // 클라이언트 측 정렬 (최신순) 및 50개 제한
-                    notifications.sort((n1, n2) -> {
-                        if (n1.getCreatedAt() == null && n2.getCreatedAt() == null) return 0;
-                        if (n1.getCreatedAt() == null) return 1;
-                        if (n2.getCreatedAt() == null) return -1;
-                        return n2.getCreatedAt().compareTo(n1.getCreatedAt());
+                    if (!globalTask.isSuccessful()) {
+                        // 전체 공지를 못 가져와도 개인 알림은 표시 (전체 공지 커서는 그대로 유지)
+                        Log.w(TAG, "Failed to merge global notices", globalTask.getException());
+                        mergeNotificationPage(notificationTask.getResult().getDocuments(),
+                                java.util.Collections.emptyList(), null, cursor, pageSize, callback);
+                        return;
+                    }
+                    getGlobalNoticeReadAt(userId, new TimestampCallback() {
+                        @Override
+                        public void onSuccess(Timestamp readAt) {
+                            mergeNotificationPage(notificationTask.getResult().getDocuments(),
+                                    globalTask.getResult().getDocuments(), readAt, cursor, pageSize, callback);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            Log.w(TAG, "Failed to merge global notices", e);
+                            mergeNotificationPage(notificationTask.getResult().getDocuments(),
+                                    java.util.Collections.emptyList(), null, cursor, pageSize, callback);
+                        }
                     });
-                    if (notifications.size() > 50) {
-                        notifications = notifications.subList(0, 50);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 최신순으로 정렬된 개인 알림과 전체 공지를 앞에서부터 pageSize 개까지 합치고 다음 페이지 커서 계산
+     */
+    private void mergeNotificationPage(java.util.List<com.google.firebase.firestore.DocumentSnapshot> notificationDocs,
+                                       java.util.List<com.google.firebase.firestore.DocumentSnapshot> globalDocs,
+                                       Timestamp readAt, NotificationPageCursor cursor, int pageSize,
+                                       ClubNotificationPageCallback callback) {
+        java.util.List<com.example.clubmanagement.models.ClubNotification> merged = new java.util.ArrayList<>();
+        com.google.firebase.firestore.DocumentSnapshot lastNotification = cursor != null ? cursor.lastNotification : null;
+        com.google.firebase.firestore.DocumentSnapshot lastGlobalNotice = cursor != null ? cursor.lastGlobalNotice : null;
+        int n = 0;
+        int g = 0;
+        while (merged.size() < pageSize && (n < notificationDocs.size() || g < globalDocs.size())) {
+            boolean takeGlobal;
+            if (n >= notificationDocs.size()) {
+                takeGlobal = true;
+            } else if (g >= globalDocs.size()) {
+                takeGlobal = false;
+            } else {
+                Timestamp notificationTime = notificationDocs.get(n).getTimestamp("createdAt");
+                Timestamp globalTime = globalDocs.get(g).getTimestamp("createdAt");
+                takeGlobal = globalTime != null && (notificationTime == null || globalTime.compareTo(notificationTime) > 0);
+            }
+
+            if (takeGlobal) {
+                com.google.firebase.firestore.DocumentSnapshot doc = globalDocs.get(g++);
+                lastGlobalNotice = doc;
+                com.example.clubmanagement.models.ClubNotice notice =
+                        doc.toObject(com.example.clubmanagement.models.ClubNotice.class);
+                if (notice != null) {
+                    notice.setId(doc.getId());
+                    merged.add(com.example.clubmanagement.models.ClubNotification.fromGlobalNotice(notice, readAt));
+                }
+            } else {
+                com.google.firebase.firestore.DocumentSnapshot doc = notificationDocs.get(n++);
+                lastNotification = doc;
+                com.example.clubmanagement.models.ClubNotification notification =
+                        doc.toObject(com.example.clubmanagement.models.ClubNotification.class);
+                if (notification != null) {
+                    notification.setId(doc.getId());
+                    merged.add(notification);
+                }
+            }
+        }
+
+        boolean hasMore = n < notificationDocs.size() || g < globalDocs.size();
+        callback.onSuccess(merged, new NotificationPageCursor(lastNotification, lastGlobalNotice), hasMore);
+    }
+
+    public interface TimestampCallback {
+        void onSuccess(Timestamp timestamp);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 사용자의 전체 공지 읽음 기준 시각
+     * 한 번도 읽음 처리하지 않은 현재 사용자는 가입 시각을 기준으로 함 (가입 전 공지는 읽은 것으로 처리)
+     */
+    private void getGlobalNoticeReadAt(String userId, TimestampCallback callback) {
+        db.collection("users").document(userId)
+                .get()
+                .addOnSuccessListener(documentSnapshot -> {
+                    Timestamp readAt = documentSnapshot.getTimestamp(GLOBAL_NOTICE_READ_AT_FIELD);
+                    if (readAt == null) {
+                        FirebaseUser user = auth.getCurrentUser();
+                        if (user != null && userId.equals(user.getUid()) && user.getMetadata() != null) {
+                            readAt = new Timestamp(new java.util.Date(user.getMetadata().getCreationTimestamp()));
+                        }
                     }
-                    callback.onSuccess(notifications);
+                    callback.onSuccess(readAt);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
     /**
-     * 읽지 않은 알림 개수 가져오기
+     * 전체 공지 읽음 처리 - 읽음 기준 시각을 해당 공지 시각까지 앞당김 (그 이전 전체 공지도 읽음 처리됨)
+     */
+    public void markGlobalNoticesReadUntil(String userId, Timestamp readAt, SimpleCallback callback) {
+        getGlobalNoticeReadAt(userId, new TimestampCallback() {
+            @Override
+            public void onSuccess(Timestamp current) {
+                if (readAt == null || (current != null && current.compareTo(readAt) >= 0)) {
+                    callback.onSuccess();
+                    return;
+                }
+                Map<String, Object> data = new HashMap<>();
+                data.put(GLOBAL_NOTICE_READ_AT_FIELD, readAt);
+                invalidateUserCache(userId);
+                db.collection("users").document(userId)
+                        .set(data, com.google.firebase.firestore.SetOptions.merge())
+                        .addOnCompleteListener(invalidateAfterWrite(null, userId))
+                        .addOnSuccessListener(aVoid -> callback.onSuccess())
+                        .addOnFailureListener(callback::onFailure);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 개수 가져오기 (문서를 받지 않고 서버 집계 쿼리로 개수만 조회)
      */
     public void getUnreadNotificationCount(String userId, CountCallback callback) {
+        final int[] counts = {0, 0};
+        final int[] remaining = {2};
+        final boolean[] failed = {false};
+
+        Runnable onComplete = () -> {
+            remaining[0]--;
+            if (remaining[0] == 0 && !failed[0]) {
+                callback.onSuccess(counts[0] + counts[1]);
+            }
+        };
+
         db.collection("notifications")
                 .whereEqualTo("userId", userId)
                 .whereEqualTo("isRead", false)
+                .count()
+                .get(com.google.firebase.firestore.AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    counts[0] = (int) snapshot.getCount();
+                    onComplete.run();
+                })
+                .addOnFailureListener(e -> {
+                    if (!failed[0]) {
+                        failed[0] = true;
+                        callback.onFailure(e);
+                    }
+                });
+
+        // 읽음 기준 시각 이후의 전체 공지 수 (전체 공지는 실패해도 개인 알림 수만 표시)
+        getGlobalNoticeReadAt(userId, new TimestampCallback() {
+            @Override
+            public void onSuccess(Timestamp readAt) {
+                Timestamp cutoff = getNotificationRetentionCutoff();
+                Timestamp since = readAt != null && readAt.compareTo(cutoff) > 0 ? readAt : cutoff;
+                db.collection(GLOBAL_NOTICES_COLLECTION)
+                        .whereGreaterThan("createdAt", since)
+                        .count()
+                        .get(com.google.firebase.firestore.AggregateSource.SERVER)
+                        .addOnSuccessListener(snapshot -> {
+                            counts[1] = (int) snapshot.getCount();
+                            onComplete.run();
+                        })
+                        .addOnFailureListener(e -> onComplete.run());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onComplete.run();
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 사용자 알림 삭제 (한 번에 최대 FIRESTORE_BATCH_LIMIT개, 남아 있으면 이어서 삭제)
+     * 서버 TTL 정책(expireAt 필드)이 설정되지 않았거나 expireAt이 없는 기존 알림 정리용
+     */
+    public void deleteExpiredNotifications(String userId, SimpleCallback callback) {
+        db.collection("notifications")
+                .whereEqualTo("userId", userId)
+                .whereLessThan("createdAt", getNotificationRetentionCutoff())
+                .limit(FIRESTORE_BATCH_LIMIT)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    callback.onSuccess(queryDocumentSnapshots.size());
+                    if (queryDocumentSnapshots.isEmpty()) {
+                        callback.onSuccess();
+                        return;
+                    }
+
+                    WriteBatch batch = db.batch();
+                    for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
+                        batch.delete(doc.getReference());
+                    }
+                    batch.commit()
+                            .addOnSuccessListener(aVoid -> {
+                                if (queryDocumentSnapshots.size() < FIRESTORE_BATCH_LIMIT) {
+                                    callback.onSuccess();
+                                } else {
+                                    deleteExpiredNotifications(userId, callback);
+                                }
+                            })
+                            .addOnFailureListener(callback::onFailure);
                 })
-                .addOnFailureListener(e -> callback.onFailure(e));
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private static Timestamp getNotificationRetentionCutoff() {
+        long retentionMs = com.example.clubmanagement.models.ClubNotification.RETENTION_DAYS * 24L * 60 * 60 * 1000;
+        return new Timestamp(new java.util.Date(System.currentTimeMillis() - retentionMs));
     }
 
     /**
@@ -4325,7 +4679,7 @@ public class FirebaseManager {
     public void markNotificationAsRead(String notificationId, SimpleCallback callback) {
         db.collection("notifications")
                 .document(notificationId)
-                .update("isRead", true)
+                .update("isRead", true, "read", true)
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4334,18 +4688,25 @@ public class FirebaseManager {
      * 모든 알림 읽음 처리
      */
     public void markAllNotificationsAsRead(String userId, SimpleCallback callback) {
+        // 전체 공지는 읽음 기준 시각만 현재로 갱신
+        Map<String, Object> readAtData = new HashMap<>();
+        readAtData.put(GLOBAL_NOTICE_READ_AT_FIELD, Timestamp.now());
+        invalidateUserCache(userId);
+        db.collection("users").document(userId)
+                .set(readAtData, com.google.firebase.firestore.SetOptions.merge())
+                .addOnCompleteListener(invalidateAfterWrite(null, userId))
+                .addOnFailureListener(e -> Log.w(TAG, "Failed to update global notice read time", e));
+
         db.collection("notifications")
                 .whereEqualTo("userId", userId)
                 .whereEqualTo("isRead", false)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
                     for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
-                        batch.update(doc.getReference(), "isRead", true);
+                        writer.update(doc.getReference(), "isRead", true, "read", true);
                     }
-                    batch.commit()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess())
-                            .addOnFailureListener(callback::onFailure);
+                    writer.execute(toProgressCallback(callback));
                 })
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4365,6 +4726,16 @@ public class FirebaseManager {
      * 공지 작성 시 모든 멤버에게 알림 생성
      */
     private void createNoticeNotificationsForMembers(String clubId, String clubName, String noticeId, String noticeTitle) {
+        SimpleCallback callback = new SimpleCallback() {
+            @Override
+            public void onSuccess() {
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.w(TAG, "Failed to create notice notifications for " + clubId, e);
+            }
+        };
         String currentUserId = getCurrentUserId();
 
         db.collection("clubs")
@@ -4372,7 +4743,8 @@ public class FirebaseManager {
                 .collection("members")
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
+                    // 멤버 수가 많아도 500개 단위 배치로 나눠서 커밋
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
 
                     for (com.google.firebase.firestore.DocumentSnapshot doc : queryDocumentSnapshots) {
                         String memberId = doc.getId();
@@ -4385,14 +4757,37 @@ public class FirebaseManager {
                                         memberId, clubId, clubName, noticeId, noticeTitle
                                 );
 
-                        String notificationId = db.collection("notifications").document().getId();
-                        notification.setId(notificationId);
+                        com.google.firebase.firestore.DocumentReference notificationRef =
+                                db.collection("notifications").document();
+                        notification.setId(notificationRef.getId());
 
-                        batch.set(db.collection("notifications").document(notificationId), notification);
+                        writer.set(notificationRef, notification);
                     }
 
-                    batch.commit();
-                });
+                    writer.execute(toProgressCallback(callback));
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 진행 상황이 필요 없는 대량 쓰기 결과를 SimpleCallback 으로 전달
+     */
+    private static BulkWriteExecutor.ProgressCallback toProgressCallback(SimpleCallback callback) {
+        return new BulkWriteExecutor.ProgressCallback() {
+            @Override
+            public void onProgress(int current, int total) {
+            }
+
+            @Override
+            public void onSuccess(int totalSent) {
+                callback.onSuccess();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        };
     }
 
     // ============================================
@@ -4462,6 +4857,7 @@ public class FirebaseManager {
      */
     public void approveMembershipApplication(String clubId, String applicationId,
                                               SimpleCallback callback) {
+        invalidateClubCache(clubId);
         String reviewerId = getCurrentUserId();
 
         db.collection("clubs")
@@ -4499,6 +4895,7 @@ public class FirebaseManager {
                     member.put("email", email);
                     member.put("birthMonth", birthMonth);
                     member.put("birthDay", birthDay);
+                    member.put("birthDayOfYear", com.example.clubmanagement.models.Member.toBirthDayOfYear(birthMonth, birthDay));
                     member.put("role", "부원");
                     member.put("isAdmin", false);
                     member.put("joinedAt", com.google.firebase.Timestamp.now());
@@ -4508,7 +4905,10 @@ public class FirebaseManager {
                             .collection("members")
                             .document(userId)
                             .set(member)
+                            .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                             .addOnSuccessListener(aVoid -> {
+                                addToMembershipIndex(clubId, userId);
+
                                 // 사용자 문서에 동아리 정보 업데이트
                                 java.util.Map<String, Object> userUpdates = new java.util.HashMap<>();
                                 if (isCentralClub != null && isCentralClub) {
@@ -4521,9 +4921,11 @@ public class FirebaseManager {
                                     userUpdates.put("generalClubNames", com.google.firebase.firestore.FieldValue.arrayUnion(clubName));
                                 }
 
+                                invalidateUserCache(userId);
                                 db.collection("users")
                                         .document(userId)
                                         .set(userUpdates, com.google.firebase.firestore.SetOptions.merge())
+                                        .addOnCompleteListener(invalidateAfterWrite(null, userId))
                                         .addOnSuccessListener(aVoid1 -> {
                                             // 신청 상태 업데이트
                                             java.util.Map<String, Object> updates = new java.util.HashMap<>();
@@ -4729,6 +5131,7 @@ public class FirebaseManager {
     }
 
     public void findUserClubMembership(ClubMembershipCallback callback) {
+        invalidateUserCache(getCurrentUserId());
         String userId = getCurrentUserId();
         if (userId == null) {
             callback.onResult(null, null, false);
@@ -4765,8 +5168,10 @@ public class FirebaseManager {
                                                 Map<String, Object> updates = new HashMap<>();
                                                 updates.put("centralClubId", clubId);
                                                 updates.put("centralClubName", clubName);
+                                                invalidateUserCache(userId);
                                                 db.collection("users").document(userId)
-                                                        .set(updates, com.google.firebase.firestore.SetOptions.merge());
+                                                        .set(updates, com.google.firebase.firestore.SetOptions.merge())
+                                                        .addOnCompleteListener(invalidateAfterWrite(null, userId));
                                             }
 
                                             callback.onResult(clubId, clubName, isCentral != null && isCentral);
@@ -4791,6 +5196,7 @@ public class FirebaseManager {
      * 가입 신청 설정 업데이트 (열기/닫기)
      */
     public void updateApplicationSettings(String clubId, boolean isOpen, com.google.firebase.Timestamp endDate, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         java.util.Map<String, Object> updates = new java.util.HashMap<>();
         updates.put("applicationOpen", isOpen);
         if (endDate != null) {
@@ -4802,6 +5208,7 @@ public class FirebaseManager {
         db.collection("clubs")
                 .document(clubId)
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4810,9 +5217,11 @@ public class FirebaseManager {
      * 가입 신청 중단하기
      */
     public void stopApplications(String clubId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         db.collection("clubs")
                 .document(clubId)
                 .update("applicationOpen", false)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4821,6 +5230,7 @@ public class FirebaseManager {
      * 가입 신청 다시 받기
      */
     public void resumeApplications(String clubId, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         java.util.Map<String, Object> updates = new java.util.HashMap<>();
         updates.put("applicationOpen", true);
         updates.put("applicationEndDate", com.google.firebase.firestore.FieldValue.delete());
@@ -4828,6 +5238,7 @@ public class FirebaseManager {
         db.collection("clubs")
                 .document(clubId)
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4836,6 +5247,7 @@ public class FirebaseManager {
      * 가입 신청 기간 설정
      */
     public void setApplicationPeriod(String clubId, com.google.firebase.Timestamp endDate, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         java.util.Map<String, Object> updates = new java.util.HashMap<>();
         updates.put("applicationOpen", true);
         updates.put("applicationEndDate", endDate);
@@ -4843,6 +5255,7 @@ public class FirebaseManager {
         db.collection("clubs")
                 .document(clubId)
                 .update(updates)
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(callback::onFailure);
     }
@@ -4874,6 +5287,7 @@ public class FirebaseManager {
      * 동아리 가입 신청 설정 저장하기
      */
     public void setApplicationSettings(String clubId, boolean isOpen, com.google.firebase.Timestamp endDate, SimpleCallback callback) {
+        invalidateClubCache(clubId);
         java.util.Map<String, Object> updates = new java.util.HashMap<>();
         updates.put("applicationOpen", isOpen);
         if (endDate != null) {
@@ -4885,6 +5299,7 @@ public class FirebaseManager {
         db.collection("clubs")
                 .document(clubId)
                 .set(updates, com.google.firebase.firestore.SetOptions.merge())
+                .addOnCompleteListener(invalidateAfterWrite(clubId, null))
                 .addOnSuccessListener(aVoid -> callback.onSuccess())
                 .addOnFailureListener(e -> callback.onFailure(e));
     }
@@ -5165,7 +5580,8 @@ public class FirebaseManager {
                         } else if (lastMessageTimeObj instanceof com.google.firebase.Timestamp) {
                             lastMessageTime = ((com.google.firebase.Timestamp) lastMessageTimeObj).toDate().getTime();
                         }
-                        Long unreadCount = doc.getLong("unreadCount");
+                        // 사용자별 안 읽은 메시지 카운터 (unreadCounts.{userId})
+                        int unreadCount = ChatNotificationManager.getUnreadCountForUser(doc, currentUserId);
                         Boolean notificationEnabled = doc.getBoolean("notificationEnabled");
                         String leftUserId = doc.getString("leftUserId");
 
@@ -5173,7 +5589,7 @@ public class FirebaseManager {
                         chatRoom.setClubName(clubName != null ? clubName : "");
                         chatRoom.setLastMessage(lastMessage != null ? lastMessage : "");
                         chatRoom.setLastMessageTime(lastMessageTime);
-                        chatRoom.setUnreadCount(unreadCount != null ? unreadCount.intValue() : 0);
+                        chatRoom.setUnreadCount(unreadCount);
                         chatRoom.setNotificationEnabled(notificationEnabled != null ? notificationEnabled : true);
 
                         // participants 목록 가져오기
@@ -5273,6 +5689,7 @@ public class FirebaseManager {
         updateData.put("leftUserId", currentUserId);
         updateData.put("lastMessage", "상대방이 나갔습니다");
         updateData.put("lastMessageTime", System.currentTimeMillis());
+        updateData.put("lastMessageSenderId", currentUserId);
 
         db.collection("chatRooms")
                 .document(chatRoomId)
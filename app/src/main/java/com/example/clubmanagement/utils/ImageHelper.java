@@ -4,6 +4,7 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
+import android.view.ViewGroup;
 import android.widget.ImageView;
 
 import androidx.annotation.DrawableRes;
@@ -24,6 +25,7 @@ import com.example.clubmanagement.R;
 /**
  * 이미지 로딩 관련 공통 유틸리티 클래스
  * Glide를 사용한 일관된 이미지 로딩을 제공합니다.
+ * URL 이미지는 업로드 시 만든 축소본 중 ImageView 크기를 덮는 가장 작은 것을 불러옵니다.
  */
 public class ImageHelper {
 
@@ -54,11 +56,10 @@ public class ImageHelper {
             return;
         }
 
-        Glide.with(context)
-                .load(imageUrl)
+        sizedRequest(context, imageView, imageUrl, new RequestOptions()
                 .placeholder(placeholder)
                 .error(placeholder)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .diskCacheStrategy(DiskCacheStrategy.ALL))
                 .into(imageView);
     }
 
@@ -114,12 +115,10 @@ public class ImageHelper {
             return;
         }
 
-        Glide.with(imageView.getContext())
-                .load(imageUrl)
-                .apply(RequestOptions.circleCropTransform())
+        sizedRequest(imageView.getContext(), imageView, imageUrl, RequestOptions.circleCropTransform()
                 .placeholder(placeholder)
                 .error(placeholder)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .diskCacheStrategy(DiskCacheStrategy.ALL))
                 .into(imageView);
     }
 
@@ -171,12 +170,11 @@ public class ImageHelper {
         Context context = imageView.getContext();
         int radiusPx = dpToPx(context, cornerRadiusDp);
 
-        Glide.with(context)
-                .load(imageUrl)
+        sizedRequest(context, imageView, imageUrl, new RequestOptions()
                 .transform(new CenterCrop(), new RoundedCorners(radiusPx))
                 .placeholder(placeholder)
                 .error(placeholder)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .diskCacheStrategy(DiskCacheStrategy.ALL))
                 .into(imageView);
     }
 
@@ -199,12 +197,10 @@ public class ImageHelper {
             return;
         }
 
-        Glide.with(imageView.getContext())
-                .load(imageUrl)
-                .centerCrop()
+        sizedRequest(imageView.getContext(), imageView, imageUrl, RequestOptions.centerCropTransform()
                 .placeholder(placeholder)
                 .error(placeholder)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .diskCacheStrategy(DiskCacheStrategy.ALL))
                 .into(imageView);
     }
 
@@ -227,12 +223,10 @@ public class ImageHelper {
             return;
         }
 
-        Glide.with(imageView.getContext())
-                .load(imageUrl)
-                .fitCenter()
+        sizedRequest(imageView.getContext(), imageView, imageUrl, RequestOptions.fitCenterTransform()
                 .placeholder(placeholder)
                 .error(placeholder)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .diskCacheStrategy(DiskCacheStrategy.ALL))
                 .into(imageView);
     }
 
@@ -247,6 +241,7 @@ public class ImageHelper {
 
     /**
      * URL에서 썸네일 이미지 로드 (썸네일 크기 비율 지정)
+     * 축소본이 있으면 가장 작은 축소본을 미리보기로 먼저 표시합니다.
      */
     public static void loadImageWithThumbnail(@NonNull ImageView imageView, @Nullable String imageUrl,
                                                float thumbnailSizeMultiplier) {
@@ -255,11 +250,47 @@ public class ImageHelper {
             return;
         }
 
-        Glide.with(imageView.getContext())
-                .load(imageUrl)
-                .thumbnail(thumbnailSizeMultiplier)
-                .diskCacheStrategy(DiskCacheStrategy.ALL)
-                .into(imageView);
+        Context context = imageView.getContext();
+        RequestOptions options = new RequestOptions().diskCacheStrategy(DiskCacheStrategy.ALL);
+        String url = resolveUrl(imageView, imageUrl);
+        String preview = ImageVariants.smallest(imageUrl);
+        RequestBuilder<Drawable> request = sizedRequest(context, imageView, imageUrl, options);
+        if (preview != null && !preview.equals(url)) {
+            request.thumbnail(Glide.with(context).load(preview).apply(options)).into(imageView);
+        } else {
+            request.thumbnail(thumbnailSizeMultiplier).into(imageView);
+        }
+    }
+
+    // ======================== 축소본 선택 ========================
+
+    /**
+     * ImageView 크기에 맞는 축소본 요청 (축소본을 불러오지 못하면 원본으로 대체)
+     * 목록 어댑터처럼 placeholder 를 직접 지정해야 하는 곳에서 사용합니다.
+     */
+    public static RequestBuilder<Drawable> sizedRequest(@NonNull Context context, @NonNull ImageView imageView,
+                                                        @NonNull String imageUrl, @NonNull RequestOptions options) {
+        String original = ImageVariants.original(imageUrl);
+        String url = resolveUrl(imageView, imageUrl);
+        RequestBuilder<Drawable> request = Glide.with(context).load(url).apply(options);
+        if (!url.equals(original)) {
+            request = request.error(Glide.with(context).load(original).apply(options));
+        }
+        return request;
+    }
+
+    /**
+     * ImageView 크기를 덮는 가장 작은 축소본 URL
+     * 아직 측정 전이면 고정 크기(LayoutParams)를, 그것도 없으면 화면 너비를 기준으로 합니다.
+     */
+    public static String resolveUrl(@NonNull ImageView imageView, @NonNull String imageUrl) {
+        int width = imageView.getWidth();
+        int height = imageView.getHeight();
+        ViewGroup.LayoutParams params = imageView.getLayoutParams();
+        if (width <= 0 && params != null && params.width > 0) width = params.width;
+        if (height <= 0 && params != null && params.height > 0) height = params.height;
+        if (width <= 0) width = imageView.getResources().getDisplayMetrics().widthPixels;
+        return ImageVariants.select(imageUrl, width, Math.max(height, 0));
     }
 
     // ======================== 비트맵 로딩 ========================
@@ -0,0 +1,544 @@
+package com.example.clubmanagement.utils;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.StorageMetadata;
+import com.google.firebase.storage.StorageReference;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 이미지 업로드 파이프라인
+ * 선택한 이미지를 백그라운드 스레드에서 용도별 최대 크기로 축소 디코딩(inSampleSize)하고,
+ * 목표 용량 이하가 되도록 품질을 조절해 WebP/JPEG로 인코딩한 뒤 Storage에 업로드합니다.
+ * 배너/캐러셀/영수증은 목록용 축소본(ImageVariants.SIZES)도 함께 만들어 원본 옆에 저장합니다.
+ * 파일 이름은 인코딩 결과의 해시이며, 같은 내용이 이미 있으면 업로드하지 않고 재사용합니다 (ContentStore 참고).
+ * 원본 해상도 비트맵을 만들지 않으므로 고화소 사진도 메모리를 적게 사용합니다.
+ * 콜백은 모두 메인 스레드에서 호출됩니다.
+ */
+public class ImageUploadPipeline {
+    private static final String TAG = "ImageUploadPipeline";
+
+    private static final int MAX_QUALITY = 90;
+    private static final int MIN_QUALITY = 50;
+    // 최저 품질로도 목표 용량을 넘으면 이 비율로 더 줄여서 다시 인코딩
+    private static final float DOWNSCALE_STEP = 0.8f;
+    private static final int MAX_DOWNSCALE_ATTEMPTS = 3;
+    // 축소본은 목록 셀 등 작은 화면용이라 품질 탐색 없이 고정 품질로 인코딩
+    private static final int VARIANT_QUALITY = 80;
+
+    public enum Format {
+        WEBP("webp", "image/webp"),
+        JPEG("jpg", "image/jpeg"),
+        PNG("png", "image/png");
+
+        final String extension;
+        final String mimeType;
+
+        Format(String extension, String mimeType) {
+            this.extension = extension;
+            this.mimeType = mimeType;
+        }
+    }
+
+    /**
+     * 용도별 최대 변 길이(px), 목표 용량(byte), 인코딩 형식
+     */
+    public enum Preset {
+        BANNER(1280, 250 * 1024, Format.WEBP, true),
+        CAROUSEL(1280, 300 * 1024, Format.WEBP, true),
+        // 영수증은 글자를 읽을 수 있어야 하고 다른 도구로도 열 수 있도록 JPEG 유지
+        RECEIPT(2048, 600 * 1024, Format.JPEG, true),
+        // 서명은 투명 배경이 필요하므로 무손실 PNG
+        SIGNATURE(1024, 0, Format.PNG, false);
+
+        final int maxDimension;
+        final int targetBytes;
+        final Format format;
+        final boolean withVariants;
+
+        Preset(int maxDimension, int targetBytes, Format format, boolean withVariants) {
+            this.maxDimension = maxDimension;
+            this.targetBytes = targetBytes;
+            this.format = format;
+            this.withVariants = withVariants;
+        }
+
+        public int getMaxDimension() {
+            return maxDimension;
+        }
+    }
+
+    public interface UploadCallback {
+        void onProgress(int percent);
+        void onSuccess(String downloadUrl);
+        void onFailure(Exception e);
+    }
+
+    public interface BitmapCallback {
+        void onSuccess(Bitmap bitmap);
+        void onFailure(Exception e);
+    }
+
+    public interface BytesCallback {
+        void onSuccess(byte[] data);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 백그라운드 스레드에서 실행할 비트맵 후처리 (서명 배경 제거 등)
+     */
+    public interface BitmapTransform {
+        Bitmap apply(Bitmap bitmap);
+    }
+
+    private interface UrlResult {
+        void onSuccess(String downloadUrl);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 업로드할 수 있게 인코딩된 원본과 축소본
+     */
+    static class PreparedImage {
+        final Format format;
+        final byte[] data;
+        final List<EncodedVariant> variants;
+        // 원본 인코딩 결과의 SHA-256 (업로드 파일 이름)
+        final String hash;
+
+        PreparedImage(Format format, byte[] data, List<EncodedVariant> variants) {
+            this.format = format;
+            this.data = data;
+            this.variants = variants;
+            this.hash = ContentStore.sha256Hex(data);
+        }
+
+        String objectPath(String folder) {
+            return ContentStore.objectPath(folder, hash, format.extension);
+        }
+    }
+
+    /**
+     * 인코딩된 축소본
+     */
+    static class EncodedVariant {
+        final int width;
+        final int height;
+        final byte[] data;
+
+        EncodedVariant(int width, int height, byte[] data) {
+            this.width = width;
+            this.height = height;
+            this.data = data;
+        }
+    }
+
+    private static ImageUploadPipeline instance;
+
+    private final ContentResolver contentResolver;
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private ImageUploadPipeline(Context context) {
+        contentResolver = context.getApplicationContext().getContentResolver();
+    }
+
+    public static synchronized ImageUploadPipeline getInstance(Context context) {
+        if (instance == null) {
+            instance = new ImageUploadPipeline(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 이미지 축소/인코딩 후 folder 아래에 업로드 (진행률은 업로드 바이트 기준 0~100)
+     * 축소본이 있으면 onSuccess 의 URL에 축소본 정보가 포함됩니다 (ImageVariants 참고).
+     * 돌려받은 URL은 참조 하나를 차지하므로, 쓰지 않게 되면 ContentStore.release 로 해제합니다.
+     */
+    public void upload(Uri source, Preset preset, String folder, UploadCallback callback) {
+        executor.execute(() -> {
+            PreparedImage image;
+            try {
+                image = prepare(source, preset);
+            } catch (Exception e) {
+                mainHandler.post(() -> callback.onFailure(e));
+                return;
+            }
+
+            mainHandler.post(() -> store(image, folder, callback));
+        });
+    }
+
+    /**
+     * 축소 디코딩 + 인코딩 (호출한 스레드에서 실행되므로 메인 스레드에서 호출하지 말 것)
+     */
+    PreparedImage prepare(Uri source, Preset preset) throws IOException {
+        try {
+            Bitmap bitmap = decodeSampled(source, preset.maxDimension);
+            List<EncodedVariant> variants = preset.withVariants
+                    ? encodeVariants(bitmap, preset.format) : new ArrayList<>();
+            return new PreparedImage(preset.format, encode(bitmap, preset), variants);
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Failed to prepare image " + source, e);
+            throw e;
+        } catch (OutOfMemoryError e) {
+            Log.e(TAG, "Out of memory while preparing image " + source, e);
+            throw new IOException("이미지가 너무 큽니다", e);
+        }
+    }
+
+    /**
+     * 최대 변 길이 이하로 축소 디코딩한 비트맵 (미리보기/후처리용)
+     */
+    public void decodeBitmap(Uri source, int maxDimension, BitmapCallback callback) {
+        decodeBitmap(source, maxDimension, null, callback);
+    }
+
+    /**
+     * 축소 디코딩 후 transform 까지 백그라운드에서 적용한 비트맵
+     */
+    public void decodeBitmap(Uri source, int maxDimension, BitmapTransform transform, BitmapCallback callback) {
+        executor.execute(() -> {
+            try {
+                Bitmap decoded = decodeSampled(source, maxDimension);
+                Bitmap bitmap = transform != null ? transform.apply(decoded) : decoded;
+                mainHandler.post(() -> callback.onSuccess(bitmap));
+            } catch (Exception | OutOfMemoryError e) {
+                Exception error = e instanceof Exception ? (Exception) e : new IOException("이미지가 너무 큽니다", e);
+                mainHandler.post(() -> callback.onFailure(error));
+            }
+        });
+    }
+
+    /**
+     * 이미 만든 비트맵(서명 등)에 transform 을 적용하고 무손실 PNG로 인코딩
+     * 호출 후 bitmap 을 수정하지 않아야 하므로, 계속 그려지는 비트맵은 복사본을 넘길 것
+     */
+    public void encodePng(Bitmap bitmap, BitmapTransform transform, BytesCallback callback) {
+        executor.execute(() -> {
+            try {
+                Bitmap source = transform != null ? transform.apply(bitmap) : bitmap;
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                source.compress(Bitmap.CompressFormat.PNG, 100, out);
+                byte[] data = out.toByteArray();
+                mainHandler.post(() -> callback.onSuccess(data));
+            } catch (Exception | OutOfMemoryError e) {
+                Exception error = e instanceof Exception ? (Exception) e : new IOException("이미지가 너무 큽니다", e);
+                mainHandler.post(() -> callback.onFailure(error));
+            }
+        });
+    }
+
+    /**
+     * 같은 내용이 이미 있으면 재사용하고, 없으면 업로드 후 색인에 등록
+     * 색인을 읽거나 쓰지 못해도 업로드 자체는 진행합니다 (이 경우 참조 수 관리 대상에서 빠짐).
+     */
+    private void store(PreparedImage image, String folder, UploadCallback callback) {
+        String path = image.objectPath(folder);
+        ContentStore contentStore = ContentStore.getInstance();
+        UploadCallback registering = new UploadCallback() {
+            @Override
+            public void onProgress(int percent) {
+                callback.onProgress(percent);
+            }
+
+            @Override
+            public void onSuccess(String downloadUrl) {
+                contentStore.register(path, downloadUrl)
+                        .addOnSuccessListener(callback::onSuccess)
+                        .addOnFailureListener(e -> {
+                            if (e instanceof ContentStore.PendingDeleteException) {
+                                // 같은 내용의 파일이 지워지는 중이라 방금 올린 파일도 지워질 수 있음
+                                callback.onFailure(e);
+                                return;
+                            }
+                            Log.w(TAG, "Failed to register " + path, e);
+                            callback.onSuccess(downloadUrl);
+                        });
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        };
+
+        contentStore.acquire(path)
+                .addOnSuccessListener(existingUrl -> {
+                    if (existingUrl != null) {
+                        Log.d(TAG, "Reusing existing upload " + path);
+                        callback.onProgress(100);
+                        callback.onSuccess(existingUrl);
+                    } else {
+                        putAll(image, path, registering);
+                    }
+                })
+                .addOnFailureListener(e -> {
+                    Log.w(TAG, "Content index lookup failed for " + path, e);
+                    putAll(image, path, registering);
+                });
+    }
+
+    /**
+     * 원본과 축소본을 함께 업로드 - 원본이 성공하면 성공 (실패한 축소본은 URL에서 제외)
+     */
+    private void putAll(PreparedImage image, String path, UploadCallback callback) {
+        byte[] data = image.data;
+        List<EncodedVariant> variants = image.variants;
+        Format format = image.format;
+        StorageReference ref = FirebaseStorage.getInstance().getReference().child(path);
+        StorageMetadata metadata = new StorageMetadata.Builder()
+                .setContentType(format.mimeType)
+                .build();
+
+        int taskCount = variants.size() + 1;
+        long totalBytes = data.length;
+        for (EncodedVariant variant : variants) {
+            totalBytes += variant.data.length;
+        }
+        final long allBytes = totalBytes;
+        final long[] transferred = new long[taskCount];
+        final int[] remaining = {taskCount};
+        final String[] originalUrl = {null};
+        final Exception[] originalError = {null};
+        final ImageVariants.Variant[] uploaded = new ImageVariants.Variant[variants.size()];
+
+        StorageReference parent = ref.getParent() != null ? ref.getParent() : ref.getRoot();
+        final StorageReference[] variantRefs = new StorageReference[variants.size()];
+        for (int i = 0; i < variants.size(); i++) {
+            EncodedVariant variant = variants.get(i);
+            variantRefs[i] = parent.child(ImageVariants.variantName(ref.getName(),
+                    Math.max(variant.width, variant.height)));
+        }
+
+        Runnable onTaskDone = () -> {
+            if (--remaining[0] > 0) return;
+            if (originalError[0] != null) {
+                // 올라간 축소본은 같은 내용의 다른 업로드와 공유될 수 있으므로 지우지 않음
+                callback.onFailure(originalError[0]);
+                return;
+            }
+            List<ImageVariants.Variant> available = new ArrayList<>();
+            for (ImageVariants.Variant variant : uploaded) {
+                if (variant != null) available.add(variant);
+            }
+            callback.onSuccess(ImageVariants.withVariants(originalUrl[0], available));
+        };
+
+        putBytes(ref, data, metadata, 0, transferred, allBytes, callback, new UrlResult() {
+            @Override
+            public void onSuccess(String downloadUrl) {
+                originalUrl[0] = downloadUrl;
+                onTaskDone.run();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                originalError[0] = e;
+                onTaskDone.run();
+            }
+        });
+
+        for (int i = 0; i < variants.size(); i++) {
+            final int index = i;
+            EncodedVariant variant = variants.get(i);
+            StorageReference variantRef = variantRefs[i];
+            putBytes(variantRef, variant.data, metadata, index + 1, transferred, allBytes, callback, new UrlResult() {
+                @Override
+                public void onSuccess(String downloadUrl) {
+                    String token = ImageVariants.tokenOf(downloadUrl);
+                    if (token != null) {
+                        uploaded[index] = new ImageVariants.Variant(variant.width, variant.height, token);
+                    }
+                    onTaskDone.run();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    Log.w(TAG, "Variant upload failed: " + variantRef.getPath(), e);
+                    onTaskDone.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 단일 업로드 - 진행률은 전체 업로드 바이트 합계 기준으로 보고
+     */
+    private static void putBytes(StorageReference ref, byte[] data, StorageMetadata metadata, int slot,
+                                 long[] transferred, long totalBytes, UploadCallback progress, UrlResult result) {
+        ref.putBytes(data, metadata)
+                .addOnProgressListener(snapshot -> {
+                    transferred[slot] = snapshot.getBytesTransferred();
+                    long sum = 0;
+                    for (long bytes : transferred) {
+                        sum += bytes;
+                    }
+                    if (totalBytes > 0) {
+                        progress.onProgress((int) (sum * 100 / totalBytes));
+                    }
+                })
+                .addOnSuccessListener(taskSnapshot -> ref.getDownloadUrl()
+                        .addOnSuccessListener(uri -> result.onSuccess(uri.toString()))
+                        .addOnFailureListener(result::onFailure))
+                .addOnFailureListener(result::onFailure);
+    }
+
+    /**
+     * 크기만 먼저 읽고 inSampleSize로 축소 디코딩한 뒤, 남은 차이는 정확히 맞춰 축소
+     */
+    private Bitmap decodeSampled(Uri source, int maxDimension) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = contentResolver.openInputStream(source)) {
+            if (in == null) throw new IOException("이미지를 열 수 없습니다");
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("이미지 형식을 읽을 수 없습니다");
+        }
+
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = calculateInSampleSize(bounds.outWidth, bounds.outHeight, maxDimension);
+        Bitmap bitmap;
+        try (InputStream in = contentResolver.openInputStream(source)) {
+            if (in == null) throw new IOException("이미지를 열 수 없습니다");
+            bitmap = BitmapFactory.decodeStream(in, null, options);
+        }
+        if (bitmap == null) {
+            throw new IOException("이미지를 디코딩할 수 없습니다");
+        }
+        return scaleDown(bitmap, maxDimension);
+    }
+
+    /**
+     * 긴 변이 maxDimension 이상으로 남는 가장 큰 2의 거듭제곱
+     */
+    static int calculateInSampleSize(int width, int height, int maxDimension) {
+        int longest = Math.max(width, height);
+        int sampleSize = 1;
+        while (longest / (sampleSize * 2) >= maxDimension) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    /**
+     * 긴 변이 maxDimension 을 넘으면 비율을 유지해 축소 (원본은 recycle)
+     */
+    static Bitmap scaleDown(Bitmap bitmap, int maxDimension) {
+        int longest = Math.max(bitmap.getWidth(), bitmap.getHeight());
+        if (longest <= maxDimension) return bitmap;
+
+        float scale = (float) maxDimension / longest;
+        int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+        int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+        Bitmap scaled = Bitmap.createScaledBitmap(bitmap, width, height, true);
+        if (scaled != bitmap) {
+            bitmap.recycle();
+        }
+        return scaled;
+    }
+
+    /**
+     * 원본보다 작은 축소본 크기마다 한 장씩 인코딩 (전달된 비트맵은 그대로 둠)
+     */
+    private static List<EncodedVariant> encodeVariants(Bitmap bitmap, Format format) {
+        List<EncodedVariant> variants = new ArrayList<>();
+        Bitmap.CompressFormat compressFormat = compressFormat(format);
+        int longest = Math.max(bitmap.getWidth(), bitmap.getHeight());
+        for (int size : ImageVariants.SIZES) {
+            if (size >= longest) break;
+
+            float scale = (float) size / longest;
+            int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+            int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+            Bitmap scaled = Bitmap.createScaledBitmap(bitmap, width, height, true);
+            variants.add(new EncodedVariant(width, height, compress(scaled, compressFormat, VARIANT_QUALITY)));
+            if (scaled != bitmap) {
+                scaled.recycle();
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * 목표 용량 이하가 되는 가장 높은 품질로 인코딩 (품질 이진 탐색, 부족하면 해상도 축소)
+     * 전달된 비트맵은 인코딩 후 recycle 됩니다.
+     */
+    private static byte[] encode(Bitmap bitmap, Preset preset) {
+        Bitmap.CompressFormat format = compressFormat(preset.format);
+        if (preset.format == Format.PNG || preset.targetBytes <= 0) {
+            byte[] result = compress(bitmap, format, 100);
+            bitmap.recycle();
+            return result;
+        }
+
+        Bitmap current = bitmap;
+        byte[] result = null;
+        for (int attempt = 0; attempt <= MAX_DOWNSCALE_ATTEMPTS; attempt++) {
+            result = compress(current, format, MAX_QUALITY);
+            if (result.length > preset.targetBytes) {
+                byte[] fitting = null;
+                byte[] smallest = null;
+                int low = MIN_QUALITY;
+                int high = MAX_QUALITY - 1;
+                while (low <= high) {
+                    int quality = (low + high) / 2;
+                    byte[] encoded = compress(current, format, quality);
+                    if (encoded.length <= preset.targetBytes) {
+                        fitting = encoded;
+                        low = quality + 1;
+                    } else {
+                        smallest = encoded;
+                        high = quality - 1;
+                    }
+                }
+                result = fitting != null ? fitting : smallest;
+            }
+
+            if (result.length <= preset.targetBytes || attempt == MAX_DOWNSCALE_ATTEMPTS) break;
+
+            int longest = Math.max(current.getWidth(), current.getHeight());
+            current = scaleDown(current, Math.round(longest * DOWNSCALE_STEP));
+        }
+        current.recycle();
+        return result;
+    }
+
+    private static byte[] compress(Bitmap bitmap, Bitmap.CompressFormat format, int quality) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bitmap.compress(format, quality, out);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Bitmap.CompressFormat compressFormat(Format format) {
+        switch (format) {
+            case WEBP:
+                return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                        ? Bitmap.CompressFormat.WEBP_LOSSY
+                        : Bitmap.CompressFormat.WEBP;
+            case PNG:
+                return Bitmap.CompressFormat.PNG;
+            default:
+                return Bitmap.CompressFormat.JPEG;
+        }
+    }
+}
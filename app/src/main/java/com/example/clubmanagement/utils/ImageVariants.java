@@ -0,0 +1,168 @@
+package com.example.clubmanagement.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 업로드 시 함께 생성한 축소본(variant) 정보 처리
+ * 축소본은 원본 옆에 "{이름}_{긴 변}.{확장자}"로 저장되고, 각 크기와 다운로드 토큰은
+ * 원본 다운로드 URL의 fragment("#v=480x270:토큰,...")에 기록됩니다.
+ * fragment는 서버로 전송되지 않으므로 기존 URL 사용처(Glide, Storage 참조 등)는 그대로 동작하고,
+ * fragment가 없는 이전 URL은 원본만 사용합니다.
+ */
+public final class ImageVariants {
+
+    // 생성할 축소본의 긴 변 길이(px)
+    static final int[] SIZES = {240, 480, 960};
+
+    private static final String FRAGMENT_PREFIX = "#v=";
+    private static final String TOKEN_PARAM = "token=";
+
+    private ImageVariants() {
+    }
+
+    public static final class Variant {
+        final int width;
+        final int height;
+        final String token;
+
+        Variant(int width, int height, String token) {
+            this.width = width;
+            this.height = height;
+            this.token = token;
+        }
+
+        int longestSide() {
+            return Math.max(width, height);
+        }
+    }
+
+    /**
+     * 원본 파일명에 대응하는 축소본 파일명 (banner_1.webp -> banner_1_480.webp)
+     */
+    static String variantName(String originalName, int longestSide) {
+        int dot = originalName.lastIndexOf('.');
+        if (dot < 0) return originalName + "_" + longestSide;
+        return originalName.substring(0, dot) + "_" + longestSide + originalName.substring(dot);
+    }
+
+    /**
+     * 원본 URL에 축소본 정보 기록 (작은 것부터)
+     */
+    static String withVariants(String originalUrl, List<Variant> variants) {
+        String url = original(originalUrl);
+        if (variants == null || variants.isEmpty()) return url;
+
+        List<Variant> sorted = new ArrayList<>(variants);
+        Collections.sort(sorted, (a, b) -> Integer.compare(a.longestSide(), b.longestSide()));
+        StringBuilder sb = new StringBuilder(url).append(FRAGMENT_PREFIX);
+        for (int i = 0; i < sorted.size(); i++) {
+            Variant v = sorted.get(i);
+            if (i > 0) sb.append(',');
+            sb.append(v.width).append('x').append(v.height).append(':').append(v.token);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 다운로드 URL의 토큰 값
+     */
+    static String tokenOf(String downloadUrl) {
+        String url = original(downloadUrl);
+        int start = url.indexOf(TOKEN_PARAM);
+        if (start < 0) return null;
+        start += TOKEN_PARAM.length();
+        int end = url.indexOf('&', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    /**
+     * 축소본 정보를 제거한 원본 URL
+     */
+    public static String original(String url) {
+        if (url == null) return null;
+        int hash = url.indexOf(FRAGMENT_PREFIX);
+        return hash < 0 ? url : url.substring(0, hash);
+    }
+
+    /**
+     * 가로/세로 모두 목표 크기 이상인 가장 작은 축소본 URL, 없으면 원본 URL
+     * 크기를 모르는 변은 0으로 전달합니다.
+     */
+    public static String select(String url, int targetWidth, int targetHeight) {
+        String original = original(url);
+        for (Variant v : parse(url)) {
+            if (v.width >= targetWidth && v.height >= targetHeight) {
+                return variantUrl(original, v);
+            }
+        }
+        return original;
+    }
+
+    /**
+     * 가장 작은 축소본 URL (없으면 null) - 빠른 미리보기용
+     */
+    public static String smallest(String url) {
+        List<Variant> variants = parse(url);
+        return variants.isEmpty() ? null : variantUrl(original(url), variants.get(0));
+    }
+
+    /**
+     * 원본과 모든 축소본의 URL (Storage 삭제용)
+     */
+    public static List<String> allUrls(String url) {
+        List<String> urls = new ArrayList<>();
+        if (url == null) return urls;
+        String original = original(url);
+        urls.add(original);
+        for (Variant v : parse(url)) {
+            urls.add(variantUrl(original, v));
+        }
+        return urls;
+    }
+
+    private static List<Variant> parse(String url) {
+        List<Variant> variants = new ArrayList<>();
+        if (url == null) return variants;
+        int hash = url.indexOf(FRAGMENT_PREFIX);
+        if (hash < 0) return variants;
+
+        for (String entry : url.substring(hash + FRAGMENT_PREFIX.length()).split(",")) {
+            int x = entry.indexOf('x');
+            int colon = entry.indexOf(':');
+            if (x <= 0 || colon <= x) continue;
+            try {
+                variants.add(new Variant(Integer.parseInt(entry.substring(0, x)),
+                        Integer.parseInt(entry.substring(x + 1, colon)),
+                        entry.substring(colon + 1)));
+            } catch (NumberFormatException ignored) {
+                // 손상된 항목은 건너뜀
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * 원본 URL의 객체 이름과 토큰만 바꿔 축소본 URL 생성
+     * (.../o/banners%2Fbanner_1.webp?alt=media&token=a -> .../o/banners%2Fbanner_1_480.webp?alt=media&token=b)
+     */
+    private static String variantUrl(String originalUrl, Variant variant) {
+        int query = originalUrl.indexOf('?');
+        String path = query < 0 ? originalUrl : originalUrl.substring(0, query);
+        String params = query < 0 ? "" : originalUrl.substring(query);
+
+        int nameStart = Math.max(path.lastIndexOf('/'), path.lastIndexOf("%2F") + 2) + 1;
+        String variantPath = path.substring(0, nameStart)
+                + variantName(path.substring(nameStart), variant.longestSide());
+
+        int tokenStart = params.indexOf(TOKEN_PARAM);
+        if (tokenStart < 0) {
+            return variantPath + params + (params.isEmpty() ? "?" : "&") + TOKEN_PARAM + variant.token;
+        }
+        tokenStart += TOKEN_PARAM.length();
+        int tokenEnd = params.indexOf('&', tokenStart);
+        return variantPath + params.substring(0, tokenStart) + variant.token
+                + (tokenEnd < 0 ? "" : params.substring(tokenEnd));
+    }
+}
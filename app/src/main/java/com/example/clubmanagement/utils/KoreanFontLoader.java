@@ -0,0 +1,199 @@
+package com.example.clubmanagement.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.util.Log;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PDF 용 한글 폰트 로더
+ * 찾은 폰트 위치는 SharedPreferences 에 저장해 다음 실행부터 경로 탐색/폰트 디렉토리 스캔을 건너뛰고,
+ * 읽어 들인 FontProgram 은 프로세스 안에서 재사용합니다.
+ * PdfFont 는 문서마다 새로 만듭니다.
+ */
+final class KoreanFontLoader {
+    private static final String TAG = "KoreanFontLoader";
+
+    private static final String PREFS_NAME = "pdf_font_prefs";
+    private static final String KEY_LOCATION = "korean_font_location";
+    private static final String KEY_FINGERPRINT = "korean_font_fingerprint"; // OS 업데이트로 시스템 폰트가 바뀌면 다시 탐색
+
+    private static final String ASSET_PREFIX = "asset:";
+    private static final String ASSET_FONT = "fonts/NanumGothic.ttf";
+
+    // 시도할 폰트 경로들 (Android 버전별로 다름)
+    // TTC 파일의 경우 한국어 폰트는 보통 인덱스 1에 있음
+    private static final String[] FONT_PATHS = {
+            // Android 7.0+ (Noto Sans CJK) - 한국어는 인덱스 1
+            "/system/fonts/NotoSansCJK-Regular.ttc,1",
+            "/system/fonts/NotoSansCJK-Regular.ttc,0",
+            "/system/fonts/NotoSansCJKkr-Regular.otf",
+            "/system/fonts/NotoSansKR-Regular.otf",
+            // 삼성 기기
+            "/system/fonts/SamsungOneKorean-Regular.ttf",
+            "/system/fonts/SECRobotoLight-Regular.ttf",
+            "/system/fonts/SamsungNeoGothic-Regular.ttf",
+            // LG 기기
+            "/system/fonts/LGSmartGothic.ttf",
+            "/system/fonts/LGSmartGothicR.ttf",
+            // Android 5.0~6.0
+            "/system/fonts/NanumGothic.ttf",
+            // Android 4.x
+            "/system/fonts/DroidSansFallback.ttf",
+            "/system/fonts/DroidSansFallbackFull.ttf"
+    };
+
+    // 한글/CJK 관련 키워드 (우선순위 순)
+    private static final String[] KOREAN_KEYWORDS = {
+            "Korean", "KR", "CJK", "Gothic", "Nanum", "Malgun", "Gulim", "Batang", "Dotum", "Samsung", "SEC"
+    };
+    private static final int MAX_TTC_INDEX = 5;
+
+    private static FontProgram fontProgram;
+
+    private KoreanFontLoader() {
+    }
+
+    /**
+     * 새 문서에 쓸 한글 폰트 - 첫 호출에서만 폰트를 찾아 읽음
+     */
+    static synchronized PdfFont createFont(Context context) throws Exception {
+        if (fontProgram == null) {
+            fontProgram = resolve(context.getApplicationContext());
+        }
+        return PdfFontFactory.createFont(fontProgram, PdfEncodings.IDENTITY_H,
+                PdfFontFactory.EmbeddingStrategy.FORCE_EMBEDDED);
+    }
+
+    private static FontProgram resolve(Context context) throws Exception {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+
+        // 지난번에 찾은 폰트부터 확인
+        String cached = prefs.getString(KEY_LOCATION, null);
+        if (cached != null && Build.FINGERPRINT.equals(prefs.getString(KEY_FINGERPRINT, null))) {
+            FontProgram program = load(context, cached);
+            if (program != null) {
+                Log.d(TAG, "저장된 폰트 사용: " + cached);
+                return program;
+            }
+        }
+
+        for (String location : FONT_PATHS) {
+            FontProgram program = load(context, location);
+            if (program != null) {
+                return remember(prefs, location, program);
+            }
+        }
+
+        // 시스템 폰트 디렉토리 스캔하여 CJK 관련 폰트 찾기
+        for (String location : scanSystemFonts()) {
+            FontProgram program = load(context, location);
+            if (program != null) {
+                return remember(prefs, location, program);
+            }
+        }
+
+        // 모든 시스템 폰트 실패 시 assets에서 로드 시도
+        FontProgram program = load(context, ASSET_PREFIX + ASSET_FONT);
+        if (program != null) {
+            return remember(prefs, ASSET_PREFIX + ASSET_FONT, program);
+        }
+
+        Log.e(TAG, "한글 폰트를 찾을 수 없습니다! PDF에 한글이 표시되지 않을 수 있습니다.");
+        throw new Exception("한글 폰트를 찾을 수 없습니다. 기기에 한글 폰트가 설치되어 있는지 확인해주세요.\n" +
+                "앱의 assets/fonts/ 폴더에 NanumGothic.ttf 파일을 추가해주세요.");
+    }
+
+    private static FontProgram remember(SharedPreferences prefs, String location, FontProgram program) {
+        Log.d(TAG, "폰트 로드 성공: " + location);
+        prefs.edit()
+                .putString(KEY_LOCATION, location)
+                .putString(KEY_FINGERPRINT, Build.FINGERPRINT)
+                .apply();
+        return program;
+    }
+
+    /**
+     * 폰트 위치("경로", "TTC경로,인덱스", "asset:경로")에서 폰트를 읽음 - 없거나 한글 글리프가 없으면 null
+     */
+    private static FontProgram load(Context context, String location) {
+        try {
+            FontProgram program;
+            if (location.startsWith(ASSET_PREFIX)) {
+                program = FontProgramFactory.createFont(readAsset(context, location.substring(ASSET_PREFIX.length())), false);
+            } else {
+                if (!new File(location.split(",")[0]).exists()) {
+                    return null;
+                }
+                program = FontProgramFactory.createFont(location, false);
+            }
+            if (program.getGlyph('가') == null) {
+                Log.w(TAG, "한글 글리프 없음: " + location);
+                return null;
+            }
+            return program;
+        } catch (Exception e) {
+            Log.w(TAG, "폰트 로드 실패: " + location + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 시스템 폰트 디렉토리에서 한글 관련 이름의 폰트 위치 목록 (키워드 우선순위 순, TTC 는 인덱스별)
+     */
+    private static List<String> scanSystemFonts() {
+        File fontsDir = new File("/system/fonts");
+        File[] fontFiles = fontsDir.isDirectory() ? fontsDir.listFiles() : null;
+        if (fontFiles == null) {
+            Log.w(TAG, "폰트 디렉토리를 찾을 수 없음: /system/fonts");
+            return new ArrayList<>();
+        }
+        Log.d(TAG, "시스템 폰트 스캔 시작. 총 " + fontFiles.length + "개 파일");
+
+        Set<String> locations = new LinkedHashSet<>();
+        for (String keyword : KOREAN_KEYWORDS) {
+            String keywordLower = keyword.toLowerCase();
+            for (File fontFile : fontFiles) {
+                String fileNameLower = fontFile.getName().toLowerCase();
+                if (!fileNameLower.contains(keywordLower)) {
+                    continue;
+                }
+                if (fileNameLower.endsWith(".ttc")) {
+                    for (int ttcIndex = 0; ttcIndex < MAX_TTC_INDEX; ttcIndex++) {
+                        locations.add(fontFile.getAbsolutePath() + "," + ttcIndex);
+                    }
+                } else if (fileNameLower.endsWith(".ttf") || fileNameLower.endsWith(".otf")) {
+                    locations.add(fontFile.getAbsolutePath());
+                }
+            }
+        }
+        return new ArrayList<>(locations);
+    }
+
+    private static byte[] readAsset(Context context, String path) throws IOException {
+        try (InputStream in = context.getAssets().open(path)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] data = new byte[16384];
+            int nRead;
+            while ((nRead = in.read(data, 0, data.length)) != -1) {
+                buffer.write(data, 0, nRead);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -5,7 +5,9 @@ import android.util.Log;
 import com.example.clubmanagement.models.Member;
 import com.google.firebase.Timestamp;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.android.gms.tasks.Task;
 import com.google.firebase.auth.FirebaseUser;
+import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -25,11 +27,18 @@ import java.util.Map;
  */
 public class MemberManager {
     private static final String TAG = "MemberManager";
+    private static final int DAYS_IN_BIRTHDAY_YEAR = 366; // birthDayOfYear는 윤년 기준
+    private static final int BIRTHDAY_WEEK_DAYS = 7;
+    private static final long BIRTHDAY_CACHE_TTL_MS = 24 * 60 * 60 * 1000L;
 
     private static MemberManager instance;
     private final FirebaseFirestore db;
     private final FirebaseAuth auth;
 
+    // 동아리별 생일 조회 결과 캐시 (키에 날짜가 포함되어 하루 단위로 갱신됨)
+    private final ReadCache<List<Member>> birthdayCache =
+            new ReadCache<>("birthdays", BIRTHDAY_CACHE_TTL_MS, 100);
+
     private MemberManager() {
         db = FirebaseFirestore.getInstance();
         auth = FirebaseAuth.getInstance();
@@ -160,11 +169,10 @@ public class MemberManager {
             member.setRole("회원");
         }
 
-        db.collection("clubs")
+        setMemberDocument(db, db.collection("clubs")
                 .document(clubId)
                 .collection("members")
-                .document(member.getUserId())
-                .set(member)
+                .document(member.getUserId()), member)
                 .addOnSuccessListener(aVoid -> {
                     incrementMemberCount(clubId);
                     callback.onSuccess();
@@ -199,6 +207,7 @@ public class MemberManager {
         if (birthMonth > 0 && birthDay > 0) {
             memberData.put("birthMonth", birthMonth);
             memberData.put("birthDay", birthDay);
+            memberData.put("birthDayOfYear", Member.toBirthDayOfYear(birthMonth, birthDay));
         }
 
         db.collection("clubs")
@@ -255,12 +264,23 @@ public class MemberManager {
         Map<String, Object> updates = new HashMap<>();
         updates.put("birthMonth", birthMonth);
         updates.put("birthDay", birthDay);
+        updates.put("birthDayOfYear", Member.toBirthDayOfYear(birthMonth, birthDay));
 
         updateMember(clubId, userId, updates, callback);
     }
 
     // ======================== 멤버 삭제 ========================
 
+    /**
+     * Member 객체로 멤버 문서 저장 - birthDayOfYear 는 직렬화에서 제외되므로 같은 배치에서 함께 기록
+     */
+    static Task<Void> setMemberDocument(FirebaseFirestore db, DocumentReference memberRef, Member member) {
+        return db.batch()
+                .set(memberRef, member)
+                .update(memberRef, "birthDayOfYear", member.getBirthDayOfYear())
+                .commit();
+    }
+
     /**
      * 멤버 삭제
      */
@@ -287,12 +307,94 @@ public class MemberManager {
         int todayMonth = today.get(Calendar.MONTH) + 1;
         int todayDay = today.get(Calendar.DAY_OF_MONTH);
 
+        String cacheKey = birthdayCacheKey(clubId, "today", today);
+        List<Member> cached = birthdayCache.get(cacheKey);
+        if (cached != null) {
+            callback.onSuccess(new ArrayList<>(cached));
+            return;
+        }
+
+        long generation = birthdayCache.currentGeneration();
         db.collection("clubs")
                 .document(clubId)
                 .collection("members")
                 .whereEqualTo("birthMonth", todayMonth)
                 .whereEqualTo("birthDay", todayDay)
                 .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<Member> members = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        Member member = doc.toObject(Member.class);
+                        if (member != null) {
+                            member.setUserId(doc.getId());
+                            members.add(member);
+                        }
+                    }
+                    birthdayCache.put(cacheKey, members, generation);
+                    callback.onSuccess(new ArrayList<>(members));
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 이번 주(오늘부터 7일간) 생일인 멤버 조회 - birthDayOfYear 범위 조회
+     * 연말에 걸치는 경우 연초 구간을 한 번 더 조회
+     */
+    public void getThisWeekBirthdayMembers(String clubId, MembersCallback callback) {
+        Calendar today = Calendar.getInstance();
+        int startDay = Member.toBirthDayOfYear(today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+        int endDay = startDay + BIRTHDAY_WEEK_DAYS - 1;
+
+        String cacheKey = birthdayCacheKey(clubId, "week", today);
+        List<Member> cached = birthdayCache.get(cacheKey);
+        if (cached != null) {
+            callback.onSuccess(new ArrayList<>(cached));
+            return;
+        }
+
+        long generation = birthdayCache.currentGeneration();
+        List<Member> members = new ArrayList<>();
+        int rangeCount = endDay > DAYS_IN_BIRTHDAY_YEAR ? 2 : 1;
+        final int[] completed = {0};
+        final boolean[] failed = {false};
+
+        MembersCallback rangeCallback = new MembersCallback() {
+            @Override
+            public void onSuccess(List<Member> rangeMembers) {
+                if (failed[0]) return;
+                members.addAll(rangeMembers);
+                completed[0]++;
+                if (completed[0] == rangeCount) {
+                    // 오늘부터 가까운 생일 순으로 정렬
+                    members.sort((m1, m2) -> Integer.compare(
+                            daysUntilBirthday(startDay, m1.getBirthDayOfYear()),
+                            daysUntilBirthday(startDay, m2.getBirthDayOfYear())));
+                    birthdayCache.put(cacheKey, members, generation);
+                    callback.onSuccess(new ArrayList<>(members));
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (failed[0]) return;
+                failed[0] = true;
+                callback.onFailure(e);
+            }
+        };
+
+        queryBirthdayRange(clubId, startDay, Math.min(endDay, DAYS_IN_BIRTHDAY_YEAR), rangeCallback);
+        if (rangeCount == 2) {
+            queryBirthdayRange(clubId, 1, endDay - DAYS_IN_BIRTHDAY_YEAR, rangeCallback);
+        }
+    }
+
+    private void queryBirthdayRange(String clubId, int fromDay, int toDay, MembersCallback callback) {
+        db.collection("clubs")
+                .document(clubId)
+                .collection("members")
+                .whereGreaterThanOrEqualTo("birthDayOfYear", fromDay)
+                .whereLessThanOrEqualTo("birthDayOfYear", toDay)
+                .get()
                 .addOnSuccessListener(querySnapshot -> {
                     List<Member> members = new ArrayList<>();
                     for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
@@ -307,6 +409,87 @@ public class MemberManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    private static int daysUntilBirthday(int fromDay, int birthDayOfYear) {
+        return (birthDayOfYear - fromDay + DAYS_IN_BIRTHDAY_YEAR) % DAYS_IN_BIRTHDAY_YEAR;
+    }
+
+    private static String birthdayCacheKey(String clubId, String range, Calendar day) {
+        return clubId + "|" + range + "|" + new SimpleDateFormat("yyyyMMdd", Locale.KOREA).format(day.getTime());
+    }
+
+    /**
+     * 동아리 생일 캐시 무효화 (멤버 추가/삭제/생일 수정 시)
+     */
+    public void invalidateBirthdayCache(String clubId) {
+        Calendar today = Calendar.getInstance();
+        birthdayCache.invalidate(birthdayCacheKey(clubId, "today", today));
+        birthdayCache.invalidate(birthdayCacheKey(clubId, "week", today));
+    }
+
+    /**
+     * 기존 멤버 문서에 birthDayOfYear 필드 1회 백필 (settings/birthdayIndex 플래그로 완료 여부 확인)
+     */
+    public void ensureBirthDayOfYearBackfilled(SimpleCallback callback) {
+        db.collection("settings")
+                .document("birthdayIndex")
+                .get()
+                .addOnSuccessListener(flagDoc -> {
+                    if (Boolean.TRUE.equals(flagDoc.getBoolean("backfilled"))) {
+                        callback.onSuccess();
+                        return;
+                    }
+                    backfillBirthDayOfYear(callback);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void backfillBirthDayOfYear(SimpleCallback callback) {
+        db.collectionGroup("members")
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    BulkWriteExecutor writer = new BulkWriteExecutor(db);
+
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        // clubs/{clubId}/members 문서만 대상
+                        com.google.firebase.firestore.DocumentReference clubRef = doc.getReference().getParent().getParent();
+                        if (clubRef == null || !"clubs".equals(clubRef.getParent().getId())) continue;
+                        Long birthMonth = doc.getLong("birthMonth");
+                        Long birthDay = doc.getLong("birthDay");
+                        if (birthMonth == null || birthDay == null) continue;
+
+                        int dayOfYear = Member.toBirthDayOfYear(birthMonth.intValue(), birthDay.intValue());
+                        Long existing = doc.getLong("birthDayOfYear");
+                        if (dayOfYear == 0 || (existing != null && existing == dayOfYear)) continue;
+
+                        writer.update(doc.getReference(), "birthDayOfYear", dayOfYear);
+                    }
+
+                    writer.execute(new BulkWriteExecutor.ProgressCallback() {
+                        @Override
+                        public void onProgress(int current, int total) {
+                        }
+
+                        @Override
+                        public void onSuccess(int totalSent) {
+                            // 모든 멤버 갱신이 끝난 뒤에만 완료 플래그 저장
+                            Map<String, Object> flag = new HashMap<>();
+                            flag.put("backfilled", true);
+                            flag.put("updatedAt", Timestamp.now());
+                            db.collection("settings").document("birthdayIndex")
+                                    .set(flag)
+                                    .addOnSuccessListener(aVoid -> callback.onSuccess())
+                                    .addOnFailureListener(callback::onFailure);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            callback.onFailure(e);
+                        }
+                    });
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
     /**
      * 이번 달 생일인 멤버 조회
      */
@@ -338,6 +521,7 @@ public class MemberManager {
     // ======================== 유틸리티 ========================
 
     private void incrementMemberCount(String clubId) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         db.collection("clubs")
                 .document(clubId)
                 .update("memberCount", FieldValue.increment(1))
@@ -345,6 +529,7 @@ public class MemberManager {
     }
 
     private void decrementMemberCount(String clubId) {
+        FirebaseManager.getInstance().invalidateClubCache(clubId);
         db.collection("clubs")
                 .document(clubId)
                 .update("memberCount", FieldValue.increment(-1))
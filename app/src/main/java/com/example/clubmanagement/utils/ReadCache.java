@@ -0,0 +1,103 @@
+package com.example.clubmanagement.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Firestore 읽기 결과를 메모리에 보관하는 TTL + LRU 캐시
+ * 항목마다 만료 시간을 두고, 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * 적중/실패 횟수를 기록하여 실제로 Firestore 읽기가 줄었는지 확인할 수 있습니다.
+ */
+public class ReadCache<V> {
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final String name;
+    private final long ttlMillis;
+    private final Map<String, Entry<V>> entries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    // 무효화될 때마다 증가 - 무효화 이전에 시작된 조회 결과가 다시 저장되는 것을 막음
+    private long generation = 0;
+
+    public ReadCache(String name, long ttlMillis, int maxEntries) {
+        this.name = name;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hitCount++;
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(key);
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * 조회 시작 시점의 세대 값 (조회 완료 후 put에 전달)
+     */
+    public synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /**
+     * 값 저장 - 조회 도중 무효화가 있었다면 저장하지 않음
+     */
+    public synchronized void put(String key, V value, long loadGeneration) {
+        if (key == null || value == null || loadGeneration != generation) return;
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void invalidate(String key) {
+        if (key == null) return;
+        entries.remove(key);
+        generation++;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        long total = hitCount + missCount;
+        int hitRate = total > 0 ? (int) (hitCount * 100 / total) : 0;
+        return name + " hit=" + hitCount + " miss=" + missCount + " (" + hitRate + "%) size=" + entries.size();
+    }
+}
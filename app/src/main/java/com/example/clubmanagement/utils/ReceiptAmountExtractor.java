@@ -0,0 +1,276 @@
+package com.example.clubmanagement.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 영수증 OCR 텍스트에서 결제 금액 추출 (Android 의존성 없는 순수 Java)
+ * 텍스트를 한 번만 훑으면서 줄마다 키워드 오토마톤(Aho-Corasick)과 미리 컴파일한 숫자 패턴을 적용하고,
+ * 다음 순서로 금액을 고릅니다.
+ * 1. 가장 우선순위가 높은 키워드가 있는 줄의 금액 (같으면 위쪽 줄)
+ * 2. "원" 앞에 붙은 가장 큰 금액
+ * 3. 줄별 금액 중 가장 큰 값 (1,000원 이상)
+ * 4. 전체에서 가장 큰 숫자
+ */
+public final class ReceiptAmountExtractor {
+
+    static final long MIN_AMOUNT = 100;
+    static final long MIN_FALLBACK_AMOUNT = 1_000;
+    static final long MAX_AMOUNT = 100_000_000;
+
+    // 결제 총액 관련 키워드 (앞쪽일수록 우선, 영문은 대소문자 구분 없음)
+    private static final String[] HIGH_PRIORITY_KEYWORDS = {
+            "결제금액", "결제 금액", "총결제", "총 결제", "승인금액", "승인 금액",
+            "카드결제", "카드 결제", "실결제", "실 결제", "최종금액", "최종 금액",
+            "합계금액", "합계 금액", "총합계", "총 합계", "받을금액", "받을 금액",
+            "total", "합 계", "합계"
+    };
+
+    // 일반 키워드
+    private static final String[] NORMAL_KEYWORDS = {
+            "총액", "총 액", "금액", "판매금액", "판매 금액", "매출", "청구금액",
+            "결제", "지불", "payment", "amount", "sum"
+    };
+
+    private static final KeywordAutomaton KEYWORDS = new KeywordAutomaton(concat(HIGH_PRIORITY_KEYWORDS, NORMAL_KEYWORDS));
+
+    // 쉼표/점으로 자릿수를 구분한 숫자 (OCR이 구분자 옆에 넣은 공백 허용), 뒤에 "원"이 붙었는지 함께 확인
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?: ?[,.] ?\\d+)*( ?원)?");
+
+    // 이 값 이상은 금액 범위를 벗어나므로 더 정확히 셀 필요 없음
+    private static final long PARSE_LIMIT = MAX_AMOUNT * 10;
+
+    private ReceiptAmountExtractor() {
+    }
+
+    /**
+     * 결제 금액 추출 (찾지 못하면 0)
+     */
+    public static long extract(String text) {
+        if (text == null || text.isEmpty()) return 0;
+
+        String normalized = normalize(text);
+        Matcher matcher = NUMBER.matcher(normalized);
+
+        int bestRank = Integer.MAX_VALUE;
+        long keywordAmount = 0;
+        long maxWonAmount = 0;
+        long maxLineAmount = 0;
+        long maxNumber = 0;
+
+        int lineStart = 0;
+        int length = normalized.length();
+        while (lineStart <= length) {
+            int lineEnd = normalized.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = length;
+
+            // 줄 금액: "원" 앞 첫 금액, 없으면 줄에서 가장 큰 숫자
+            long firstWon = 0;
+            long lineMax = 0;
+            matcher.region(lineStart, lineEnd);
+            while (matcher.find()) {
+                long value = parseAmount(normalized, matcher.start(), matcher.end());
+                if (value < 0) continue;
+
+                if (matcher.start(1) >= 0) {
+                    if (firstWon == 0) firstWon = value;
+                    if (inRange(value, MIN_AMOUNT) && value > maxWonAmount) maxWonAmount = value;
+                }
+                if (value > lineMax) lineMax = value;
+                if (inRange(value, MIN_AMOUNT) && value > maxNumber) maxNumber = value;
+            }
+            long lineAmount = firstWon > 0 ? firstWon : lineMax;
+
+            if (inRange(lineAmount, MIN_AMOUNT)) {
+                int rank = KEYWORDS.minRank(normalized, lineStart, lineEnd);
+                if (rank < bestRank) {
+                    bestRank = rank;
+                    keywordAmount = lineAmount;
+                }
+            }
+            if (inRange(lineAmount, MIN_FALLBACK_AMOUNT) && lineAmount > maxLineAmount) {
+                maxLineAmount = lineAmount;
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        if (keywordAmount > 0) return keywordAmount;
+        if (maxWonAmount > 0) return maxWonAmount;
+        if (maxLineAmount > 0) return maxLineAmount;
+        return maxNumber;
+    }
+
+    /**
+     * 줄바꿈은 유지하고 나머지 연속 공백은 공백 하나로, 줄 앞뒤 공백은 제거
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') continue;
+                sb.append('\n');
+                pendingSpace = false;
+            } else if (Character.isWhitespace(c) || c == '\u00A0') {
+                pendingSpace = sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n';
+            } else {
+                if (pendingSpace) sb.append(' ');
+                pendingSpace = false;
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 구분자를 뺀 숫자 값 (날짜 형태면 -1, 범위를 크게 넘으면 PARSE_LIMIT)
+     */
+    static long parseAmount(CharSequence text, int start, int end) {
+        long value = 0;
+        int dots = 0;
+        int commas = 0;
+        int lastGroupDigits = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (value < PARSE_LIMIT) value = Math.min(value * 10 + (c - '0'), PARSE_LIMIT);
+                lastGroupDigits++;
+            } else if (c == '.' || c == ',') {
+                if (c == '.') dots++; else commas++;
+                lastGroupDigits = 0;
+            }
+        }
+        // 2024.03.15 같은 날짜는 금액이 아님 (1.234.567 처럼 세 자리씩 끊긴 경우는 금액으로 봄)
+        if (dots >= 2 && commas == 0 && lastGroupDigits <= 2) return -1;
+        return value;
+    }
+
+    private static boolean inRange(long amount, long min) {
+        return amount >= min && amount <= MAX_AMOUNT;
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+
+    /**
+     * 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤
+     * 각 상태에는 그 위치에서 끝나는 키워드 중 가장 높은 우선순위(작은 순번)를 미리 계산해 둡니다.
+     */
+    static final class KeywordAutomaton {
+        private static final int NO_MATCH = Integer.MAX_VALUE;
+
+        // 상태별 전이 (정렬된 문자 -> 다음 상태), 실패 링크, 출력 순번
+        private final char[][] edgeChars;
+        private final int[][] edgeTargets;
+        private final int[] fail;
+        private final int[] output;
+        private int size;
+
+        KeywordAutomaton(String[] keywords) {
+            int capacity = 1;
+            for (String keyword : keywords) {
+                capacity += keyword.length();
+            }
+            edgeChars = new char[capacity][];
+            edgeTargets = new int[capacity][];
+            fail = new int[capacity];
+            output = new int[capacity];
+            Arrays.fill(output, NO_MATCH);
+            edgeChars[0] = new char[0];
+            edgeTargets[0] = new int[0];
+            size = 1;
+
+            for (int rank = 0; rank < keywords.length; rank++) {
+                int state = 0;
+                String keyword = keywords[rank].toLowerCase(Locale.ROOT);
+                for (int i = 0; i < keyword.length(); i++) {
+                    int next = next(state, keyword.charAt(i));
+                    if (next < 0) next = addEdge(state, keyword.charAt(i));
+                    state = next;
+                }
+                output[state] = Math.min(output[state], rank);
+            }
+            buildFailLinks();
+        }
+
+        /**
+         * text[start, end) 에 포함된 키워드 중 가장 작은 순번 (없으면 Integer.MAX_VALUE)
+         */
+        int minRank(CharSequence text, int start, int end) {
+            int best = NO_MATCH;
+            int state = 0;
+            for (int i = start; i < end; i++) {
+                char c = lower(text.charAt(i));
+                int next;
+                while ((next = next(state, c)) < 0 && state != 0) {
+                    state = fail[state];
+                }
+                state = Math.max(next, 0);
+                if (output[state] < best) best = output[state];
+            }
+            return best;
+        }
+
+        private void buildFailLinks() {
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[0]) {
+                fail[child] = 0;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < edgeChars[state].length; i++) {
+                    char c = edgeChars[state][i];
+                    int child = edgeTargets[state][i];
+                    int f = fail[state];
+                    int target;
+                    while ((target = next(f, c)) < 0 && f != 0) {
+                        f = fail[f];
+                    }
+                    fail[child] = target >= 0 && target != child ? target : 0;
+                    // 실패 링크 쪽에서 끝나는 키워드도 이 상태에서 끝남
+                    output[child] = Math.min(output[child], output[fail[child]]);
+                    queue.add(child);
+                }
+            }
+        }
+
+        private int next(int state, char c) {
+            int index = Arrays.binarySearch(edgeChars[state], c);
+            return index >= 0 ? edgeTargets[state][index] : -1;
+        }
+
+        private int addEdge(int state, char c) {
+            char[] chars = edgeChars[state];
+            int[] targets = edgeTargets[state];
+            int insert = -Arrays.binarySearch(chars, c) - 1;
+
+            char[] newChars = new char[chars.length + 1];
+            int[] newTargets = new int[targets.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insert);
+            System.arraycopy(targets, 0, newTargets, 0, insert);
+            newChars[insert] = c;
+            newTargets[insert] = size;
+            System.arraycopy(chars, insert, newChars, insert + 1, chars.length - insert);
+            System.arraycopy(targets, insert, newTargets, insert + 1, targets.length - insert);
+            edgeChars[state] = newChars;
+            edgeTargets[state] = newTargets;
+
+            edgeChars[size] = new char[0];
+            edgeTargets[size] = new int[0];
+            return size++;
+        }
+
+        private static char lower(char c) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+}
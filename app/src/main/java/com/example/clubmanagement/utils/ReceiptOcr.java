@@ -0,0 +1,248 @@
+package com.example.clubmanagement.utils;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Rect;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import com.google.mlkit.vision.common.InputImage;
+import com.google.mlkit.vision.text.TextRecognition;
+import com.google.mlkit.vision.text.TextRecognizer;
+import com.google.mlkit.vision.text.korean.KoreanTextRecognizerOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 영수증 OCR 전처리 + 인식
+ * 카메라 원본 해상도 대신 인식기에 필요한 해상도로 축소 디코딩하고, 영수증 영역만 잘라(ReceiptRegionDetector)
+ * 한국어 ML Kit 인식기에 넘깁니다. 인식 결과는 이미지 파일 해시별로 캐시하므로
+ * 같은 영수증을 다시 고르면(거래 수정 등) 바로 결과를 돌려줍니다.
+ * 인식기를 사용하는 화면에서 생성하고, 화면이 끝날 때 close() 를 호출합니다.
+ */
+public class ReceiptOcr {
+    private static final String TAG = "ReceiptOcr";
+
+    // 한글은 글자당 약 24px 이상이어야 잘 인식되므로, 영수증 한 줄(약 40자)이 들어가는 폭을 확보하는 크기
+    private static final int OCR_MAX_DIMENSION = 2048;
+    // 영수증 영역을 찾을 때 쓰는 미리보기 크기
+    private static final int DETECT_DIMENSION = 256;
+    private static final int CACHE_SIZE = 32;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    // 화면이 다시 만들어져도 결과를 재사용할 수 있도록 프로세스 단위로 공유
+    private static final LruCache<String, String> TEXT_CACHE = new LruCache<>(CACHE_SIZE);
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    public interface OcrCallback {
+        void onSuccess(String text);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 인식기에 넘길 비트맵과 EXIF 회전 각도
+     */
+    private static class PreparedInput {
+        final Bitmap bitmap;
+        final int rotationDegrees;
+
+        PreparedInput(Bitmap bitmap, int rotationDegrees) {
+            this.bitmap = bitmap;
+            this.rotationDegrees = rotationDegrees;
+        }
+    }
+
+    private final ContentResolver contentResolver;
+    private final TextRecognizer recognizer;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private boolean autoCrop = true;
+
+    public ReceiptOcr(Context context) {
+        contentResolver = context.getApplicationContext().getContentResolver();
+        recognizer = TextRecognition.getClient(new KoreanTextRecognizerOptions.Builder().build());
+    }
+
+    /**
+     * 영수증 영역 자동 자르기 사용 여부 (기본 사용)
+     */
+    public void setAutoCrop(boolean autoCrop) {
+        this.autoCrop = autoCrop;
+    }
+
+    /**
+     * 영수증 텍스트 인식 - 콜백은 메인 스레드에서 호출됩니다.
+     */
+    public void recognize(Uri imageUri, OcrCallback callback) {
+        boolean crop = autoCrop;
+        EXECUTOR.execute(() -> {
+            String cacheKey;
+            PreparedInput input;
+            try {
+                cacheKey = hashOf(imageUri) + (crop ? ":crop" : "");
+                String cached = TEXT_CACHE.get(cacheKey);
+                if (cached != null) {
+                    mainHandler.post(() -> callback.onSuccess(cached));
+                    return;
+                }
+                input = prepare(imageUri, crop);
+            } catch (Exception | OutOfMemoryError e) {
+                Log.e(TAG, "Failed to prepare receipt image " + imageUri, e);
+                Exception error = e instanceof Exception ? (Exception) e : new IOException("이미지가 너무 큽니다", e);
+                mainHandler.post(() -> callback.onFailure(error));
+                return;
+            }
+
+            mainHandler.post(() -> recognizer.process(InputImage.fromBitmap(input.bitmap, input.rotationDegrees))
+                    .addOnSuccessListener(text -> {
+                        String result = text.getText();
+                        TEXT_CACHE.put(cacheKey, result != null ? result : "");
+                        callback.onSuccess(result);
+                    })
+                    .addOnFailureListener(callback::onFailure));
+        });
+    }
+
+    public void close() {
+        recognizer.close();
+    }
+
+    /**
+     * 영수증 영역을 찾아 그 부분만 인식용 해상도로 디코딩 (호출한 스레드에서 실행)
+     */
+    private PreparedInput prepare(Uri source, boolean crop) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = open(source)) {
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("이미지 형식을 읽을 수 없습니다");
+        }
+
+        Rect region = crop ? detectRegion(source, bounds.outWidth, bounds.outHeight) : null;
+        Bitmap bitmap;
+        if (region == null) {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inSampleSize = ImageUploadPipeline.calculateInSampleSize(
+                    bounds.outWidth, bounds.outHeight, OCR_MAX_DIMENSION);
+            try (InputStream in = open(source)) {
+                bitmap = BitmapFactory.decodeStream(in, null, options);
+            }
+        } else {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inSampleSize = ImageUploadPipeline.calculateInSampleSize(
+                    region.width(), region.height(), OCR_MAX_DIMENSION);
+            try (InputStream in = open(source)) {
+                BitmapRegionDecoder decoder = newRegionDecoder(in);
+                try {
+                    bitmap = decoder.decodeRegion(region, options);
+                } finally {
+                    decoder.recycle();
+                }
+            }
+        }
+        if (bitmap == null) {
+            throw new IOException("이미지를 디코딩할 수 없습니다");
+        }
+        return new PreparedInput(ImageUploadPipeline.scaleDown(bitmap, OCR_MAX_DIMENSION), readRotation(source));
+    }
+
+    /**
+     * 작은 미리보기에서 영수증 영역을 찾아 원본 좌표로 변환 (못 찾으면 null)
+     */
+    private Rect detectRegion(Uri source, int width, int height) throws IOException {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = ImageUploadPipeline.calculateInSampleSize(width, height, DETECT_DIMENSION);
+        Bitmap preview;
+        try (InputStream in = open(source)) {
+            preview = BitmapFactory.decodeStream(in, null, options);
+        }
+        if (preview == null) return null;
+
+        int previewWidth = preview.getWidth();
+        int previewHeight = preview.getHeight();
+        int[] pixels = new int[previewWidth * previewHeight];
+        preview.getPixels(pixels, 0, previewWidth, 0, 0, previewWidth, previewHeight);
+        preview.recycle();
+        for (int i = 0; i < pixels.length; i++) {
+            int color = pixels[i];
+            pixels[i] = (((color >> 16) & 0xff) * 299 + ((color >> 8) & 0xff) * 587 + (color & 0xff) * 114) / 1000;
+        }
+
+        int[] box = ReceiptRegionDetector.detect(pixels, previewWidth, previewHeight);
+        if (box == null) return null;
+        float scaleX = (float) width / previewWidth;
+        float scaleY = (float) height / previewHeight;
+        return new Rect(
+                Math.max(0, (int) (box[0] * scaleX)),
+                Math.max(0, (int) (box[1] * scaleY)),
+                Math.min(width, (int) Math.ceil(box[2] * scaleX)),
+                Math.min(height, (int) Math.ceil(box[3] * scaleY)));
+    }
+
+    private int readRotation(Uri source) {
+        try (InputStream in = open(source)) {
+            int orientation = new ExifInterface(in).getAttributeInt(
+                    ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+            switch (orientation) {
+                case ExifInterface.ORIENTATION_ROTATE_90:
+                    return 90;
+                case ExifInterface.ORIENTATION_ROTATE_180:
+                    return 180;
+                case ExifInterface.ORIENTATION_ROTATE_270:
+                    return 270;
+                default:
+                    return 0;
+            }
+        } catch (IOException e) {
+            // EXIF가 없는 형식(PNG 등)은 회전 없음
+            return 0;
+        }
+    }
+
+    /**
+     * 이미지 파일 전체의 SHA-256 (캐시 키)
+     */
+    private String hashOf(Uri source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream in = open(source)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return ContentStore.toHex(digest.digest());
+    }
+
+    private InputStream open(Uri source) throws IOException {
+        InputStream in = contentResolver.openInputStream(source);
+        if (in == null) throw new IOException("이미지를 열 수 없습니다");
+        return in;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static BitmapRegionDecoder newRegionDecoder(InputStream in) throws IOException {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.S
+                ? BitmapRegionDecoder.newInstance(in)
+                : BitmapRegionDecoder.newInstance(in, false);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.clubmanagement.utils;
+
+/**
+ * 사진에서 영수증(밝은 종이) 영역 찾기 - Android 의존성 없는 순수 Java
+ * 작은 미리보기의 밝기 값에 Otsu 임계값을 적용해 밝은 픽셀을 고르고,
+ * 밝은 픽셀이 충분히 많은 행/열 범위를 영수증 영역으로 봅니다.
+ * 배경과 구분이 안 되거나 잘라도 이득이 없으면 null 을 반환해 원본 전체를 사용하게 합니다.
+ */
+final class ReceiptRegionDetector {
+
+    // 가장 밝은 행/열 대비 이 비율 이상 밝은 픽셀이 있어야 영수증에 포함
+    private static final float LINE_RATIO = 0.5f;
+    // 밝은 영역과 어두운 영역의 평균 밝기 차이가 이보다 작으면 배경과 구분되지 않는 것으로 봄
+    private static final int MIN_CONTRAST = 40;
+    // 찾은 영역이 너무 작으면 잘못 찾은 것, 너무 크면 자를 필요 없음
+    private static final float MIN_AREA_RATIO = 0.15f;
+    private static final float MAX_SIDE_RATIO = 0.92f;
+    // 영수증 가장자리 글자가 잘리지 않도록 둘 여백
+    private static final float MARGIN_RATIO = 0.02f;
+
+    private ReceiptRegionDetector() {
+    }
+
+    /**
+     * 밝기(0~255) 배열에서 영수증 영역 {left, top, right, bottom} (right/bottom 은 포함하지 않음), 없으면 null
+     */
+    static int[] detect(int[] luminance, int width, int height) {
+        if (width <= 0 || height <= 0 || luminance.length < width * height) return null;
+
+        int[] histogram = new int[256];
+        for (int i = 0; i < width * height; i++) {
+            histogram[luminance[i]]++;
+        }
+        int threshold = otsuThreshold(histogram, width * height);
+
+        long brightSum = 0;
+        long darkSum = 0;
+        int brightCount = 0;
+        for (int value = 0; value < 256; value++) {
+            if (value > threshold) {
+                brightSum += (long) value * histogram[value];
+                brightCount += histogram[value];
+            } else {
+                darkSum += (long) value * histogram[value];
+            }
+        }
+        int darkCount = width * height - brightCount;
+        if (brightCount == 0 || darkCount == 0) return null;
+        if (brightSum / brightCount - darkSum / darkCount < MIN_CONTRAST) return null;
+
+        int[] rowCounts = new int[height];
+        int[] columnCounts = new int[width];
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                if (luminance[offset + x] > threshold) {
+                    rowCounts[y]++;
+                    columnCounts[x]++;
+                }
+            }
+        }
+
+        int[] rows = span(rowCounts);
+        int[] columns = span(columnCounts);
+        int regionWidth = columns[1] - columns[0];
+        int regionHeight = rows[1] - rows[0];
+        if ((long) regionWidth * regionHeight < MIN_AREA_RATIO * width * height) return null;
+        if (regionWidth >= MAX_SIDE_RATIO * width && regionHeight >= MAX_SIDE_RATIO * height) return null;
+
+        int marginX = Math.round(width * MARGIN_RATIO);
+        int marginY = Math.round(height * MARGIN_RATIO);
+        return new int[]{
+                Math.max(0, columns[0] - marginX),
+                Math.max(0, rows[0] - marginY),
+                Math.min(width, columns[1] + marginX),
+                Math.min(height, rows[1] + marginY)
+        };
+    }
+
+    /**
+     * 최댓값 대비 LINE_RATIO 이상인 첫 위치 ~ 마지막 위치 (끝은 포함하지 않음)
+     */
+    private static int[] span(int[] counts) {
+        int max = 0;
+        for (int count : counts) {
+            if (count > max) max = count;
+        }
+        int limit = Math.max(1, Math.round(max * LINE_RATIO));
+        int start = 0;
+        while (start < counts.length - 1 && counts[start] < limit) start++;
+        int end = counts.length;
+        while (end > start + 1 && counts[end - 1] < limit) end--;
+        return new int[]{start, end};
+    }
+
+    /**
+     * 두 집단의 분산이 가장 크게 갈리는 밝기 값 (이 값 이하는 어두운 쪽)
+     */
+    static int otsuThreshold(int[] histogram, int total) {
+        long weightedTotal = 0;
+        for (int value = 0; value < 256; value++) {
+            weightedTotal += (long) value * histogram[value];
+        }
+
+        long darkWeighted = 0;
+        int darkCount = 0;
+        double bestVariance = -1;
+        int threshold = 0;
+        for (int value = 0; value < 256; value++) {
+            darkCount += histogram[value];
+            if (darkCount == 0) continue;
+            int brightCount = total - darkCount;
+            if (brightCount == 0) break;
+
+            darkWeighted += (long) value * histogram[value];
+            double darkMean = (double) darkWeighted / darkCount;
+            double brightMean = (double) (weightedTotal - darkWeighted) / brightCount;
+            double variance = (double) darkCount * brightCount * (darkMean - brightMean) * (darkMean - brightMean);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                threshold = value;
+            }
+        }
+        return threshold;
+    }
+}
@@ -7,20 +7,10 @@ import android.graphics.Paint;
 import android.graphics.Path;
 import android.util.Log;
 
-import java.io.ByteArrayOutputStream;
 
 public class SignatureUtil {
     private static final String TAG = "SignatureUtil";
 
-    /**
-     * Bitmap을 PNG byte array로 변환
-     */
-    public static byte[] bitmapToByteArray(Bitmap bitmap) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
-        return outputStream.toByteArray();
-    }
-
     /**
      * 서명 패드용 빈 Bitmap 생성
      */
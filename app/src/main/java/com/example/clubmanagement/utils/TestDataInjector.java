@@ -159,11 +159,10 @@ public class TestDataInjector {
         int totalCount = members.size();
 
         for (Member member : members) {
-            db.collection("clubs")
+            MemberManager.setMemberDocument(db, db.collection("clubs")
                     .document(CLUB_ID)
                     .collection("members")
-                    .document(member.getUserId())
-                    .set(member)
+                    .document(member.getUserId()), member)
                     .addOnSuccessListener(aVoid -> {
                         successCount[0]++;
                         if (successCount[0] == totalCount) {
@@ -36,10 +36,12 @@ public class ThemeHelper {
         FirebaseManager firebaseManager = FirebaseManager.getInstance();
         String userId = firebaseManager.getCurrentUserId();
         if (userId != null) {
+            firebaseManager.invalidateUserCache(userId);
             FirebaseFirestore.getInstance()
                     .collection("users")
                     .document(userId)
                     .update("themePreference", theme)
+                    .addOnCompleteListener(firebaseManager.invalidateAfterWrite(null, userId))
                     .addOnFailureListener(e -> {
                         android.util.Log.e("ThemeHelper", "Failed to save theme to Firebase: " + e.getMessage());
                     });
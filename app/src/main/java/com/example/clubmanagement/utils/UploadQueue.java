@@ -0,0 +1,461 @@
+package com.example.clubmanagement.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+
+import com.example.clubmanagement.services.UploadWorker;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.StorageMetadata;
+import com.google.firebase.storage.StorageReference;
+import com.google.firebase.storage.UploadTask;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디스크 기반 업로드 대기열
+ * 인코딩한 이미지를 앱 내부 저장소에 파일로 저장하고 작업 정보를 SharedPreferences에 기록한 뒤,
+ * UploadWorker(WorkManager)가 네트워크가 있을 때 Storage 재개 가능 업로드(putFile + 세션 URI)로 올립니다.
+ * 업로드가 끝나면 결과 URL을 대상 문서(거래 영수증, 서명)에 기록합니다.
+ * 파일 이름은 내용 해시이며, 같은 내용이 이미 올라가 있으면 업로드 없이 기존 URL을 사용합니다 (ContentStore 참고).
+ * 앱이 백그라운드로 가거나 종료되어도 WorkManager 재시도 때 끊긴 위치부터 이어서 업로드합니다.
+ */
+public class UploadQueue {
+    private static final String TAG = "UploadQueue";
+
+    private static final String PREFS_NAME = "upload_queue";
+    private static final String JOB_KEY_PREFIX = "job_";
+    private static final String QUEUE_DIR = "upload_queue";
+    private static final String WORK_NAME = "upload_queue";
+    private static final long INITIAL_BACKOFF_SECONDS = 30;
+    // 이 횟수만큼 실패하면 작업을 포기하고 로컬 파일을 정리
+    private static final int MAX_ATTEMPTS = 8;
+
+    // 업로드 완료 후 URL을 기록할 대상
+    public static final String KIND_RECEIPT = "receipt";
+    public static final String KIND_SIGNATURE = "signature";
+
+    public static final String PARAM_CLUB_ID = "clubId";
+    public static final String PARAM_TRANSACTION_ID = "transactionId";
+    public static final String PARAM_USER_ID = "userId";
+    public static final String PARAM_ORIGIN = "origin";
+
+    private static UploadQueue instance;
+
+    private final Context context;
+    private final SharedPreferences prefs;
+    private final File queueDir;
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private UploadQueue(Context context) {
+        this.context = context.getApplicationContext();
+        this.prefs = this.context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.queueDir = new File(this.context.getFilesDir(), QUEUE_DIR);
+    }
+
+    public static synchronized UploadQueue getInstance(Context context) {
+        if (instance == null) {
+            instance = new UploadQueue(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 선택한 이미지를 인코딩해 folder 아래에 올리도록 대기열에 추가
+     * 콜백은 작업이 디스크에 저장된 시점에 메인 스레드에서 호출됩니다.
+     */
+    public void enqueue(Uri source, ImageUploadPipeline.Preset preset, String folder, String kind,
+                        Map<String, String> params, FirebaseManager.SimpleCallback callback) {
+        ioExecutor.execute(() -> {
+            try {
+                ImageUploadPipeline.PreparedImage image =
+                        ImageUploadPipeline.getInstance(context).prepare(source, preset);
+                saveJob(image, folder, kind, params);
+                mainHandler.post(callback::onSuccess);
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to enqueue upload to " + folder, e);
+                mainHandler.post(() -> callback.onFailure(e));
+            }
+        });
+    }
+
+    /**
+     * 이미 인코딩된 이미지를 대기열에 추가
+     */
+    public void enqueue(byte[] data, ImageUploadPipeline.Format format, String folder, String kind,
+                        Map<String, String> params, FirebaseManager.SimpleCallback callback) {
+        ioExecutor.execute(() -> {
+            try {
+                saveJob(new ImageUploadPipeline.PreparedImage(format, data, new ArrayList<>()),
+                        folder, kind, params);
+                mainHandler.post(callback::onSuccess);
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to enqueue upload to " + folder, e);
+                mainHandler.post(() -> callback.onFailure(e));
+            }
+        });
+    }
+
+    /**
+     * UploadWorker 실행 예약 (이미 실행 중이면 끝난 뒤 한 번 더 실행)
+     */
+    public void schedule() {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .build();
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(UploadWorker.class)
+                .setConstraints(constraints)
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, INITIAL_BACKOFF_SECONDS, TimeUnit.SECONDS)
+                .build();
+        WorkManager.getInstance(context)
+                .enqueueUniqueWork(WORK_NAME, ExistingWorkPolicy.APPEND_OR_REPLACE, request);
+    }
+
+    private void saveJob(ImageUploadPipeline.PreparedImage image, String folder, String kind,
+                         Map<String, String> params) throws IOException, JSONException {
+        String jobId = UUID.randomUUID().toString();
+        File jobDir = new File(queueDir, jobId);
+        if (!jobDir.isDirectory() && !jobDir.mkdirs()) {
+            throw new IOException("업로드 대기열 폴더를 만들 수 없습니다");
+        }
+
+        String extension = "." + image.format.extension;
+        String storagePath = image.objectPath(folder);
+        JSONArray parts = new JSONArray();
+        parts.put(newPart(writeFile(new File(jobDir, "original" + extension), image.data),
+                storagePath, 0, 0));
+        for (ImageUploadPipeline.EncodedVariant variant : image.variants) {
+            int size = Math.max(variant.width, variant.height);
+            String name = ImageVariants.variantName(storagePath, size);
+            parts.put(newPart(writeFile(new File(jobDir, size + extension), variant.data),
+                    name, variant.width, variant.height));
+        }
+
+        JSONObject job = new JSONObject();
+        job.put("id", jobId);
+        job.put("kind", kind);
+        job.put("contentType", image.format.mimeType);
+        job.put("createdAt", System.currentTimeMillis());
+        job.put("attempts", 0);
+        job.put("params", new JSONObject(params));
+        job.put("parts", parts);
+
+        if (!prefs.edit().putString(JOB_KEY_PREFIX + jobId, job.toString()).commit()) {
+            deleteRecursively(jobDir);
+            throw new IOException("업로드 작업을 저장할 수 없습니다");
+        }
+        schedule();
+    }
+
+    private static JSONObject newPart(File file, String storagePath, int width, int height) throws JSONException {
+        JSONObject part = new JSONObject();
+        part.put("file", file.getAbsolutePath());
+        part.put("path", storagePath);
+        part.put("width", width);
+        part.put("height", height);
+        return part;
+    }
+
+    private static File writeFile(File file, byte[] data) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+        return file;
+    }
+
+    // ========================================
+    // Worker 실행 (백그라운드 스레드)
+    // ========================================
+
+    private enum Outcome { DONE, RETRY, DROPPED }
+
+    /**
+     * 대기 중인 작업을 오래된 순서로 처리 - 다시 시도해야 할 작업이 남으면 true
+     */
+    public boolean processPending() {
+        List<JSONObject> jobs = new ArrayList<>();
+        for (Map.Entry<String, ?> entry : prefs.getAll().entrySet()) {
+            if (!entry.getKey().startsWith(JOB_KEY_PREFIX)) continue;
+            try {
+                jobs.add(new JSONObject((String) entry.getValue()));
+            } catch (JSONException | ClassCastException e) {
+                Log.e(TAG, "Dropping corrupt upload job " + entry.getKey(), e);
+                prefs.edit().remove(entry.getKey()).commit();
+            }
+        }
+        Collections.sort(jobs, (a, b) -> Long.compare(a.optLong("createdAt"), b.optLong("createdAt")));
+
+        boolean retry = false;
+        for (JSONObject job : jobs) {
+            Outcome outcome = processJob(job);
+            if (outcome == Outcome.RETRY) {
+                retry = true;
+            } else {
+                removeJob(job);
+            }
+        }
+        return retry;
+    }
+
+    private Outcome processJob(JSONObject job) {
+        try {
+            // 참조를 이미 확보한 작업(url)은 문서 기록만 다시 시도
+            if (!job.has("url")) {
+                job.put("url", store(job));
+                persist(job);
+            }
+
+            link(job.getString("kind"), job.getJSONObject("params"), job.getString("url"));
+            Log.d(TAG, "Upload job completed: " + job.getString("id"));
+            return Outcome.DONE;
+        } catch (OwnerMissingException e) {
+            // 대상 문서가 이미 삭제됨 - 확보한 참조도 필요 없음
+            Log.w(TAG, "Upload owner missing, discarding job " + job.optString("id"), e);
+            releaseAcquired(job);
+            return Outcome.DROPPED;
+        } catch (Exception e) {
+            int attempts = job.optInt("attempts") + 1;
+            Log.w(TAG, "Upload job " + job.optString("id") + " failed (attempt " + attempts + ")", e);
+            if (attempts >= MAX_ATTEMPTS) {
+                releaseAcquired(job);
+                return Outcome.DROPPED;
+            }
+            try {
+                job.put("attempts", attempts);
+                persist(job);
+            } catch (JSONException ignored) {
+                // 횟수 기록 실패는 다음 실행에서 다시 셈
+            }
+            return Outcome.RETRY;
+        }
+    }
+
+    /**
+     * 같은 내용이 이미 있으면 참조만 늘려 재사용하고, 없으면 모든 파일을 올린 뒤 색인에 등록
+     * 결과는 참조 하나를 가진 최종 URL
+     */
+    private String store(JSONObject job) throws Exception {
+        JSONArray parts = job.getJSONArray("parts");
+        String path = parts.getJSONObject(0).getString("path");
+        ContentStore contentStore = ContentStore.getInstance();
+        try {
+            String existingUrl = Tasks.await(contentStore.acquire(path));
+            if (existingUrl != null) {
+                Log.d(TAG, "Reusing existing upload " + path);
+                return existingUrl;
+            }
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Content index lookup failed for " + path, e);
+        }
+
+        StorageMetadata metadata = new StorageMetadata.Builder()
+                .setContentType(job.getString("contentType"))
+                .build();
+        for (int i = 0; i < parts.length(); i++) {
+            JSONObject part = parts.getJSONObject(i);
+            if (part.has("url")) continue;
+            part.put("url", uploadPart(job, part, metadata));
+            persist(job);
+        }
+
+        String url = composeUrl(parts);
+        try {
+            return Tasks.await(contentStore.register(path, url));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ContentStore.PendingDeleteException) {
+                // 같은 경로의 파일이 지워지는 중 - 올린 파일이 지워질 수 있으므로 다음 시도에서 처음부터 다시 올림
+                for (int i = 0; i < parts.length(); i++) {
+                    parts.getJSONObject(i).remove("url");
+                    parts.getJSONObject(i).remove("session");
+                }
+                persist(job);
+                throw (ContentStore.PendingDeleteException) e.getCause();
+            }
+            // 색인 등록에 실패해도 업로드한 URL은 사용 (참조 수 관리 대상에서만 빠짐)
+            Log.w(TAG, "Failed to register " + path, e);
+            return url;
+        }
+    }
+
+    /**
+     * 한 파일 업로드 - 저장된 세션 URI가 있으면 끊긴 위치부터 이어서 올림
+     */
+    private String uploadPart(JSONObject job, JSONObject part, StorageMetadata metadata) throws Exception {
+        StorageReference ref = FirebaseStorage.getInstance().getReference().child(part.getString("path"));
+        Uri file = Uri.fromFile(new File(part.getString("file")));
+        String session = part.optString("session", null);
+
+        UploadTask task = session != null
+                ? ref.putFile(file, metadata, Uri.parse(session))
+                : ref.putFile(file, metadata);
+        task.addOnProgressListener(Runnable::run, snapshot -> {
+            Uri sessionUri = snapshot.getUploadSessionUri();
+            if (sessionUri != null && !part.has("session")) {
+                try {
+                    part.put("session", sessionUri.toString());
+                    persist(job);
+                } catch (JSONException ignored) {
+                    // 세션을 저장하지 못하면 다음 번엔 처음부터 올림
+                }
+            }
+        });
+
+        try {
+            Tasks.await(task);
+        } catch (ExecutionException e) {
+            // 만료되었거나 잘못된 세션일 수 있으므로 다음 시도는 새 세션으로 시작
+            part.remove("session");
+            persist(job);
+            throw e;
+        }
+        return Tasks.await(ref.getDownloadUrl()).toString();
+    }
+
+    /**
+     * 원본 URL에 축소본 정보를 붙인 최종 URL
+     */
+    private static String composeUrl(JSONArray parts) throws JSONException {
+        String originalUrl = parts.getJSONObject(0).getString("url");
+        List<ImageVariants.Variant> variants = new ArrayList<>();
+        for (int i = 1; i < parts.length(); i++) {
+            JSONObject part = parts.getJSONObject(i);
+            String token = ImageVariants.tokenOf(part.getString("url"));
+            if (token != null) {
+                variants.add(new ImageVariants.Variant(part.getInt("width"), part.getInt("height"), token));
+            }
+        }
+        return ImageVariants.withVariants(originalUrl, variants);
+    }
+
+    /**
+     * 업로드된 URL을 대상 문서에 기록하고, 대신하게 된 이전 URL의 참조 해제
+     */
+    private void link(String kind, JSONObject params, String url) throws Exception {
+        FirebaseFirestore db = FirebaseFirestore.getInstance();
+        String replacedUrl;
+        switch (kind) {
+            case KIND_RECEIPT: {
+                DocumentReference ref = db.collection("clubs")
+                        .document(params.getString(PARAM_CLUB_ID))
+                        .collection("transactions")
+                        .document(params.getString(PARAM_TRANSACTION_ID));
+                DocumentSnapshot current = Tasks.await(ref.get());
+                if (!current.exists()) {
+                    throw new OwnerMissingException(new IllegalStateException("거래 문서가 없습니다: " + ref.getPath()));
+                }
+                replacedUrl = current.getString("receiptImageUrl");
+                try {
+                    Tasks.await(ref.update("receiptImageUrl", url));
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof FirebaseFirestoreException
+                            && ((FirebaseFirestoreException) e.getCause()).getCode()
+                                == FirebaseFirestoreException.Code.NOT_FOUND) {
+                        throw new OwnerMissingException(e.getCause());
+                    }
+                    throw e;
+                }
+                break;
+            }
+            case KIND_SIGNATURE: {
+                // FirebaseManager.updateSignatureData 와 같은 형태로 저장
+                String userId = params.getString(PARAM_USER_ID);
+                String origin = params.getString(PARAM_ORIGIN);
+                String field = "pad".equals(origin) ? "signaturePadUrl" : "signatureImageUrl";
+                DocumentReference ref = db.collection("signatures").document(userId);
+                replacedUrl = Tasks.await(ref.get()).getString(field);
+
+                Map<String, Object> signatureData = new HashMap<>();
+                signatureData.put(field, url);
+                signatureData.put("origin", origin);
+                signatureData.put("lastUpdated", Timestamp.now());
+                signatureData.put("userId", userId);
+                // 다른 방식(패드/이미지)의 서명 URL은 그대로 두도록 병합 - 덮어쓰면 그 참조를 해제할 수 없게 됨
+                Tasks.await(ref.set(signatureData, SetOptions.merge()));
+                break;
+            }
+            default:
+                throw new OwnerMissingException(new IllegalArgumentException("알 수 없는 업로드 종류: " + kind));
+        }
+
+        if (replacedUrl != null && !replacedUrl.isEmpty() && !replacedUrl.equals(url)) {
+            ContentStore.getInstance().release(replacedUrl);
+        }
+    }
+
+    private void persist(JSONObject job) {
+        prefs.edit().putString(JOB_KEY_PREFIX + job.optString("id"), job.toString()).commit();
+    }
+
+    private void removeJob(JSONObject job) {
+        String jobId = job.optString("id");
+        prefs.edit().remove(JOB_KEY_PREFIX + jobId).commit();
+        deleteRecursively(new File(queueDir, jobId));
+    }
+
+    /**
+     * 포기한 작업이 확보한 참조 해제 (실패는 무시)
+     * 등록 전에 올라간 파일은 같은 내용의 다른 업로드와 공유될 수 있으므로 지우지 않습니다.
+     */
+    private static void releaseAcquired(JSONObject job) {
+        String url = job.optString("url", null);
+        if (url != null) {
+            ContentStore.getInstance().release(url);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        if (file.exists() && !file.delete()) {
+            Log.w(TAG, "Failed to delete " + file);
+        }
+    }
+
+    /**
+     * 업로드 결과를 기록할 문서가 없어 재시도해도 소용없는 경우
+     */
+    private static class OwnerMissingException extends Exception {
+        OwnerMissingException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -156,6 +156,14 @@ public class SignaturePadView extends View {
         return false;
     }
 
+    /**
+     * 현재 그려진 서명 Bitmap 의 복사본 (흰 배경 그대로, 백그라운드 후처리용)
+     */
+    public Bitmap copyPadBitmap() {
+        if (bitmap == null) return null;
+        return bitmap.copy(Bitmap.Config.ARGB_8888, false);
+    }
+
     /**
      * 서명 Bitmap 가져오기 (투명 배경)
      */
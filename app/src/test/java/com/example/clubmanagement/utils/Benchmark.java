@@ -0,0 +1,8 @@
+package com.example.clubmanagement.utils;
+
+/**
+ * 벤치마크 테스트 카테고리 (기본 test 실행에서는 제외)
+ * ./gradlew testDebugUnitTest -Pbenchmark 로 벤치마크만 실행합니다.
+ */
+public interface Benchmark {
+}
@@ -0,0 +1,68 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.BudgetTransaction;
+import com.google.firebase.Timestamp;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+/**
+ * BudgetCsvWriter 검증 (따옴표 처리/수식 방지/행 형식)
+ */
+public class BudgetCsvWriterTest {
+
+    @Test
+    public void escape_quotesOnlyWhenNeeded() {
+        assertEquals("간식", BudgetCsvWriter.escape("간식"));
+        assertEquals("\"간식, 음료\"", BudgetCsvWriter.escape("간식, 음료"));
+        assertEquals("\"\"\"MT\"\" 회비\"", BudgetCsvWriter.escape("\"MT\" 회비"));
+        assertEquals("\"첫 줄\n둘째 줄\"", BudgetCsvWriter.escape("첫 줄\n둘째 줄"));
+        assertEquals("", BudgetCsvWriter.escape(null));
+    }
+
+    @Test
+    public void text_guardsFormulaPrefixes() {
+        assertEquals("'=HYPERLINK(\"x\")", BudgetCsvWriter.text("=HYPERLINK(\"x\")"));
+        assertEquals("'+1", BudgetCsvWriter.text("+1"));
+        assertEquals("'-1", BudgetCsvWriter.text("-1"));
+        assertEquals("'@SUM(A1)", BudgetCsvWriter.text("@SUM(A1)"));
+        assertEquals("'\t=1+1", BudgetCsvWriter.text("\t=1+1"));
+        assertEquals("'\r=1+1", BudgetCsvWriter.text("\r=1+1"));
+        assertEquals("회식비", BudgetCsvWriter.text("회식비"));
+        assertEquals("", BudgetCsvWriter.text(null));
+    }
+
+    @Test
+    public void writeHeader_startsWithBom() throws IOException {
+        StringWriter out = new StringWriter();
+        BudgetCsvWriter writer = new BudgetCsvWriter(out);
+
+        writer.writeHeader();
+        writer.flush();
+
+        assertEquals("\uFEFF순번,일시,유형,금액,내역,거래 후 잔액,작성자,영수증\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRow_writesSignedAmountInKoreanTime() throws IOException {
+        // 2024-03-31 15:30 UTC = 2024-04-01 00:30 KST
+        BudgetTransaction expense = new BudgetTransaction("club", BudgetTransaction.TYPE_EXPENSE, 12_000, "=간식, 음료");
+        expense.setSeq(7);
+        expense.setBalanceAfter(88_000);
+        expense.setCreatedAt(new Timestamp(1_711_899_000L, 0));
+        expense.setCreatedByName("김총무");
+        expense.setReceiptImageUrl("https://example.com/r.jpg?alt=media&token=t#v=320x240:abc");
+        StringWriter out = new StringWriter();
+        BudgetCsvWriter writer = new BudgetCsvWriter(out);
+
+        writer.writeRow(expense);
+        writer.flush();
+
+        assertEquals("7,2024-04-01 00:30," + expense.getTypeDisplayName() + ",-12000,\"'=간식, 음료\",88000,김총무,https://example.com/r.jpg?alt=media&token=t\r\n",
+                out.toString());
+    }
+}
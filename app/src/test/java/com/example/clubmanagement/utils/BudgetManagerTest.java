@@ -0,0 +1,157 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.BudgetRollup;
+import com.example.clubmanagement.models.BudgetTransaction;
+import com.google.firebase.Timestamp;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * BudgetManager 원장 계산 검증 (순번/거래 후 잔액/월별 집계)
+ */
+public class BudgetManagerTest {
+
+    @Test
+    public void balanceDelta_followsTransactionType() {
+        assertEquals(-5_000, BudgetManager.balanceDelta(BudgetTransaction.TYPE_EXPENSE, 5_000));
+        assertEquals(5_000, BudgetManager.balanceDelta(BudgetTransaction.TYPE_INCOME, 5_000));
+        // 조정 거래는 부호 있는 차액
+        assertEquals(-3_000, BudgetManager.balanceDelta(BudgetTransaction.TYPE_ADJUSTMENT, -3_000));
+    }
+
+    @Test
+    public void assignLedgerSequence_numbersChronologicallyAndEndsAtCurrentBalance() {
+        BudgetTransaction dues = entry("b", BudgetTransaction.TYPE_INCOME, 100_000, 1_000);
+        BudgetTransaction snacks = entry("c", BudgetTransaction.TYPE_EXPENSE, 20_000, 2_000);
+        BudgetTransaction banner = entry("a", BudgetTransaction.TYPE_EXPENSE, 30_000, 3_000);
+        List<BudgetTransaction> entries = new ArrayList<>(Arrays.asList(banner, dues, snacks));
+
+        BudgetManager.assignLedgerSequence(entries, 150_000);
+
+        assertEquals(Arrays.asList(dues, snacks, banner), entries);
+        assertEquals(1, dues.getSeq());
+        assertEquals(2, snacks.getSeq());
+        assertEquals(3, banner.getSeq());
+        assertEquals(150_000, banner.getBalanceAfter());
+        assertEquals(180_000, snacks.getBalanceAfter());
+        assertEquals(200_000, dues.getBalanceAfter());
+    }
+
+    @Test
+    public void assignLedgerSequence_putsUndatedFirstAndBreaksTiesById() {
+        BudgetTransaction later = entry("z", BudgetTransaction.TYPE_INCOME, 1_000, 5_000);
+        BudgetTransaction tieB = entry("b", BudgetTransaction.TYPE_INCOME, 1_000, 4_000);
+        BudgetTransaction tieA = entry("a", BudgetTransaction.TYPE_INCOME, 1_000, 4_000);
+        BudgetTransaction undated = entry("y", BudgetTransaction.TYPE_INCOME, 1_000, 0);
+        undated.setCreatedAt(null);
+        List<BudgetTransaction> entries = new ArrayList<>(Arrays.asList(later, tieB, undated, tieA));
+
+        BudgetManager.assignLedgerSequence(entries, 4_000);
+
+        assertEquals(Arrays.asList(undated, tieA, tieB, later), entries);
+        assertEquals(1_000, undated.getBalanceAfter());
+        assertEquals(4_000, later.getBalanceAfter());
+    }
+
+    @Test
+    public void assignLedgerSequence_ignoresEmptyLedger() {
+        List<BudgetTransaction> entries = new ArrayList<>();
+
+        BudgetManager.assignLedgerSequence(entries, 10_000);
+
+        assertTrue(entries.isEmpty());
+    }
+
+    @Test
+    public void monthKey_usesKoreanTime() {
+        // 2024-03-31 15:30 UTC = 2024-04-01 00:30 KST
+        assertEquals("2024-04", BudgetManager.monthKey(new Timestamp(1_711_899_000L, 0)));
+        assertEquals("2024-03", BudgetManager.monthKey(new Timestamp(1_711_895_400L, 0)));
+        assertEquals(BudgetManager.UNDATED_MONTH, BudgetManager.monthKey(null));
+    }
+
+    @Test
+    public void monthRange_coversKoreanCalendarMonth() {
+        Timestamp[] range = BudgetManager.monthRange("2024-12");
+
+        // 2024-12-01 00:00 KST = 2024-11-30 15:00 UTC, 2025-01-01 00:00 KST = 2024-12-31 15:00 UTC
+        assertEquals(1_732_978_800L, range[0].getSeconds());
+        assertEquals(1_735_657_200L, range[1].getSeconds());
+        assertEquals("2024-12", BudgetManager.monthKey(range[0]));
+        assertEquals("2025-01", BudgetManager.monthKey(range[1]));
+    }
+
+    @Test
+    public void buildRollups_sumsByMonthWithClosingBalance() {
+        // 2024-03 (KST)
+        BudgetTransaction dues = entry("a", BudgetTransaction.TYPE_INCOME, 100_000, 1_709_251_200L);
+        BudgetTransaction snacks = entry("b", BudgetTransaction.TYPE_EXPENSE, 20_000, 1_710_000_000L);
+        // 2024-04 (KST)
+        BudgetTransaction fix = entry("c", BudgetTransaction.TYPE_ADJUSTMENT, -5_000, 1_712_000_000L);
+        BudgetTransaction banner = entry("d", BudgetTransaction.TYPE_EXPENSE, 30_000, 1_713_000_000L);
+        List<BudgetTransaction> entries = new ArrayList<>(Arrays.asList(dues, snacks, fix, banner));
+        BudgetManager.assignLedgerSequence(entries, 45_000);
+
+        List<BudgetRollup> rollups = BudgetManager.buildRollups(entries);
+
+        assertEquals(2, rollups.size());
+        BudgetRollup march = rollups.get(0);
+        assertEquals("2024-03", march.getMonth());
+        assertEquals(100_000, march.getIncome());
+        assertEquals(20_000, march.getExpense());
+        assertEquals(2, march.getCount());
+        assertEquals(80_000, march.getClosingBalance());
+        BudgetRollup april = rollups.get(1);
+        assertEquals("2024-04", april.getMonth());
+        assertEquals(-5_000, april.getAdjustment());
+        assertEquals(30_000, april.getExpense());
+        assertEquals(45_000, april.getClosingBalance());
+        assertEquals(march.getClosingBalance() + april.getNetChange(), april.getClosingBalance());
+    }
+
+    @Test
+    public void rollupMerge_sumsTotalsAndKeepsLatestClosingBalance() {
+        BudgetRollup april = new BudgetRollup("2024-04");
+        april.add(BudgetTransaction.TYPE_EXPENSE, 30_000, 1);
+        april.setClosingBalance(45_000);
+        BudgetRollup march = new BudgetRollup("2024-03");
+        march.add(BudgetTransaction.TYPE_INCOME, 100_000, 1);
+        march.setClosingBalance(80_000);
+
+        BudgetRollup summary = new BudgetRollup();
+        summary.merge(april);
+        summary.merge(march);
+
+        assertEquals(100_000, summary.getIncome());
+        assertEquals(30_000, summary.getExpense());
+        assertEquals(2, summary.getCount());
+        assertEquals("2024-04", summary.getMonth());
+        assertEquals(45_000, summary.getClosingBalance());
+    }
+
+    @Test
+    public void rollupAdd_removesEntryWithNegativeSign() {
+        BudgetRollup rollup = new BudgetRollup("2024-05");
+        rollup.add(BudgetTransaction.TYPE_EXPENSE, 7_000, 1);
+        rollup.add(BudgetTransaction.TYPE_INCOME, 3_000, 1);
+
+        rollup.add(BudgetTransaction.TYPE_EXPENSE, 7_000, -1);
+
+        assertEquals(0, rollup.getExpense());
+        assertEquals(3_000, rollup.getIncome());
+        assertEquals(1, rollup.getCount());
+    }
+
+    private static BudgetTransaction entry(String id, String type, long amount, long createdAtSeconds) {
+        BudgetTransaction transaction = new BudgetTransaction("club", type, amount, id);
+        transaction.setId(id);
+        transaction.setCreatedAt(new Timestamp(createdAtSeconds, 0));
+        return transaction;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.Club;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.*;
+
+/**
+ * 추천 엔진 마이크로벤치마크 (워밍업 후 측정, 10 / 1k / 10k 동아리)
+ * 기존 방식(calculateRecommendScore + 전체 정렬)과 비트마스크 + 상위 K 힙 방식의 1회 추천 시간을 기록합니다.
+ * 점수/순위 검증은 ClubRecommendEngineTest 에서 하며, 이 클래스는 -Pbenchmark 로만 실행됩니다.
+ */
+@Category(Benchmark.class)
+public class ClubRecommendEngineBenchmark {
+
+    private static final Logger LOG = Logger.getLogger(ClubRecommendEngineBenchmark.class.getName());
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 500;
+    private static final int TOP_K = 50;
+
+    private static final List<String> WANT_TYPES = Arrays.asList("sports", "outdoor");
+    private static final List<String> WANT_PURPOSES = Collections.singletonList("career");
+
+    @Test
+    public void benchmark10Clubs() {
+        run(10);
+    }
+
+    @Test
+    public void benchmark1kClubs() {
+        run(1_000);
+    }
+
+    @Test
+    public void benchmark10kClubs() {
+        run(10_000);
+    }
+
+    private void run(int clubCount) {
+        List<Club> clubs = ClubRecommendEngineTest.randomClubs(clubCount, new Random(clubCount));
+        int iterations = Math.max(10, MEASURE_ITERATIONS * 1_000 / Math.max(clubCount, 1_000));
+
+        long indexStart = System.nanoTime();
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(clubs);
+        long indexNanos = System.nanoTime() - indexStart;
+
+        long legacyNanos = measure(iterations, () -> legacyRecommend(clubs));
+        long engineNanos = measure(iterations, () -> ClubRecommendEngine.recommend(index,
+                true, "lively", WANT_TYPES, WANT_PURPOSES, TOP_K).clubs.size());
+
+        LOG.info(String.format("clubs=%d index build=%dus legacy=%dus/op engine=%dus/op",
+                clubCount, indexNanos / 1_000, legacyNanos / 1_000, engineNanos / 1_000));
+        // 두 방식이 같은 동아리 수를 추천하는지 확인 (측정 대상이 같은 일을 하는지)
+        int engineCount = ClubRecommendEngine.recommend(index, true, "lively", WANT_TYPES, WANT_PURPOSES, TOP_K).clubs.size();
+        assertEquals(Math.min(TOP_K, legacyRecommend(clubs)), engineCount);
+    }
+
+    private long measure(int iterations, java.util.function.IntSupplier operation) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsInt();
+        }
+        long elapsed = (System.nanoTime() - start) / iterations;
+        // 결과를 사용해서 JIT가 연산을 제거하지 못하게 함
+        assertTrue(sink >= 0);
+        return elapsed;
+    }
+
+    /**
+     * 기존 ClubRecommendActivity 방식: 전체 점수 계산 후 전체 정렬
+     */
+    private int legacyRecommend(List<Club> clubs) {
+        Integer[] order = new Integer[clubs.size()];
+        int[] scores = new int[clubs.size()];
+        int matched = 0;
+        for (int i = 0; i < clubs.size(); i++) {
+            Club club = clubs.get(i);
+            int score = club.calculateRecommendScore(true, "lively", WANT_TYPES, WANT_PURPOSES);
+            if (score == 0 && club.hasKeywords()) score = ClubRecommendEngine.KEYWORD_ONLY_SCORE;
+            if (score > 0) {
+                scores[matched] = score;
+                order[matched] = matched;
+                matched++;
+            }
+        }
+        Arrays.sort(order, 0, matched, (a, b) -> Integer.compare(scores[b], scores[a]));
+        return matched;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.clubmanagement.utils;
+
+import com.example.clubmanagement.models.Club;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * ClubRecommendEngine 점수/순위 검증 (Club.calculateRecommendScore 와 결과 비교)
+ */
+public class ClubRecommendEngineTest {
+
+    private static final String[] ATMOSPHERES = {null, "lively", "quiet"};
+    private static final String[] ACTIVITY_TYPES = {"volunteer", "sports", "outdoor"};
+    private static final String[] PURPOSES = {"career", "academic", "art"};
+
+    @Test
+    public void score_matchesLegacyCalculation() {
+        List<Club> clubs = randomClubs(500, new Random(42));
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(clubs);
+        Random random = new Random(7);
+
+        for (int q = 0; q < 200; q++) {
+            boolean wantChristian = random.nextBoolean();
+            String wantAtmosphere = ATMOSPHERES[random.nextInt(ATMOSPHERES.length)];
+            List<String> wantTypes = randomSubset(ACTIVITY_TYPES, random);
+            List<String> wantPurposes = randomSubset(PURPOSES, random);
+
+            long[] queryMask = index.queryMask(wantChristian, wantAtmosphere, wantTypes, wantPurposes);
+            for (int i = 0; i < clubs.size(); i++) {
+                int expected = clubs.get(i).calculateRecommendScore(wantChristian, wantAtmosphere, wantTypes, wantPurposes);
+                assertEquals(expected, index.score(i, queryMask));
+            }
+        }
+    }
+
+    @Test
+    public void score_handlesMoreThan64Keywords() {
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            clubs.add(club("club" + i, false, "mood" + i,
+                    Collections.singletonList("type" + i), Collections.singletonList("purpose" + i)));
+        }
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(clubs);
+        List<String> wantTypes = Arrays.asList("type0", "type99");
+        List<String> wantPurposes = Collections.singletonList("purpose99");
+
+        long[] queryMask = index.queryMask(false, "mood99", wantTypes, wantPurposes);
+        for (int i = 0; i < clubs.size(); i++) {
+            int expected = clubs.get(i).calculateRecommendScore(false, "mood99", wantTypes, wantPurposes);
+            assertEquals(expected, index.score(i, queryMask));
+        }
+        assertEquals(50, index.score(99, queryMask));
+    }
+
+    @Test
+    public void recommend_returnsTopKInScoreOrder() {
+        List<Club> clubs = randomClubs(1000, new Random(1));
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(clubs);
+        List<String> wantTypes = Arrays.asList("sports", "outdoor");
+        List<String> wantPurposes = Collections.singletonList("career");
+
+        ClubRecommendEngine.Result all = ClubRecommendEngine.recommend(index, true, "lively", wantTypes, wantPurposes, clubs.size());
+        ClubRecommendEngine.Result top = ClubRecommendEngine.recommend(index, true, "lively", wantTypes, wantPurposes, 10);
+
+        assertEquals(10, top.clubs.size());
+        assertEquals(all.clubs.subList(0, 10), top.clubs);
+        for (int i = 1; i < all.scores.size(); i++) {
+            assertTrue(all.scores.get(i - 1) >= all.scores.get(i));
+        }
+    }
+
+    @Test
+    public void recommend_keepsOriginalOrderForEqualScores() {
+        Club first = club("a", false, "quiet", Collections.singletonList("sports"), null);
+        Club second = club("b", false, "quiet", Collections.singletonList("sports"), null);
+        Club third = club("c", false, null, Collections.singletonList("sports"), null);
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(Arrays.asList(third, first, second));
+
+        ClubRecommendEngine.Result result = ClubRecommendEngine.recommend(index, false, "quiet",
+                Collections.singletonList("sports"), null, 2);
+
+        assertEquals(Arrays.asList(first, second), result.clubs);
+        assertEquals(Arrays.asList(35, 35), result.scores);
+    }
+
+    @Test
+    public void recommend_givesBaseScoreToUnmatchedClubsWithKeywords() {
+        Club withKeywords = club("a", false, "quiet", null, null);
+        Club withoutKeywords = club("b", false, null, null, null);
+        ClubRecommendEngine.Index index = new ClubRecommendEngine.Index(Arrays.asList(withKeywords, withoutKeywords));
+
+        ClubRecommendEngine.Result result = ClubRecommendEngine.recommend(index, true, null, null, null, 10);
+
+        assertEquals(Collections.singletonList(withKeywords), result.clubs);
+        assertEquals(Collections.singletonList(ClubRecommendEngine.KEYWORD_ONLY_SCORE), result.scores);
+    }
+
+    static List<Club> randomClubs(int count, Random random) {
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clubs.add(club("club" + i, random.nextInt(4) == 0,
+                    ATMOSPHERES[random.nextInt(ATMOSPHERES.length)],
+                    randomSubset(ACTIVITY_TYPES, random), randomSubset(PURPOSES, random)));
+        }
+        return clubs;
+    }
+
+    private static List<String> randomSubset(String[] values, Random random) {
+        List<String> subset = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextBoolean()) subset.add(value);
+        }
+        return subset;
+    }
+
+    private static Club club(String id, boolean christian, String atmosphere,
+                             List<String> activityTypes, List<String> purposes) {
+        Club club = new Club();
+        club.setId(id);
+        club.setName(id);
+        club.setChristian(christian);
+        club.setAtmosphere(atmosphere);
+        club.setActivityTypes(activityTypes);
+        club.setPurposes(purposes);
+        return club;
+    }
+}
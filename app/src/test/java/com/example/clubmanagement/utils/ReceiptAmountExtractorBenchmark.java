@@ -0,0 +1,188 @@
+package com.example.clubmanagement.utils;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * 영수증 금액 추출 마이크로벤치마크 (워밍업 후 측정)
+ * 기존 BudgetHistoryActivity 방식(키워드 x 줄 반복, 호출마다 Pattern.compile)과
+ * ReceiptAmountExtractor 의 영수증 1장당 처리 시간을 기록합니다.
+ * 추출 결과 검증은 ReceiptAmountExtractorTest 에서 하며, 이 클래스는 -Pbenchmark 로만 실행됩니다.
+ */
+@Category(Benchmark.class)
+public class ReceiptAmountExtractorBenchmark {
+
+    private static final Logger LOG = Logger.getLogger(ReceiptAmountExtractorBenchmark.class.getName());
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 20_000;
+    // 긴 영수증은 기존 방식이 1장에 수 ms 걸리므로 횟수를 줄임
+    private static final int LONG_RECEIPT_ITERATIONS = 500;
+
+    @Test
+    public void benchmarkCorpus() {
+        String[] corpus = ReceiptAmountExtractorTest.CORPUS;
+
+        long legacyNanos = measure(WARMUP_ITERATIONS, MEASURE_ITERATIONS, () -> {
+            long sum = 0;
+            for (String text : corpus) sum += legacyExtract(text);
+            return sum;
+        }) / corpus.length;
+        long engineNanos = measure(WARMUP_ITERATIONS, MEASURE_ITERATIONS, () -> {
+            long sum = 0;
+            for (String text : corpus) sum += ReceiptAmountExtractor.extract(text);
+            return sum;
+        }) / corpus.length;
+
+        LOG.info(String.format("receipts=%d legacy=%dns/receipt extractor=%dns/receipt",
+                corpus.length, legacyNanos, engineNanos));
+    }
+
+    @Test
+    public void benchmarkLongReceipt() {
+        // 품목이 많은 마트 영수증 (200줄)
+        StringBuilder sb = new StringBuilder("이마트 동탄점\n");
+        for (int i = 1; i <= 200; i++) {
+            sb.append(String.format("%03d 상품%d 1 %,d\n", i, i, 1_000 + i * 10));
+        }
+        sb.append("결제 금액 321,000");
+        String text = sb.toString();
+
+        long legacyNanos = measure(LONG_RECEIPT_ITERATIONS, LONG_RECEIPT_ITERATIONS, () -> legacyExtract(text));
+        long engineNanos = measure(LONG_RECEIPT_ITERATIONS, LONG_RECEIPT_ITERATIONS, () -> ReceiptAmountExtractor.extract(text));
+
+        LOG.info(String.format("lines=%d legacy=%dns/receipt extractor=%dns/receipt",
+                202, legacyNanos, engineNanos));
+        assertEquals(321_000, ReceiptAmountExtractor.extract(text));
+    }
+
+    private long measure(int warmup, int iterations, java.util.function.LongSupplier operation) {
+        long sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += operation.getAsLong();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsLong();
+        }
+        long elapsed = (System.nanoTime() - start) / iterations;
+        // 결과를 사용해서 JIT가 연산을 제거하지 못하게 함
+        assertTrue(sink >= 0);
+        return elapsed;
+    }
+
+    /**
+     * 기존 BudgetHistoryActivity.extractAmountFromText (비교용 원본 그대로)
+     */
+    private static long legacyExtract(String text) {
+        text = text.replaceAll("\\s+", " ");
+
+        String[] highPriorityKeywords = {
+            "결제금액", "결제 금액", "총결제", "총 결제", "승인금액", "승인 금액",
+            "카드결제", "카드 결제", "실결제", "실 결제", "최종금액", "최종 금액",
+            "합계금액", "합계 금액", "총합계", "총 합계", "받을금액", "받을 금액",
+            "TOTAL", "Total", "total", "합 계", "합계"
+        };
+        String[] normalKeywords = {
+            "총액", "총 액", "금액", "판매금액", "판매 금액", "매출", "청구금액",
+            "결제", "지불", "Payment", "Amount", "SUM", "Sum"
+        };
+
+        String[] lines = text.split("\n");
+
+        for (String keyword : highPriorityKeywords) {
+            for (String line : lines) {
+                if (line.contains(keyword)) {
+                    long amount = legacyExtractNumberFromLine(line);
+                    if (amount >= 100 && amount <= 100000000) {
+                        return amount;
+                    }
+                }
+            }
+        }
+        for (String keyword : normalKeywords) {
+            for (String line : lines) {
+                if (line.contains(keyword)) {
+                    long amount = legacyExtractNumberFromLine(line);
+                    if (amount >= 100 && amount <= 100000000) {
+                        return amount;
+                    }
+                }
+            }
+        }
+
+        Pattern wonPattern = Pattern.compile("([0-9,. ]+)\\s*원");
+        Matcher wonMatcher = wonPattern.matcher(text);
+        long maxWonAmount = 0;
+        while (wonMatcher.find()) {
+            try {
+                long num = Long.parseLong(wonMatcher.group(1).replaceAll("[,. ]", ""));
+                if (num >= 100 && num <= 100000000 && num > maxWonAmount) {
+                    maxWonAmount = num;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        if (maxWonAmount > 0) {
+            return maxWonAmount;
+        }
+
+        long maxAmount = 0;
+        for (int i = lines.length - 1; i >= 0; i--) {
+            long lineMax = legacyExtractNumberFromLine(lines[i]);
+            if (lineMax >= 1000 && lineMax <= 100000000 && lineMax > maxAmount) {
+                maxAmount = lineMax;
+            }
+        }
+        if (maxAmount >= 1000) {
+            return maxAmount;
+        }
+
+        Pattern pattern = Pattern.compile("[0-9][0-9,. ]*[0-9]|[0-9]+");
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            try {
+                long num = Long.parseLong(matcher.group().replaceAll("[,. ]", ""));
+                if (num >= 100 && num <= 100000000 && num > maxAmount) {
+                    maxAmount = num;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return maxAmount;
+    }
+
+    private static long legacyExtractNumberFromLine(String line) {
+        Pattern wonPattern = Pattern.compile("([0-9,. ]+)\\s*원");
+        Matcher wonMatcher = wonPattern.matcher(line);
+        if (wonMatcher.find()) {
+            try {
+                long num = Long.parseLong(wonMatcher.group(1).replaceAll("[,. ]", ""));
+                if (num > 0) {
+                    return num;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        Pattern pattern = Pattern.compile("[0-9][0-9,. ]*[0-9]|[0-9]+");
+        Matcher matcher = pattern.matcher(line);
+        long maxNum = 0;
+        while (matcher.find()) {
+            try {
+                long num = Long.parseLong(matcher.group().replaceAll("[,. ]", ""));
+                if (num > maxNum) {
+                    maxNum = num;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return maxNum;
+    }
+}
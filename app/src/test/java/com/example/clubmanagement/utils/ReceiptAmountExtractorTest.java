@@ -0,0 +1,183 @@
+package com.example.clubmanagement.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReceiptAmountExtractor 검증 (ML Kit 한국어 OCR 결과 형태의 영수증 텍스트)
+ */
+public class ReceiptAmountExtractorTest {
+
+    // 편의점 - 품목 여러 개, 부가세/받을금액/거스름돈
+    static final String CONVENIENCE_STORE =
+            "GS25 수원대점\n"
+            + "사업자 123-45-67890 대표 홍길동\n"
+            + "경기 화성시 봉담읍 와우안길 17\n"
+            + "TEL 031-222-3333\n"
+            + "2024.03.15 14:32:10 POS:01\n"
+            + "상품명 수량 금액\n"
+            + "삼각김밥참치마요 1 1,300\n"
+            + "바나나우유 2 3,400\n"
+            + "컵라면(대) 1 1,850\n"
+            + "과세물품가액 5,955\n"
+            + "부 가 세 595\n"
+            + "합계 6,550\n"
+            + "받을금액 6,550\n"
+            + "현금 10,000\n"
+            + "거스름돈 3,450";
+
+    // 카드 전표 - 승인금액이 합계보다 우선
+    static final String CARD_SLIP =
+            "[카드매출전표]\n"
+            + "가맹점명 (주)맛있는식당\n"
+            + "카드번호 9410-12**-****-3456\n"
+            + "거래일시 2024/05/02 19:45\n"
+            + "할부 일시불\n"
+            + "공급가액 50,000\n"
+            + "부가세 5,000\n"
+            + "합 계 55,000\n"
+            + "승인금액 55,000원\n"
+            + "승인번호 30012345";
+
+    // 카페 - 영문 TOTAL
+    static final String CAFE =
+            "STARBUCKS\n"
+            + "Order #A-1024\n"
+            + "Iced Americano T 4,500\n"
+            + "Caffe Latte G 5,500\n"
+            + "Subtotal 10,000\n"
+            + "TOTAL 10,000\n"
+            + "VISA ****1234";
+
+    // 대형마트 - 할인 후 결제금액
+    static final String MART =
+            "이마트 동탄점\n"
+            + "[구매] 2024-06-01 11:02\n"
+            + "01 햇반 210g*3 3 4,980\n"
+            + "02 서울우유 1L 2 5,560\n"
+            + "03 계란 30구 1 8,990\n"
+            + "04 종량제봉투 20L 1 490\n"
+            + "총 구매액 20,020\n"
+            + "행사할인 -2,000\n"
+            + "결제 금액 18,020\n"
+            + "신용카드 18,020";
+
+    // OCR이 자릿수 구분자 옆에 공백을 넣은 경우
+    static final String SPACED_DIGITS =
+            "문구센터\n"
+            + "A4용지 500매 2 12, 000\n"
+            + "보드마카 1 3 ,500\n"
+            + "총 결제 15, 500 원";
+
+    // 키워드 없이 "원"만 붙은 경우
+    static final String WON_ONLY =
+            "동아리 MT 장보기\n"
+            + "고기 45,000원\n"
+            + "음료 12,300원\n"
+            + "간식 8,700원";
+
+    // 키워드도 "원"도 없는 경우 - 가장 큰 줄 금액
+    static final String NUMBERS_ONLY =
+            "현수막 제작\n"
+            + "2024.04.10\n"
+            + "1 35000\n"
+            + "배송 3000";
+
+    // 여러 줄에 걸친 카드 영수증 - "결제" 가 들어간 다른 줄보다 결제금액 줄이 우선
+    static final String RESTAURANT =
+            "김밥천국 봉담점\n"
+            + "결제일시 2024.03.20 12:10\n"
+            + "라볶이 1 6,000\n"
+            + "참치김밥 2 9,000\n"
+            + "결제금액 15,000원\n"
+            + "카드결제 15,000\n"
+            + "카드종류 신한";
+
+    // 영수증 하단 문구만 있는 경우
+    static final String NO_AMOUNT =
+            "감사합니다\n"
+            + "또 방문해주세요";
+
+    static final String[] CORPUS = {
+            CONVENIENCE_STORE, CARD_SLIP, CAFE, MART, SPACED_DIGITS, WON_ONLY, NUMBERS_ONLY, RESTAURANT, NO_AMOUNT
+    };
+
+    @Test
+    public void extract_convenienceStoreUsesTotalLine() {
+        assertEquals(6_550, ReceiptAmountExtractor.extract(CONVENIENCE_STORE));
+    }
+
+    @Test
+    public void extract_cardSlipPrefersApprovedAmount() {
+        assertEquals(55_000, ReceiptAmountExtractor.extract(CARD_SLIP));
+    }
+
+    @Test
+    public void extract_matchesEnglishKeywordsIgnoringCase() {
+        assertEquals(10_000, ReceiptAmountExtractor.extract(CAFE));
+        assertEquals(7_000, ReceiptAmountExtractor.extract("item 7,000\ntotal 7,000"));
+    }
+
+    @Test
+    public void extract_martUsesPaidAmountAfterDiscount() {
+        assertEquals(18_020, ReceiptAmountExtractor.extract(MART));
+    }
+
+    @Test
+    public void extract_toleratesSpacesAroundSeparators() {
+        assertEquals(15_500, ReceiptAmountExtractor.extract(SPACED_DIGITS));
+    }
+
+    @Test
+    public void extract_fallsBackToLargestWonAmount() {
+        assertEquals(45_000, ReceiptAmountExtractor.extract(WON_ONLY));
+    }
+
+    @Test
+    public void extract_fallsBackToLargestLineAmountAndSkipsDates() {
+        assertEquals(35_000, ReceiptAmountExtractor.extract(NUMBERS_ONLY));
+    }
+
+    @Test
+    public void extract_higherPriorityKeywordWinsOverEarlierLine() {
+        assertEquals(15_000, ReceiptAmountExtractor.extract(RESTAURANT));
+    }
+
+    @Test
+    public void extract_returnsZeroWithoutAmount() {
+        assertEquals(0, ReceiptAmountExtractor.extract(NO_AMOUNT));
+        assertEquals(0, ReceiptAmountExtractor.extract(""));
+        assertEquals(0, ReceiptAmountExtractor.extract(null));
+    }
+
+    @Test
+    public void extract_ignoresAmountsOutOfRange() {
+        assertEquals(0, ReceiptAmountExtractor.extract("합계 50"));
+        assertEquals(2_500, ReceiptAmountExtractor.extract("합계 999,999,999,999\n금액 2,500"));
+    }
+
+    @Test
+    public void parseAmount_stripsSeparatorsAndRejectsDates() {
+        String text = "1,234.567 2024.03.15";
+        assertEquals(1_234_567, ReceiptAmountExtractor.parseAmount(text, 0, 9));
+        assertEquals(-1, ReceiptAmountExtractor.parseAmount(text, 10, text.length()));
+    }
+
+    @Test
+    public void normalize_keepsLineBreaksAndCollapsesSpaces() {
+        assertEquals("합 계\n1,000 원", ReceiptAmountExtractor.normalize("  합 \t 계\r\n1,000  원  "));
+    }
+
+    @Test
+    public void keywordAutomaton_reportsHighestPriorityMatch() {
+        ReceiptAmountExtractor.KeywordAutomaton automaton =
+                new ReceiptAmountExtractor.KeywordAutomaton(new String[]{"결제금액", "금액", "결제", "he", "she", "hers"});
+        String line = "카드 결제금액";
+        assertEquals(0, automaton.minRank(line, 0, line.length()));
+        assertEquals(2, automaton.minRank("결제일시", 0, 4));
+        // 실패 링크를 따라가야 찾을 수 있는 겹친 키워드
+        assertEquals(3, automaton.minRank("ushers", 0, 6));
+        assertEquals(Integer.MAX_VALUE, automaton.minRank("영수증", 0, 3));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.clubmanagement.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReceiptRegionDetector 검증 (합성한 밝기 이미지)
+ */
+public class ReceiptRegionDetectorTest {
+
+    private static final int WIDTH = 192;
+    private static final int HEIGHT = 256;
+
+    @Test
+    public void detect_findsReceiptOnDarkTable() {
+        int[] image = image(60, new Random(1));
+        // 영수증: x 50~130, y 20~230, 중간중간 글자(어두운 점)
+        fill(image, 50, 20, 130, 230, 235);
+        Random random = new Random(2);
+        for (int i = 0; i < 800; i++) {
+            int x = 55 + random.nextInt(70);
+            int y = 25 + random.nextInt(200);
+            image[y * WIDTH + x] = 30;
+        }
+
+        int[] box = ReceiptRegionDetector.detect(image, WIDTH, HEIGHT);
+
+        assertNotNull(box);
+        // 여백(2%)을 포함해 영수증 전체를 덮고 배경은 거의 포함하지 않음
+        assertTrue(Arrays.toString(box), box[0] <= 50 && box[0] >= 40);
+        assertTrue(Arrays.toString(box), box[1] <= 20 && box[1] >= 10);
+        assertTrue(Arrays.toString(box), box[2] >= 130 && box[2] <= 140);
+        assertTrue(Arrays.toString(box), box[3] >= 230 && box[3] <= 240);
+    }
+
+    @Test
+    public void detect_returnsNullWhenReceiptFillsFrame() {
+        int[] image = image(235, new Random(3));
+        fill(image, 0, 0, 4, HEIGHT, 40);
+
+        assertNull(ReceiptRegionDetector.detect(image, WIDTH, HEIGHT));
+    }
+
+    @Test
+    public void detect_returnsNullWithoutContrast() {
+        assertNull(ReceiptRegionDetector.detect(image(128, new Random(4)), WIDTH, HEIGHT));
+    }
+
+    @Test
+    public void detect_returnsNullForTinyBrightSpot() {
+        int[] image = image(50, new Random(5));
+        fill(image, 90, 120, 110, 140, 250);
+
+        assertNull(ReceiptRegionDetector.detect(image, WIDTH, HEIGHT));
+    }
+
+    @Test
+    public void otsuThreshold_separatesTwoPeaks() {
+        int[] histogram = new int[256];
+        histogram[40] = 500;
+        histogram[220] = 300;
+
+        int threshold = ReceiptRegionDetector.otsuThreshold(histogram, 800);
+
+        assertTrue(threshold >= 40 && threshold < 220);
+    }
+
+    /**
+     * 평균 밝기 주변으로 약간의 잡음이 있는 배경
+     */
+    private static int[] image(int base, Random random) {
+        int[] image = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = Math.max(0, Math.min(255, base + random.nextInt(11) - 5));
+        }
+        return image;
+    }
+
+    private static void fill(int[] image, int left, int top, int right, int bottom, int value) {
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                image[y * WIDTH + x] = value;
+            }
+        }
+    }
+}